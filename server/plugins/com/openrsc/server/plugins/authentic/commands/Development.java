@@ -717,9 +717,9 @@ public final class Development implements CommandTrigger {
 
 	private void tileInformation(Player player) {
 		TileValue tv = player.getWorld().getTile(player.getLocation());
-		player.message(messagePrefix + "traversal: " + tv.traversalMask + ", vertVal:" + (tv.verticalWallVal & 0xff) + ", horiz: "
-			+ (tv.horizontalWallVal & 0xff) + ", diagVal: " + (tv.diagWallVal & 0xff) + ", projectile: " + tv.projectileAllowed);
-		player.message("originalProjectileAllowed: " + tv.originalProjectileAllowed);
+		player.message(messagePrefix + "traversal: " + tv.getTraversalMask() + ", vertVal:" + (tv.getVerticalWallVal() & 0xff) + ", horiz: "
+			+ (tv.getHorizontalWallVal() & 0xff) + ", diagVal: " + (tv.getDiagWallVal() & 0xff) + ", projectile: " + tv.isProjectileAllowed());
+		player.message("originalProjectileAllowed: " + tv.isOriginalProjectileAllowed());
 	}
 
 	private void regionInformation(Player player, String command, String[] args) {
@@ -8,16 +8,19 @@ import com.openrsc.server.model.Point;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.util.rsc.Formulae;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Cactus implements UseLocTrigger {
+public class Cactus implements UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] USE_LOC_IDS = {35};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 35 && item.getCatalogId() == ItemId.KNIFE.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.KNIFE.id();
 	}
 
 	@Override
@@ -78,4 +81,12 @@ public class Cactus implements UseLocTrigger {
 		}
 		player.message("You need to have a non-full waterskin to contain the fluid.");
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
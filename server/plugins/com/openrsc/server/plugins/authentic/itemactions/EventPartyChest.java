@@ -58,7 +58,7 @@ public class EventPartyChest implements UseLocTrigger {
 
 				while (true) {
 					final Point location = new Point(obj.getLocation().getX() + rand.nextInt(player.getWorld().eventChestRadius), obj.getLocation().getY() + rand.nextInt(player.getWorld().eventChestRadius));
-					if ((getOwner().getWorld().getTile(location).traversalMask & 64) != 0) {
+					if ((getOwner().getWorld().getTile(location).getTraversalMask() & 64) != 0) {
 						continue;
 					}
 
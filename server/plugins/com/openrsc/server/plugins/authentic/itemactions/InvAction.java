@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.skills.firemaking.Firemaking;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -14,24 +15,54 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class InvAction implements OpInvTrigger {
+public class InvAction implements OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {
+		ItemId.BARCRAWL_CARD.id(),
+		ItemId.INSTRUCTION_MANUAL.id(),
+		ItemId.DIARY.id(),
+		ItemId.DRY_STICKS.id(),
+		ItemId.SCRUFFY_NOTE.id(),
+		ItemId.MAGIC_SCROLL.id(),
+		ItemId.TOURIST_GUIDE.id(),
+		ItemId.TREE_GNOME_TRANSLATION.id(),
+		ItemId.WAR_SHIP.id(),
+		ItemId.GLOUGHS_JOURNAL.id(),
+		ItemId.INVOICE.id(),
+		ItemId.GLOUGHS_NOTES.id(),
+		ItemId.MESSENGER_PIGEONS.id(),
+		ItemId.JANGERBERRIES.id(),
+		ItemId.A_FREE_SHANTAY_DISCLAIMER.id(),
+		ItemId.TECHNICAL_PLANS.id(),
+		ItemId.ANA_IN_A_BARREL.id(),
+		ItemId.RANDASS_JOURNAL.id(),
+		ItemId.A_DOLL_OF_IBAN.id(),
+		ItemId.STAFF_OF_IBAN_BROKEN.id(),
+		ItemId.NIGHTSHADE.id(),
+		ItemId.SHAMAN_ROBE.id(),
+		ItemId.SPELL_SCROLL.id(),
+		ItemId.BOOK_OF_EXPERIMENTAL_CHEMISTRY.id(),
+		ItemId.LEVEL_1_CERTIFICATE.id(),
+		ItemId.LEVEL_2_CERTIFICATE.id(),
+		ItemId.LEVEL_3_CERTIFICATE.id(),
+		ItemId.DIGSITE_SCROLL.id(),
+		ItemId.ASTROLOGY_BOOK.id(),
+		ItemId.STONE_TABLET.id(),
+		ItemId.OYSTER.id(),
+		ItemId.SCRUMPLED_PIECE_OF_PAPER.id(),
+		ItemId.NULODIONS_NOTES.id(),
+		ItemId.OLD_JOURNAL.id(),
+		ItemId.BURNTPIE.id(),
+		ItemId.BURNT_STEW.id(),
+		ItemId.BURNT_CURRY.id(),
+		ItemId.BLESSED_GOLDEN_BOWL_WITH_PLAIN_WATER.id(),
+		ItemId.GOLDEN_BOWL_WITH_PLAIN_WATER.id(),
+		ItemId.SPADE.id()
+	};
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return inArray(item.getCatalogId(),
-			ItemId.BARCRAWL_CARD.id(), ItemId.INSTRUCTION_MANUAL.id(), ItemId.DIARY.id(),
-			ItemId.DRY_STICKS.id(), ItemId.SCRUFFY_NOTE.id(), ItemId.MAGIC_SCROLL.id(),
-			ItemId.TOURIST_GUIDE.id(), ItemId.TREE_GNOME_TRANSLATION.id(), ItemId.WAR_SHIP.id(),
-			ItemId.GLOUGHS_JOURNAL.id(), ItemId.INVOICE.id(), ItemId.GLOUGHS_NOTES.id(),
-			ItemId.MESSENGER_PIGEONS.id(), ItemId.JANGERBERRIES.id(), ItemId.A_FREE_SHANTAY_DISCLAIMER.id(),
-			ItemId.TECHNICAL_PLANS.id(), ItemId.ANA_IN_A_BARREL.id(), ItemId.RANDASS_JOURNAL.id(),
-			ItemId.A_DOLL_OF_IBAN.id(), ItemId.STAFF_OF_IBAN_BROKEN.id(), ItemId.NIGHTSHADE.id(),
-			ItemId.SHAMAN_ROBE.id(), ItemId.SPELL_SCROLL.id(), ItemId.BOOK_OF_EXPERIMENTAL_CHEMISTRY.id(),
-			ItemId.LEVEL_1_CERTIFICATE.id(), ItemId.LEVEL_2_CERTIFICATE.id(), ItemId.LEVEL_3_CERTIFICATE.id(),
-			ItemId.DIGSITE_SCROLL.id(), ItemId.ASTROLOGY_BOOK.id(), ItemId.STONE_TABLET.id(),
-			ItemId.OYSTER.id(), ItemId.SCRUMPLED_PIECE_OF_PAPER.id(), ItemId.NULODIONS_NOTES.id(), ItemId.OLD_JOURNAL.id(),
-			ItemId.BURNTPIE.id(), ItemId.BURNT_STEW.id(), ItemId.BURNT_CURRY.id(),
-			ItemId.BLESSED_GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.SPADE.id());
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -865,4 +896,12 @@ public class InvAction implements OpInvTrigger {
 				readJournalChapter(player, chapterOpt + 3);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
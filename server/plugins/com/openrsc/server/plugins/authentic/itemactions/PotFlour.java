@@ -5,12 +5,15 @@ import com.openrsc.server.content.EnchantedCrowns;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.UseObjTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
-public class PotFlour implements UseObjTrigger, TakeObjTrigger {
+public class PotFlour implements UseObjTrigger, TakeObjTrigger, TriggerIdFilter {
+
+	private static final int[] TAKE_OBJ_IDS = {ItemId.FLOUR.id()};
 
 	@Override
 	public boolean blockUseObj(Player player, GroundItem item, Item myItem) {
@@ -19,7 +22,7 @@ public class PotFlour implements UseObjTrigger, TakeObjTrigger {
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem item) {
-		return item.getID() == ItemId.FLOUR.id();
+		return DataConversions.inArray(TAKE_OBJ_IDS, item.getID());
 	}
 
 	@Override
@@ -78,4 +81,11 @@ public class PotFlour implements UseObjTrigger, TakeObjTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
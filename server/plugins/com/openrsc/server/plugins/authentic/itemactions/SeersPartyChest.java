@@ -50,7 +50,7 @@ public class SeersPartyChest implements UseLocTrigger {
 						new Point(rand.nextInt(11) + 490, rand.nextInt(8) + 1408) :
 						new Point(rand.nextInt(11) + 490, rand.nextInt(8) + 464);
 
-					if ((getOwner().getWorld().getTile(location).traversalMask & 64) != 0) {
+					if ((getOwner().getWorld().getTile(location).getTraversalMask() & 64) != 0) {
 						continue;
 					}
 
@@ -4,17 +4,20 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SoilMound implements UseLocTrigger {
+public class SoilMound implements UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] USE_LOC_IDS = {1276};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 1276 && item.getCatalogId() == ItemId.BUCKET.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.BUCKET.id();
 	}
 
 	@Override
@@ -53,4 +56,12 @@ public class SoilMound implements UseLocTrigger {
 			batchFill(player, bucket, filledId);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,17 +5,20 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SpinningWheel implements UseLocTrigger {
+public class SpinningWheel implements UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] USE_LOC_IDS = {121};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 121;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
@@ -92,4 +95,12 @@ public class SpinningWheel implements UseLocTrigger {
 			batchSpin(player, item, resultString, resultCatalogID, requiredLevel, experience);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -16,7 +17,10 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class AlfredGrimhandBarCrawl implements MiniGameInterface, TalkNpcTrigger,
-	OpLocTrigger {
+	OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BARBARIAN_GUARD.id()};
+	private static final int[] OP_LOC_IDS = {311};
 
 	@Override
 	public int getMiniGameId() {
@@ -40,12 +44,12 @@ public class AlfredGrimhandBarCrawl implements MiniGameInterface, TalkNpcTrigger
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 311 && obj.getX() == 494;
+		return inArray(obj.getID(), OP_LOC_IDS) && obj.getX() == 494;
 	}
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.BARBARIAN_GUARD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -160,4 +164,15 @@ public class AlfredGrimhandBarCrawl implements MiniGameInterface, TalkNpcTrigger
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,11 +4,14 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.content.minigame.fishingtrawler.FishingTrawler;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class BailingBucket implements OpInvTrigger {
+public class BailingBucket implements OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.BAILING_BUCKET.id()};
 
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
@@ -35,7 +38,14 @@ public class BailingBucket implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BAILING_BUCKET.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -2,15 +2,18 @@ package com.openrsc.server.plugins.authentic.minigames.fishingtrawler;
 
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ExitBarrel implements OpLocTrigger {
+public class ExitBarrel implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1070};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1070;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -25,4 +28,11 @@ public class ExitBarrel implements OpLocTrigger {
 		player.damage(3);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
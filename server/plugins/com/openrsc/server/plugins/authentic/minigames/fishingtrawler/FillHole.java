@@ -4,11 +4,14 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class FillHole implements OpLocTrigger {
+public class FillHole implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1077, 1071};
 
 	@Override
 	public void onOpLoc(Player player, GameObject obj, String command) {
@@ -23,6 +26,14 @@ public class FillHole implements OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1077 || obj.getID() == 1071;
+		return inArray(obj.getID(), OP_LOC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
 	}
 }
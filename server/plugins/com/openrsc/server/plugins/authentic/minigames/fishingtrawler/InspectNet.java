@@ -5,6 +5,7 @@ import com.openrsc.server.content.minigame.fishingtrawler.FishingTrawler;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -12,11 +13,13 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class InspectNet implements OpLocTrigger {
+public class InspectNet implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1102, 1101};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1102 || obj.getID() == 1101;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -45,4 +48,11 @@ public class InspectNet implements OpLocTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -16,7 +17,13 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Murphy implements MiniGameInterface, TalkNpcTrigger {
+public class Murphy implements MiniGameInterface, TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MURPHY_LAND.id(),
+		NpcId.MURPHY_BOAT.id(),
+		NpcId.MURPHY_UNRELEASED.id()
+	};
 
 	/**
 	 * IMPORTANT NOTES:
@@ -51,7 +58,7 @@ public class Murphy implements MiniGameInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MURPHY_LAND.id() || n.getID() == NpcId.MURPHY_BOAT.id() || n.getID() == NpcId.MURPHY_UNRELEASED.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -255,4 +262,12 @@ public class Murphy implements MiniGameInterface, TalkNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,13 +5,14 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class TrawlerCatch implements OpLocTrigger {
+public class TrawlerCatch implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int TRAWLER_CATCH = 1106;
 	private static final int[] JUNK_ITEMS = new int[]{
@@ -28,10 +29,11 @@ public class TrawlerCatch implements OpLocTrigger {
 		ItemId.EDIBLE_SEAWEED.id(),
 		ItemId.OYSTER.id()
 	};
+	private static final int[] OP_LOC_IDS = {TRAWLER_CATCH};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == TRAWLER_CATCH;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -147,4 +149,11 @@ public class TrawlerCatch implements OpLocTrigger {
 		return Formulae.calcGatheringSuccessfulLegacy(levelReq, level, 18);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.minigames.gnomeball.GnomeField.Zone;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
@@ -24,9 +25,12 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class GnomeBall implements MiniGameInterface, UsePlayerTrigger, TakeObjTrigger,
-	OpInvTrigger, OpLocTrigger {
+	OpInvTrigger, OpLocTrigger, TriggerIdFilter {
 
 	private static final int[][] SCORES_XP = {{20, 30, 35, 40, 220} , {40, 50, 60, 70, 220}};
+	private static final int[] OP_LOC_IDS = {702};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.GNOME_BALL.id()};
+	private static final int[] OP_INV_IDS = {ItemId.GNOME_BALL.id()};
 
 	@Override
 	public int getMiniGameId() {
@@ -259,17 +263,17 @@ public class GnomeBall implements MiniGameInterface, UsePlayerTrigger, TakeObjTr
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem item) {
-		return item.getID() == ItemId.GNOME_BALL.id();
+		return inArray(item.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GNOME_BALL.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 702;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -285,4 +289,18 @@ public class GnomeBall implements MiniGameInterface, UsePlayerTrigger, TakeObjTr
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.DropObjTrigger;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -18,7 +19,10 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger {
+public class GnomeBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BLURBERRY.id()};
+	private static final int[] OP_INV_IDS = {ItemId.GNOME_COCKTAIL_GUIDE.id()};
 
 	@Override
 	public int getMiniGameId() {
@@ -42,7 +46,7 @@ public class GnomeBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BLURBERRY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -314,7 +318,7 @@ public class GnomeBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GNOME_COCKTAIL_GUIDE.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -538,4 +542,15 @@ public class GnomeBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger
 			"and it's a great way to learn how to prepare food and drink");
 		player.getCache().set("gnome_bartending", 7);  // COMPLETED TUTORIAL!
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -4,6 +4,7 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 
@@ -11,7 +12,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeBartending implements OpInvTrigger, UseLocTrigger {
+public class GnomeBartending implements OpInvTrigger, UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.COCKTAIL_SHAKER.id()};
 
 	private boolean canHeat(Item item, GameObject object) {
 		if ((item.getCatalogId() == ItemId.FULL_COCKTAIL_GLASS.id() || item.getCatalogId() == ItemId.HALF_COCKTAIL_GLASS.id()
@@ -169,7 +172,7 @@ public class GnomeBartending implements OpInvTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.COCKTAIL_SHAKER.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -224,4 +227,12 @@ public class GnomeBartending implements OpInvTrigger, UseLocTrigger {
 		player.getCache().store("cocktail_recipe", baseIdString);
 		return false;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
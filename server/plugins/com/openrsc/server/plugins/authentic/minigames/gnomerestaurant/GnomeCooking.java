@@ -5,6 +5,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.util.rsc.Formulae;
@@ -13,7 +14,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeCooking implements OpInvTrigger, UseLocTrigger {
+public class GnomeCooking implements OpInvTrigger, UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.GIANNE_DOUGH.id()};
 
 	private boolean canCook(Item item, GameObject object) {
 		for (GnomeCook c : GnomeCook.values()) {
@@ -319,7 +322,7 @@ public class GnomeCooking implements OpInvTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GIANNE_DOUGH.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -427,4 +430,12 @@ public class GnomeCooking implements OpInvTrigger, UseLocTrigger {
 			this.messages = cookingMessages;
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.DropObjTrigger;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -18,7 +19,10 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger {
+public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ALUFT_GIANNE.id()};
+	private static final int[] OP_INV_IDS = {ItemId.GIANNE_COOK_BOOK.id()};
 
 	@Override
 	public int getMiniGameId() {
@@ -42,7 +46,7 @@ public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInv
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ALUFT_GIANNE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -449,7 +453,7 @@ public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInv
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GIANNE_COOK_BOOK.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -678,4 +682,15 @@ public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInv
 			"and it's a great way to improve your cooking skills");
 		player.getCache().set("gnome_cooking", 7); // COMPLETED TUTORIAL!
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -3,6 +3,7 @@ package com.openrsc.server.plugins.authentic.minigames.gnomerestaurant;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -11,11 +12,14 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 
-public class SwampToads implements TakeObjTrigger, OpInvTrigger {
+public class SwampToads implements TakeObjTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] TAKE_OBJ_IDS = {ItemId.SWAMP_TOAD.id()};
+	private static final int[] OP_INV_IDS = {ItemId.SWAMP_TOAD.id()};
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.SWAMP_TOAD.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -31,7 +35,7 @@ public class SwampToads implements TakeObjTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.SWAMP_TOAD.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -49,4 +53,15 @@ public class SwampToads implements TakeObjTrigger, OpInvTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -16,9 +17,10 @@ import java.util.List;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class KittenToCat implements MiniGameInterface, CatGrowthTrigger, DropObjTrigger,
-	OpInvTrigger, UseInvTrigger, UseNpcTrigger {
+	OpInvTrigger, UseInvTrigger, UseNpcTrigger, TriggerIdFilter {
 
 	protected static final int BASE_FACTOR = 16;
+	private static final int[] USE_NPC_IDS = {NpcId.RAT_WITCHES_POTION.id()};
 
 	@Override
 	public int getMiniGameId() {
@@ -313,7 +315,7 @@ public class KittenToCat implements MiniGameInterface, CatGrowthTrigger, DropObj
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item item) {
 		//only small rats
-		return (item.getCatalogId() == ItemId.KITTEN.id() || item.getCatalogId() == ItemId.CAT.id()) && n.getID() == NpcId.RAT_WITCHES_POTION.id();
+		return (item.getCatalogId() == ItemId.KITTEN.id() || item.getCatalogId() == ItemId.CAT.id()) && inArray(n.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -345,4 +347,12 @@ public class KittenToCat implements MiniGameInterface, CatGrowthTrigger, DropObj
 			delay(3);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
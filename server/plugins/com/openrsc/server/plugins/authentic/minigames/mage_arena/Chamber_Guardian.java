@@ -9,12 +9,16 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Chamber_Guardian extends AbstractShop {
+public class Chamber_Guardian extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.CHAMBER_GUARDIAN.id()};
 
 	private final Shop shop = new Shop(true, 60000 * 5, 100, 60, 2,
 		new Item(ItemId.STAFF_OF_ZAMORAK.id(), 5), new Item(ItemId.STAFF_OF_SARADOMIN.id(), 5), new Item(ItemId.STAFF_OF_GUTHIX.id(), 5));
@@ -82,7 +86,7 @@ public class Chamber_Guardian extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CHAMBER_GUARDIAN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -99,4 +103,12 @@ public class Chamber_Guardian extends AbstractShop {
 	public Shop getShop() {
 		return shop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
@@ -15,8 +16,9 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Gundai implements TalkNpcTrigger, OpNpcTrigger {
+public class Gundai implements TalkNpcTrigger, OpNpcTrigger, TriggerIdFilter {
 	private static final Logger LOGGER = LogManager.getLogger(Gundai.class);
+	private static final int[] TALK_NPC_IDS = {NpcId.GUNDAI.id()};
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		say(player, n, "hello, what are you doing out here?");
@@ -91,7 +93,7 @@ public class Gundai implements TalkNpcTrigger, OpNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUNDAI.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -136,4 +138,11 @@ public class Gundai implements TalkNpcTrigger, OpNpcTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class Lundail extends AbstractShop {
+public final class Lundail extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.LUNDAIL.id()};
 
 	private final Shop shop = new Shop(false, 6000, 190, 60, 10, new Item(ItemId.AIR_RUNE.id(),
 		100), new Item(ItemId.FIRE_RUNE.id(), 100), new Item(ItemId.WATER_RUNE.id(), 100), new Item(ItemId.EARTH_RUNE.id(),
@@ -48,7 +52,7 @@ public final class Lundail extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return !player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.LUNDAIL.id();
+		return !player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -65,4 +69,12 @@ public final class Lundail extends AbstractShop {
 	public Shop getShop() {
 		return shop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
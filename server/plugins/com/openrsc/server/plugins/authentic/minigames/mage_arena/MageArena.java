@@ -13,6 +13,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -22,11 +23,25 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrigger, OpLocTrigger, TakeObjTrigger, SpellNpcTrigger, AttackNpcTrigger, PlayerDeathTrigger {
+public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrigger, OpLocTrigger, TakeObjTrigger, SpellNpcTrigger, AttackNpcTrigger, PlayerDeathTrigger, TriggerIdFilter {
 
 	public static final int SARADOMIN_STONE = 1152;
 	public static final int GUTHIX_STONE = 1153;
 	public static final int ZAMORAK_STONE = 1154;
+	private static final int[] TALK_NPC_IDS = {NpcId.KOLODION.id()};
+	private static final int[] KILL_NPC_IDS = {
+		NpcId.KOLODION_HUMAN.id(),
+		NpcId.KOLODION_OGRE.id(),
+		NpcId.KOLODION_SPIDER.id(),
+		NpcId.KOLODION_SOULESS.id(),
+		NpcId.KOLODION_DEMON.id()
+	};
+	private static final int[] OP_LOC_IDS = {1019, 1020, 1027, SARADOMIN_STONE, GUTHIX_STONE, ZAMORAK_STONE};
+	private static final int[] TAKE_OBJ_IDS = {
+		ItemId.ZAMORAK_CAPE.id(),
+		ItemId.SARADOMIN_CAPE.id(),
+		ItemId.GUTHIX_CAPE.id()
+	};
 
 	@Override
 	public int getMiniGameId() {
@@ -475,13 +490,12 @@ public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrig
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KOLODION.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.KOLODION_HUMAN.id(), NpcId.KOLODION_OGRE.id(), NpcId.KOLODION_SPIDER.id(),
-				NpcId.KOLODION_SOULESS.id(), NpcId.KOLODION_DEMON.id());
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -612,8 +626,7 @@ public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrig
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1019 || obj.getID() == 1020 || obj.getID() == 1027
-			|| obj.getID() == SARADOMIN_STONE || obj.getID() == GUTHIX_STONE || obj.getID() == ZAMORAK_STONE;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -789,7 +802,7 @@ public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrig
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.ZAMORAK_CAPE.id() || i.getID() == ItemId.SARADOMIN_CAPE.id() || i.getID() == ItemId.GUTHIX_CAPE.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -806,4 +819,21 @@ public class MageArena implements MiniGameInterface, TalkNpcTrigger, KillNpcTrig
 		}
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
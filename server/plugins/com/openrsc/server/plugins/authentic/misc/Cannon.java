@@ -6,6 +6,7 @@ import com.openrsc.server.event.rsc.impl.projectile.FireCannonEvent;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
@@ -14,7 +15,9 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Cannon implements OpLocTrigger,
 	OpInvTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.DWARF_CANNON_BASE.id()};
 
 	public final static int[] cannonObjectIDs = {
 		946, // Cannon Base
@@ -241,7 +244,7 @@ public class Cannon implements OpLocTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.DWARF_CANNON_BASE.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -292,4 +295,12 @@ public class Cannon implements OpLocTrigger,
 			player.message("the cannon loads automatically");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
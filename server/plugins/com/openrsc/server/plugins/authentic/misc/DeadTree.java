@@ -3,15 +3,19 @@ package com.openrsc.server.plugins.authentic.misc;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.delay;
 
-public class DeadTree implements OpLocTrigger {
+public class DeadTree implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {88};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 88;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
 	}
 
 	@Override
@@ -21,4 +25,12 @@ public class DeadTree implements OpLocTrigger {
 		player.damage((int) (player.getSkills().getLevel(Skill.HITS.id()) * 0.2D));
 		player.message("You are badly scratched by the tree");
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -3,9 +3,13 @@ package com.openrsc.server.plugins.authentic.misc;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
-public class DiskOfReturning implements OpInvTrigger {
+public class DiskOfReturning implements OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.DISK_OF_RETURNING.id()};
 
 	public boolean insideMines(Player player) {
 		return ((player.getX() >= 250 && player.getX() <= 315) && (player.getY() >= 3325 && player.getY() <= 3400));
@@ -26,6 +30,14 @@ public class DiskOfReturning implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.DISK_OF_RETURNING.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 
@@ -17,12 +18,14 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger {
+public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger, TriggerIdFilter {
 	private static final int FOUNTAIN_OF_HEROES = 282;
+	private static final int[] USE_LOC_IDS = {FOUNTAIN_OF_HEROES};
+	private static final int[] OP_INV_IDS = {ItemId.CHARGED_DRAGONSTONE_AMULET.id()};
 
 	@Override
 	public boolean blockOpInv(final Player player, final Integer invIndex, final Item item, final String command) {
-		return item.getCatalogId() == ItemId.CHARGED_DRAGONSTONE_AMULET.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -167,7 +170,7 @@ public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockUseLoc(final Player player, final GameObject obj, final Item item) {
-		return obj.getID() == FOUNTAIN_OF_HEROES && item.getCatalogId() == ItemId.DRAGONSTONE_AMULET.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.DRAGONSTONE_AMULET.id();
 	}
 
 	@Override
@@ -208,4 +211,15 @@ public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger {
 			batchAmuletCharge(player, item);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -5,17 +5,21 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.delay;
 import static com.openrsc.server.plugins.Functions.mes;
 
-public class Dummy implements OpLocTrigger {
+public class Dummy implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {49, 562};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 49 || obj.getID() == 562;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
 	}
 
 	@Override
@@ -56,4 +60,12 @@ public class Dummy implements OpLocTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,17 +4,20 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.Formulae;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Hopper implements UseLocTrigger, OpLocTrigger {
+public class Hopper implements UseLocTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] USE_LOC_IDS = {52, 173, 246, 343};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return (obj.getID() == 52 || obj.getID() == 173 || obj.getID() == 246 || obj.getID() == 343) && item.getCatalogId() == ItemId.GRAIN.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.GRAIN.id();
 	}
 
 	@Override
@@ -60,4 +63,11 @@ public class Hopper implements UseLocTrigger, OpLocTrigger {
 		obj.removeAttribute("contains_item");
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,20 +4,22 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LadyOfTheWaves implements OpLocTrigger {
+public class LadyOfTheWaves implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int SHIP_LADY_OF_THE_WAVES_FRONT = 780;
 	private static final int SHIP_LADY_OF_THE_WAVES_BACK = 781;
+	private static final int[] OP_LOC_IDS = {SHIP_LADY_OF_THE_WAVES_FRONT, SHIP_LADY_OF_THE_WAVES_BACK};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == SHIP_LADY_OF_THE_WAVES_FRONT || obj.getID() == SHIP_LADY_OF_THE_WAVES_BACK;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -66,4 +68,12 @@ public class LadyOfTheWaves implements OpLocTrigger {
 			delay(2);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -3,15 +3,18 @@ package com.openrsc.server.plugins.authentic.misc;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LeafyPalmTree implements OpLocTrigger {
+public class LeafyPalmTree implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1176};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1176;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -25,4 +28,12 @@ public class LeafyPalmTree implements OpLocTrigger {
 			changeloc(obj, 15000, 33);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -2,15 +2,18 @@ package com.openrsc.server.plugins.authentic.misc;
 
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class MagicalPool implements OpLocTrigger {
+public class MagicalPool implements OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1166, 1155};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return !player.getConfig().WANT_OPENPK_POINTS && (obj.getID() == 1166 || obj.getID() == 1155);
+		return !player.getConfig().WANT_OPENPK_POINTS && inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -35,4 +38,12 @@ public class MagicalPool implements OpLocTrigger {
 			player.message("you are teleported to kolodions cave");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
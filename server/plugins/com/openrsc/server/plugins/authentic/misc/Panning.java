@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
@@ -16,7 +17,14 @@ import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpInvTrigger {
+public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] USE_NPC_IDS = {NpcId.DIGSITE_GUIDE.id()};
+	private static final int[] OP_INV_IDS = {
+		ItemId.PANNING_TRAY.id(),
+		ItemId.PANNING_TRAY_FULL.id(),
+		ItemId.PANNING_TRAY_GOLD_NUGGET.id()
+	};
 
 	private static int PANNING_POINT = 1058;
 
@@ -98,7 +106,7 @@ public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpIn
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.DIGSITE_GUIDE.id();
+		return inArray(npc.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -135,7 +143,7 @@ public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpIn
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.PANNING_TRAY.id() || item.getCatalogId() == ItemId.PANNING_TRAY_FULL.id() || item.getCatalogId() == ItemId.PANNING_TRAY_GOLD_NUGGET.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 
@@ -191,4 +199,15 @@ public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpIn
 			player.message("You have a handful of gold nuggets");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
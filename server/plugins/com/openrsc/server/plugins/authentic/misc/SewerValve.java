@@ -2,11 +2,12 @@ package com.openrsc.server.plugins.authentic.misc;
 
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SewerValve implements OpLocTrigger {
+public class SewerValve implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int SEWER_VALVE_1 = 412;
 	private static final int SEWER_VALVE_2 = 413;
@@ -15,6 +16,15 @@ public class SewerValve implements OpLocTrigger {
 	private static final int SEWER_VALVE_5 = 416;
 	private static final int LOG_RAFT = 432;
 	private static final int LOG_RAFT_BACK = 433;
+	private static final int[] OP_LOC_IDS = {
+		SEWER_VALVE_1,
+		SEWER_VALVE_2,
+		SEWER_VALVE_3,
+		SEWER_VALVE_4,
+		SEWER_VALVE_5,
+		LOG_RAFT,
+		LOG_RAFT_BACK
+	};
 
 	@Override
 	public void onOpLoc(Player player, GameObject obj, String command) {
@@ -113,6 +123,14 @@ public class SewerValve implements OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == SEWER_VALVE_1 || obj.getID() == SEWER_VALVE_2 || obj.getID() == SEWER_VALVE_3 || obj.getID() == SEWER_VALVE_4 || obj.getID() == SEWER_VALVE_5 || obj.getID() == LOG_RAFT || obj.getID() == LOG_RAFT_BACK;
+		return inArray(obj.getID(), OP_LOC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
 	}
 }
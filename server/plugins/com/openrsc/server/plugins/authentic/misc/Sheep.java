@@ -5,15 +5,18 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Sheep implements UseNpcTrigger {
+public class Sheep implements UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] USE_NPC_IDS = {NpcId.SHEEP.id()};
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.SHEEP.id() && item.getCatalogId() == ItemId.SHEARS.id();
+		return inArray(npc.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.SHEARS.id();
 	}
 
 	@Override
@@ -49,4 +52,12 @@ public class Sheep implements UseNpcTrigger {
 			batchShear(player, item);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,11 +5,15 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.micetomeetyou.Death;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
-public class Sleeping implements OpLocTrigger, OpInvTrigger {
+public class Sleeping implements OpLocTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.SLEEPING_BAG.id()};
 
 	@Override
 	public void onOpLoc(Player owner, final GameObject object, String command) {
@@ -46,6 +50,14 @@ public class Sleeping implements OpLocTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.SLEEPING_BAG.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -8,12 +8,13 @@ import com.openrsc.server.model.Point;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class StrangeBarrels implements OpLocTrigger {
+public class StrangeBarrels implements OpLocTrigger, TriggerIdFilter {
 
 	/**
 	 * What I have discovered from barrels is the food, potions, misc, weapon, runes, certificates and monsters.
@@ -97,10 +98,11 @@ public class StrangeBarrels implements OpLocTrigger {
 			NpcId.GIANT_SPIDER_LVL8.id(), NpcId.ZOMBIE_LVL24_GEN.id(), NpcId.SKELETON_LVL25.id(), NpcId.SKELETON_LVL21.id(),
 			NpcId.RAT_LVL13.id(), NpcId.HOBGOBLIN_LVL32.id(), NpcId.MOSS_GIANT.id(), NpcId.BLACK_KNIGHT.id(), NpcId.SKELETON_LVL31.id(),
 			NpcId.RAT_LVL8.id(), NpcId.SCORPION.id()};
+	private static final int[] OP_LOC_IDS = {STRANGE_BARREL};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == STRANGE_BARREL;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -213,4 +215,12 @@ public class StrangeBarrels implements OpLocTrigger {
 			addobject(selectedItem, 1, x, y, player);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,8 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.ArrayList;
@@ -18,14 +20,16 @@ import java.util.List;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class CraftingEquipmentShops extends AbstractShop {
+public final class CraftingEquipmentShops extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ROMMIK.id(), NpcId.DOMMIK.id()};
 
 	private Shop shop = null;
 	private Shop[] shops = null;
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.ROMMIK.id() || n.getID() == NpcId.DOMMIK.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -126,4 +130,12 @@ public final class CraftingEquipmentShops extends AbstractShop {
 		}
 		return shop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
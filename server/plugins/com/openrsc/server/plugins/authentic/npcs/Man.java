@@ -4,20 +4,31 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Man implements TalkNpcTrigger {
+public class Man implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MAN.id(),
+		NpcId.MAN_ALKHARID.id(),
+		NpcId.MAN_ARDOUGNE.id(),
+		NpcId.FARMER.id(),
+		NpcId.FARMER_ARDOUGNE.id(),
+		NpcId.THIEF.id(),
+		NpcId.THIEF_BLANKET.id(),
+		NpcId.HEAD_THIEF.id(),
+		NpcId.ROGUE.id(),
+		NpcId.ALKHARID_WARRIOR.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
 		// Dialogue same between all Man, Farmer, Thief, Rogue, Alkharid Warrior
-		return inArray(n.getID(), NpcId.MAN.id(), NpcId.MAN_ALKHARID.id(), NpcId.MAN_ARDOUGNE.id(),
-			NpcId.FARMER.id(), NpcId.FARMER_ARDOUGNE.id(),
-			NpcId.THIEF.id(), NpcId.THIEF_BLANKET.id(), NpcId.HEAD_THIEF.id(),
-			NpcId.ROGUE.id(), NpcId.ALKHARID_WARRIOR.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -105,4 +116,12 @@ public class Man implements TalkNpcTrigger {
 		else if (selected == 19)
 			npcsay(player, n, "Yo wassup!");
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,11 +4,14 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class MonkHealer implements TalkNpcTrigger {
+public class MonkHealer implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.MONK.id(), NpcId.ABBOT_LANGLEY.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		npcsay(player, n, "Greetings traveller");
@@ -41,6 +44,14 @@ public class MonkHealer implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MONK.id() || n.getID() == NpcId.ABBOT_LANGLEY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -3,16 +3,18 @@ package com.openrsc.server.plugins.authentic.npcs;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Pirate implements TalkNpcTrigger {
+public class Pirate implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.PIRATE_LVL27.id(), NpcId.PIRATE_LVL30.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(),
-			NpcId.PIRATE_LVL27.id(), NpcId.PIRATE_LVL30.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -76,4 +78,12 @@ public class Pirate implements TalkNpcTrigger {
 			say(player, n, "I'm not that fat");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
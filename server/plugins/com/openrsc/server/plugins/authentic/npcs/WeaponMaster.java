@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -14,11 +15,15 @@ import static com.openrsc.server.plugins.Functions.*;
 import static com.openrsc.server.plugins.authentic.quests.free.ShieldOfArrav.*;
 
 
-public class WeaponMaster implements TalkNpcTrigger, TakeObjTrigger, AttackNpcTrigger {
+public class WeaponMaster implements TalkNpcTrigger, TakeObjTrigger, AttackNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.WEAPONSMASTER.id()};
+	private static final int[] ATTACK_NPC_IDS = {NpcId.WEAPONSMASTER.id()};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.PHOENIX_CROSSBOW.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.WEAPONSMASTER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -33,13 +38,13 @@ public class WeaponMaster implements TalkNpcTrigger, TakeObjTrigger, AttackNpcTr
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.WEAPONSMASTER.id();
+		return inArray(n.getID(), ATTACK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
 		return (i.getX() == 107 || i.getX() == 105) && i.getY() == 1476
-				&& i.getID() == ItemId.PHOENIX_CROSSBOW.id();
+				&& inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -86,4 +91,18 @@ public class WeaponMaster implements TalkNpcTrigger, TakeObjTrigger, AttackNpcTr
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
@@ -7,13 +7,17 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class BorderGuard implements
-	TalkNpcTrigger, OpLocTrigger {
+	TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BORDER_GUARD_ALKHARID.id(), NpcId.BORDER_GUARD_LUMBRIDGE.id()};
+	private static final int[] OP_LOC_IDS = {180};
 
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
@@ -72,7 +76,7 @@ public final class BorderGuard implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BORDER_GUARD_ALKHARID.id() || n.getID() == NpcId.BORDER_GUARD_LUMBRIDGE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -84,6 +88,17 @@ public final class BorderGuard implements
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 180 && command.equals("open");
+		return inArray(obj.getID(), OP_LOC_IDS) && command.equals("open");
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
 	}
 }
@@ -10,10 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class GemTrader extends AbstractShop {
+public final class GemTrader extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.GEM_TRADER.id()};
 
 	private final Shop shop = new Shop(false, 60000 * 10, 100, 70, 3,
 		new Item(ItemId.UNCUT_SAPPHIRE.id(), 1),
@@ -28,7 +32,7 @@ public final class GemTrader extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.GEM_TRADER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -89,4 +93,12 @@ public final class GemTrader extends AbstractShop {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
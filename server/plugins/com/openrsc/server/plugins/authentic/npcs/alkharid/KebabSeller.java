@@ -5,13 +5,16 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.Quests;
 
-public final class KebabSeller implements TalkNpcTrigger {
+public final class KebabSeller implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.KEBAB_SELLER.id()};
 
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
@@ -50,7 +53,14 @@ public final class KebabSeller implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KEBAB_SELLER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
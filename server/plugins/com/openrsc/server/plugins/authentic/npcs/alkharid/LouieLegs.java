@@ -10,16 +10,20 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class LouieLegs extends AbstractShop {
+public final class LouieLegs extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.LOUIE_LEGS.id()};
 
 	private Shop shop = null;
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.LOUIE_LEGS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -89,4 +93,12 @@ public final class LouieLegs extends AbstractShop {
 		}
 		return shop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
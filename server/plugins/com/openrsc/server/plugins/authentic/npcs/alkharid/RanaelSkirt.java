@@ -10,10 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class RanaelSkirt extends AbstractShop {
+public final class RanaelSkirt extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.RANAEL.id()};
 
 	private final Shop shop = new Shop(false, 25000, 100, 65, 1,
 		new Item(ItemId.BRONZE_PLATED_SKIRT.id(), 5),
@@ -26,7 +30,7 @@ public final class RanaelSkirt extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.RANAEL.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -76,4 +80,12 @@ public final class RanaelSkirt extends AbstractShop {
 					"Someone around here will have seen him though");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -14,9 +14,11 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.RuneScript;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.misc.WoodcuttingGuild;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,9 +27,16 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeObjTrigger {
+public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeObjTrigger, TriggerIdFilter {
 
 	private static final Logger LOGGER = LogManager.getLogger(ShantayPassNpcs.class);
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.ASSISTANT.id(),
+		NpcId.SHANTAY.id(),
+		NpcId.SHANTAY_PASS_GUARD_MOVING.id(),
+		NpcId.SHANTAY_PASS_GUARD_STANDING.id()
+	};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.A_FREE_SHANTAY_DISCLAIMER.id()};
 	//private static int ASSISTANT = NpcId.NpcId.ASSISTANT.id().id();
 	//private static int SHANTAY_DISCLAIMER = ItemId.A_FREE_SHANTAY_DISCLAIMER.id();
 	//private static int SHANTAY_STANDING_GUARD = NpcId.SHANTAY_PASS_GUARD_STANDING.id();
@@ -425,8 +434,7 @@ public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeO
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ASSISTANT.id() || n.getID() == NpcId.SHANTAY.id() || n.getID() == NpcId.SHANTAY_PASS_GUARD_MOVING.id()
-			|| n.getID() == NpcId.SHANTAY_PASS_GUARD_STANDING.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -570,7 +578,7 @@ public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeO
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.A_FREE_SHANTAY_DISCLAIMER.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -587,4 +595,15 @@ public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeO
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
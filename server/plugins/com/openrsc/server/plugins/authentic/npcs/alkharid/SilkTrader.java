@@ -7,17 +7,20 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SilkTrader implements TalkNpcTrigger {
+public class SilkTrader implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SILK_TRADER.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SILK_TRADER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -95,4 +98,12 @@ public class SilkTrader implements TalkNpcTrigger {
 					"Someone around here will have seen him though");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
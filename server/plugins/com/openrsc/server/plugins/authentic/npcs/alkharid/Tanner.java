@@ -5,11 +5,14 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Tanner implements TalkNpcTrigger {
+public class Tanner implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.TANNER.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		npcsay(player, n, "Greetings friend I'm a manufacturer of leather");
@@ -52,7 +55,14 @@ public class Tanner implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.TANNER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,10 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class ZekeScimitars extends AbstractShop {
+public final class ZekeScimitars extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ZEKE.id()};
 
 	private final Shop shop = new Shop(false, 25000, 100, 55, 2,
 		new Item(ItemId.BRONZE_SCIMITAR.id(), 5),
@@ -24,7 +28,7 @@ public final class ZekeScimitars extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.ZEKE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -72,4 +76,12 @@ public final class ZekeScimitars extends AbstractShop {
 					"Someone around here will have seen him though");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -8,13 +8,16 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class CaptainBarnaby implements OpLocTrigger,
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.CAPTAIN_BARNABY.id()};
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -60,7 +63,7 @@ public final class CaptainBarnaby implements OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CAPTAIN_BARNABY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 
@@ -87,4 +90,12 @@ public final class CaptainBarnaby implements OpLocTrigger,
 		return (arg0.getID() == 157 && arg0.getLocation().equals(Point.location(536, 617)))
 			|| (arg0.getID() == 155 && arg0.getLocation().equals(Point.location(531, 617)));
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
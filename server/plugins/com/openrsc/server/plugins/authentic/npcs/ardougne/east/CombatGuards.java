@@ -3,15 +3,21 @@ package com.openrsc.server.plugins.authentic.npcs.ardougne.east;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class CombatGuards implements TalkNpcTrigger {
+public class CombatGuards implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GUARD_TRAINING_CAMP_OGRE.id(),
+		NpcId.GUARD_TRAINING_CAMP_DUMMY.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.GUARD_TRAINING_CAMP_OGRE.id(), NpcId.GUARD_TRAINING_CAMP_DUMMY.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -33,4 +39,12 @@ public class CombatGuards implements TalkNpcTrigger {
 			say(player, n, "indeed");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
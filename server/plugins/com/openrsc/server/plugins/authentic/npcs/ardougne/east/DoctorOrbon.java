@@ -7,7 +7,9 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 import java.util.Optional;
@@ -15,11 +17,13 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.Functions.config;
 
-public class DoctorOrbon implements TalkNpcTrigger {
+public class DoctorOrbon implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DOCTOR_ORBON.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.DOCTOR_ORBON.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -181,4 +185,12 @@ public class DoctorOrbon implements TalkNpcTrigger {
 			npcsay("maybe one day you will be able to wear such a cape");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
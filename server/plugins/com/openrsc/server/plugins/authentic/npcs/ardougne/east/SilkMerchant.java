@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import java.time.Instant;
@@ -12,7 +13,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SilkMerchant implements TalkNpcTrigger {
+public class SilkMerchant implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SILK_MERCHANT.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
@@ -82,6 +85,14 @@ public class SilkMerchant implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SILK_MERCHANT.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
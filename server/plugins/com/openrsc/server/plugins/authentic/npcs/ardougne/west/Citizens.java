@@ -5,12 +5,22 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Citizens implements TalkNpcTrigger {
+public class Citizens implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CITIZEN_TIRED.id(),
+		NpcId.CITIZEN_FRIGHTENED.id(),
+		NpcId.CITIZEN_FRUSTRATED.id(),
+		NpcId.CITIZEN_ANGRY.id(),
+		NpcId.CITIZEN_DISILLUSIONED.id(),
+		NpcId.RECRUITER.id()
+	};
 
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
@@ -128,7 +138,14 @@ public class Citizens implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.CITIZEN_TIRED.id(), NpcId.CITIZEN_FRIGHTENED.id(), NpcId.CITIZEN_FRUSTRATED.id(),
-			NpcId.CITIZEN_ANGRY.id(), NpcId.CITIZEN_DISILLUSIONED.id(), NpcId.RECRUITER.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -5,11 +5,18 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Civillians implements TalkNpcTrigger {
+public class Civillians implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CIVILLIAN_APRON.id(),
+		NpcId.CIVILLIAN_ATTACKABLE.id(),
+		NpcId.CIVILLIAN_PICKPOCKET.id()
+	};
 
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
@@ -145,7 +152,14 @@ public class Civillians implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.CIVILLIAN_APRON.id(), NpcId.CIVILLIAN_ATTACKABLE.id(), NpcId.CIVILLIAN_PICKPOCKET.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
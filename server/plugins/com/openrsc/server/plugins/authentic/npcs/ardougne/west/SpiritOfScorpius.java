@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
@@ -15,13 +16,16 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SpiritOfScorpius implements TalkNpcTrigger, UseNpcTrigger, OpLocTrigger {
+public class SpiritOfScorpius implements TalkNpcTrigger, UseNpcTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SPIRIT_OF_SCORPIUS.id(), NpcId.GHOST_SCORPIUS.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.SPIRIT_OF_SCORPIUS.id()};
 
 	public int GRAVE_OF_SCORPIUS = 941;
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SPIRIT_OF_SCORPIUS.id() || n.getID() == NpcId.GHOST_SCORPIUS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -137,7 +141,7 @@ public class SpiritOfScorpius implements TalkNpcTrigger, UseNpcTrigger, OpLocTri
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.SPIRIT_OF_SCORPIUS.id() && item.getCatalogId() == ItemId.CROWN_OF_THE_OCCULT.id();
+		return inArray(npc.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.CROWN_OF_THE_OCCULT.id();
 	}
 
 	@Override
@@ -153,4 +157,15 @@ public class SpiritOfScorpius implements TalkNpcTrigger, UseNpcTrigger, OpLocTri
 			player.message("may seek his counsel");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
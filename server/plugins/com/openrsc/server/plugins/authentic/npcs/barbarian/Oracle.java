@@ -4,6 +4,7 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -12,7 +13,9 @@ import java.util.ArrayList;
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Oracle implements
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ORACLE.id()};
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -91,6 +94,14 @@ public final class Oracle implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ORACLE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -14,7 +15,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger {
+public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.CUSTOMS_OFFICIAL.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		int option = multi(player, n, "Can I board this ship?",
@@ -87,7 +90,7 @@ public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CUSTOMS_OFFICIAL.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -95,4 +98,12 @@ public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger {
 		return (arg0.getID() == 320 && arg0.getLocation().equals(Point.location(468, 651)))
 			|| (arg0.getID() == 321 && arg0.getLocation().equals(Point.location(468, 646)));
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -2,13 +2,16 @@ package com.openrsc.server.plugins.authentic.npcs.brimhaven;
 
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
 
-public class CharlieTheCook implements TalkNpcTrigger {
+public class CharlieTheCook implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.CHARLIE_THE_COOK.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
@@ -54,7 +57,14 @@ public class CharlieTheCook implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CHARLIE_THE_COOK.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -12,18 +12,23 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class CandleMakerShop extends AbstractShop {
+public class CandleMakerShop extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.CANDLEMAKER.id()};
 
 	private final Shop shop = new Shop(false, 1000, 100, 80, 2, new Item(ItemId.UNLIT_CANDLE.id(), 10));
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.CANDLEMAKER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -114,4 +119,12 @@ public class CandleMakerShop extends AbstractShop {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -6,8 +6,10 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.quests.free.PeelingTheOnion;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.Optional;
 
@@ -15,7 +17,7 @@ import static com.openrsc.server.plugins.Functions.config;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.MiceQuestStates.*;
 
-public final class Aggie implements TalkNpcTrigger {
+public final class Aggie implements TalkNpcTrigger, TriggerIdFilter {
 
 	private static final int SKIN_PASTE = 0;
 	private static final int FROGS = 1;
@@ -30,6 +32,7 @@ public final class Aggie implements TalkNpcTrigger {
 	private static final int MAKEME = 10;
 	private static final int HAPPY = 11;
 	private static final int OGRE_EARS = 12;
+	private static final int[] TALK_NPC_IDS = {NpcId.AGGIE.id()};
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc npc) {
@@ -492,6 +495,14 @@ public final class Aggie implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.AGGIE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -3,6 +3,7 @@ package com.openrsc.server.plugins.authentic.npcs.dwarvenmine;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -10,7 +11,7 @@ import static com.openrsc.server.plugins.Functions.*;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 
-public class Thordur implements TalkNpcTrigger {
+public class Thordur implements TalkNpcTrigger, TriggerIdFilter {
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -139,7 +140,7 @@ public class Thordur implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THORDUR.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	static final int WANTED_SAY_HI = 0;
@@ -152,5 +153,13 @@ public class Thordur implements TalkNpcTrigger {
 	static final int HAVE_TO_GO = 7;
 	static final int CAN_I_BUY_IT = 8;
 	static final int BE_RIGHT_BACK = 9;
+	private static final int[] TALK_NPC_IDS = {NpcId.THORDUR.id()};
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
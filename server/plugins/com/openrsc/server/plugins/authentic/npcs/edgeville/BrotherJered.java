@@ -6,8 +6,10 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 import java.util.Optional;
@@ -15,7 +17,10 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.Functions.config;
 
-public class BrotherJered implements TalkNpcTrigger, UseNpcTrigger {
+public class BrotherJered implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_JERED.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.BROTHER_JERED.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
@@ -66,7 +71,7 @@ public class BrotherJered implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.BROTHER_JERED.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -85,7 +90,7 @@ public class BrotherJered implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.BROTHER_JERED.id() && item.getCatalogId() == ItemId.CROWN_OF_THE_HERBALIST.id();
+		return DataConversions.inArray(USE_NPC_IDS, npc.getID()) && item.getCatalogId() == ItemId.CROWN_OF_THE_HERBALIST.id();
 	}
 
 	public void prayerCape(final Player player, final Npc npc) {
@@ -131,4 +136,15 @@ public class BrotherJered implements TalkNpcTrigger, UseNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
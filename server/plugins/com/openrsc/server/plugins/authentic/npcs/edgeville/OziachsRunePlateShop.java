@@ -10,17 +10,21 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class OziachsRunePlateShop extends AbstractShop {
+public class OziachsRunePlateShop extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.OZIACH.id()};
 
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2, new Item(ItemId.RUNE_PLATE_MAIL_BODY.id(),
 		2));
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.OZIACH.id() && player.getQuestStage(Quests.DRAGON_SLAYER) == -1;
+		return inArray(n.getID(), TALK_NPC_IDS) && player.getQuestStage(Quests.DRAGON_SLAYER) == -1;
 	}
 
 	@Override
@@ -48,4 +52,12 @@ public class OziachsRunePlateShop extends AbstractShop {
 			ActionSender.showShop(player, shop);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
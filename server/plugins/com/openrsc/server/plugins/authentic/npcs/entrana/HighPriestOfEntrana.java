@@ -4,11 +4,14 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class HighPriestOfEntrana implements TalkNpcTrigger {
+public class HighPriestOfEntrana implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.HIGH_PRIEST_OF_ENTRANA.id()};
 
 	private static void entranaPriestDialogue(Player player, Npc n, int cID) {
 		if (cID == -1) {
@@ -113,7 +116,7 @@ public class HighPriestOfEntrana implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HIGH_PRIEST_OF_ENTRANA.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	class EntranaPriest {
@@ -122,4 +125,11 @@ public class HighPriestOfEntrana implements TalkNpcTrigger {
 		public static final int whistle = 2;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
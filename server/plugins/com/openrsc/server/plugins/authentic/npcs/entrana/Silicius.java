@@ -3,11 +3,14 @@ package com.openrsc.server.plugins.authentic.npcs.entrana;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Silicius implements TalkNpcTrigger {
+public class Silicius implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.SILICIUS.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		if (n.getID() == NpcId.SILICIUS.id()) {
@@ -20,8 +23,15 @@ public class Silicius implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SILICIUS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
 
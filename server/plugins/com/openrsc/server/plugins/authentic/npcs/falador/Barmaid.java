@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -14,12 +15,14 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Barmaid implements
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.BARMAID.id()};
+
 	private final String notEnoughMoney = "Oh dear. I don't seem to have enough money";
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BARMAID.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -137,4 +140,11 @@ public final class Barmaid implements
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
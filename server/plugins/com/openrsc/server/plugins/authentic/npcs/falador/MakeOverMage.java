@@ -7,12 +7,15 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.quests.free.PeelingTheOnion;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class MakeOverMage implements TalkNpcTrigger {
+public class MakeOverMage implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.MAKE_OVER_MAGE.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc npc) {
 		if (config().PRIDE_MONTH && !(player.getCarriedItems().hasCatalogID(ItemId.CAPE_OF_INCLUSION.id())
@@ -61,7 +64,14 @@ public class MakeOverMage implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MAKE_OVER_MAGE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,11 +10,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 import static com.openrsc.server.plugins.Functions.say;
 
-public final class BolkoyGeneralStore extends AbstractShop {
+public final class BolkoyGeneralStore extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BOLKOY.id()};
 
 	private final Shop shop = new Shop(true, 15000, 130, 40, 3, new Item(ItemId.BRONZE_PICKAXE.id(),
 		5), new Item(ItemId.POT.id(), 3), new Item(ItemId.JUG.id(), 2), new Item(ItemId.SHEARS.id(), 2), new Item(ItemId.BUCKET.id(),
@@ -91,7 +95,7 @@ public final class BolkoyGeneralStore extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BOLKOY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -109,4 +113,11 @@ public final class BolkoyGeneralStore extends AbstractShop {
 		return shop;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,16 +4,20 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Brimstail implements TalkNpcTrigger, OpLocTrigger {
+public class Brimstail implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BRIMSTAIL.id()};
+	private static final int[] OP_LOC_IDS = {667};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BRIMSTAIL.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -27,7 +31,7 @@ public class Brimstail implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 667;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -39,4 +43,15 @@ public class Brimstail implements TalkNpcTrigger, OpLocTrigger {
 		player.message("you climb down");
 		player.teleport(730, 3334, false);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
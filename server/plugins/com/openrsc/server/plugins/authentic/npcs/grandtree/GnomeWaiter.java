@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class GnomeWaiter extends AbstractShop {
+public final class GnomeWaiter extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.GNOME_WAITER.id()};
 
 	private final Shop shop = new Shop(false, 30000, 100, 25, 1,
 		new Item(ItemId.GNOME_WAITER_CHEESE_AND_TOMATO_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_TOAD_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_WORM_BATTA.id(), 3),
@@ -43,7 +47,7 @@ public final class GnomeWaiter extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GNOME_WAITER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -60,4 +64,12 @@ public final class GnomeWaiter extends AbstractShop {
 	public Shop getShop() {
 		return shop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
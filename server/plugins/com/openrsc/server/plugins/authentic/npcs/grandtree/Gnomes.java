@@ -4,17 +4,26 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Gnomes implements TalkNpcTrigger {
+public class Gnomes implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GNOME_LOCAL_RED.id(),
+		NpcId.GNOME_LOCAL_PURPLE.id(),
+		NpcId.GNOME_CHILD_GREEN_PURPLE.id(),
+		NpcId.GNOME_CHILD_PURPLE_PINK.id(),
+		NpcId.GNOME_CHILD_PINK_GREEN.id(),
+		NpcId.GNOME_CHILD_CREAM_PURPLE.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.GNOME_LOCAL_RED.id(), NpcId.GNOME_LOCAL_PURPLE.id(), NpcId.GNOME_CHILD_GREEN_PURPLE.id(),
-				NpcId.GNOME_CHILD_PURPLE_PINK.id(), NpcId.GNOME_CHILD_PINK_GREEN.id(), NpcId.GNOME_CHILD_CREAM_PURPLE.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -246,4 +255,12 @@ public class Gnomes implements TalkNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
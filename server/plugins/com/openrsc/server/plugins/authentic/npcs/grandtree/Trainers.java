@@ -3,15 +3,23 @@ package com.openrsc.server.plugins.authentic.npcs.grandtree;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Trainers implements TalkNpcTrigger {
+public class Trainers implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GNOME_TRAINER_ENTRANCE.id(),
+		NpcId.GNOME_TRAINER_STARTINGNET.id(),
+		NpcId.GNOME_TRAINER_PLATFORM.id(),
+		NpcId.GNOME_TRAINER_ENDINGNET.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.GNOME_TRAINER_ENTRANCE.id(), NpcId.GNOME_TRAINER_STARTINGNET.id(), NpcId.GNOME_TRAINER_PLATFORM.id(), NpcId.GNOME_TRAINER_ENDINGNET.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -45,4 +53,11 @@ public class Trainers implements TalkNpcTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
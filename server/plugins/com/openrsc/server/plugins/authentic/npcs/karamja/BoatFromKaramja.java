@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -14,7 +15,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger {
+public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.CUSTOMS_OFFICER.id()};
 
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
@@ -88,7 +91,7 @@ public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CUSTOMS_OFFICER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -97,4 +100,12 @@ public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger {
 			|| (arg0.getID() == 163 && arg0.getLocation().equals(Point.location(319, 710)))
 			|| (arg0.getID() == 162 && arg0.getLocation().equals(Point.location(324, 710)));
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
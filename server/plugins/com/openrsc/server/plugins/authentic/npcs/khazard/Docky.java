@@ -3,6 +3,7 @@ package com.openrsc.server.plugins.authentic.npcs.khazard;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -10,7 +11,9 @@ import static com.openrsc.server.plugins.Functions.*;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 
-public class Docky implements TalkNpcTrigger {
+public class Docky implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DOCKY.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
@@ -52,6 +55,14 @@ public class Docky implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DOCKY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -11,12 +11,17 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public final class BobsAxes extends AbstractShop {
+public final class BobsAxes extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BOB.id()};
 
 	private final Shop shop = new Shop(false, 15000, 100, 60, 2, new Item(ItemId.BRONZE_PICKAXE.id(),
 		5), new Item(ItemId.BRONZE_AXE.id(), 10), new Item(ItemId.IRON_AXE.id(), 5), new Item(ItemId.STEEL_AXE.id(), 3),
@@ -24,7 +29,7 @@ public final class BobsAxes extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.BOB.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -97,4 +102,12 @@ public final class BobsAxes extends AbstractShop {
 				break;
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ALumbridgeCarol;
 import com.openrsc.server.plugins.custom.quests.members.RuneMysteries;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -15,7 +16,9 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class DukeOfLumbridge implements
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DUKE_OF_LUMBRIDGE.id()};
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -115,7 +118,14 @@ public final class DukeOfLumbridge implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DUKE_OF_LUMBRIDGE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
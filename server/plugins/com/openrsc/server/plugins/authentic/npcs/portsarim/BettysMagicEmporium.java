@@ -9,6 +9,9 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 
@@ -16,13 +19,15 @@ import static com.openrsc.server.plugins.Functions.config;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.MiceQuestStates.*;
 
-public final class BettysMagicEmporium extends AbstractShop {
+public final class BettysMagicEmporium extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BETTY.id()};
 
 	private Shop shop = null;
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.BETTY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -325,4 +330,12 @@ public final class BettysMagicEmporium extends AbstractShop {
 			return ItemId.BLACK_WIZARDSHAT.id();
 		return -1;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
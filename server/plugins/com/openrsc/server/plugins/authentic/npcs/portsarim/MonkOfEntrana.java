@@ -11,6 +11,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -18,7 +19,17 @@ import com.openrsc.server.util.rsc.DataConversions;
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class MonkOfEntrana implements OpLocTrigger,
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MONK_OF_ENTRANA_PORTSARIM.id(),
+		NpcId.MONK_OF_ENTRANA_UNRELEASED.id()
+	};
+	private static final int[] OP_LOC_IDS = {
+		SceneryId.SHIP_BACK_ENTRANA.id(),
+		SceneryId.SHIP_MIDDLE_ENTRANA.id(),
+		SceneryId.SHIP_FRONT_ENTRANA.id()
+	};
 
 	// This list is only entrana-blocked items with catalog id < 1290 (authentic items)
 	final private int[] blockedItems = {
@@ -392,7 +403,7 @@ public final class MonkOfEntrana implements OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.MONK_OF_ENTRANA_PORTSARIM.id() || npc.getID() == NpcId.MONK_OF_ENTRANA_UNRELEASED.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -450,8 +461,17 @@ public final class MonkOfEntrana implements OpLocTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject gameObject, String command) {
-		return gameObject.getID() == SceneryId.SHIP_BACK_ENTRANA.id() ||
-			gameObject.getID() == SceneryId.SHIP_MIDDLE_ENTRANA.id() ||
-			gameObject.getID() == SceneryId.SHIP_FRONT_ENTRANA.id();
+		return inArray(gameObject.getID(), OP_LOC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
 	}
 }
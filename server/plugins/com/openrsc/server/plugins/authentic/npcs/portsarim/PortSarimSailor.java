@@ -8,13 +8,20 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class PortSarimSailor implements OpLocTrigger,
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CAPTAIN_TOBIAS.id(),
+		NpcId.SEAMAN_THRESNOR.id(),
+		NpcId.SEAMAN_LORRIS.id()
+	};
 
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -61,7 +68,7 @@ public final class PortSarimSailor implements OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CAPTAIN_TOBIAS.id() || n.getID() == NpcId.SEAMAN_THRESNOR.id() || n.getID() == NpcId.SEAMAN_LORRIS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -81,5 +88,13 @@ public final class PortSarimSailor implements OpLocTrigger,
 			|| (arg0.getID() == 156 && arg0.getLocation().equals(Point.location(265, 650)))
 			|| (arg0.getID() == 157 && arg0.getLocation().equals(Point.location(265, 652)));
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
 
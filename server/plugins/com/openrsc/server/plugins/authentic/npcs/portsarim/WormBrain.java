@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 
 import java.util.ArrayList;
@@ -14,11 +15,13 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class WormBrain implements OpBoundTrigger {
+public final class WormBrain implements OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] OP_BOUND_IDS = {30};
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return player.getConfig().WANT_BARTER_WORMBRAINS && obj.getID() == 30
+		return player.getConfig().WANT_BARTER_WORMBRAINS && inArray(obj.getID(), OP_BOUND_IDS)
 				&& obj.getX() == 283 && obj.getY() == 665;
 	}
 
@@ -122,4 +125,12 @@ public final class WormBrain implements OpBoundTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -11,23 +11,28 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class WydinsGrocery extends AbstractShop implements OpBoundTrigger {
+public final class WydinsGrocery extends AbstractShop implements OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.WYDIN.id()};
+	private static final int[] OP_BOUND_IDS = {47};
 
 	private Shop shop = null;
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.WYDIN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockOpBound(final Player player, final GameObject obj,
 								final Integer click) {
-		return obj.getID() == 47 && obj.getX() == 277 && obj.getY() == 658;
+		return inArray(obj.getID(), OP_BOUND_IDS) && obj.getX() == 277 && obj.getY() == 658;
 	}
 
 	@Override
@@ -156,4 +161,15 @@ public final class WydinsGrocery extends AbstractShop implements OpBoundTrigger
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
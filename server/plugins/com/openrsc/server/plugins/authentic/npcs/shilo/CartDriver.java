@@ -7,19 +7,22 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class CartDriver implements TalkNpcTrigger, OpLocTrigger {
+public class CartDriver implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
 
 	public static final int TRAVEL_CART_SHILO = 768;
 	public static final int TRAVEL_CART_BRIMHAVEN = 769;
+	private static final int[] TALK_NPC_IDS = {NpcId.CART_DRIVER_SHILO.id(), NpcId.CART_DRIVER_BRIMHAVEN.id()};
+	private static final int[] OP_LOC_IDS = {TRAVEL_CART_SHILO, TRAVEL_CART_BRIMHAVEN};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CART_DRIVER_SHILO.id() || n.getID() == NpcId.CART_DRIVER_BRIMHAVEN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	private void cartRideShilo(Player player, Npc n) {
@@ -107,7 +110,7 @@ public class CartDriver implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == TRAVEL_CART_SHILO || obj.getID() == TRAVEL_CART_BRIMHAVEN;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -146,4 +149,15 @@ public class CartDriver implements TalkNpcTrigger, OpLocTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -13,7 +14,10 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class JungleForester implements TalkNpcTrigger, UseNpcTrigger {
+public class JungleForester implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.JUNGLE_FORESTER.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.JUNGLE_FORESTER.id()};
 
 	/*
 	 * JungleForesterNPC class is for not started Legends quest.
@@ -21,7 +25,7 @@ public class JungleForester implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.JUNGLE_FORESTER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -292,7 +296,7 @@ public class JungleForester implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item item) {
-		return n.getID() == NpcId.JUNGLE_FORESTER.id() && item.getCatalogId() == ItemId.RADIMUS_SCROLLS_COMPLETE.id(); // the complete map.
+		return inArray(n.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.RADIMUS_SCROLLS_COMPLETE.id(); // the complete map.
 	}
 
 	@Override
@@ -356,4 +360,15 @@ public class JungleForester implements TalkNpcTrigger, UseNpcTrigger {
 		public static final int MAKE_A_COPY = 4;
 		public static final int OK_THANKS = 5;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -14,7 +15,10 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Yohnus implements TalkNpcTrigger, OpBoundTrigger {
+public class Yohnus implements TalkNpcTrigger, OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.YOHNUS.id()};
+	private static final int[] OP_BOUND_IDS = {165};
 
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
@@ -91,12 +95,12 @@ public class Yohnus implements TalkNpcTrigger, OpBoundTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.YOHNUS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 165;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -132,4 +136,15 @@ public class Yohnus implements TalkNpcTrigger, OpBoundTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
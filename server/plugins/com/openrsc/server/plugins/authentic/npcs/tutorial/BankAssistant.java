@@ -3,6 +3,7 @@ package com.openrsc.server.plugins.authentic.npcs.tutorial;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -10,7 +11,9 @@ import static com.openrsc.server.plugins.Functions.*;
 import com.openrsc.server.constants.NpcId;
 
 public class BankAssistant implements
-	TalkNpcTrigger {
+	TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.BANK_ASSISTANT.id()};
+
 	/**
 	 * Tutorial island bank assistant
 	 */
@@ -47,7 +50,14 @@ public class BankAssistant implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BANK_ASSISTANT.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,6 +4,7 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.SpellNpcTrigger;
@@ -13,7 +14,10 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackNpcTrigger, SpellNpcTrigger {
+public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackNpcTrigger, SpellNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.COMBAT_INSTRUCTOR.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.RAT_TUTORIAL.id()};
+
 	/**
 	 * Tutorial island combat instructor
 	 * Level-7 rat not the regular rat!!!!!!!
@@ -92,12 +96,12 @@ public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackN
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COMBAT_INSTRUCTOR.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.RAT_TUTORIAL.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -154,4 +158,15 @@ public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackN
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
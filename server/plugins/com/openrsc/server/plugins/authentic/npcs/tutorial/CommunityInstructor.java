@@ -2,6 +2,7 @@ package com.openrsc.server.plugins.authentic.npcs.tutorial;
 
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -10,7 +11,9 @@ import com.openrsc.server.constants.NpcId;
 
 import java.util.ArrayList;
 
-public class CommunityInstructor implements TalkNpcTrigger {
+public class CommunityInstructor implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.COMMUNITY_INSTRUCTOR.id()};
+
 	/**
 	 * Tutorial island community instructor
 	 */
@@ -171,7 +174,14 @@ public class CommunityInstructor implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COMMUNITY_INSTRUCTOR.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpNpcTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -19,11 +20,12 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class IronMan implements
 	TalkNpcTrigger, OpNpcTrigger,
-	TakeObjTrigger {
+	TakeObjTrigger, TriggerIdFilter {
 	private static final Logger LOGGER = LogManager.getLogger(IronMan.class);
 	private final static int IRON_MAN = NpcId.IRONMAN.id();
 	private final static int ULTIMATE_IRON_MAN = NpcId.ULTIMATE_IRONMAN.id();
 	private final static int HARDCORE_IRON_MAN = NpcId.HARDCORE_IRONMAN.id();
+	private static final int[] TALK_NPC_IDS = {IRON_MAN, ULTIMATE_IRON_MAN, HARDCORE_IRON_MAN};
 
 	private final int[] ironmanArmourPieces = new int[]{
 		ItemId.IRONMAN_HELM.id(), ItemId.IRONMAN_PLATEBODY.id(), ItemId.IRONMAN_PLATE_TOP.id(),
@@ -161,7 +163,7 @@ public class IronMan implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == IRON_MAN || n.getID() == ULTIMATE_IRON_MAN || n.getID() == HARDCORE_IRON_MAN;
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -319,4 +321,12 @@ public class IronMan implements
 public boolean blockTakeObj(Player player, GroundItem i) {
 		return DataConversions.inArray(ironmanArmourPieces, i.getID());
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,14 +10,18 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.quests.members.RuneMysteries;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class AuburysRunes extends AbstractShop {
+public final class AuburysRunes extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.AUBURY.id()};
 
 	private final Shop shop = new Shop(false, 3000, 100, 70, 2, new Item(ItemId.FIRE_RUNE.id(),
 		50), new Item(ItemId.WATER_RUNE.id(), 50), new Item(ItemId.AIR_RUNE.id(), 50), new Item(ItemId.EARTH_RUNE.id(),
@@ -25,7 +29,7 @@ public final class AuburysRunes extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return !player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.AUBURY.id();
+		return !player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -105,4 +109,12 @@ public final class AuburysRunes extends AbstractShop {
 		boolean trade = command.equalsIgnoreCase("Trade");
 		return !player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.AUBURY.id() && (runecraft || trade);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
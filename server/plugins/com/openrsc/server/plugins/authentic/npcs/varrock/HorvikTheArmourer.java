@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class HorvikTheArmourer extends AbstractShop {
+public final class HorvikTheArmourer extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.HORVIK_THE_ARMOURER.id()};
 
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2, new Item(ItemId.BRONZE_CHAIN_MAIL_BODY.id(),
 		5), new Item(ItemId.IRON_CHAIN_MAIL_BODY.id(), 3), new Item(ItemId.STEEL_CHAIN_MAIL_BODY.id(), 3), new Item(ItemId.MITHRIL_CHAIN_MAIL_BODY.id(), 1),
@@ -21,7 +25,7 @@ public final class HorvikTheArmourer extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return !player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.HORVIK_THE_ARMOURER.id();
+		return !player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -52,4 +56,12 @@ public final class HorvikTheArmourer extends AbstractShop {
 			ActionSender.showShop(player, shop);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
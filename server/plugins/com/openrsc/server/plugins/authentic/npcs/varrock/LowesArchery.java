@@ -11,12 +11,17 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public final class LowesArchery extends AbstractShop {
+public final class LowesArchery extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.LOWE.id()};
 
 	private final Shop shop = new Shop(false, 3000, 100, 55, 1, new Item(ItemId.BRONZE_ARROWS.id(),
 		200), new Item(ItemId.CROSSBOW_BOLTS.id(), 150), new Item(ItemId.SHORTBOW.id(), 4), new Item(
@@ -24,7 +29,7 @@ public final class LowesArchery extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return !player.getConfig().WANT_OPENPK_POINTS && npc.getID() == NpcId.LOWE.id();
+		return !player.getConfig().WANT_OPENPK_POINTS && DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -91,4 +96,12 @@ public final class LowesArchery extends AbstractShop {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
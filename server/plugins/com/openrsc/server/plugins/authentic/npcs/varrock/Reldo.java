@@ -6,16 +6,19 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class Reldo implements TalkNpcTrigger {
+public final class Reldo implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.RELDO.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.RELDO.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -337,4 +340,12 @@ public final class Reldo implements TalkNpcTrigger {
 		say(player, npc, "Thankyou");
 		player.updateQuestStage(Quests.SHIELD_OF_ARRAV, 1);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
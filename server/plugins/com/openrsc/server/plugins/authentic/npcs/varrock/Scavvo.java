@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Scavvo extends AbstractShop {
+public class Scavvo extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SCAVVO.id()};
 
 	private Shop scavvosShop = null;
 
@@ -45,7 +49,7 @@ public class Scavvo extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SCAVVO.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	public Shop getShop(World world) {
@@ -61,4 +65,12 @@ public class Scavvo extends AbstractShop {
 
 		return scavvosShop;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
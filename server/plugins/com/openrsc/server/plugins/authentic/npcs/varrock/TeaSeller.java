@@ -10,23 +10,28 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class TeaSeller extends AbstractShop implements TakeObjTrigger {
+public final class TeaSeller extends AbstractShop implements TakeObjTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.TEA_SELLER.id()};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.DISPLAY_TEA.id()};
 
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2, new Item(ItemId.CUP_OF_TEA.id(),
 		20));
 
 	@Override
 	public boolean blockTakeObj(final Player player, final GroundItem i) {
-		return i.getID() == ItemId.DISPLAY_TEA.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.TEA_SELLER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -85,4 +90,15 @@ public final class TeaSeller extends AbstractShop implements TakeObjTrigger {
 				break;
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
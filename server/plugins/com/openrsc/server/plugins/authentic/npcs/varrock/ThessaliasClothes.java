@@ -10,8 +10,10 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ABoneToPick;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.time.LocalDate;
@@ -20,7 +22,16 @@ import java.util.Date;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class ThessaliasClothes extends AbstractShop implements TakeObjTrigger {
+public final class ThessaliasClothes extends AbstractShop implements TakeObjTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.THESSALIA.id()};
+	private static final int[] TAKE_OBJ_IDS = {
+		ItemId.BUNNY_EARS.id(),
+		ItemId.SCYTHE.id(),
+		ItemId.RING_OF_BUNNY.id(),
+		ItemId.RING_OF_EGG.id(),
+		ItemId.CAPE_OF_INCLUSION.id()
+	};
 
 	private final Shop shop = new Shop(false, 30000, 100, 55, 3, new Item(ItemId.WHITE_APRON.id(),
 		3), new Item(ItemId.LEATHER_ARMOUR.id(), 12), new Item(ItemId.LEATHER_GLOVES.id(), 10), new Item(ItemId.BOOTS.id(), 10),
@@ -30,7 +41,7 @@ public final class ThessaliasClothes extends AbstractShop implements TakeObjTrig
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.THESSALIA.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -327,10 +338,17 @@ public final class ThessaliasClothes extends AbstractShop implements TakeObjTrig
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.BUNNY_EARS.id()
-			|| i.getID() == ItemId.SCYTHE.id()
-			|| i.getID() == ItemId.RING_OF_BUNNY.id()
-			|| i.getID() == ItemId.RING_OF_EGG.id()
-			|| i.getID() == ItemId.CAPE_OF_INCLUSION.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
 	}
 }
@@ -6,16 +6,21 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class Thrander implements TalkNpcTrigger, UseNpcTrigger {
+public class Thrander implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.THRANDER.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.THRANDER.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THRANDER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
 	}
 
 	@Override
@@ -30,7 +35,7 @@ public class Thrander implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.THRANDER.id() && (isExchangeable(player, item) || isDragon(player, item));
+		return DataConversions.inArray(USE_NPC_IDS, npc.getID()) && (isExchangeable(player, item) || isDragon(player, item));
 	}
 
 	@Override
@@ -289,4 +294,14 @@ public class Thrander implements TalkNpcTrigger, UseNpcTrigger {
 			ItemId.DRAGON_PLATED_SKIRT.id());
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
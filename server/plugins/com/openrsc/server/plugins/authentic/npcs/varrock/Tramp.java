@@ -3,6 +3,7 @@ package com.openrsc.server.plugins.authentic.npcs.varrock;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ALumbridgeCarol;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -15,9 +16,11 @@ import com.openrsc.server.constants.NpcId;
 
 import java.util.ArrayList;
 
-public class Tramp implements TalkNpcTrigger {
+public class Tramp implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.TRAMP.id()};
+
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.TRAMP.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -105,4 +108,12 @@ public class Tramp implements TalkNpcTrigger {
 			ALumbridgeCarol.trampDialogue(player, n);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
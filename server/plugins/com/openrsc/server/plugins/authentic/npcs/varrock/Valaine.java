@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class Valaine extends AbstractShop {
+public final class Valaine extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.VALAINE.id()};
 
 	private final Shop valsShop = new Shop(true, 60000, 130, 40, 3, new Item(
 		ItemId.BLUE_CAPE.id(), 2), new Item(ItemId.LARGE_BLACK_HELMET.id(), 1), new Item(ItemId.BLACK_PLATE_MAIL_LEGS.id(), 1), new Item(ItemId.ADAMANTITE_PLATE_MAIL_BODY.id(),
@@ -20,7 +24,7 @@ public final class Valaine extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.VALAINE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -50,4 +54,12 @@ public final class Valaine extends AbstractShop {
 			ActionSender.showShop(player, valsShop);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
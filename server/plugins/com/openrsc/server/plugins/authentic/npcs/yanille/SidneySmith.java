@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.npcs.Certer;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
@@ -14,7 +15,7 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SidneySmith implements TalkNpcTrigger, UseNpcTrigger {
+public class SidneySmith implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
 
 	public static final int SIDNEY_SMITH = NpcId.SIDNEY_SMITH.id();
 
@@ -37,10 +38,12 @@ public class SidneySmith implements TalkNpcTrigger, UseNpcTrigger {
 	public static final int SUPER_STRENGTH_CERT = ItemId.SUPER_STRENGTH_POTION_CERTIFICATE.id();
 	public static final int DRAGON_BONES_CERT = ItemId.DRAGON_BONE_CERTIFICATE.id();
 	public static final int LIMPWURT_ROOT_CERT = ItemId.LIMPWURT_ROOT_CERTIFICATE.id();
+	private static final int[] TALK_NPC_IDS = {SIDNEY_SMITH};
+	private static final int[] USE_NPC_IDS = {SIDNEY_SMITH};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == SIDNEY_SMITH;
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -409,7 +412,7 @@ public class SidneySmith implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == SIDNEY_SMITH && inArray(item.getCatalogId(), PRAYER_RESTORE_POT,
+		return inArray(npc.getID(), USE_NPC_IDS) && inArray(item.getCatalogId(), PRAYER_RESTORE_POT,
 			SUPER_ATTACK_POT, SUPER_STRENGTH_POT, SUPER_DEFENSE_POT, DRAGON_BONES,
 			LIMPWURT_ROOT, PRAYER_CERT, SUPER_ATTACK_CERT, SUPER_DEFENSE_CERT,
 			SUPER_STRENGTH_CERT, DRAGON_BONES_CERT, LIMPWURT_ROOT_CERT);
@@ -501,4 +504,15 @@ public class SidneySmith implements TalkNpcTrigger, UseNpcTrigger {
 		public static final int WHICH_GOODS_DO_YOU_CERTIFICATE = 3;
 		public static final int HOW_MANY_ITEMS_TO_MAKE_CERTIFICATE = 4;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -23,7 +24,7 @@ import static com.openrsc.server.plugins.Functions.*;
 public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
 	/**
 	 * GameObjects associated with this quest;
 	 */
@@ -34,6 +35,9 @@ public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 	private static final Point DOOR_LOCATION = Point.location(271, 441);
 	private static final Point DOOR2_LOCATION = Point.location(275, 439);
 	private static final Point DOOR3_LOCATION = Point.location(278, 443);
+	private static final int[] TALK_NPC_IDS = {NpcId.SIR_AMIK_VARZE.id()};
+	private static final int[] OP_LOC_IDS = {LISTEN_GRILL};
+	private static final int[] USE_LOC_IDS = {HOLE};
 
 	@Override
 	public int getQuestId() {
@@ -218,17 +222,17 @@ public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SIR_AMIK_VARZE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == HOLE;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == LISTEN_GRILL;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -372,4 +376,18 @@ public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 				break;
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
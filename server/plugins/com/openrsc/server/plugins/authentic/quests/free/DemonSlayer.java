@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -23,7 +24,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class DemonSlayer implements QuestInterface,
 	KillNpcTrigger, TalkNpcTrigger, OpLocTrigger,
-	UseLocTrigger, PlayerRangeNpcTrigger, AttackNpcTrigger {
+	UseLocTrigger, PlayerRangeNpcTrigger, AttackNpcTrigger, TriggerIdFilter {
+
+	private static final int[] KILL_NPC_IDS = {NpcId.DELRITH.id()};
+	private static final int[] OP_LOC_IDS = {77};
+	private static final int[] USE_LOC_IDS = {77};
 
 	@Override
 	public int getQuestId() {
@@ -57,7 +62,7 @@ public class DemonSlayer implements QuestInterface,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 77;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
@@ -99,7 +104,7 @@ public class DemonSlayer implements QuestInterface,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 77;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -1301,7 +1306,7 @@ public class DemonSlayer implements QuestInterface,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DELRITH.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -1365,5 +1370,19 @@ public class DemonSlayer implements QuestInterface,
 		static final int KING = 5;
 		static final int SURGERY = 6;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
 
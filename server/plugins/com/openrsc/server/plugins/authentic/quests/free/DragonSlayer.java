@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -26,7 +27,7 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 	OpBoundTrigger,
 	OpLocTrigger,
 	TalkNpcTrigger,
-	KillNpcTrigger {
+	KillNpcTrigger, TriggerIdFilter {
 	/*
 	 * Ship: -Arrived: 281, 3472
 	 *
@@ -45,6 +46,9 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 	private static final int LUMBRIDGE_LADY_CRANDOR1 = 233;
 	private static final int LUMBRIDGE_LADY_CRANDOR2 = 234;
 	private static final int BOATS_LADDER = 227;
+	private static final int[] TALK_NPC_IDS = {NpcId.OZIACH.id()};
+	private static final int[] USE_LOC_IDS = {226, 232};
+	private static final int[] OP_BOUND_IDS = {57, 58, 59, 60};
 
 	@Override
 	public int getQuestId() {
@@ -79,7 +83,7 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.OZIACH.id() && player.getQuestStage(this) != -1;
+		return inArray(n.getID(), TALK_NPC_IDS) && player.getQuestStage(this) != -1;
 	}
 
 	public void oziachDialogue(Player player, Npc n, int cID) {
@@ -410,7 +414,7 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 57 || obj.getID() == 58 || obj.getID() == 59 || obj.getID() == 60;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -488,7 +492,7 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 226 || obj.getID() == 232;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
@@ -550,4 +554,18 @@ public class DragonSlayer implements QuestInterface, UseLocTrigger,
 		public static final int PROVE_THAT = 1;
 		public static final int HERO = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -11,6 +11,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ABoneToPick;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -29,9 +30,11 @@ public class ErnestTheChicken implements QuestInterface,
 	UseInvTrigger,
 	OpBoundTrigger,
 	TalkNpcTrigger, OpLocTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
 
 	private static final Logger LOGGER = LogManager.getLogger(ErnestTheChicken.class);
+	private static final int[] TALK_NPC_IDS = {NpcId.VERONICA.id(), NpcId.PROFESSOR_ODDENSTEIN.id()};
+	private static final int[] USE_BOUND_IDS = {35};
 
 	@Override
 	public int getQuestId() {
@@ -122,7 +125,7 @@ public class ErnestTheChicken implements QuestInterface,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.VERONICA.id() || n.getID() == NpcId.PROFESSOR_ODDENSTEIN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -710,7 +713,7 @@ public class ErnestTheChicken implements QuestInterface,
 
 	@Override
 	public boolean blockUseBound(Player player, GameObject obj, Item item) {
-		return item.getCatalogId() == ItemId.CLOSET_KEY.id() && obj.getID() == 35;
+		return item.getCatalogId() == ItemId.CLOSET_KEY.id() && inArray(obj.getID(), USE_BOUND_IDS);
 	}
 
 	@Override
@@ -759,4 +762,15 @@ public class ErnestTheChicken implements QuestInterface,
 		public static final int CHANGEBACK = 4;
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseBoundTrigger.class) {
+			return USE_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -16,7 +17,14 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GoblinDiplomacy implements QuestInterface, TalkNpcTrigger {
+public class GoblinDiplomacy implements QuestInterface, TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GENERAL_WARTFACE.id(),
+		NpcId.GENERAL_BENTNOZE.id(),
+		NpcId.GOBLIN_RED_ARMOUR_LVL13.id(),
+		NpcId.GOBLIN_GREEN_ARMOUR_LVL13.id()
+	};
 
 	@Override
 	public int getQuestId() {
@@ -230,8 +238,14 @@ public class GoblinDiplomacy implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GENERAL_WARTFACE.id() || n.getID() == NpcId.GENERAL_BENTNOZE.id()
-			|| n.getID() == NpcId.GOBLIN_RED_ARMOUR_LVL13.id()
-			|| n.getID() == NpcId.GOBLIN_GREEN_ARMOUR_LVL13.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
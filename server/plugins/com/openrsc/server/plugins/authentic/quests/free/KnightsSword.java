@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.RuneScript;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,10 +23,12 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class KnightsSword implements QuestInterface, TalkNpcTrigger,
-	OpLocTrigger {
+	OpLocTrigger, TriggerIdFilter {
 	private static final int VYVINS_CUPBOARD_OPEN = 175;
 	private static final int VYVINS_CUPBOARD_CLOSED = 174;
 	private static final int CUPBOARD_Y = 2454;
+	private static final int[] TALK_NPC_IDS = {NpcId.THURGO.id(), NpcId.SQUIRE.id(), NpcId.SIR_VYVIN.id()};
+	private static final int[] OP_LOC_IDS = {VYVINS_CUPBOARD_OPEN, VYVINS_CUPBOARD_CLOSED};
 
 	// Thrugo coords: 290 716
 
@@ -65,8 +68,7 @@ public class KnightsSword implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THURGO.id() || n.getID() == NpcId.SQUIRE.id()
-			|| n.getID() == NpcId.SIR_VYVIN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -502,7 +504,7 @@ public class KnightsSword implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return (obj.getID() == VYVINS_CUPBOARD_OPEN || obj.getID() == VYVINS_CUPBOARD_CLOSED) && obj.getY() == CUPBOARD_Y
+		return inArray(obj.getID(), OP_LOC_IDS) && obj.getY() == CUPBOARD_Y
 				&& obj.getX() == 318;
 	}
 
@@ -546,4 +548,14 @@ public class KnightsSword implements QuestInterface, TalkNpcTrigger,
 
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
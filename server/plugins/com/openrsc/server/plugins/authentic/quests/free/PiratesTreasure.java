@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.ChatMessage;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -21,10 +22,12 @@ import static com.openrsc.server.plugins.Functions.*;
 
 
 public class PiratesTreasure implements QuestInterface,
-	TalkNpcTrigger, OpLocTrigger, UseLocTrigger {
+	TalkNpcTrigger, OpLocTrigger, UseLocTrigger, TriggerIdFilter {
 
 	private static final int HECTORS_CHEST_OPEN = 186;
 	private static final int HECTORS_CHEST_CLOSED = 187;
+	private static final int[] TALK_NPC_IDS = {NpcId.REDBEARD_FRANK.id(), NpcId.LUTHAS.id()};
+	private static final int[] OP_LOC_IDS = {182, 185};
 
 	@Override
 	public int getQuestId() {
@@ -152,7 +155,7 @@ public class PiratesTreasure implements QuestInterface,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.REDBEARD_FRANK.id() || n.getID() == NpcId.LUTHAS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	public void frankDialogue(Player player, Npc n, int cID) {
@@ -341,7 +344,7 @@ public class PiratesTreasure implements QuestInterface,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 182 || obj.getID() == 185;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -391,4 +394,15 @@ public class PiratesTreasure implements QuestInterface,
 	class Luthas {
 		public static final int ANNOYING = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
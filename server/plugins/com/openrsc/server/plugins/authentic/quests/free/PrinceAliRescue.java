@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -24,7 +25,11 @@ import static com.openrsc.server.plugins.Functions.*;
 public class PrinceAliRescue implements QuestInterface, OpBoundTrigger,
 	UseNpcTrigger,
 	TalkNpcTrigger,
-	UseBoundTrigger {
+	UseBoundTrigger, TriggerIdFilter {
+
+	private static final int[] USE_NPC_IDS = {NpcId.LADY_KELI.id()};
+	private static final int[] OP_BOUND_IDS = {45};
+	private static final int[] USE_BOUND_IDS = {45};
 
 	@Override
 	public int getQuestId() {
@@ -69,13 +74,13 @@ public class PrinceAliRescue implements QuestInterface, OpBoundTrigger,
 	@Override
 	public boolean blockUseNpc(final Player player, final Npc npc,
 							   final Item item) {
-		return npc.getID() == NpcId.LADY_KELI.id() && item.getCatalogId() == ItemId.ROPE.id();
+		return inArray(npc.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.ROPE.id();
 	}
 
 	@Override
 	public boolean blockUseBound(final Player player, final GameObject obj,
 								 final Item item) {
-		return obj.getID() == 45 && obj.getY() == 640 && item.getCatalogId() == ItemId.BRONZE_KEY.id();
+		return inArray(obj.getID(), USE_BOUND_IDS) && obj.getY() == 640 && item.getCatalogId() == ItemId.BRONZE_KEY.id();
 	}
 
 	@Override
@@ -89,7 +94,7 @@ public class PrinceAliRescue implements QuestInterface, OpBoundTrigger,
 	@Override
 	public boolean blockOpBound(final Player player, final GameObject obj,
 								final Integer click) {
-		return obj.getID() == 45 && obj.getY() == 640;
+		return inArray(obj.getID(), OP_BOUND_IDS) && obj.getY() == 640;
 	}
 
 	private void hassanDialogue(final Player player, final Npc n) {
@@ -1334,4 +1339,17 @@ public class PrinceAliRescue implements QuestInterface, OpBoundTrigger,
 		static final int STILL_NEED = 4;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == UseBoundTrigger.class) {
+			return USE_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -16,7 +17,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class SheepShearer implements QuestInterface, TalkNpcTrigger {
+public class SheepShearer implements QuestInterface, TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.FRED_THE_FARMER.id()};
 
 	@Override
 	public int getQuestId() {
@@ -210,7 +213,7 @@ public class SheepShearer implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FRED_THE_FARMER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	class Fred {
@@ -218,4 +221,11 @@ public class SheepShearer implements QuestInterface, TalkNpcTrigger {
 		static final int LOST = 1;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.npcs.varrock.ManPhoenix;
 import com.openrsc.server.plugins.custom.quests.free.PeelingTheOnion;
 import com.openrsc.server.plugins.shared.constants.Quest;
@@ -24,7 +25,7 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 	OpInvTrigger,
 	TalkNpcTrigger,
 	OpLocTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
 
 	public static final int BLACK_ARM = 0;
 	public static final int PHOENIX_GANG = 1;
@@ -40,6 +41,9 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 	private static final int PHOENIX_CHEST_CLOSED = 82;
 	private static final int BARM_CUPBOARD_OPEN = 85;
 	private static final int BARM_CUPBOARD_CLOSED = 84;
+	private static final int[] TALK_NPC_IDS = {NpcId.KATRINE.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.JONNY_THE_BEARD.id()};
+	private static final int[] OP_INV_IDS = {ItemId.BOOK.id()};
 
 	@Override
 	public int getQuestId() {
@@ -88,7 +92,7 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KATRINE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -459,7 +463,7 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BOOK.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -638,7 +642,7 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.JONNY_THE_BEARD.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	class Katrine {
@@ -646,4 +650,18 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 		public static final int MEMBER = 3;
 		public static final int BLACKARM = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
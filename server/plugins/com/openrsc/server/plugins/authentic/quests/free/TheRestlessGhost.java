@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -23,10 +24,14 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class TheRestlessGhost implements QuestInterface, TakeObjTrigger,
 	TalkNpcTrigger, OpLocTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
 
 	private static final int GHOST_COFFIN_OPEN = 40;
 	private static final int GHOST_COFFIN_CLOSED = 39;
+	private static final int[] TALK_NPC_IDS = {NpcId.GHOST_RESTLESS.id()};
+	private static final int[] OP_LOC_IDS = {GHOST_COFFIN_OPEN, GHOST_COFFIN_CLOSED};
+	private static final int[] USE_LOC_IDS = {GHOST_COFFIN_OPEN};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.QUEST_SKULL.id()};
 
 	@Override
 	public int getQuestId() {
@@ -363,22 +368,22 @@ public class TheRestlessGhost implements QuestInterface, TakeObjTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GHOST_RESTLESS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return item.getCatalogId() == ItemId.QUEST_SKULL.id() && obj.getID() == GHOST_COFFIN_OPEN;
+		return item.getCatalogId() == ItemId.QUEST_SKULL.id() && inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == GHOST_COFFIN_OPEN || obj.getID() == GHOST_COFFIN_CLOSED;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.QUEST_SKULL.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -425,4 +430,21 @@ public class TheRestlessGhost implements QuestInterface, TakeObjTrigger,
 		public static final int WHY = 3;
 		public static final int SCARY = 4;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,12 +23,15 @@ import static com.openrsc.server.plugins.Functions.*;
 public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	KillNpcTrigger,
-	AttackNpcTrigger{
+	AttackNpcTrigger, TriggerIdFilter{
 
 	private static final int COUNT_DRAYNOR_COFFIN_OPEN = 136;
 	private static final int COUNT_DRAYNOR_COFFIN_CLOSED = 135;
 	private static final int GARLIC_CUPBOARD_OPEN = 141;
 	private static final int GARLIC_CUPBOARD_CLOSED = 140;
+	private static final int[] TALK_NPC_IDS = {NpcId.MORGAN.id(), NpcId.DR_HARLOW.id()};
+	private static final int[] ATTACK_NPC_IDS = {NpcId.COUNT_DRAYNOR.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.COUNT_DRAYNOR.id()};
 
 	@Override
 	public int getQuestId() {
@@ -254,7 +258,7 @@ public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.MORGAN.id() || npc.getID() == NpcId.DR_HARLOW.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -265,7 +269,7 @@ public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.COUNT_DRAYNOR.id();
+		return inArray(npc.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -329,6 +333,20 @@ public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockAttackNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.COUNT_DRAYNOR.id();
+		return inArray(npc.getID(), ATTACK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -29,7 +30,11 @@ import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.MiceQues
 
 public class WitchesPotion implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
-	KillNpcTrigger {
+	KillNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.HETTY.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.RAT_WITCHES_POTION.id()};
+	private static final int[] OP_LOC_IDS = {147};
 
 	@Override
 	public int getQuestId() {
@@ -482,17 +487,17 @@ public class WitchesPotion implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HETTY.id() /*|| n.getID() == NpcId.RAT_WITCHES_POTION.id()*/;
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 147 && command.equals("drink from");
+		return inArray(obj.getID(), OP_LOC_IDS) && command.equals("drink from");
 	}
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.RAT_WITCHES_POTION.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -505,4 +510,18 @@ public class WitchesPotion implements QuestInterface, TalkNpcTrigger,
 	class Hetty {
 		public static final int SOUNDOFIT_ALRIGHT = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
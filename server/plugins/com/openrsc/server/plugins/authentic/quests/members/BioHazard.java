@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -20,7 +21,7 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class BioHazard implements QuestInterface, TalkNpcTrigger,
-	OpBoundTrigger, OpLocTrigger, UseLocTrigger, KillNpcTrigger {
+	OpBoundTrigger, OpLocTrigger, UseLocTrigger, KillNpcTrigger, TriggerIdFilter {
 
 	/**
 	 * 1.Decided to add the door into Elena for starting the Biohazard quest in this template,
@@ -45,6 +46,8 @@ public class BioHazard implements QuestInterface, TalkNpcTrigger,
 	private static final int GET_INTO_CRATES_GATE = 504;
 	private static final int DISTILLATOR_CRATE = 505;
 	private static final int OTHER_CRATE = 290;
+	private static final int[] KILL_NPC_IDS = {NpcId.MOURNER_ILL.id()};
+	private static final int[] OP_BOUND_IDS = {ELENAS_DOOR};
 
 	@Override
 	public int getQuestId() {
@@ -1077,7 +1080,7 @@ public class BioHazard implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == ELENAS_DOOR;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -1236,7 +1239,7 @@ public class BioHazard implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MOURNER_ILL.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -1255,4 +1258,15 @@ public class BioHazard implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
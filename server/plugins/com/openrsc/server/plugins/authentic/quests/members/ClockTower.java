@@ -11,6 +11,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -26,7 +27,9 @@ public class ClockTower implements QuestInterface, TalkNpcTrigger,
 	UseLocTrigger,
 	OpBoundTrigger,
 	UseObjTrigger,
-	TakeObjTrigger {
+	TakeObjTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_KOJO.id()};
 
 	@Override
 	public int getQuestId() {
@@ -69,7 +72,7 @@ public class ClockTower implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_KOJO.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -471,4 +474,12 @@ public class ClockTower implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,12 +10,14 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Optional;
@@ -24,7 +26,10 @@ import static com.openrsc.server.plugins.RuneScript.*;
 
 public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.KAQEMEEX.id(), NpcId.SANFEW.id()};
+	private static final int[] USE_LOC_IDS = {236};
 
 	@Override
 	public int getQuestId() {
@@ -58,7 +63,7 @@ public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.KAQEMEEX.id() || npc.getID() == NpcId.SANFEW.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	private void kaqemeexDialogue(Player player, Npc npc, int cID) {
@@ -336,7 +341,7 @@ public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 236 &&
+		return DataConversions.inArray(USE_LOC_IDS, obj.getID()) &&
 				(item.getCatalogId() == ItemId.RAW_CHICKEN.id() || item.getCatalogId() == ItemId.RAW_RAT_MEAT.id()
 				|| item.getCatalogId() == ItemId.RAW_BEEF.id() || item.getCatalogId() == ItemId.RAW_BEAR_MEAT.id());
 	}
@@ -387,4 +392,15 @@ public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 		public static final int ON_MY_WAY_NOW = 1;
 		public static final int SEARCH_OF_QUEST = 2;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
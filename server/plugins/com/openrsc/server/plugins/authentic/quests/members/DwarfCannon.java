@@ -15,6 +15,7 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.misc.Cannon;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -33,7 +34,14 @@ import static com.openrsc.server.plugins.Functions.*;
 public class DwarfCannon extends AbstractShop
 	implements QuestInterface, TakeObjTrigger,
 	TalkNpcTrigger, OpBoundTrigger,
-	OpLocTrigger {
+	OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.DWARF_COMMANDER.id(),
+		NpcId.DWARF_CANNON_ENGINEER.id(),
+		NpcId.DWARF_NEAR_COMMANDER.id()
+	};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.DWARF_REMAINS.id()};
 
 	private final Shop shop = new Shop(false, 3000, 100, 70, 2, new Item(ItemId.DWARF_CANNON_BASE.id(), 3), new Item(ItemId.DWARF_CANNON_STAND.id(), 3),
 		new Item(ItemId.DWARF_CANNON_BARRELS.id(), 3), new Item(ItemId.DWARF_CANNON_FURNACE.id(), 3),
@@ -84,7 +92,7 @@ public class DwarfCannon extends AbstractShop
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.DWARF_COMMANDER.id() || npc.getID() == NpcId.DWARF_CANNON_ENGINEER.id() || npc.getID() == NpcId.DWARF_NEAR_COMMANDER.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -783,7 +791,7 @@ public class DwarfCannon extends AbstractShop
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.DWARF_REMAINS.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -805,4 +813,14 @@ public class DwarfCannon extends AbstractShop
 		public static final int rail = 0;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -26,7 +27,12 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	OpBoundTrigger,
 	UseNpcTrigger,
-	KillNpcTrigger {
+	KillNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DIMINTHEIS.id(), NpcId.AVAN.id(), NpcId.JOHNATHON.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.JOHNATHON.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.CHRONOZON.id()};
+	private static final int[] OP_LOC_IDS = {316, 317, 318};
 
 	@Override
 	public int getQuestId() {
@@ -306,7 +312,7 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.DIMINTHEIS.id() || npc.getID() == NpcId.AVAN.id() || npc.getID() == NpcId.JOHNATHON.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -654,7 +660,7 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 316 || obj.getID() == 317 || obj.getID() == 318;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
 	}
 
 	@Override
@@ -708,7 +714,7 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.JOHNATHON.id() && !item.getNoted() &&
+		return DataConversions.inArray(USE_NPC_IDS, npc.getID()) && !item.getNoted() &&
 			DataConversions.inArray(new int[]{ItemId.FULL_CURE_POISON_POTION.id(), ItemId.TWO_CURE_POISON_POTION.id(),
 				ItemId.ONE_CURE_POISON_POTION.id()}, item.getCatalogId());
 	}
@@ -790,7 +796,7 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.CHRONOZON.id();
+		return DataConversions.inArray(KILL_NPC_IDS, npc.getID());
 	}
 
 	/**
@@ -833,4 +839,20 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 		public static final int TRADITION = 1;
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -25,10 +26,11 @@ import static com.openrsc.server.plugins.Functions.*;
 public class FightArena implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger,
-	KillNpcTrigger {
+	KillNpcTrigger, TriggerIdFilter {
 
 	private static final int GUARDS_CUPBOARD_OPEN = 382;
 	private static final int GUARDS_CUPBOARD_CLOSED = 381;
+	private static final int[] USE_LOC_IDS = {371};
 
 	@Override
 	public int getQuestId() {
@@ -635,7 +637,7 @@ public class FightArena implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 371 && obj.getY() == 716 && item.getCatalogId() == ItemId.KHAZARD_CELL_KEYS.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && obj.getY() == 716 && item.getCatalogId() == ItemId.KHAZARD_CELL_KEYS.id();
 	}
 
 	@Override
@@ -645,4 +647,11 @@ public class FightArena implements QuestInterface, TalkNpcTrigger,
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
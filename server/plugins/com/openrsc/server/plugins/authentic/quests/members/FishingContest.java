@@ -6,6 +6,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -23,7 +24,21 @@ import static com.openrsc.server.plugins.Functions.*;
 public class FishingContest implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger,
-	UseNpcTrigger {
+	UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] USE_NPC_IDS = {NpcId.SINISTER_STRANGER.id()};
+	private static final int[] OP_LOC_IDS = {
+		SceneryId.GATE_WOODEN_FISHING_CONTEST_CLOSED.id(),
+		SceneryId.FISH_BAIT_FISHING_CONTEST_CARPS_SPOT.id(),
+		SceneryId.FISH_BAIT_FISHING_CONTEST_REGULAR_SPOT.id(),
+		SceneryId.STAIRS_STONE_WHITE_WOLF_PASS_DOWN.id(),
+		SceneryId.FISH_BAIT_FISHING_CONTEST_DAVE_SPOT.id(),
+		SceneryId.FISH_BAIT_FISHING_CONTEST_JOSHUA_SPOT.id()
+	};
+	private static final int[] USE_LOC_IDS = {
+		SceneryId.VINE_RED_FISHING_CONTEST.id(),
+		SceneryId.PIPE_FISHING_CONTEST.id()
+	};
 
 	@Override
 	public int getQuestId() {
@@ -74,14 +89,13 @@ public class FishingContest implements QuestInterface, TalkNpcTrigger,
 	@Override
 	public boolean blockUseLoc(final Player player, final GameObject obj,
 							   final Item item) {
-		return obj.getID() == SceneryId.VINE_RED_FISHING_CONTEST.id() || obj.getID() == SceneryId.PIPE_FISHING_CONTEST.id();
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
 	public boolean blockOpLoc(final Player player, final GameObject obj,
 							  final String command) {
-		return obj.getID() == SceneryId.GATE_WOODEN_FISHING_CONTEST_CLOSED.id() || obj.getID() == SceneryId.FISH_BAIT_FISHING_CONTEST_CARPS_SPOT.id() || obj.getID() == SceneryId.FISH_BAIT_FISHING_CONTEST_REGULAR_SPOT.id()
-				|| obj.getID() == SceneryId.STAIRS_STONE_WHITE_WOLF_PASS_DOWN.id() || obj.getID() == SceneryId.FISH_BAIT_FISHING_CONTEST_DAVE_SPOT.id() || obj.getID() == SceneryId.FISH_BAIT_FISHING_CONTEST_JOSHUA_SPOT.id();
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -845,7 +859,7 @@ public class FishingContest implements QuestInterface, TalkNpcTrigger,
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item i) {
 		//garlic on sinister stranger
-		return n.getID() == NpcId.SINISTER_STRANGER.id() && i.getCatalogId() == ItemId.GARLIC.id();
+		return inArray(n.getID(), USE_NPC_IDS) && i.getCatalogId() == ItemId.GARLIC.id();
 	}
 
 	@Override
@@ -861,4 +875,18 @@ public class FishingContest implements QuestInterface, TalkNpcTrigger,
 		private static final int FISHING = 0;
 		private static final int VAMPIRE = 1;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
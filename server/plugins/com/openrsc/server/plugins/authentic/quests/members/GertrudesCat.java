@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ALumbridgeCarol;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -26,7 +27,11 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 	UseObjTrigger,
 	UseInvTrigger,
 	OpLocTrigger,
-	DropObjTrigger {
+	DropObjTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {1039, 1041, 1040};
+	private static final int[] OP_BOUND_IDS = {199};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.GERTRUDES_CAT.id()};
 
 	@Override
 	public int getQuestId() {
@@ -352,7 +357,7 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 199 && obj.getY() == 438;
+		return inArray(obj.getID(), OP_BOUND_IDS) && obj.getY() == 438;
 	}
 
 	@Override
@@ -377,7 +382,7 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.GERTRUDES_CAT.id() && i.getY() == 2327;
+		return inArray(i.getID(), TAKE_OBJ_IDS) && i.getY() == 2327;
 	}
 
 	@Override
@@ -491,7 +496,7 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1039 || obj.getID() == 1041 || obj.getID() == 1040;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -551,4 +556,18 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 			player.getCarriedItems().remove(new Item(ItemId.KITTENS.id()));
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.npc.NpcInteraction;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -25,7 +26,7 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigger, OpLocTrigger, UseLocTrigger {
+public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigger, OpLocTrigger, UseLocTrigger, TriggerIdFilter {
 
 	private static final int BUTLERS_CUPBOARD_OPEN = 441;
 	private static final int BUTLERS_CUPBOARD_CLOSED = 440;
@@ -33,6 +34,8 @@ public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigge
 	private static final int TOP_LEVEL_BOOKCASE = 436;
 	private static final int CARNILLEAN_CHEST_OPEN = 437;
 	private static final int CARNILLEAN_CHEST_CLOSED = 438;
+	private static final int[] KILL_NPC_IDS = {NpcId.ALOMONE.id()};
+	private static final int[] USE_LOC_IDS = {CARNILLEAN_CHEST_CLOSED};
 
 	@Override
 	public int getQuestId() {
@@ -1258,7 +1261,7 @@ public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigge
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ALOMONE.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -1385,7 +1388,7 @@ public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigge
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == CARNILLEAN_CHEST_CLOSED && item.getCatalogId() == ItemId.CARNILLEAN_KEY.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.CARNILLEAN_KEY.id();
 	}
 
 	@Override
@@ -1401,4 +1404,15 @@ public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigge
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -28,12 +29,21 @@ import static com.openrsc.server.plugins.authentic.quests.free.ShieldOfArrav.isB
 
 public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger, UseBoundTrigger, OpLocTrigger, AttackNpcTrigger, PlayerRangeNpcTrigger, SpellNpcTrigger,
-	KillNpcTrigger, TakeObjTrigger {
+	KillNpcTrigger, TakeObjTrigger, TriggerIdFilter {
 
 	private static final int GRIPS_CUPBOARD_OPEN = 264;
 	private static final int GRIPS_CUPBOARD_CLOSED = 263;
 	private static final int CANDLESTICK_CHEST_OPEN = 265;
 	private static final int CANDLESTICK_CHEST_CLOSED = 266;
+	private static final int[] ATTACK_NPC_IDS = {NpcId.GRIP.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.GRIP.id()};
+	private static final int[] OP_LOC_IDS = {
+		GRIPS_CUPBOARD_OPEN,
+		GRIPS_CUPBOARD_CLOSED,
+		CANDLESTICK_CHEST_OPEN,
+		CANDLESTICK_CHEST_CLOSED
+	};
+	private static final int[] USE_BOUND_IDS = {80, 81};
 
 	private static final AtomicReference<SingleEvent> gripReturnEvent = new AtomicReference<>();
 
@@ -621,7 +631,7 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseBound(Player player, GameObject obj, Item item) {
-		return obj.getID() == 80 || obj.getID() == 81;
+		return inArray(obj.getID(), USE_BOUND_IDS);
 	}
 
 	@Override
@@ -646,8 +656,7 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == GRIPS_CUPBOARD_OPEN || obj.getID() == GRIPS_CUPBOARD_CLOSED
-				|| obj.getID() == CANDLESTICK_CHEST_OPEN || obj.getID() == CANDLESTICK_CHEST_CLOSED;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -750,12 +759,12 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GRIP.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GRIP.id();
+		return inArray(n.getID(), ATTACK_NPC_IDS);
 	}
 
 	@Override
@@ -804,4 +813,20 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseBoundTrigger.class) {
+			return USE_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,7 +23,9 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Jungle_Potion implements QuestInterface, OpLocTrigger,
 	TalkNpcTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.TRUFITUS.id()};
 
 	@Override
 	public int getQuestId() {
@@ -57,7 +60,7 @@ public class Jungle_Potion implements QuestInterface, OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.TRUFITUS.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	private void trufitusDialogue(Player player, Npc n, int path) {
@@ -1244,4 +1247,12 @@ public class Jungle_Potion implements QuestInterface, OpLocTrigger,
 		public static final int Volencia_Rocks = 555;
 		public static final int Rogues_Purse_Wall = 151;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
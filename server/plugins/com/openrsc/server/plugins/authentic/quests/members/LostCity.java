@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -29,8 +30,9 @@ public class LostCity implements QuestInterface, TalkNpcTrigger,
 	KillNpcTrigger,
 	UseInvTrigger,
 	OpBoundTrigger,
-	AttackNpcTrigger {
+	AttackNpcTrigger, TriggerIdFilter {
 	private static final Logger LOGGER = LogManager.getLogger(LostCity.class);
+	private static final int[] KILL_NPC_IDS = {NpcId.TREE_SPIRIT.id()};
 
 	/* Objects */
 	final int LEPROCHAUN_TREE = 237, ENTRANA_LADDER = 244, DRAMEN_TREE = 245,
@@ -410,7 +412,7 @@ public class LostCity implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.TREE_SPIRIT.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -491,4 +493,12 @@ public class LostCity implements QuestInterface, TalkNpcTrigger,
 		}
 		return axeId;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -13,6 +13,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.ChatMessage;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -31,9 +32,10 @@ public class MerlinsCrystal implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
 	KillNpcTrigger,
 	UseLocTrigger,
-	DropObjTrigger {
+	DropObjTrigger, TriggerIdFilter {
 
 	private static final Logger LOGGER = LogManager.getLogger(MerlinsCrystal.class);
+	private static final int[] KILL_NPC_IDS = {NpcId.SIR_MORDRED.id()};
 
 	@Override
 	public int getQuestId() {
@@ -134,7 +136,7 @@ public class MerlinsCrystal implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SIR_MORDRED.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -679,4 +681,11 @@ public class MerlinsCrystal implements QuestInterface, TalkNpcTrigger,
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -16,7 +17,10 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class MonksFriend implements QuestInterface, TalkNpcTrigger,
-	UseNpcTrigger {
+	UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_CEDRIC.id(), NpcId.BROTHER_OMAD.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.BROTHER_CEDRIC.id()};
 
 	@Override
 	public int getQuestId() {
@@ -50,7 +54,7 @@ public class MonksFriend implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_CEDRIC.id() || n.getID() == NpcId.BROTHER_OMAD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -240,7 +244,7 @@ public class MonksFriend implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.BROTHER_CEDRIC.id();
+		return inArray(npc.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -283,4 +287,15 @@ public class MonksFriend implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -21,7 +22,10 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class MurderMystery implements QuestInterface, TalkNpcTrigger,
-	TakeObjTrigger, OpBoundTrigger, OpLocTrigger, UseInvTrigger, UseLocTrigger {
+	TakeObjTrigger, OpBoundTrigger, OpLocTrigger, UseInvTrigger, UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_BOUND_IDS = {205};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.A_SILVER_DAGGER.id(), ItemId.MURDER_SCENE_POT.id()};
 
 	@Override
 	public int getQuestId() {
@@ -1219,7 +1223,7 @@ public class MurderMystery implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.A_SILVER_DAGGER.id() || i.getID() == ItemId.MURDER_SCENE_POT.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -1264,7 +1268,7 @@ public class MurderMystery implements QuestInterface, TalkNpcTrigger,
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
 		/** WINDOW FOR THREAD **/
-		return obj.getID() == 205;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -1856,4 +1860,15 @@ public class MurderMystery implements QuestInterface, TalkNpcTrigger,
 		}
 		return false;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
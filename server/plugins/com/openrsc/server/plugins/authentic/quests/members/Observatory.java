@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,7 +23,15 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Observatory implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.OBSERVATORY_ASSISTANT.id(),
+		NpcId.OBSERVATORY_PROFESSOR.id(),
+		NpcId.PROFESSOR.id(),
+		NpcId.GOBLIN_GUARD.id()
+	};
+	private static final int[] USE_LOC_IDS = {926};
 
 	private int selectedNumber = 0;
 
@@ -58,8 +67,7 @@ public class Observatory implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.OBSERVATORY_ASSISTANT.id() || n.getID() == NpcId.OBSERVATORY_PROFESSOR.id() || n.getID() == NpcId.PROFESSOR.id()
-			|| n.getID() == NpcId.GOBLIN_GUARD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -726,7 +734,7 @@ public class Observatory implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 926 && item.getCatalogId() == ItemId.KEEP_KEY.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.KEEP_KEY.id();
 	}
 
 	@Override
@@ -745,4 +753,15 @@ public class Observatory implements QuestInterface, TalkNpcTrigger,
 		}
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -976,5 +976,4 @@ public class PlagueCity implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
-
 }
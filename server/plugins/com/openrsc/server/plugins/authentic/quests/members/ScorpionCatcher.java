@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -28,7 +29,14 @@ import static com.openrsc.server.plugins.Functions.*;
 public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 	UseNpcTrigger,
 	UseBoundTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.THORMAC_THE_SORCEROR.id(),
+		NpcId.SEER.id(),
+		NpcId.VELRAK_THE_EXPLORER.id()
+	};
+	private static final int[] OP_BOUND_IDS = {87};
 
 	// items 679 (scorpion1 taverly), 686 (scorpion2 barbarian), 687 (scorpion3 monastery)
 
@@ -64,7 +72,7 @@ public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THORMAC_THE_SORCEROR.id() || n.getID() == NpcId.SEER.id() || n.getID() == NpcId.VELRAK_THE_EXPLORER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	private void seerDialogue(Player player, Npc n, int cID) {
@@ -600,7 +608,7 @@ public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 87 && obj.getY() == 3353;
+		return inArray(obj.getID(), OP_BOUND_IDS) && obj.getY() == 3353;
 	}
 
 	@Override
@@ -615,4 +623,15 @@ public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 		private static final int LOCATE_SCORPIONS = 0;
 		private static final int PRIMARY_DIALOGUE = 1;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
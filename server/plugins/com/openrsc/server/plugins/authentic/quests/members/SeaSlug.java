@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -25,7 +26,11 @@ import static com.openrsc.server.plugins.Functions.*;
 public class SeaSlug implements QuestInterface, TalkNpcTrigger,
 	TakeObjTrigger,
 	OpLocTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {458, 453};
+	private static final int[] OP_BOUND_IDS = {124};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.SEASLUG.id()};
 
 	@Override
 	public int getQuestId() {
@@ -618,7 +623,7 @@ public class SeaSlug implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.SEASLUG.id();
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -635,7 +640,7 @@ public class SeaSlug implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 458 || obj.getID() == 453;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -705,7 +710,7 @@ public class SeaSlug implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 124;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -727,4 +732,18 @@ public class SeaSlug implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
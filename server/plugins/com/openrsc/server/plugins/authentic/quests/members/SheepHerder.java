@@ -15,6 +15,7 @@ import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -32,10 +33,13 @@ import static com.openrsc.server.plugins.Functions.*;
 public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseNpcTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
 
 	private static final int GATE = 443;
 	private static final int CATTLE_FURNACE = 444;
+	private static final int[] TALK_NPC_IDS = {NpcId.COUNCILLOR_HALGRIVE.id(), NpcId.FARMER_BRUMTY.id()};
+	private static final int[] OP_LOC_IDS = {GATE};
+	private static final int[] USE_LOC_IDS = {CATTLE_FURNACE};
 
 	private final int BASE_TICK = 640;
 
@@ -73,7 +77,7 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COUNCILLOR_HALGRIVE.id() || n.getID() == NpcId.FARMER_BRUMTY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -206,7 +210,7 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == GATE;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -724,7 +728,7 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == CATTLE_FURNACE;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
@@ -801,4 +805,18 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 			n.getWalkingQueue().setPath(path);
 		}, "Walk Mob");
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
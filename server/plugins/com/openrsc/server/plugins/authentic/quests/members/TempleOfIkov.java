@@ -11,6 +11,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,7 +23,10 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class TempleOfIkov implements QuestInterface, TalkNpcTrigger,
-	OpLocTrigger, TakeObjTrigger, UseLocTrigger, SpellNpcTrigger, KillNpcTrigger, AttackNpcTrigger, PlayerRangeNpcTrigger {
+	OpLocTrigger, TakeObjTrigger, UseLocTrigger, SpellNpcTrigger, KillNpcTrigger, AttackNpcTrigger, PlayerRangeNpcTrigger, TriggerIdFilter {
+
+	private static final int[] ATTACK_NPC_IDS = {NpcId.LUCIEN_EDGE.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.THE_FIRE_WARRIOR_OF_LESARKUS.id(), NpcId.LUCIEN_EDGE.id()};
 
 	/**
 	 * Quest Objects
@@ -619,7 +623,7 @@ public class TempleOfIkov implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THE_FIRE_WARRIOR_OF_LESARKUS.id() || n.getID() == NpcId.LUCIEN_EDGE.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -647,7 +651,7 @@ public class TempleOfIkov implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.LUCIEN_EDGE.id();
+		return inArray(n.getID(), ATTACK_NPC_IDS);
 	}
 
 	@Override
@@ -742,4 +746,15 @@ public class TempleOfIkov implements QuestInterface, TalkNpcTrigger,
 	class Guardian {
 		public static final int WORKINGFORLUCIEN = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -25,7 +26,17 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
 	OpInvTrigger,
 	KillNpcTrigger, TakeObjTrigger,
-	OpLocTrigger {
+	OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] KILL_NPC_IDS = {NpcId.BLACK_KNIGHT_TITAN.id()};
+	private static final int[] OP_LOC_IDS = {408};
+	private static final int[] OP_BOUND_IDS = {117, 116};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.HOLY_GRAIL.id()};
+	private static final int[] OP_INV_IDS = {
+		ItemId.MAGIC_WHISTLE.id(),
+		ItemId.BELL.id(),
+		ItemId.MAGIC_GOLDEN_FEATHER.id()
+	};
 
 	@Override
 	public int getQuestId() {
@@ -271,7 +282,7 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 117 || obj.getID() == 116;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -299,7 +310,7 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.MAGIC_WHISTLE.id() || item.getCatalogId() == ItemId.BELL.id() || item.getCatalogId() == ItemId.MAGIC_GOLDEN_FEATHER.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -373,7 +384,7 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BLACK_KNIGHT_TITAN.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -421,12 +432,12 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.HOLY_GRAIL.id() && i.getX() == 418 && i.getY() == 1924;
+		return inArray(i.getID(), TAKE_OBJ_IDS) && i.getX() == 418 && i.getY() == 1924;
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 408;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -506,4 +517,24 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 			say(player, percival, "I will just go and get you one");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
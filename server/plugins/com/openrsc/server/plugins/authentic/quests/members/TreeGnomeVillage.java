@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -24,10 +25,11 @@ import static com.openrsc.server.plugins.Functions.*;
 public class TreeGnomeVillage implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
 	OpLocTrigger,
-	KillNpcTrigger {
+	KillNpcTrigger, TriggerIdFilter {
 
 	private static final int KHAZARD_CHEST_OPEN = 409;
 	private static final int KHAZARD_CHEST_CLOSED = 410;
+	private static final int[] KILL_NPC_IDS = {NpcId.KHAZARD_WARLORD.id()};
 
 	@Override
 	public int getQuestId() {
@@ -1037,7 +1039,7 @@ public class TreeGnomeVillage implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KHAZARD_WARLORD.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -1060,4 +1062,12 @@ public class TreeGnomeVillage implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
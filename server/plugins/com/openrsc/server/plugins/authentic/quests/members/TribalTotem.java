@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -26,13 +27,15 @@ import static com.openrsc.server.plugins.Functions.*;
 public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger,
-	OpBoundTrigger {
+	OpBoundTrigger, TriggerIdFilter {
 
 	boolean firstOpt = false;
 	boolean secondOpt = false;
 	boolean thirdOpt = false;
 	private static final int HANDELMORT_CHEST_OPEN = 332;
 	private static final int HANDELMORT_CHEST_CLOSED = 333;
+	private static final int[] USE_LOC_IDS = {328};
+	private static final int[] OP_BOUND_IDS = {98};
 
 	@Override
 	public int getQuestId() {
@@ -454,7 +457,7 @@ public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == 328 && item.getCatalogId() == ItemId.ADDRESS_LABEL.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.ADDRESS_LABEL.id();
 	}
 
 	@Override
@@ -474,7 +477,7 @@ public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 98 && obj.getX() == 561 && obj.getY() == 586;
+		return inArray(obj.getID(), OP_BOUND_IDS) && obj.getX() == 561 && obj.getY() == 586;
 	}
 
 	@Override
@@ -519,4 +522,15 @@ public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -25,10 +26,13 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 	UseLocTrigger,
 	OpInvTrigger,
 	OpBoundTrigger,
-	UseBoundTrigger {
+	UseBoundTrigger, TriggerIdFilter {
 
 	private static final int BAXTORIAN_CUPBOARD_OPEN = 507;
 	private static final int BAXTORIAN_CUPBOARD_CLOSED = 506;
+	private static final int[] OP_BOUND_IDS = {135};
+	private static final int[] USE_BOUND_IDS = {135};
+	private static final int[] OP_INV_IDS = {ItemId.BOOK_ON_BAXTORIAN.id(), ItemId.MITHRIL_SEED.id()};
 
 	@Override
 	public int getQuestId() {
@@ -852,7 +856,7 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BOOK_ON_BAXTORIAN.id() || item.getCatalogId() == ItemId.MITHRIL_SEED.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -939,7 +943,7 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return obj.getID() == 135;
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -954,7 +958,7 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseBound(Player player, GameObject obj, Item item) {
-		return obj.getID() == 135 && item.getCatalogId() == ItemId.AN_OLD_KEY.id();
+		return inArray(obj.getID(), USE_BOUND_IDS) && item.getCatalogId() == ItemId.AN_OLD_KEY.id();
 	}
 
 	@Override
@@ -993,4 +997,18 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 		public static final int IS_THERE_TREAS = 2;
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == UseBoundTrigger.class) {
+			return USE_BOUND_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
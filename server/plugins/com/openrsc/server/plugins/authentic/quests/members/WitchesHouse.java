@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -29,7 +30,7 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 	UseNpcTrigger,
 	KillNpcTrigger,
 	TakeObjTrigger,
-	AttackNpcTrigger {
+	AttackNpcTrigger, TriggerIdFilter {
 
 	/**
 	 * INFORMATION Rat appears on coords: 356, 494 Dropping cheese in the whole
@@ -75,7 +76,7 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BOY.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -338,7 +339,7 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return item.getCatalogId() == ItemId.MAGNET.id() && npc.getID() == NpcId.RAT_WITCHES_HOUSE.id();
+		return item.getCatalogId() == ItemId.MAGNET.id() && inArray(npc.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -485,6 +486,8 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 		//kite shields
 		ItemId.BRONZE_KITE_SHIELD.id(), ItemId.IRON_KITE_SHIELD.id(), ItemId.STEEL_KITE_SHIELD.id(), ItemId.MITHRIL_KITE_SHIELD.id(), ItemId.ADAMANTITE_KITE_SHIELD.id(), ItemId.BLACK_KITE_SHIELD.id(), ItemId.RUNE_KITE_SHIELD.id()
 	};
+	private static final int[] TALK_NPC_IDS = {NpcId.BOY.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.RAT_WITCHES_HOUSE.id()};
 
 	private boolean wearingMetalArmour(Player player) {
 		if (wearingInsulatingGloves(player)) {
@@ -499,4 +502,15 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 
 		return isWearingMetal;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
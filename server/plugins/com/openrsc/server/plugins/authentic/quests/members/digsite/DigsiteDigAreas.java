@@ -8,6 +8,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
@@ -18,7 +19,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DigsiteDigAreas implements OpLocTrigger, UseLocTrigger, OpInvTrigger {
+public class DigsiteDigAreas implements OpLocTrigger, UseLocTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.SPADE.id()};
 
 	private static int[] SOIL = {1065, 1066, 1067};
 	private static int ROCK = 1059;
@@ -371,7 +374,7 @@ public class DigsiteDigAreas implements OpLocTrigger, UseLocTrigger, OpInvTrigge
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.SPADE.id() && getDigsite(player);
+		return inArray(item.getCatalogId(), OP_INV_IDS) && getDigsite(player);
 	}
 
 	@Override
@@ -380,4 +383,12 @@ public class DigsiteDigAreas implements OpLocTrigger, UseLocTrigger, OpInvTrigge
 			doSpade(player, item, null);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -16,7 +17,10 @@ import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrigger {
+public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ARCHAEOLOGICAL_EXPERT.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.ARCHAEOLOGICAL_EXPERT.id()};
 
 	@Override
 	public int getQuestId() {
@@ -53,7 +57,7 @@ public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrig
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ARCHAEOLOGICAL_EXPERT.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -110,7 +114,7 @@ public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrig
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item i) {
-		return n.getID() == NpcId.ARCHAEOLOGICAL_EXPERT.id();
+		return inArray(n.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -360,4 +364,15 @@ public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrig
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
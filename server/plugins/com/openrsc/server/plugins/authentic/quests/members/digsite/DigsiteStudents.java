@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
@@ -14,16 +15,27 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DigsiteStudents implements TalkNpcTrigger, UseNpcTrigger {
+public class DigsiteStudents implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.STUDENT_ORANGE.id(),
+		NpcId.STUDENT_PURPLE.id(),
+		NpcId.STUDENT_GREEN.id()
+	};
+	private static final int[] USE_NPC_IDS = {
+		NpcId.STUDENT_ORANGE.id(),
+		NpcId.STUDENT_PURPLE.id(),
+		NpcId.STUDENT_GREEN.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.STUDENT_ORANGE.id() || n.getID() == NpcId.STUDENT_PURPLE.id() || n.getID() == NpcId.STUDENT_GREEN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return (npc.getID() == NpcId.STUDENT_ORANGE.id() || npc.getID() == NpcId.STUDENT_PURPLE.id() || npc.getID() == NpcId.STUDENT_GREEN.id())
+		return inArray(npc.getID(), USE_NPC_IDS)
 			&& (item.getCatalogId() == ItemId.CRACKED_ROCK_SAMPLE.id() || item.getCatalogId() == ItemId.ROCK_SAMPLE_ORANGE.id()
 			|| item.getCatalogId() == ItemId.ROCK_SAMPLE_PURPLE.id() || item.getCatalogId() == ItemId.ROCK_SAMPLE_GREEN.id())
 			&& !item.getNoted();
@@ -465,4 +477,15 @@ public class DigsiteStudents implements TalkNpcTrigger, UseNpcTrigger {
 		public static final int INCORRECT_ROCK = 1;
 		public static final int CRACKED_ROCK = 2;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
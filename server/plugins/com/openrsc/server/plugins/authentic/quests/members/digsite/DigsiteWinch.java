@@ -8,13 +8,14 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DigsiteWinch implements OpLocTrigger, UseLocTrigger {
+public class DigsiteWinch implements OpLocTrigger, UseLocTrigger, TriggerIdFilter {
 
 	private static final int[] WINCH = {1095, 1053};
 
@@ -151,4 +152,15 @@ public class DigsiteWinch implements OpLocTrigger, UseLocTrigger {
 			workman.remove();
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return WINCH;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return WINCH;
+		}
+		return null;
+	}
 }
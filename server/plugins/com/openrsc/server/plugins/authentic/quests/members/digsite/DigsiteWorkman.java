@@ -6,16 +6,20 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class DigsiteWorkman implements TalkNpcTrigger, UseNpcTrigger {
+public class DigsiteWorkman implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.WORKMAN.id(), NpcId.WORKMAN_UNDERGROUND.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.WORKMAN.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.WORKMAN.id() || n.getID() == NpcId.WORKMAN_UNDERGROUND.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -162,7 +166,7 @@ public class DigsiteWorkman implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item item) {
-		return n.getID() == NpcId.WORKMAN.id() && item.getCatalogId() == ItemId.DIGSITE_SCROLL.id();
+		return inArray(n.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.DIGSITE_SCROLL.id();
 	}
 
 	@Override
@@ -179,4 +183,15 @@ public class DigsiteWorkman implements TalkNpcTrigger, UseNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,17 +5,20 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeGlider implements TalkNpcTrigger, OpLocTrigger {
+public class GnomeGlider implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
+
+	private static final int[] OP_LOC_IDS = {618};
 
 	@Override
 	public boolean blockOpLoc(Player n, GameObject obj, String command) {
-		return obj.getID() == 618;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -187,4 +190,12 @@ public class GnomeGlider implements TalkNpcTrigger, OpLocTrigger {
 			player.message("The Gnome pilot does not appear interested in talking");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
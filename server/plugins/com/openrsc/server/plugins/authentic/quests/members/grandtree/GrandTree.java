@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -23,7 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GrandTree implements QuestInterface, TalkNpcTrigger, OpLocTrigger, AttackNpcTrigger, KillNpcTrigger, UseLocTrigger {
+public class GrandTree implements QuestInterface, TalkNpcTrigger, OpLocTrigger, AttackNpcTrigger, KillNpcTrigger, UseLocTrigger, TriggerIdFilter {
 
 	/***********************************
 	 * Hazelmere coords: 535, 754       *
@@ -50,6 +51,7 @@ public class GrandTree implements QuestInterface, TalkNpcTrigger, OpLocTrigger,
 	private static final int ROOT_THREE = 637;
 	private static final int PUSH_ROOT = 638;
 	private static final int PUSH_ROOT_BACK = 639;
+	private static final int[] KILL_NPC_IDS = {NpcId.SHIPYARD_FOREMAN_HUT.id(), NpcId.BLACK_DEMON_GRANDTREE.id()};
 
 	@Override
 	public int getQuestId() {
@@ -1714,7 +1716,7 @@ public class GrandTree implements QuestInterface, TalkNpcTrigger, OpLocTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SHIPYARD_FOREMAN_HUT.id() || n.getID() == NpcId.BLACK_DEMON_GRANDTREE.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -1833,4 +1835,11 @@ public class GrandTree implements QuestInterface, TalkNpcTrigger, OpLocTrigger,
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.event.SingleEvent;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 import org.apache.logging.log4j.LogManager;
@@ -16,15 +17,16 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestBullRoarer implements OpInvTrigger {
+public class LegendsQuestBullRoarer implements OpInvTrigger, TriggerIdFilter {
 	private static final Logger LOGGER = LogManager.getLogger(LegendsQuestBullRoarer.class);
+	private static final int[] OP_INV_IDS = {ItemId.BULL_ROARER.id()};
 	private boolean inKharaziJungle(Player player) {
 		return player.getLocation().inBounds(338, 869, 477, 908);
 	}
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BULL_ROARER.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -131,4 +133,12 @@ public class LegendsQuestBullRoarer implements OpInvTrigger {
 			LOGGER.catching(e);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.event.rsc.impl.projectile.CustomProjectileEvent;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -16,7 +17,9 @@ import java.util.HashMap;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger {
+public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.HOLY_WATER_VIAL.id()};
 
 	private static final HashMap<Player, RestartableDelayedEvent> playerEventMap = new HashMap<Player, RestartableDelayedEvent>();
 
@@ -79,7 +82,7 @@ public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.HOLY_WATER_VIAL.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -142,4 +145,11 @@ public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
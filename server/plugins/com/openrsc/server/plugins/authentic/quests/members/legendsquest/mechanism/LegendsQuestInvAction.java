@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.ChatMessage;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -18,16 +19,26 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestInvAction implements OpInvTrigger, UseInvTrigger {
+public class LegendsQuestInvAction implements OpInvTrigger, UseInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {
+		ItemId.SCRIBBLED_NOTES.id(),
+		ItemId.SCRAWLED_NOTES.id(),
+		ItemId.SCATCHED_NOTES.id(),
+		ItemId.ROUGH_SKETCH_OF_A_BOWL.id(),
+		ItemId.SHAMANS_TOME.id(),
+		ItemId.BOOKING_OF_BINDING.id(),
+		ItemId.YOMMI_TREE_SEED.id(),
+		ItemId.GERMINATED_YOMMI_TREE_SEED.id(),
+		ItemId.A_RED_CRYSTAL.id(),
+		ItemId.HOLY_FORCE_SPELL.id(),
+		ItemId.GILDED_TOTEM_POLE.id(),
+		ItemId.GUJUO_POTION.id()
+	};
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return inArray(item.getCatalogId(),
-			ItemId.SCRIBBLED_NOTES.id(), ItemId.SCRAWLED_NOTES.id(), ItemId.SCATCHED_NOTES.id(),
-			ItemId.ROUGH_SKETCH_OF_A_BOWL.id(), ItemId.SHAMANS_TOME.id(), ItemId.BOOKING_OF_BINDING.id(),
-			ItemId.YOMMI_TREE_SEED.id(), ItemId.GERMINATED_YOMMI_TREE_SEED.id(),
-			ItemId.A_RED_CRYSTAL.id(), ItemId.HOLY_FORCE_SPELL.id(),
-			ItemId.GILDED_TOTEM_POLE.id(), ItemId.GUJUO_POTION.id());
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -239,4 +250,11 @@ public class LegendsQuestInvAction implements OpInvTrigger, UseInvTrigger {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
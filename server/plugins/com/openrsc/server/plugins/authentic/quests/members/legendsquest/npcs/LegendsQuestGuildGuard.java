@@ -6,14 +6,17 @@ import com.openrsc.server.model.Point;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
+public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger, TriggerIdFilter {
 
 	private static final int MITHRIL_GATES = 1079;
+	private static final int[] TALK_NPC_IDS = {NpcId.LEGENDS_GUILD_GUARD.id()};
+	private static final int[] OP_LOC_IDS = {MITHRIL_GATES};
 
 	private void legendsGuardDialogue(Player player, Npc n, int cID) {
 		if (n.getID() == NpcId.LEGENDS_GUILD_GUARD.id()) {
@@ -215,7 +218,7 @@ public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.LEGENDS_GUILD_GUARD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -231,7 +234,7 @@ public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == MITHRIL_GATES;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -305,4 +308,15 @@ public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
 		static final int WHO_IS_GRAND_VIZIER_ERKLE = 6;
 		static final int LIKE_TO_TALK_TO_GVE = 7;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
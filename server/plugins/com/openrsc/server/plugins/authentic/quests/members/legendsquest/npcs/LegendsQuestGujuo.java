@@ -8,6 +8,7 @@ import com.openrsc.server.event.SingleEvent;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -18,7 +19,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger {
+public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.GUJUO.id()};
 
 	private void GujuoDialogue(Player player, Npc n, int cID) {
 		if (n.getID() == NpcId.GUJUO.id()) {
@@ -1217,7 +1220,7 @@ public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUJUO.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -1297,4 +1300,12 @@ public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger {
 		static final int HOW_DO_I_MAKE_THE_TOTEM_POLE = 39;
 		static final int OK_I_WONT_GO = 40;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 
 import java.util.Optional;
@@ -12,11 +13,13 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestIrvigSenay implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger, PlayerRangeNpcTrigger,
-	EscapeNpcTrigger {
+	EscapeNpcTrigger, TriggerIdFilter {
+
+	private static final int[] ATTACK_NPC_IDS = {NpcId.IRVIG_SENAY.id()};
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.IRVIG_SENAY.id() && !player.getCarriedItems().hasCatalogID(ItemId.A_LUMP_OF_CRYSTAL.id(), Optional.of(false)) && !player.getCache().hasKey("cavernous_opening");
+		return inArray(n.getID(), ATTACK_NPC_IDS) && !player.getCarriedItems().hasCatalogID(ItemId.A_LUMP_OF_CRYSTAL.id(), Optional.of(false)) && !player.getCache().hasKey("cavernous_opening");
 	}
 
 	@Override
@@ -123,5 +126,13 @@ public class LegendsQuestIrvigSenay implements AttackNpcTrigger, KillNpcTrigger,
 		}
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		return null;
+	}
 }
 
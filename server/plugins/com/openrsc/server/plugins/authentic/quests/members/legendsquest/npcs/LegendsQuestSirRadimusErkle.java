@@ -8,6 +8,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
@@ -20,7 +21,10 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestSirRadimusErkle implements QuestInterface, TalkNpcTrigger, UseNpcTrigger {
+public class LegendsQuestSirRadimusErkle implements QuestInterface, TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SIR_RADIMUS_ERKLE_HOUSE.id(), NpcId.SIR_RADIMUS_ERKLE_GUILD.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.SIR_RADIMUS_ERKLE_HOUSE.id()};
 
 	@Override
 	public int getQuestId() {
@@ -66,7 +70,7 @@ public class LegendsQuestSirRadimusErkle implements QuestInterface, TalkNpcTrigg
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SIR_RADIMUS_ERKLE_HOUSE.id() || n.getID() == NpcId.SIR_RADIMUS_ERKLE_GUILD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -503,7 +507,7 @@ public class LegendsQuestSirRadimusErkle implements QuestInterface, TalkNpcTrigg
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc n, Item item) {
-		return n.getID() == NpcId.SIR_RADIMUS_ERKLE_HOUSE.id() && (item.getCatalogId() == ItemId.RADIMUS_SCROLLS_COMPLETE.id()
+		return inArray(n.getID(), USE_NPC_IDS) && (item.getCatalogId() == ItemId.RADIMUS_SCROLLS_COMPLETE.id()
 				|| item.getCatalogId() == ItemId.GILDED_TOTEM_POLE.id() || item.getCatalogId() == ItemId.TOTEM_POLE.id());
 	}
 
@@ -583,4 +587,15 @@ public class LegendsQuestSirRadimusErkle implements QuestInterface, TalkNpcTrigg
 		static final int SKILL_MENU_THREE = 2;
 		static final int SKILL_MENU_FOUR = 3;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
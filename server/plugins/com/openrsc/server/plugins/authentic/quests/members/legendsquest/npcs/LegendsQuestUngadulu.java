@@ -7,6 +7,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 
 import java.util.Optional;
@@ -14,7 +15,11 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, SpellNpcTrigger, PlayerRangeNpcTrigger, EscapeNpcTrigger, UseNpcTrigger {
+public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, SpellNpcTrigger, PlayerRangeNpcTrigger, EscapeNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.UNGADULU.id(), NpcId.EVIL_UNGADULU.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.UNGADULU.id()};
+	private static final int[] ATTACK_NPC_IDS = {NpcId.UNGADULU.id(), NpcId.EVIL_UNGADULU.id()};
 
 	private static void ungaduluTalkToDialogue(Player player, Npc n, int cID) {
 		if (n.getID() == NpcId.UNGADULU.id()) {
@@ -762,7 +767,7 @@ public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, S
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.UNGADULU.id() || n.getID() == NpcId.EVIL_UNGADULU.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -777,7 +782,7 @@ public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, S
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.UNGADULU.id() || n.getID() == NpcId.EVIL_UNGADULU.id();
+		return inArray(n.getID(), ATTACK_NPC_IDS);
 	}
 
 	@Override
@@ -880,7 +885,7 @@ public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, S
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.UNGADULU.id() && (item.getCatalogId() == ItemId.BOOKING_OF_BINDING.id()
+		return inArray(npc.getID(), USE_NPC_IDS) && (item.getCatalogId() == ItemId.BOOKING_OF_BINDING.id()
 				|| item.getCatalogId() == ItemId.GLOWING_DARK_DAGGER.id() || item.getCatalogId() == ItemId.DARK_DAGGER.id());
 	}
 
@@ -1023,4 +1028,18 @@ public class LegendsQuestUngadulu implements TalkNpcTrigger, AttackNpcTrigger, S
 		static final int REPLACED_EVIL_TOTEM = 26;
 
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		return null;
+	}
 }
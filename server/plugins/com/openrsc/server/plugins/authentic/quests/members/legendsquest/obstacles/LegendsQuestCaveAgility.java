@@ -3,13 +3,14 @@ package com.openrsc.server.plugins.authentic.quests.members.legendsquest.obstacl
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestCaveAgility implements OpLocTrigger {
+public class LegendsQuestCaveAgility implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int ROCK_HEWN_STAIRS_1 = 1114;
 	private static final int ROCK_HEWN_STAIRS_2 = 1123;
@@ -20,10 +21,20 @@ public class LegendsQuestCaveAgility implements OpLocTrigger {
 	private static final int ROCKY_WALKWAY_2 = 559;
 	private static final int ROCKY_WALKWAY_3 = 560;
 	private static final int ROCKY_WALKWAY_4 = 561;
+	private static final int[] OP_LOC_IDS = {
+		ROCK_HEWN_STAIRS_1,
+		ROCK_HEWN_STAIRS_2,
+		ROCK_HEWN_STAIRS_3,
+		ROCK_HEWN_STAIRS_4,
+		ROCKY_WALKWAY_1,
+		ROCKY_WALKWAY_2,
+		ROCKY_WALKWAY_3,
+		ROCKY_WALKWAY_4
+	};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return inArray(obj.getID(), ROCK_HEWN_STAIRS_1, ROCK_HEWN_STAIRS_2, ROCK_HEWN_STAIRS_3, ROCK_HEWN_STAIRS_4, ROCKY_WALKWAY_1, ROCKY_WALKWAY_2, ROCKY_WALKWAY_3, ROCKY_WALKWAY_4);
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -189,4 +200,12 @@ public class LegendsQuestCaveAgility implements OpLocTrigger {
 	boolean succeed(Player player, int req) {
 		return Formulae.calcProductionSuccessfulLegacy(req, getCurrentLevel(player, Skill.AGILITY.id()), false, req + 30);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,19 +5,21 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.net.rsc.handlers.SpellHandler;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.SpellLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestDarkMetalGate implements OpLocTrigger, SpellLocTrigger {
+public class LegendsQuestDarkMetalGate implements OpLocTrigger, SpellLocTrigger, TriggerIdFilter {
 
 
 	public static final int DARK_METAL_GATE = 1165;
+	private static final int[] OP_LOC_IDS = {DARK_METAL_GATE};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == DARK_METAL_GATE;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -117,4 +119,12 @@ public class LegendsQuestDarkMetalGate implements OpLocTrigger, SpellLocTrigger
 	public boolean blockSpellLoc(Player player, GameObject obj, SpellDef spell) {
 		return obj.getID() == DARK_METAL_GATE;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -3,17 +3,19 @@ package com.openrsc.server.plugins.authentic.quests.members.legendsquest.obstacl
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestGates implements OpLocTrigger {
+public class LegendsQuestGates implements OpLocTrigger, TriggerIdFilter {
 
 	public static final int LEGENDS_HALL_DOOR = 1080;
+	private static final int[] OP_LOC_IDS = {LEGENDS_HALL_DOOR};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == LEGENDS_HALL_DOOR;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -39,4 +41,12 @@ public class LegendsQuestGates implements OpLocTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
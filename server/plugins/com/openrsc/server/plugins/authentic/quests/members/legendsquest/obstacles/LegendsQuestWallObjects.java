@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.quests.members.legendsquest.npcs.LegendsQuestUngadulu;
 import com.openrsc.server.plugins.authentic.quests.members.shilovillage.ShiloVillageUtils;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
@@ -19,7 +20,7 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class LegendsQuestWallObjects implements OpBoundTrigger, UseBoundTrigger {
+public class LegendsQuestWallObjects implements OpBoundTrigger, UseBoundTrigger, TriggerIdFilter {
 
 	public static final int FLAME_WALL = 210;
 	public static final int RUT = 206;
@@ -33,10 +34,12 @@ public class LegendsQuestWallObjects implements OpBoundTrigger, UseBoundTrigger
 	public static final int INVESTIGATE = 1;
 	public static final int USE = 0;
 	public static final int SEARCH = 1;
+	private static final int[] OP_BOUND_IDS = {FLAME_WALL, RUT, ANCIENT_WALL, RUINED_WALL};
+	private static final int[] USE_BOUND_IDS = {FLAME_WALL, ANCIENT_WALL};
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return inArray(obj.getID(), FLAME_WALL, RUT, ANCIENT_WALL, RUINED_WALL);
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -229,7 +232,7 @@ public class LegendsQuestWallObjects implements OpBoundTrigger, UseBoundTrigger
 
 	@Override
 	public boolean blockUseBound(Player player, GameObject obj, Item item) {
-		return obj.getID() == FLAME_WALL || obj.getID() == ANCIENT_WALL;
+		return inArray(obj.getID(), USE_BOUND_IDS);
 	}
 
 	@Override
@@ -403,4 +406,15 @@ public class LegendsQuestWallObjects implements OpBoundTrigger, UseBoundTrigger
 		player.getCarriedItems().remove(new Item(item.getCatalogId()));
 		addobject(item.getCatalogId(), 1, player.getX(), player.getY(), player);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		if (triggerType == UseBoundTrigger.class) {
+			return USE_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -4,6 +4,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -12,11 +13,13 @@ import static com.openrsc.server.plugins.Functions.*;
  * TODO:
  * the messages inside UndeadOnes a mist (possible to damage?)
  */
-public class ShiloVillageMosolRei implements TalkNpcTrigger {
+public class ShiloVillageMosolRei implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.MOSOL.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MOSOL.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -193,4 +196,12 @@ public class ShiloVillageMosolRei implements TalkNpcTrigger {
 		static final int WHAT_CAN_WE_DO = 1;
 		static final int SOMEONE_WHO_DOES_KNOW = 2;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
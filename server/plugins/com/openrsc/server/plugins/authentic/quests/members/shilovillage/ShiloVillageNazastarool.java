@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.EscapeNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
@@ -17,7 +18,13 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class ShiloVillageNazastarool implements OpLocTrigger,
 	KillNpcTrigger, EscapeNpcTrigger,
-	SpellNpcTrigger {
+	SpellNpcTrigger, TriggerIdFilter {
+
+	private static final int[] KILL_NPC_IDS = {
+		NpcId.NAZASTAROOL_ZOMBIE.id(),
+		NpcId.NAZASTAROOL_SKELETON.id(),
+		NpcId.NAZASTAROOL_GHOST.id()
+	};
 
 	private static final int TOMB_DOLMEN_Nazastarool = 724;
 
@@ -139,7 +146,7 @@ public class ShiloVillageNazastarool implements OpLocTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.NAZASTAROOL_ZOMBIE.id() || n.getID() == NpcId.NAZASTAROOL_SKELETON.id() || n.getID() == NpcId.NAZASTAROOL_GHOST.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -209,4 +216,12 @@ public class ShiloVillageNazastarool implements OpLocTrigger,
 			n.getSkills().setLevel(Skill.HITS.id(), n.getSkills().getMaxStat(Skill.HITS.id()));
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -774,5 +774,4 @@ public class ShiloVillageObjects implements OpLocTrigger, UseLocTrigger {
 			player.incExp(Skill.CRAFTING.id(), 10, true);
 		}
 	}
-
 }
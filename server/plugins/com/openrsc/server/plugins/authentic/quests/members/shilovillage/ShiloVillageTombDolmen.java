@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -19,9 +20,11 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ShiloVillageTombDolmen implements QuestInterface, OpLocTrigger, UseLocTrigger {
+public class ShiloVillageTombDolmen implements QuestInterface, OpLocTrigger, UseLocTrigger, TriggerIdFilter {
 
 	private static final int TOMB_DOLMEN = 689;
+	private static final int[] OP_LOC_IDS = {TOMB_DOLMEN};
+	private static final int[] USE_LOC_IDS = {TOMB_DOLMEN};
 
 	@Override
 	public int getQuestId() {
@@ -88,7 +91,7 @@ public class ShiloVillageTombDolmen implements QuestInterface, OpLocTrigger, Use
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == TOMB_DOLMEN;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -166,7 +169,7 @@ public class ShiloVillageTombDolmen implements QuestInterface, OpLocTrigger, Use
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == TOMB_DOLMEN;
+		return inArray(obj.getID(), USE_LOC_IDS);
 	}
 
 	@Override
@@ -219,4 +222,15 @@ public class ShiloVillageTombDolmen implements QuestInterface, OpLocTrigger, Use
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.DropObjTrigger;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
@@ -18,7 +19,20 @@ import java.util.concurrent.TimeUnit;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ShiloVillageUtils implements DropObjTrigger, OpInvTrigger, UseInvTrigger, TakeObjTrigger {
+public class ShiloVillageUtils implements DropObjTrigger, OpInvTrigger, UseInvTrigger, TakeObjTrigger, TriggerIdFilter {
+
+	private static final int[] TAKE_OBJ_IDS = {ItemId.COINS.id()};
+	private static final int[] OP_INV_IDS = {
+		ItemId.ZADIMUS_CORPSE.id(),
+		ItemId.CRUMPLED_SCROLL.id(),
+		ItemId.TATTERED_SCROLL.id(),
+		ItemId.STONE_PLAQUE.id(),
+		ItemId.BONE_SHARD.id(),
+		ItemId.BERVIRIUS_TOMB_NOTES.id(),
+		ItemId.LOCATING_CRYSTAL.id(),
+		ItemId.BONE_KEY.id(),
+		ItemId.RASHILIYA_CORPSE.id()
+	};
 
 	static void BUMPY_DIRT_HOLDER(Player player) {
 		player.message("Do you want to try to crawl through the fissure?");
@@ -293,8 +307,7 @@ public class ShiloVillageUtils implements DropObjTrigger, OpInvTrigger, UseInvTr
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return inArray(item.getCatalogId(), ItemId.ZADIMUS_CORPSE.id(), ItemId.CRUMPLED_SCROLL.id(), ItemId.TATTERED_SCROLL.id(), ItemId.STONE_PLAQUE.id(),
-				ItemId.BONE_SHARD.id(), ItemId.BERVIRIUS_TOMB_NOTES.id(), ItemId.LOCATING_CRYSTAL.id(), ItemId.BONE_KEY.id(), ItemId.RASHILIYA_CORPSE.id());
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -487,7 +500,7 @@ public class ShiloVillageUtils implements DropObjTrigger, OpInvTrigger, UseInvTr
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.COINS.id() && i.getX() == 358 && i.getY() == 3626;
+		return inArray(i.getID(), TAKE_OBJ_IDS) && i.getX() == 358 && i.getY() == 3626;
 	}
 
 	@Override
@@ -515,4 +528,15 @@ public class ShiloVillageUtils implements DropObjTrigger, OpInvTrigger, UseInvTr
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -13,6 +13,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -28,9 +29,27 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigger, OpLocTrigger, OpNpcTrigger,
-	KillNpcTrigger, AttackNpcTrigger, SpellNpcTrigger, PlayerRangeNpcTrigger, OpBoundTrigger {
+	KillNpcTrigger, AttackNpcTrigger, SpellNpcTrigger, PlayerRangeNpcTrigger, OpBoundTrigger, TriggerIdFilter {
 
 	private static final Logger LOGGER = LogManager.getLogger(TouristTrap.class);
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.IRENA.id(),
+		NpcId.MERCENARY.id(),
+		NpcId.MERCENARY_CAPTAIN.id(),
+		NpcId.MERCENARY_ESCAPEGATES.id(),
+		NpcId.CAPTAIN_SIAD.id(),
+		NpcId.MINING_SLAVE.id(),
+		NpcId.ESCAPING_MINING_SLAVE.id(),
+		NpcId.BEDABIN_NOMAD.id(),
+		NpcId.BEDABIN_NOMAD_GUARD.id(),
+		NpcId.AL_SHABIM.id(),
+		NpcId.MERCENARY_LIFTPLATFORM.id(),
+		NpcId.MERCENARY_JAILDOOR.id(),
+		NpcId.ANA.id()
+	};
+	private static final int[] OP_NPC_IDS = {NpcId.MERCENARY_CAPTAIN.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.AL_SHABIM.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.MERCENARY_CAPTAIN.id()};
 
 	/**
 	 * Player isWielding
@@ -102,9 +121,7 @@ public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigge
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return inArray(npc.getID(), NpcId.IRENA.id(), NpcId.MERCENARY.id(), NpcId.MERCENARY_CAPTAIN.id(), NpcId.MERCENARY_ESCAPEGATES.id(),
-				NpcId.CAPTAIN_SIAD.id(), NpcId.MINING_SLAVE.id(), NpcId.ESCAPING_MINING_SLAVE.id(), NpcId.BEDABIN_NOMAD.id(), NpcId.BEDABIN_NOMAD_GUARD.id(),
-				NpcId.AL_SHABIM.id(), NpcId.MERCENARY_LIFTPLATFORM.id(), NpcId.MERCENARY_JAILDOOR.id(), NpcId.ANA.id());
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	private void irenaDialogue(final Player player, final Npc npc, final int cID) {
@@ -2900,7 +2917,7 @@ public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigge
 
 	@Override
 	public boolean blockOpNpc(final Player player, final Npc npc, final String command) {
-		return npc.getID() == NpcId.MERCENARY_CAPTAIN.id() && command.equalsIgnoreCase("watch");
+		return inArray(npc.getID(), OP_NPC_IDS) && command.equalsIgnoreCase("watch");
 	}
 
 	@Override
@@ -2917,7 +2934,7 @@ public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigge
 
 	@Override
 	public boolean blockKillNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.MERCENARY_CAPTAIN.id();
+		return inArray(npc.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -3469,7 +3486,7 @@ public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigge
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return item.getCatalogId() == ItemId.PROTOTYPE_THROWING_DART.id() && npc.getID() == NpcId.AL_SHABIM.id();
+		return item.getCatalogId() == ItemId.PROTOTYPE_THROWING_DART.id() && inArray(npc.getID(), USE_NPC_IDS);
 	}
 
 	@Override
@@ -3565,4 +3582,21 @@ public class TouristTrap implements QuestInterface, TalkNpcTrigger, UseNpcTrigge
 		static final int SNEAKEDPAST = 2;
 		static final int GUARDSRUBBISH = 3;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpNpcTrigger.class) {
+			return OP_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.struct.UnequipRequest;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
@@ -19,7 +20,10 @@ import java.util.Optional;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger, OpLocTrigger, UseLocTrigger, UseInvTrigger, TakeObjTrigger,
-	DropObjTrigger, TalkNpcTrigger {
+	DropObjTrigger, TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.MINING_CART_DRIVER.id()};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.ANA_IN_A_BARREL.id()};
 
 	private static int MINING_CAVE = 963;
 	private static int MINING_CART = 976;
@@ -1082,7 +1086,7 @@ public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger,
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem item) {
-		return item.getID() == ItemId.ANA_IN_A_BARREL.id();
+		return inArray(item.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -1162,7 +1166,7 @@ public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MINING_CART_DRIVER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -1209,4 +1213,15 @@ public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger,
 		static final int WONDERIF = 8;
 		static final int HECKOUT = 9;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
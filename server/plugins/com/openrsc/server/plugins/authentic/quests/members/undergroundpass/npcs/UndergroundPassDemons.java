@@ -4,17 +4,20 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class UndergroundPassDemons implements KillNpcTrigger {
+public class UndergroundPassDemons implements KillNpcTrigger, TriggerIdFilter {
+
+	private static final int[] KILL_NPC_IDS = {NpcId.OTHAINIAN.id(), NpcId.DOOMION.id(), NpcId.HOLTHION.id()};
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.OTHAINIAN.id(), NpcId.DOOMION.id(), NpcId.HOLTHION.id());
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -44,4 +47,12 @@ public class UndergroundPassDemons implements KillNpcTrigger {
 			player.teleport(807, 3528);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
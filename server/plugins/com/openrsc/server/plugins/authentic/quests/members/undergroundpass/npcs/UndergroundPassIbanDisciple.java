@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -13,11 +14,14 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class UndergroundPassIbanDisciple implements TalkNpcTrigger, KillNpcTrigger {
+public class UndergroundPassIbanDisciple implements TalkNpcTrigger, KillNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.IBAN_DISCIPLE.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.IBAN_DISCIPLE.id()};
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.IBAN_DISCIPLE.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -68,6 +72,17 @@ public class UndergroundPassIbanDisciple implements TalkNpcTrigger, KillNpcTrigg
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n)  {
-		return n.getID() == NpcId.IBAN_DISCIPLE.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
 	}
 }
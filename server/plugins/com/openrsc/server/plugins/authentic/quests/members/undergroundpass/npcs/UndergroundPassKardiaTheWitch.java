@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
@@ -18,7 +19,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class UndergroundPassKardiaTheWitch implements OpLocTrigger, OpBoundTrigger, TakeObjTrigger, UseBoundTrigger {
+public class UndergroundPassKardiaTheWitch implements OpLocTrigger, OpBoundTrigger, TakeObjTrigger, UseBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TAKE_OBJ_IDS = {ItemId.KARDIA_CAT.id()};
 
 	/**
 	 * OBJECT IDs
@@ -89,7 +92,7 @@ public class UndergroundPassKardiaTheWitch implements OpLocTrigger, OpBoundTrigg
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return i.getID() == ItemId.KARDIA_CAT.id() && player.getCarriedItems().hasCatalogID(ItemId.KARDIA_CAT.id(), Optional.of(false));
+		return inArray(i.getID(), TAKE_OBJ_IDS) && player.getCarriedItems().hasCatalogID(ItemId.KARDIA_CAT.id(), Optional.of(false));
 	}
 
 	@Override
@@ -153,4 +156,12 @@ public class UndergroundPassKardiaTheWitch implements OpLocTrigger, OpBoundTrigg
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
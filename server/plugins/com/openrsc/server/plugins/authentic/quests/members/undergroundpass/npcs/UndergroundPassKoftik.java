@@ -6,6 +6,7 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -15,7 +16,16 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class UndergroundPassKoftik implements QuestInterface, TalkNpcTrigger {
+public class UndergroundPassKoftik implements QuestInterface, TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.KOFTIK_ARDOUGNE.id(),
+		NpcId.KOFTIK_CAVE1.id(),
+		NpcId.KOFTIK_CAVE2.id(),
+		NpcId.KOFTIK_CAVE3.id(),
+		NpcId.KOFTIK_CAVE4.id(),
+		NpcId.KOFTIK_RECOVERED.id()
+	};
+
 	/**
 	 * Note: King Lathas (Quest starer) is located in the Biohazard quest template
 	 **/
@@ -87,7 +97,7 @@ public class UndergroundPassKoftik implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.KOFTIK_ARDOUGNE.id(), NpcId.KOFTIK_CAVE1.id(), NpcId.KOFTIK_CAVE2.id(), NpcId.KOFTIK_CAVE3.id(), NpcId.KOFTIK_CAVE4.id(), NpcId.KOFTIK_RECOVERED.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -317,5 +327,13 @@ public class UndergroundPassKoftik implements QuestInterface, TalkNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
 
@@ -2,18 +2,28 @@ package com.openrsc.server.plugins.authentic.quests.members.undergroundpass.npcs
 
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
 
-public class UndergroundPassSlaves implements TalkNpcTrigger {
+public class UndergroundPassSlaves implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.SLAVE_1.id(),
+		NpcId.SLAVE_2.id(),
+		NpcId.SLAVE_3.id(),
+		NpcId.SLAVE_4.id(),
+		NpcId.SLAVE_5.id(),
+		NpcId.SLAVE_6.id(),
+		NpcId.SLAVE_7.id()
+	};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.SLAVE_1.id(), NpcId.SLAVE_2.id(), NpcId.SLAVE_3.id(),
-				NpcId.SLAVE_4.id(), NpcId.SLAVE_5.id(), NpcId.SLAVE_6.id(), NpcId.SLAVE_7.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -93,4 +103,12 @@ public class UndergroundPassSlaves implements TalkNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -4,17 +4,19 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class UndergroundPassWell implements OpLocTrigger {
+public class UndergroundPassWell implements OpLocTrigger, TriggerIdFilter {
 
 	public static final int WELL = 814;
+	private static final int[] OP_LOC_IDS = {WELL};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == WELL;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -41,4 +43,12 @@ public class UndergroundPassWell implements OpLocTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.CombatOdyssey;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -17,7 +18,25 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class WatchTowerDialogues implements QuestInterface, TalkNpcTrigger, UseNpcTrigger {
+public class WatchTowerDialogues implements QuestInterface, TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.WATCHTOWER_WIZARD.id(),
+		NpcId.GREW.id(),
+		NpcId.OG.id(),
+		NpcId.TOBAN.id(),
+		NpcId.OGRE_CITIZEN.id(),
+		NpcId.OGRE_TRADER_FOOD.id(),
+		NpcId.OGRE_GUARD_CAVE_ENTRANCE.id(),
+		NpcId.OGRE_TRADER_ROCKCAKE.id(),
+		NpcId.CITY_GUARD.id(),
+		NpcId.SKAVID_FINALQUIZ.id(),
+		NpcId.SKAVID_IG.id(),
+		NpcId.SKAVID_AR.id(),
+		NpcId.SKAVID_CUR.id(),
+		NpcId.SKAVID_NOD.id(),
+		NpcId.SKAVID_INITIAL.id()
+	};
 
 	/**
 	 * REMEMBER:
@@ -52,9 +71,7 @@ public class WatchTowerDialogues implements QuestInterface, TalkNpcTrigger, UseN
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.WATCHTOWER_WIZARD.id(), NpcId.GREW.id(), NpcId.OG.id(), NpcId.TOBAN.id(), NpcId.OGRE_CITIZEN.id(),
-				NpcId.OGRE_TRADER_FOOD.id(), NpcId.OGRE_GUARD_CAVE_ENTRANCE.id(), NpcId.OGRE_TRADER_ROCKCAKE.id(), NpcId.CITY_GUARD.id(),
-				NpcId.SKAVID_FINALQUIZ.id(), NpcId.SKAVID_IG.id(), NpcId.SKAVID_AR.id(), NpcId.SKAVID_CUR.id(), NpcId.SKAVID_NOD.id(), NpcId.SKAVID_INITIAL.id());
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -1170,4 +1187,12 @@ public class WatchTowerDialogues implements QuestInterface, TalkNpcTrigger, UseN
 	class WatchTowerWizard {
 		static final int SEARCHINGTHECAVES = 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
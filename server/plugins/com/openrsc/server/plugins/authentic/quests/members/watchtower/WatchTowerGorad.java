@@ -5,6 +5,7 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -12,11 +13,15 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class WatchTowerGorad implements TalkNpcTrigger,
-	KillNpcTrigger, AttackNpcTrigger {
+	KillNpcTrigger, AttackNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.GORAD.id()};
+	private static final int[] ATTACK_NPC_IDS = {NpcId.GORAD.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.GORAD.id()};
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GORAD.id();
+		return inArray(n.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -30,7 +35,7 @@ public class WatchTowerGorad implements TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GORAD.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -65,7 +70,7 @@ public class WatchTowerGorad implements TalkNpcTrigger,
 
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GORAD.id();
+		return inArray(n.getID(), ATTACK_NPC_IDS);
 	}
 
 	@Override
@@ -75,4 +80,18 @@ public class WatchTowerGorad implements TalkNpcTrigger,
 				"Get lost!");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
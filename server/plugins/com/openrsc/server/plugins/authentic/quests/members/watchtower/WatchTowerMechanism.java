@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
@@ -19,14 +20,22 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class WatchTowerMechanism implements UseLocTrigger, UseInvTrigger, UseNpcTrigger, TakeObjTrigger {
+public class WatchTowerMechanism implements UseLocTrigger, UseInvTrigger, UseNpcTrigger, TakeObjTrigger, TriggerIdFilter {
 
 	private static final int TOBAN_CHEST_OPEN = 979;
 	private static final int TOBAN_CHEST_CLOSED = 978;
+	private static final int[] USE_LOC_IDS = {TOBAN_CHEST_CLOSED};
+	private static final int[] TAKE_OBJ_IDS = {
+		ItemId.SHAMAN_ROBE.id(),
+		ItemId.POWERING_CRYSTAL1.id(),
+		ItemId.POWERING_CRYSTAL2.id(),
+		ItemId.POWERING_CRYSTAL3.id(),
+		ItemId.POWERING_CRYSTAL4.id()
+	};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == TOBAN_CHEST_CLOSED && item.getCatalogId() == ItemId.KEY.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.KEY.id();
 	}
 
 	@Override
@@ -343,8 +352,7 @@ public class WatchTowerMechanism implements UseLocTrigger, UseInvTrigger, UseNpc
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem i) {
-		return inArray(i.getID(), ItemId.SHAMAN_ROBE.id(), ItemId.POWERING_CRYSTAL1.id(), ItemId.POWERING_CRYSTAL2.id(),
-				ItemId.POWERING_CRYSTAL3.id(), ItemId.POWERING_CRYSTAL4.id());
+		return inArray(i.getID(), TAKE_OBJ_IDS);
 	}
 
 	@Override
@@ -381,4 +389,15 @@ public class WatchTowerMechanism implements UseLocTrigger, UseInvTrigger, UseNpc
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
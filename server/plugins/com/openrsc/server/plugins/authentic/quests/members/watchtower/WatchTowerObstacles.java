@@ -9,6 +9,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.shared.model.QuestReward;
 import com.openrsc.server.plugins.shared.model.XPReward;
@@ -22,7 +23,7 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class WatchTowerObstacles implements OpLocTrigger, OpBoundTrigger, UseNpcTrigger {
+public class WatchTowerObstacles implements OpLocTrigger, OpBoundTrigger, UseNpcTrigger, TriggerIdFilter {
 
 
 	/**
@@ -40,6 +41,7 @@ public class WatchTowerObstacles implements OpLocTrigger, OpBoundTrigger, UseNpc
 	private static int TUNNEL_CAVE = 998;
 	private static final int TOBAN_CHEST_OPEN = 979;
 	private static final int TOBAN_CHEST_CLOSED = 978;
+	private static final int[] USE_NPC_IDS = {NpcId.OGRE_GUARD_BATTLEMENT.id()};
 	private static int ISLAND_LADDER = 997;
 	private static int BATTLEMENT = 201;
 	private static int SOUTH_WEST_BATTLEMENT = 195;
@@ -601,6 +603,14 @@ public class WatchTowerObstacles implements OpLocTrigger, OpBoundTrigger, UseNpc
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.OGRE_GUARD_BATTLEMENT.id() && !item.getNoted();
+		return inArray(npc.getID(), USE_NPC_IDS) && !item.getNoted();
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
 	}
 }
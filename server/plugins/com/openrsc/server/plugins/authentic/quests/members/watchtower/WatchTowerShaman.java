@@ -7,16 +7,20 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class WatchTowerShaman implements TalkNpcTrigger, UseNpcTrigger {
+public class WatchTowerShaman implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.OGRE_SHAMAN.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.OGRE_SHAMAN.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.OGRE_SHAMAN.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -33,7 +37,7 @@ public class WatchTowerShaman implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.OGRE_SHAMAN.id() && (item.getCatalogId() == ItemId.MAGIC_OGRE_POTION.id()
+		return inArray(npc.getID(), USE_NPC_IDS) && (item.getCatalogId() == ItemId.MAGIC_OGRE_POTION.id()
 				|| item.getCatalogId() == ItemId.OGRE_POTION.id());
 	}
 
@@ -83,4 +87,15 @@ public class WatchTowerShaman implements TalkNpcTrigger, UseNpcTrigger {
 			say(player, null, "Oh no! I better go back to the wizards about this");
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
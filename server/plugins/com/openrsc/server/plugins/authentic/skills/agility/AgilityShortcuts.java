@@ -7,6 +7,7 @@ import com.openrsc.server.model.Point;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -15,7 +16,7 @@ import com.openrsc.server.util.rsc.Formulae;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class AgilityShortcuts implements OpLocTrigger,
-	UseLocTrigger {
+	UseLocTrigger, TriggerIdFilter {
 
 	private static final int SHORTCUT_FALADOR_HANDHOLD = 693;
 	private static final int SHORTCUT_BRIMHAVEN_SWING = 694;
@@ -50,37 +51,45 @@ public class AgilityShortcuts implements OpLocTrigger,
 	private static final int KBD_TO_LAVADUNG_STEPPING_STONE = 1291;
 	private static final int LAVADUNG_TO_KBD_STEPPING_STONE = 1292;
 	private static final int SHILO_TO_NATURE_STEPPING_STONE = 1295;
+	private static final int[] OP_LOC_IDS = {
+		SHORTCUT_YANILLE_PIPE,
+		SHORTCUT_YANILLE_PIPE_BACK,
+		SHORTCUT_YANILLE_PILE_OF_RUBBLE,
+		SHORTCUT_YANILLE_PILE_OF_RUBBLE_UP,
+		SHORTCUT_YANILLE_AGILITY_LEDGE,
+		SHORTCUT_YANILLE_AGILITY_LEDGE_BACK,
+		SHORTCUT_FALADOR_HANDHOLD,
+		SHORTCUT_BRIMHAVEN_SWING,
+		SHORTCUT_BRIMHAVEN_BACK_SWING,
+		SHORTCUT_EDGE_DUNGEON_SWING,
+		SHORTCUT_EDGE_DUNGEON_BACK_SWING,
+		SHORTCUT_WEST_COALTRUCKS_LOG,
+		SHORTCUT_EAST_COALTRUCKS_LOG,
+		SHORTCUT_YANILLE_AGILITY_ROPESWING,
+		SHORTCUT_YANILLE_AGILITY_ROPESWING_BACK,
+		GREW_ISLAND_ROPE_ATTACHED,
+		GREW_ISLAND_SWING_BACK,
+		EAST_KARAMJA_LOG,
+		EAST_KARAMJA_STONES,
+		YANILLE_CLIMBING_ROCKS,
+		YANILLE_WATCHTOWER_HANDHOLDS,
+		SHILO_VILLAGE_ROCKS_TO_BRIDGE,
+		SHILO_VILLAGE_BRIDGE_BLOCKADE_JUMP,
+		TAVERLY_PIPE,
+		TAVERLY_PIPE_RETURN,
+		ENTRANA_RUBBLE,
+		TAVERLY_STEPPING_STONE,
+		CATHERBY_STEPPING_STONE,
+		FALADOR_MEMBERS_EXIT_HANDHOLDS,
+		KBD_TO_LAVADUNG_STEPPING_STONE,
+		LAVADUNG_TO_KBD_STEPPING_STONE,
+		SHILO_TO_NATURE_STEPPING_STONE
+	};
+	private static final int[] USE_LOC_IDS = {GREW_ISLAND_ROPE_ATTACH};
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return inArray(obj.getID(), SHORTCUT_YANILLE_PIPE,
-			SHORTCUT_YANILLE_PIPE_BACK,
-			SHORTCUT_YANILLE_PILE_OF_RUBBLE,
-			SHORTCUT_YANILLE_PILE_OF_RUBBLE_UP,
-			SHORTCUT_YANILLE_AGILITY_LEDGE,
-			SHORTCUT_YANILLE_AGILITY_LEDGE_BACK, SHORTCUT_FALADOR_HANDHOLD,
-			SHORTCUT_BRIMHAVEN_SWING, SHORTCUT_BRIMHAVEN_BACK_SWING,
-			SHORTCUT_EDGE_DUNGEON_SWING, SHORTCUT_EDGE_DUNGEON_BACK_SWING,
-			SHORTCUT_WEST_COALTRUCKS_LOG, SHORTCUT_EAST_COALTRUCKS_LOG,
-			SHORTCUT_YANILLE_AGILITY_ROPESWING,
-			SHORTCUT_YANILLE_AGILITY_ROPESWING_BACK,
-			GREW_ISLAND_ROPE_ATTACHED,
-			GREW_ISLAND_SWING_BACK,
-			EAST_KARAMJA_LOG,
-			EAST_KARAMJA_STONES,
-			YANILLE_CLIMBING_ROCKS,
-			YANILLE_WATCHTOWER_HANDHOLDS,
-			SHILO_VILLAGE_ROCKS_TO_BRIDGE,
-			SHILO_VILLAGE_BRIDGE_BLOCKADE_JUMP,
-			TAVERLY_PIPE,
-			TAVERLY_PIPE_RETURN,
-			ENTRANA_RUBBLE,
-			TAVERLY_STEPPING_STONE,
-			CATHERBY_STEPPING_STONE,
-			FALADOR_MEMBERS_EXIT_HANDHOLDS,
-			KBD_TO_LAVADUNG_STEPPING_STONE, LAVADUNG_TO_KBD_STEPPING_STONE,
-			SHILO_TO_NATURE_STEPPING_STONE
-		);
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -793,7 +802,7 @@ public class AgilityShortcuts implements OpLocTrigger,
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return obj.getID() == GREW_ISLAND_ROPE_ATTACH && item.getCatalogId() == ItemId.ROPE.id();
+		return inArray(obj.getID(), USE_LOC_IDS) && item.getCatalogId() == ItemId.ROPE.id();
 	}
 
 	@Override
@@ -809,4 +818,15 @@ public class AgilityShortcuts implements OpLocTrigger,
 	}
 
 	// HERRING SPAWN I CHEST ROOM SINISTER CHEST = 362, 614, 3564
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
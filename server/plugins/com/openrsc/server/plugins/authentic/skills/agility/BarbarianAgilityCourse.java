@@ -4,6 +4,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.Point;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.Formulae;
@@ -15,7 +16,7 @@ import java.util.Set;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class BarbarianAgilityCourse implements OpBoundTrigger,
-	OpLocTrigger {
+	OpLocTrigger, TriggerIdFilter {
 
 	private static final int LOW_WALL = 163;
 	private static final int LOW_WALL2 = 164;
@@ -26,6 +27,8 @@ public class BarbarianAgilityCourse implements OpBoundTrigger,
 	private static final int BACK_PIPE = 672;
 	private static final int SWING = 675;
 	private static final int HANDHOLDS = 679;
+	private static final int[] OP_LOC_IDS = {PIPE, BACK_PIPE, SWING, LOG, LEDGE, NET, HANDHOLDS};
+	private static final int[] OP_BOUND_IDS = {LOW_WALL, LOW_WALL2};
 
 	//private static final int[] obstacleOrder = {SWING, LOG, NET, LEDGE, LOW_WALL, LOW_WALL2};
 	private static Set<Integer> obstacles = new HashSet<Integer>(Arrays.asList(SWING, LOG, NET, LEDGE, LOW_WALL));
@@ -33,7 +36,7 @@ public class BarbarianAgilityCourse implements OpBoundTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return inArray(obj.getID(), PIPE, BACK_PIPE, SWING, LOG, LEDGE, NET, HANDHOLDS);
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -146,7 +149,7 @@ public class BarbarianAgilityCourse implements OpBoundTrigger,
 
 	@Override
 	public boolean blockOpBound(Player player, GameObject obj, Integer click) {
-		return inArray(obj.getID(), LOW_WALL, LOW_WALL2);
+		return inArray(obj.getID(), OP_BOUND_IDS);
 	}
 
 	@Override
@@ -169,4 +172,14 @@ public class BarbarianAgilityCourse implements OpBoundTrigger,
 		return Formulae.calcProductionSuccessfulLegacy(35, getCurrentLevel(player, Skill.AGILITY.id()), false, 50, 4);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		if (triggerType == OpBoundTrigger.class) {
+			return OP_BOUND_IDS;
+		}
+		return null;
+	}
 }
@@ -6,6 +6,7 @@ import com.openrsc.server.model.Point;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import java.util.Arrays;
@@ -14,7 +15,7 @@ import java.util.Set;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GnomeAgilityCourse implements OpLocTrigger {
+public class GnomeAgilityCourse implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int BALANCE_LOG = 655;
 	private static final int NET = 647;
@@ -23,6 +24,7 @@ public class GnomeAgilityCourse implements OpLocTrigger {
 	private static final int LANDING = 649;
 	private static final int SECOND_NET = 653;
 	private static final int PIPE = 654;
+	private static final int[] OP_LOC_IDS = {BALANCE_LOG, NET, WATCH_TOWER, ROPE_SWING, LANDING, SECOND_NET, PIPE};
 
 	//private static int[] obstacleOrder = {BALANCE_LOG, NET, WATCH_TOWER, ROPE_SWING, LANDING, SECOND_NET, PIPE};
 	private static Set<Integer> obstacles = new HashSet<Integer>(Arrays.asList(BALANCE_LOG, NET, WATCH_TOWER, ROPE_SWING, LANDING, SECOND_NET));
@@ -30,7 +32,7 @@ public class GnomeAgilityCourse implements OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return inArray(obj.getID(), BALANCE_LOG, NET, WATCH_TOWER, ROPE_SWING, LANDING, SECOND_NET, PIPE);
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -134,4 +136,12 @@ public class GnomeAgilityCourse implements OpLocTrigger {
 				return;
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
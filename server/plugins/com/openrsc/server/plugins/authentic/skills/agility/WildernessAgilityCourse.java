@@ -4,6 +4,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.Point;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.util.rsc.Formulae;
 
@@ -13,7 +14,7 @@ import java.util.Set;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class WildernessAgilityCourse implements OpLocTrigger {
+public class WildernessAgilityCourse implements OpLocTrigger, TriggerIdFilter {
 
 	private static final int GATE = 703;
 	private static final int SECOND_GATE = 704;
@@ -22,13 +23,14 @@ public class WildernessAgilityCourse implements OpLocTrigger {
 	private static final int STONE = 707;
 	private static final int LEDGE = 708;
 	private static final int VINE = 709;
+	private static final int[] OP_LOC_IDS = {GATE, SECOND_GATE, WILD_PIPE, WILD_ROPESWING, STONE, LEDGE, VINE};
 
 	private static Set<Integer> obstacles = new HashSet<Integer>(Arrays.asList(WILD_PIPE, WILD_ROPESWING, STONE, LEDGE));
 	private static Integer lastObstacle = VINE;
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return inArray(obj.getID(), GATE, SECOND_GATE, WILD_PIPE, WILD_ROPESWING, STONE, LEDGE, VINE);
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -191,4 +193,12 @@ public class WildernessAgilityCourse implements OpLocTrigger {
 	private int failRate() {
 		return random(1, 5);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
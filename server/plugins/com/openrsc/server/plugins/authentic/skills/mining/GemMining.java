@@ -9,6 +9,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -17,9 +18,10 @@ import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class GemMining implements OpLocTrigger, UseLocTrigger {
+public class GemMining implements OpLocTrigger, UseLocTrigger, TriggerIdFilter {
 
 	private static final int GEM_ROCK = 588;
+	private static final int[] OP_LOC_IDS = {GEM_ROCK};
 
 	private static final int[] gemWeightsWithoutDragonstone = {64, 32, 16, 8, 3, 3, 2};
 	private static final int[] gemWeightsWithDragonstone = {60, 30, 15, 9, 5, 5, 4};
@@ -193,7 +195,7 @@ public class GemMining implements OpLocTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == GEM_ROCK && (command.equals("mine") || command.equals("prospect"));
+		return inArray(obj.getID(), OP_LOC_IDS) && (command.equals("mine") || command.equals("prospect"));
 	}
 
 	@Override
@@ -277,4 +279,12 @@ public class GemMining implements OpLocTrigger, UseLocTrigger {
 		return (inArray(item.getCatalogId(), Formulae.miningAxeIDs) && (player.getConfig().GATHER_TOOL_ON_SCENERY || !player.getClientLimitations().supportsClickMine)
 			&& obj.getID() == GEM_ROCK);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
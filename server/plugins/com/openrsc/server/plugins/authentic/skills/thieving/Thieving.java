@@ -536,7 +536,7 @@ public class Thieving implements OpLocTrigger, OpNpcTrigger, OpBoundTrigger {
 				fromX++;
 			}
 			/* If there is no unwalkable object in the way */
-			if ((world.getTile(fromX, fromY).traversalMask & 64) != 0) {
+			if ((world.getTraversalMask(fromX, fromY) & 64) != 0) {
 				stop = true;
 				return false;
 			}
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.RuneScript;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.shared.constants.Quest;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TimedEventTrigger;
@@ -21,7 +22,7 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTrigger, UseInvTrigger {
+public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTrigger, UseInvTrigger, TriggerIdFilter {
 	public static final int NOT_STARTED = 0;
 	public static final int HECKLED_ONCE = 1;
 	public static final int HECKLED_TWICE = 2;
@@ -31,6 +32,8 @@ public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTr
 	public static final int TALKED_TO_ODDENSTEIN = 6;
 	public static final int FINISHED_BONECRUSHER = 7;
 	public static final int COMPLETED = -1;
+	private static final int[] TALK_NPC_IDS = {NpcId.SPOOKIE.id(), NpcId.SCARIE.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.SPOOKIE.id(), NpcId.SCARIE.id()};
 
 	@Override
 	public void onKillNpc(Player player, Npc npc) {
@@ -94,7 +97,7 @@ public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTr
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.SPOOKIE.id() || npc.getID() == NpcId.SCARIE.id();
+		return inArray(npc.getID(), KILL_NPC_IDS);
 	}
 
 	public static void makeAluminiumCog(Player player) {
@@ -644,7 +647,7 @@ public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTr
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.SPOOKIE.id() || npc.getID() == NpcId.SCARIE.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -719,4 +722,15 @@ public class ABoneToPick implements TimedEventTrigger, TalkNpcTrigger, KillNpcTr
 	public static int getStage(final Player player) {
 		return player.getCache().hasKey("a_bone_to_pick") ? player.getCache().getInt("a_bone_to_pick") : 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
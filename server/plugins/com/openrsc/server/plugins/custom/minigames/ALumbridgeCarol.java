@@ -6,6 +6,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
@@ -17,7 +18,7 @@ import java.util.HashMap;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class ALumbridgeCarol implements OpInvTrigger, TalkNpcTrigger, UseInvTrigger {
+public class ALumbridgeCarol implements OpInvTrigger, TalkNpcTrigger, UseInvTrigger, TriggerIdFilter {
 
 	public static final int NOT_STARTED = 0;
 	public static final int GHOST_STORY = 1;
@@ -84,6 +85,7 @@ public class ALumbridgeCarol implements OpInvTrigger, TalkNpcTrigger, UseInvTrig
 	private static final int PARTY_ROOM_MIN_Y = 1487;
 	private static final int PARTY_ROOM_MAX_X = 323;
 	private static final int PARTY_ROOM_MAX_Y = 1494;
+	private static final int[] TALK_NPC_IDS = {NpcId.PRAETERITUM.id(), NpcId.PRAESENS.id(), NpcId.FUTURUM.id()};
 
 	public static void dukeDialogue(Player player, Npc npc, String dialogue) {
 		int option;
@@ -743,9 +745,7 @@ public class ALumbridgeCarol implements OpInvTrigger, TalkNpcTrigger, UseInvTrig
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.PRAETERITUM.id()
-			|| npc.getID() == NpcId.PRAESENS.id()
-			|| npc.getID() == NpcId.FUTURUM.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -834,4 +834,12 @@ public class ALumbridgeCarol implements OpInvTrigger, TalkNpcTrigger, UseInvTrig
 	public static int getStage(final Player player) {
 		return player.getCache().hasKey("a_lumbridge_carol") ? player.getCache().getInt("a_lumbridge_carol") : 0;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
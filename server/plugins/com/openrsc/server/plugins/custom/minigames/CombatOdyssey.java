@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
@@ -19,7 +20,7 @@ import java.util.ArrayList;
 import static com.openrsc.server.plugins.RuneScript.*;
 
 public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigger, TalkNpcTrigger,
-	UseInvTrigger, UseNpcTrigger, UsePlayerTrigger {
+	UseInvTrigger, UseNpcTrigger, UsePlayerTrigger, TriggerIdFilter {
 	// INTRODUCTION STAGES
 	public static final int NOT_STARTED = 0;
 	public static final int TALKED_TO_RADIMUS = 1;
@@ -30,6 +31,9 @@ public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigg
 	private static final int CURRENT_TIER = 0;
 	private static final int CURRENT_TASK = 1;
 	private static final int CURRENT_KILLS = 2;
+	private static final int[] TALK_NPC_IDS = {NpcId.BIGGUM_FLODROT.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.BIGGUM_FLODROT.id()};
+	private static final int[] OP_INV_IDS = {ItemId.BIGGUM_FLODROT.id()};
 
 	private static final int[] biggumFavoriteFood = new int[]{
 		ItemId.RAW_CHICKEN.id(),
@@ -518,7 +522,7 @@ public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigg
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BIGGUM_FLODROT.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
 	}
 
 	@Override
@@ -610,7 +614,7 @@ public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigg
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.BIGGUM_FLODROT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -652,7 +656,7 @@ public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigg
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.BIGGUM_FLODROT.id() && DataConversions.inArray(biggumFavoriteFood, item.getCatalogId());
+		return DataConversions.inArray(USE_NPC_IDS, npc.getID()) && DataConversions.inArray(biggumFavoriteFood, item.getCatalogId());
 	}
 
 	public static void giveRewards(Player player, Npc npc) {
@@ -908,4 +912,18 @@ public class CombatOdyssey implements DropObjTrigger, KillNpcTrigger, OpInvTrigg
 		player.getCache().set("co_prestige", newPrestige);
 		return newPrestige;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -10,15 +10,20 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.getCurrentLevel;
 import static com.openrsc.server.plugins.Functions.give;
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class DwarfRescue implements TalkNpcTrigger, OpInvTrigger {
+public class DwarfRescue implements TalkNpcTrigger, OpInvTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.GRAMAT.id(), NpcId.DWARVEN_SMITHY.id(), NpcId.DWARVEN_YOUTH.id()};
+	private static final int[] OP_INV_IDS = {ItemId.DWARF_SMITHY_NOTE.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		if (item.getCatalogId() == ItemId.DWARF_SMITHY_NOTE.id()) {
@@ -36,7 +41,7 @@ public class DwarfRescue implements TalkNpcTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.DWARF_SMITHY_NOTE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
 	}
 
 	@Override
@@ -139,6 +144,17 @@ public class DwarfRescue implements TalkNpcTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.GRAMAT.id() || npc.getID() == NpcId.DWARVEN_SMITHY.id() || npc.getID() == NpcId.DWARVEN_YOUTH.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -5,8 +5,10 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.time.LocalDate;
@@ -16,7 +18,10 @@ import static com.openrsc.server.plugins.Functions.multi;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.EakTheMouse.eakCanTalk;
 
-public class Santa implements TalkNpcTrigger, UseNpcTrigger {
+public class Santa implements TalkNpcTrigger, UseNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.SANTA.id()};
+	private static final int[] USE_NPC_IDS = {NpcId.SANTA.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
 		npcsay("Ho Ho Ho");
@@ -69,7 +74,7 @@ public class Santa implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.SANTA.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -230,6 +235,17 @@ public class Santa implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.SANTA.id();
+		return DataConversions.inArray(USE_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -5,14 +5,18 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class Bunny implements TalkNpcTrigger {
+public class Bunny implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BUNNY.id()};
 
 	HashMap<BunnyEnum, Integer> bunnyMap = new HashMap<BunnyEnum, Integer>(){{
 		put(BunnyEnum.MUSA_POINT, ItemId.RABBITS_FOOT_ONE.id());
@@ -173,7 +177,7 @@ public class Bunny implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.BUNNY.id()
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID())
 			&& player.getCache().hasKey("esters_bunnies");
 	}
 
@@ -184,4 +188,12 @@ public class Bunny implements TalkNpcTrigger {
 		DRAYNOR_MANOR,
 		ICE_MOUNTAIN
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
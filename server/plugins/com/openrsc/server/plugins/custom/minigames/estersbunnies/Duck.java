@@ -5,6 +5,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
 
@@ -12,7 +13,9 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class Duck implements TalkNpcTrigger {
+public class Duck implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.DUCK.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
 		if (blockTalkNpc(player, npc)) {
@@ -110,9 +113,17 @@ public class Duck implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.DUCK.id()
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID())
 			&& player.getCache().hasKey("esters_bunnies")
 			&& (player.getCache().getInt("esters_bunnies") > 4
 			|| player.getCache().getInt("esters_bunnies") == -1);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
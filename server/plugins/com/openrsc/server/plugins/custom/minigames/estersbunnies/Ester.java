@@ -7,14 +7,18 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import java.util.ArrayList;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class Ester implements TalkNpcTrigger, MiniGameInterface {
+public class Ester implements TalkNpcTrigger, MiniGameInterface, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ESTER.id()};
 
 	@Override
 	public int getMiniGameId() {
@@ -333,6 +337,14 @@ public class Ester implements TalkNpcTrigger, MiniGameInterface {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.ESTER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
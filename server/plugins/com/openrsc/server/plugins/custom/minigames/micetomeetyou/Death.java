@@ -9,10 +9,12 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseBoundTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.config;
@@ -20,7 +22,10 @@ import static com.openrsc.server.plugins.Functions.doDoor;
 import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.MiceQuestStates.*;
 
-public class Death implements OpBoundTrigger, TalkNpcTrigger, TakeObjTrigger, UseBoundTrigger {
+public class Death implements OpBoundTrigger, TalkNpcTrigger, TakeObjTrigger, UseBoundTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DEATH.id()};
+	private static final int[] TAKE_OBJ_IDS = {ItemId.PUMPKIN.id()};
 
 	private final static Point DOOR_LOCATION;
 	private final static Point DEATH_HOUSE_MAX;
@@ -131,7 +136,7 @@ public class Death implements OpBoundTrigger, TalkNpcTrigger, TakeObjTrigger, Us
 
 	@Override
 	public boolean blockTakeObj(Player player, GroundItem groundItem) {
-		return groundItem.getID() == ItemId.PUMPKIN.id()
+		return DataConversions.inArray(TAKE_OBJ_IDS, groundItem.getID())
 			&& groundItem.getLocation().getX() >= DEATH_HOUSE_MIN.getX()
 			&& groundItem.getLocation().getY() >= DEATH_HOUSE_MIN.getY()
 			&& groundItem.getLocation().getX() <= DEATH_HOUSE_MAX.getX()
@@ -462,7 +467,7 @@ public class Death implements OpBoundTrigger, TalkNpcTrigger, TakeObjTrigger, Us
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.DEATH.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -524,4 +529,15 @@ public class Death implements OpBoundTrigger, TalkNpcTrigger, TakeObjTrigger, Us
 		}
 		return false;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == TakeObjTrigger.class) {
+			return TAKE_OBJ_IDS;
+		}
+		return null;
+	}
 }
@@ -8,7 +8,9 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.npc.NpcInteraction;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.*;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Date;
@@ -18,7 +20,9 @@ import static com.openrsc.server.plugins.RuneScript.*;
 import static com.openrsc.server.plugins.custom.minigames.micetomeetyou.MiceQuestStates.*;
 import static com.openrsc.server.util.rsc.DataConversions.random;
 
-public class EakTheMouse implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, UseInvTrigger, UseObjTrigger {
+public class EakTheMouse implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, UseInvTrigger, UseObjTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.EAK_THE_MOUSE.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		if (config().MICE_TO_MEET_YOU_EVENT && player.getCache().hasKey("mice_to_meet_you")) {
@@ -181,7 +185,7 @@ public class EakTheMouse implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigge
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.EAK_THE_MOUSE.id() && command.equalsIgnoreCase("talk");
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId()) && command.equalsIgnoreCase("talk");
 	}
 
 	@Override
@@ -608,4 +612,12 @@ public class EakTheMouse implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigge
 		final int questStage = player.getCache().getInt("mice_to_meet_you");
 		return questStage >= EAK_CAN_TALK || questStage == COMPLETED;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
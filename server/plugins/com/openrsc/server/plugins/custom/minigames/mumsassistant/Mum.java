@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.MiniGameInterface;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.minigames.ALumbridgeCarol;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
@@ -15,7 +16,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Mum implements TalkNpcTrigger, MiniGameInterface {
+public class Mum implements TalkNpcTrigger, MiniGameInterface, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.MUM.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
@@ -161,7 +164,7 @@ public class Mum implements TalkNpcTrigger, MiniGameInterface {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.MUM.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -183,4 +186,12 @@ public class Mum implements TalkNpcTrigger, MiniGameInterface {
 	public void handleReward(Player player) {
 		player.getCache().set("mums_assistant", -1);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,15 +5,18 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class BabyBlueDragon implements UseNpcTrigger {
+public class BabyBlueDragon implements UseNpcTrigger, TriggerIdFilter {
+
+	private static final int[] USE_NPC_IDS = {NpcId.BABY_BLUE_DRAGON.id()};
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.BABY_BLUE_DRAGON.id() && item.getCatalogId() == ItemId.A_GLOWING_RED_CRYSTAL.id();
+		return inArray(npc.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.A_GLOWING_RED_CRYSTAL.id();
 	}
 
 	@Override
@@ -57,4 +60,12 @@ public class BabyBlueDragon implements UseNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		return null;
+	}
 }
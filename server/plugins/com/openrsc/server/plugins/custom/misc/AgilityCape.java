@@ -3,13 +3,17 @@ package com.openrsc.server.plugins.custom.misc;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.delay;
 import static com.openrsc.server.plugins.Functions.mes;
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class AgilityCape implements OpInvTrigger {
+public class AgilityCape implements OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.AGILITY_CAPE.id()};
 
 	private boolean canTeleport(Player player) {
 		if (player.getLocation().wildernessLevel() >= 30 || player.getLocation().isInFisherKingRealm()
@@ -50,6 +54,14 @@ public class AgilityCape implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.AGILITY_CAPE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
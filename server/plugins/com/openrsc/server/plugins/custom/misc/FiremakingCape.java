@@ -7,13 +7,17 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.Functions;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class FiremakingCape implements OpInvTrigger {
+public class FiremakingCape implements OpInvTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.FIREMAKING_CAPE.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		if (item.getCatalogId() != ItemId.FIREMAKING_CAPE.id() || !command.equalsIgnoreCase("Combust")) return;
@@ -56,6 +60,14 @@ public class FiremakingCape implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.FIREMAKING_CAPE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
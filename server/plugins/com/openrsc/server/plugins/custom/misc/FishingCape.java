@@ -6,6 +6,7 @@ import com.openrsc.server.external.ItemDefinition;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 
@@ -13,14 +14,15 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class FishingCape implements OpInvTrigger, UseInvTrigger {
+public class FishingCape implements OpInvTrigger, UseInvTrigger, TriggerIdFilter {
 
 	public static final int MAX_CHARGES = 10;
+	private static final int[] OP_INV_IDS = {ItemId.FISHING_CAPE.id()};
 
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.FISHING_CAPE.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -134,4 +136,12 @@ public class FishingCape implements OpInvTrigger, UseInvTrigger {
 	public boolean blockUseInv(Player player, Integer invIndex, Item item, Item usedWith) {
 		return item.getCatalogId() == ItemId.FISHING_CAPE.id() || usedWith.getCatalogId() == ItemId.FISHING_CAPE.id();
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
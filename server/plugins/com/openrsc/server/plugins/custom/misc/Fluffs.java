@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.npc.NpcInteraction;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.handlers.ItemUseOnItem;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.commands.RegularPlayer;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
@@ -20,7 +21,10 @@ import static com.openrsc.server.plugins.Functions.*;
 // Fluffs is an unobtainable item, so it's safe to use them as a moderator tool.
 // Even if someone got Fluffs, they don't do anything very powerful.
 // All dialogue and behaviours in this file are inauthentic.
-public class Fluffs implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, UseInvTrigger {
+public class Fluffs implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, UseInvTrigger, TriggerIdFilter {
+	private static final int[] USE_NPC_IDS = {NpcId.GERTRUDE.id()};
+	private static final int[] OP_INV_IDS = {ItemId.GERTRUDES_CAT.id()};
+
 	@Override
 	public void onUsePlayer(Player player, Player otherPlayer, Item item) {
 		if (item.getCatalogId() == ItemId.GERTRUDES_CAT.id()) {
@@ -73,12 +77,12 @@ public class Fluffs implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, Us
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GERTRUDES_CAT.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return npc.getID() == NpcId.GERTRUDE.id() && item.getCatalogId() == ItemId.GERTRUDES_CAT.id();
+		return inArray(npc.getID(), USE_NPC_IDS) && item.getCatalogId() == ItemId.GERTRUDES_CAT.id();
 	}
 
 	@Override
@@ -121,4 +125,14 @@ public class Fluffs implements UsePlayerTrigger, OpInvTrigger, UseNpcTrigger, Us
 		return compareItemsIds(item1, item2, ItemId.GERTRUDES_CAT.id(), ItemId.BALL_OF_WOOL.id());
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -5,12 +5,16 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.quests.free.PeelingTheOnion;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class MakeoverWaiver implements OpInvTrigger {
+public class MakeoverWaiver implements OpInvTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.MAKEOVER_WAIVER.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		ActionSender.sendBox(player, "@lre@Make Over Mage Liability Waiver%" +
@@ -61,6 +65,14 @@ public class MakeoverWaiver implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.MAKEOVER_WAIVER.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
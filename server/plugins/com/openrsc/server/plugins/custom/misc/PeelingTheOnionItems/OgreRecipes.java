@@ -4,10 +4,14 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 
-public class OgreRecipes implements OpInvTrigger {
+public class OgreRecipes implements OpInvTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.OGRE_RECIPES.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		ActionSender.sendBox(player, "@lre@Classic Ogre Recipes% %" +
@@ -23,6 +27,14 @@ public class OgreRecipes implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.OGRE_RECIPES.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
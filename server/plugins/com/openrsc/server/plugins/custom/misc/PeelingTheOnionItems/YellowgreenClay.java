@@ -4,13 +4,17 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.give;
 import static com.openrsc.server.plugins.Functions.multi;
 import static com.openrsc.server.plugins.RuneScript.mes;
 
-public class YellowgreenClay implements OpInvTrigger {
+public class YellowgreenClay implements OpInvTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.YELLOWGREEN_CLAY.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		mes("Would you like to shape the clay?");
@@ -30,6 +34,14 @@ public class YellowgreenClay implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.YELLOWGREEN_CLAY.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.content.DropTable;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.ChatMessage; // TODO: this should likely be removed in favour of more authentic quest-style dialogue
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UsePlayerTrigger;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -16,7 +17,9 @@ import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Present implements UsePlayerTrigger, OpInvTrigger {
+public class Present implements UsePlayerTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.PRESENT.id()};
 
 	private static DropTable cabbagePresentDrops;
 	private static DropTable openRSCPresentDrops;
@@ -431,7 +434,7 @@ public class Present implements UsePlayerTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.PRESENT.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	private void cabbageRollAndAwardPresent(Player player, Player otherPlayer, boolean selfUse) {
@@ -768,4 +771,11 @@ public class Present implements UsePlayerTrigger, OpInvTrigger {
 		openRSCRollAndAwardPresent(player, player, true);
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.Damage;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
@@ -16,7 +17,9 @@ import java.util.Iterator;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class ResetCrystal implements UseNpcTrigger, UseLocTrigger, OpInvTrigger {
+public class ResetCrystal implements UseNpcTrigger, UseLocTrigger, OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.RESETCRYSTAL.id()};
 
 	private static void smiteNpc(Player player, Npc npc) {
 		int sceneryOfDestruction = 97; // fire
@@ -111,6 +114,14 @@ public class ResetCrystal implements UseNpcTrigger, UseLocTrigger, OpInvTrigger
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return player.hasElevatedPriveledges() && item.getCatalogId() == ItemId.RESETCRYSTAL.id();
+		return player.hasElevatedPriveledges() && inArray(item.getCatalogId(), OP_INV_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.handlers.CommandHandler;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.commands.RegularPlayer;
 import com.openrsc.server.plugins.authentic.npcs.varrock.Reldo;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
@@ -16,7 +17,10 @@ import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Superchisel implements OpInvTrigger, UseInvTrigger, UseNpcTrigger {
+public class Superchisel implements OpInvTrigger, UseInvTrigger, UseNpcTrigger, TriggerIdFilter {
+	private static final int[] USE_NPC_IDS = {NpcId.RELDO.id()};
+	private static final int[] OP_INV_IDS = {ItemId.SUPERCHISEL.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		boolean firstTime = !player.getCache().hasKey("superchiseluses");
@@ -215,7 +219,7 @@ public class Superchisel implements OpInvTrigger, UseInvTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.SUPERCHISEL.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -341,6 +345,17 @@ public class Superchisel implements OpInvTrigger, UseInvTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockUseNpc(Player player, Npc npc, Item item) {
-		return player.hasElevatedPriveledges() && item.getCatalogId() == ItemId.SUPERCHISEL.id() && npc.getID() == NpcId.RELDO.id();
+		return player.hasElevatedPriveledges() && item.getCatalogId() == ItemId.SUPERCHISEL.id() && inArray(npc.getID(), USE_NPC_IDS);
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseNpcTrigger.class) {
+			return USE_NPC_IDS;
+		}
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -7,12 +7,16 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.validatebankpin;
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class WoodcuttingGuild implements TalkNpcTrigger {
+public class WoodcuttingGuild implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.FORESTER_WOODCUTTING_GUILD.id(), NpcId.MCGRUBOR.id()};
+
 	public static void frontGate(Player player) {
 		if (ifnearvisnpc(NpcId.FORESTER_WOODCUTTING_GUILD.id())) {
 			foresterDialogue(player);
@@ -148,7 +152,14 @@ public class WoodcuttingGuild implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.FORESTER_WOODCUTTING_GUILD.id()
-			|| npc.getID() == NpcId.MCGRUBOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
 	}
 }
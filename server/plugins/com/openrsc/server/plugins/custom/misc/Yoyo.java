@@ -4,11 +4,15 @@ import com.openrsc.server.constants.AppearanceId;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.RuneScript.delay;
 
-public class Yoyo implements OpInvTrigger {
+public class Yoyo implements OpInvTrigger, TriggerIdFilter {
+	private static final int[] OP_INV_IDS = {ItemId.YOYO.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		player.setBusy(true);
@@ -23,7 +27,7 @@ public class Yoyo implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.YOYO.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
 	}
 
 	public static void doAnim(Player player) {
@@ -152,4 +156,12 @@ public class Yoyo implements OpInvTrigger {
 		}
 		player.getCache().store("yoyo_plays", yoyo_plays);
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
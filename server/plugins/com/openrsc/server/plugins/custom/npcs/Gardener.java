@@ -9,11 +9,17 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.OpNpcTrigger;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class Gardener extends AbstractShop {
+public final class Gardener extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.GARDENER.id()};
+	private static final int[] OP_NPC_IDS = {NpcId.GARDENER.id()};
 
 	Shop shop = new Shop(false, 3000, 130, 40, 3,
 		new Item(ItemId.FRUIT_PICKER.id(), 10), new Item(ItemId.HAND_SHOVEL.id(), 5),
@@ -60,7 +66,7 @@ public final class Gardener extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GARDENER.id();
+		return inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -113,6 +119,17 @@ public final class Gardener extends AbstractShop {
 
 	@Override
 	public boolean blockOpNpc(Player player, Npc n, String command) {
-		return n.getID() == NpcId.GARDENER.id() && command.equalsIgnoreCase("Trade");
+		return inArray(n.getID(), OP_NPC_IDS) && command.equalsIgnoreCase("Trade");
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == OpNpcTrigger.class) {
+			return OP_NPC_IDS;
+		}
+		return null;
 	}
 }
@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class HorvikTheArmourerOpenPk extends AbstractShop {
+public final class HorvikTheArmourerOpenPk extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.HORVIK_THE_ARMOURER.id()};
 
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2, new Item(ItemId.IRON_CHAIN_MAIL_BODY.id(),
 		100), new Item(ItemId.LARGE_IRON_HELMET.id(), 100), new Item(ItemId.IRON_PLATE_MAIL_BODY.id(), 100), new Item(ItemId.IRON_PLATE_MAIL_LEGS.id(), 100), new Item(ItemId.IRON_KITE_SHIELD.id(), 100), new Item(ItemId.STEEL_CHAIN_MAIL_BODY.id(),
@@ -23,7 +27,7 @@ public final class HorvikTheArmourerOpenPk extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.HORVIK_THE_ARMOURER.id();
+		return player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -54,4 +58,12 @@ public final class HorvikTheArmourerOpenPk extends AbstractShop {
 			ActionSender.showShop(player, shop);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
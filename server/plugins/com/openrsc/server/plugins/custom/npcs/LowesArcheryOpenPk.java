@@ -9,10 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class LowesArcheryOpenPk extends AbstractShop {
+public final class LowesArcheryOpenPk extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.LOWE.id()};
 
 	private final Shop shop = new Shop(false, 3000, 100, 55, 1, new Item(ItemId.IRON_ARROWS.id(),
 		2000), new Item(ItemId.STEEL_ARROWS.id(), 1500), new Item(ItemId.RUNE_ARROWS.id(), 1000), new Item(ItemId.SHORTBOW.id(), 100), new Item(
@@ -20,7 +24,7 @@ public final class LowesArcheryOpenPk extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return player.getConfig().WANT_OPENPK_POINTS && n.getID() == NpcId.LOWE.id();
+		return player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -55,4 +59,11 @@ public final class LowesArcheryOpenPk extends AbstractShop {
 		}
 	}
 
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
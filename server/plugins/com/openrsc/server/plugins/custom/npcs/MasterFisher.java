@@ -6,16 +6,19 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.misc.FishingCape;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class MasterFisher implements TalkNpcTrigger {
+public class MasterFisher implements TalkNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.MASTER_FISHER.id()};
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return player.getConfig().WANT_MISSING_GUILD_GREETINGS && n.getID() == NpcId.MASTER_FISHER.id();
+		return player.getConfig().WANT_MISSING_GUILD_GREETINGS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -59,4 +62,12 @@ public class MasterFisher implements TalkNpcTrigger {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -5,12 +5,17 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.RuneScript.*;
 
-public class PeterSkippin implements TalkNpcTrigger, KillNpcTrigger {
+public class PeterSkippin implements TalkNpcTrigger, KillNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.PETER_SKIPPIN.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.PETER_SKIPPIN.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
 		if (npc.getID() != NpcId.PETER_SKIPPIN.id()) return;
@@ -33,7 +38,7 @@ public class PeterSkippin implements TalkNpcTrigger, KillNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.PETER_SKIPPIN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
 	}
 
 	@Override
@@ -50,6 +55,17 @@ public class PeterSkippin implements TalkNpcTrigger, KillNpcTrigger {
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.PETER_SKIPPIN.id();
+		return DataConversions.inArray(KILL_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
 	}
 }
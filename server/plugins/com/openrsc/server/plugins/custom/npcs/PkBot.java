@@ -7,6 +7,7 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.SpellNpcTrigger;
@@ -22,12 +23,16 @@ import static com.openrsc.server.plugins.Functions.*;
  * This plugin is used for healing PK Bots, and supports multiple difficulty (heal and retreats) levels.
  * Difficulty can be changed both in this file and in the Retreats npcData HashMap (through server Constants).
  */
-public class PkBot implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger, TalkNpcTrigger {
+public class PkBot implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger, TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.PKBOT.id()};
+	private static final int[] ATTACK_NPC_IDS = {NpcId.PKBOT.id()};
+	private static final int[] KILL_NPC_IDS = {NpcId.PKBOT.id()};
+
 	final int EASY_HEALS = 8, MEDIUM_HEALS = 10, HARD_HEALS = 12, EXPERT_HEALS = 14, SUPER_EXPERT_HEALS = 16;
 	final int GOLD_LOW_AMOUNT = 100, GOLD_HIGH_AMOUNT = 1000, REWARD_PERCENTAGE_CHANCE = 25;
 	@Override
 	public boolean blockAttackNpc(Player player, Npc bot) {
-		return bot.getID() == NpcId.PKBOT.id();
+		return inArray(bot.getID(), ATTACK_NPC_IDS);
 	}
 
 	private void pkBotFightMethod(Player player, Npc bot) {
@@ -79,7 +84,7 @@ public class PkBot implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger,
 
 	@Override
 	public boolean blockKillNpc(Player player, Npc bot) {
-		return bot.getID() == NpcId.PKBOT.id();
+		return inArray(bot.getID(), KILL_NPC_IDS);
 	}
 
 	@Override
@@ -94,11 +99,25 @@ public class PkBot implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc bot) {
-		return bot.getID() == NpcId.PKBOT.id();
+		return inArray(bot.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
 	public void onTalkNpc(Player player, Npc bot) {
 		player.playerServerMessage(MessageType.QUEST, "He doesn't seem interested in talking...");
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		if (triggerType == AttackNpcTrigger.class) {
+			return ATTACK_NPC_IDS;
+		}
+		if (triggerType == KillNpcTrigger.class) {
+			return KILL_NPC_IDS;
+		}
+		return null;
+	}
 }
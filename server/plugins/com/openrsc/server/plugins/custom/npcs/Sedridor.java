@@ -4,6 +4,7 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.custom.quests.free.PeelingTheOnion;
 import com.openrsc.server.plugins.triggers.OpNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -15,7 +16,9 @@ import static com.openrsc.server.plugins.Functions.*;
 
 
 
-public class Sedridor implements TalkNpcTrigger, OpNpcTrigger {
+public class Sedridor implements TalkNpcTrigger, OpNpcTrigger, TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {NpcId.SEDRIDOR.id()};
 
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
@@ -94,7 +97,7 @@ public class Sedridor implements TalkNpcTrigger, OpNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.SEDRIDOR.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -113,4 +116,12 @@ public class Sedridor implements TalkNpcTrigger, OpNpcTrigger {
 			player.getQuestStage(Quests.RUNE_MYSTERIES) == Quests.QUEST_STAGE_COMPLETED &&
 			command.equalsIgnoreCase("teleport"));
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -9,10 +9,17 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.plugins.TriggerIdFilter;
+import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public final class VarrockSwordsOpenPk extends AbstractShop {
+public final class VarrockSwordsOpenPk extends AbstractShop implements TriggerIdFilter {
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.SHOPKEEPER_VARROCK_SWORD.id(),
+		NpcId.SHOP_ASSISTANT_VARROCK_SWORD.id()
+	};
 
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2,
 		new Item(ItemId.IRON_2_HANDED_SWORD.id(), 100),
@@ -32,7 +39,7 @@ public final class VarrockSwordsOpenPk extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return player.getConfig().WANT_OPENPK_POINTS && (n.getID() == NpcId.SHOPKEEPER_VARROCK_SWORD.id() || n.getID() == NpcId.SHOP_ASSISTANT_VARROCK_SWORD.id());
+		return player.getConfig().WANT_OPENPK_POINTS && inArray(n.getID(), TALK_NPC_IDS);
 	}
 
 	@Override
@@ -70,4 +77,12 @@ public final class VarrockSwordsOpenPk extends AbstractShop {
 			}
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
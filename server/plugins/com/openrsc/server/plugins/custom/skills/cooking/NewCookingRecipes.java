@@ -4,6 +4,7 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 import com.openrsc.server.util.rsc.MessageType;
@@ -14,7 +15,9 @@ import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class NewCookingRecipes implements OpInvTrigger, UseInvTrigger {
+public class NewCookingRecipes implements OpInvTrigger, UseInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {ItemId.MIXING_BOWL.id()};
 
 	@SuppressWarnings("DefaultLocale")
 	protected String[] recipeStrings = {
@@ -84,7 +87,7 @@ public class NewCookingRecipes implements OpInvTrigger, UseInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.MIXING_BOWL.id();
+		return inArray(item.getCatalogId(), OP_INV_IDS);
 	}
 
 	@Override
@@ -280,4 +283,12 @@ public class NewCookingRecipes implements OpInvTrigger, UseInvTrigger {
 			return compareItemsIds(new Item(itemID), new Item(itemIDOther), i, is);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
+	}
 }
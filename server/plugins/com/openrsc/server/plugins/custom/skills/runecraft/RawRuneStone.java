@@ -5,15 +5,18 @@ import com.openrsc.server.constants.Skill;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.authentic.skills.mining.Mining;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class RawRuneStone implements OpLocTrigger {
+public class RawRuneStone implements OpLocTrigger, TriggerIdFilter {
+	private static final int[] OP_LOC_IDS = {1227};
+
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1227;
+		return inArray(obj.getID(), OP_LOC_IDS);
 	}
 
 	@Override
@@ -53,4 +56,12 @@ public class RawRuneStone implements OpLocTrigger {
 			batchRuneStone(player);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpLocTrigger.class) {
+			return OP_LOC_IDS;
+		}
+		return null;
+	}
 }
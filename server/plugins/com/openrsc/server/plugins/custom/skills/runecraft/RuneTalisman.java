@@ -4,9 +4,50 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
-public class RuneTalisman implements OpInvTrigger {
+public class RuneTalisman implements OpInvTrigger, TriggerIdFilter {
+
+	private static final int[] OP_INV_IDS = {
+		ItemId.AIR_TALISMAN.id(),
+		ItemId.CURSED_AIR_TALISMAN.id(),
+		ItemId.ENFEEBLED_AIR_TALISMAN.id(),
+		ItemId.MIND_TALISMAN.id(),
+		ItemId.CURSED_MIND_TALISMAN.id(),
+		ItemId.ENFEEBLED_MIND_TALISMAN.id(),
+		ItemId.WATER_TALISMAN.id(),
+		ItemId.CURSED_WATER_TALISMAN.id(),
+		ItemId.ENFEEBLED_WATER_TALISMAN.id(),
+		ItemId.EARTH_TALISMAN.id(),
+		ItemId.CURSED_EARTH_TALISMAN.id(),
+		ItemId.ENFEEBLED_EARTH_TALISMAN.id(),
+		ItemId.FIRE_TALISMAN.id(),
+		ItemId.CURSED_FIRE_TALISMAN.id(),
+		ItemId.ENFEEBLED_FIRE_TALISMAN.id(),
+		ItemId.BODY_TALISMAN.id(),
+		ItemId.CURSED_BODY_TALISMAN.id(),
+		ItemId.ENFEEBLED_BODY_TALISMAN.id(),
+		ItemId.COSMIC_TALISMAN.id(),
+		ItemId.CURSED_COSMIC_TALISMAN.id(),
+		ItemId.ENFEEBLED_COSMIC_TALISMAN.id(),
+		ItemId.CHAOS_TALISMAN.id(),
+		ItemId.CURSED_CHAOS_TALISMAN.id(),
+		ItemId.ENFEEBLED_CHAOS_TALISMAN.id(),
+		ItemId.NATURE_TALISMAN.id(),
+		ItemId.CURSED_NATURE_TALISMAN.id(),
+		ItemId.ENFEEBLED_NATURE_TALISMAN.id(),
+		ItemId.LAW_TALISMAN.id(),
+		ItemId.CURSED_LAW_TALISMAN.id(),
+		ItemId.ENFEEBLED_LAW_TALISMAN.id(),
+		ItemId.DEATH_TALISMAN.id(),
+		ItemId.CURSED_DEATH_TALISMAN.id(),
+		ItemId.ENFEEBLED_DEATH_TALISMAN.id(),
+		ItemId.BLOOD_TALISMAN.id(),
+		ItemId.CURSED_BLOOD_TALISMAN.id(),
+		ItemId.ENFEEBLED_BLOOD_TALISMAN.id()
+	};
 
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
@@ -152,41 +193,14 @@ public class RuneTalisman implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.AIR_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_AIR_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_AIR_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.MIND_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_MIND_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_MIND_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.WATER_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_WATER_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_WATER_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.EARTH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_EARTH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_EARTH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.FIRE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_FIRE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_FIRE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.BODY_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_BODY_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_BODY_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.COSMIC_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_COSMIC_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_COSMIC_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CHAOS_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_CHAOS_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_CHAOS_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.NATURE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_NATURE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_NATURE_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.LAW_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_LAW_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_LAW_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.DEATH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_DEATH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_DEATH_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.BLOOD_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.CURSED_BLOOD_TALISMAN.id()
-			|| item.getCatalogId() == ItemId.ENFEEBLED_BLOOD_TALISMAN.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == OpInvTrigger.class) {
+			return OP_INV_IDS;
+		}
+		return null;
 	}
 }
@@ -4,18 +4,21 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.doGate;
 import static com.openrsc.server.plugins.Functions.inArray;
 
-public class KeyOnGate implements UseLocTrigger {
+public class KeyOnGate implements UseLocTrigger, TriggerIdFilter {
 	private static final int[] VALID_KEYS = { ItemId.PHOENIX_GANG_KEY.id(), ItemId.PHOENIX_GANG_WEAPON_KEY.id() };
 	private static final int POH_GATE = 93;
+	private static final int[] USE_LOC_IDS = {POH_GATE};
 
 	@Override
 	public boolean blockUseLoc(Player player, GameObject obj, Item item) {
-		return player.getConfig().HAS_PLAYER_OWNED_HOUSES && obj.getID() == POH_GATE && !item.getNoted()
+		return player.getConfig().HAS_PLAYER_OWNED_HOUSES && DataConversions.inArray(USE_LOC_IDS, obj.getID()) && !item.getNoted()
 			&& inArray(item.getCatalogId(), VALID_KEYS);
 	}
 
@@ -27,4 +30,12 @@ public class KeyOnGate implements UseLocTrigger {
 			doGate(player, obj);
 		}
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == UseLocTrigger.class) {
+			return USE_LOC_IDS;
+		}
+		return null;
+	}
 }
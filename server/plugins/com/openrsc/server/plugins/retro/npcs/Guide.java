@@ -3,11 +3,14 @@ package com.openrsc.server.plugins.retro.npcs;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
 import static com.openrsc.server.plugins.Functions.*;
 
-public class Guide implements TalkNpcTrigger {
+public class Guide implements TalkNpcTrigger, TriggerIdFilter {
+	private static final int[] TALK_NPC_IDS = {NpcId.GUIDE.id(), NpcId.GUIDE_FEMALE.id()};
+
 	private void GuideDialogue(Player player, Npc npc, int cID) {
 		if (npc.getID() == NpcId.GUIDE.id() || npc.getID() == NpcId.GUIDE_FEMALE.id()) {
 			switch(cID) {
@@ -417,7 +420,7 @@ public class Guide implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc npc) {
-		return npc.getID() == NpcId.GUIDE.id() || npc.getID() == NpcId.GUIDE_FEMALE.id();
+		return inArray(npc.getID(), TALK_NPC_IDS);
 	}
 
 	class GUIDE {
@@ -439,4 +442,12 @@ public class Guide implements TalkNpcTrigger {
 		private static final int ATTACK_PLAYERS = 15;
 		private static final int KILL_THINGS_NOW = 16;
 	}
+
+	@Override
+	public int[] getTriggerIds(Class<?> triggerType) {
+		if (triggerType == TalkNpcTrigger.class) {
+			return TALK_NPC_IDS;
+		}
+		return null;
+	}
 }
@@ -1,6 +1,7 @@
 package com.openrsc.server;
 
 import com.openrsc.server.constants.AppearanceId;
+import com.openrsc.server.constants.Constants;
 import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.constants.SceneryId;
 import com.openrsc.server.database.impl.mysql.queries.logging.PMLog;
@@ -19,11 +20,13 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.player.PlayerSettings;
 import com.openrsc.server.model.entity.update.*;
 import com.openrsc.server.model.world.World;
+import com.openrsc.server.model.world.region.Region;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.net.rsc.enums.OpcodeOut;
 import com.openrsc.server.net.rsc.struct.outgoing.*;
 import com.openrsc.server.plugins.triggers.TimedEventTrigger;
 import com.openrsc.server.util.EntityList;
+import com.openrsc.server.util.LogUtil;
 import com.openrsc.server.util.rsc.AppearanceRetroConverter;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
@@ -31,7 +34,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 import static com.openrsc.server.net.rsc.ActionSender.isRetroClient;
 import static com.openrsc.server.net.rsc.ActionSender.tryFinalizeAndSendPacket;
@@ -43,6 +51,7 @@ public final class GameStateUpdater {
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	private final Server server;
+	private ForkJoinPool workerPool;
 	public final Server getServer() {
 		return server;
 	}
@@ -52,37 +61,35 @@ public final class GameStateUpdater {
 	}
 
 	public void load() {
+		if (getServer().getConfig().WANT_PARALLEL_CLIENT_UPDATES || getServer().getConfig().WANT_PARALLEL_NPC_PROCESSING) {
+			workerPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+				pool -> new WorkerThread(pool, getServer()), null, false);
+		}
 	}
 
 	public void unload() {
+		if (workerPool != null) {
+			workerPool.shutdown();
+			workerPool = null;
+		}
 	}
 
 	public void sendUpdatePackets(final Player player) {
 		// TODO: Should be private
+		sendUpdatePackets(player, false);
+	}
+
+	private void sendUpdatePackets(final Player player, final boolean profile) {
 		try {
-			if (player.isUsing233CompatibleClient()) {
-				if (player.isChangingAppearance()) {
-					sendAppearanceKeepalive(player);
-				} else {
-					updatePlayers(player);
-					updatePlayerAppearances(player);
-					updateNpcs(player);
-					updateNpcAppearances(player);
-					updateGameObjects(player);
-					updateWallObjects(player);
-					updateGroundItems(player);
-					sendClearLocations(player);
-					updateTimeouts(player);
-				}
+			if (isOnlySendingKeepalive(player)) {
+				sendAppearanceKeepalive(player);
 			} else {
-				updatePlayers(player);
-				updatePlayerAppearances(player);
-				updateNpcs(player);
-				updateNpcAppearances(player);
-				updateGameObjects(player);
-				updateWallObjects(player);
-				updateGroundItems(player);
-				sendClearLocations(player);
+				updateRegionLoad(player);
+				final long buildStart = System.nanoTime();
+				buildUpdatePackets(player);
+				if (profile) {
+					getServer().incrementLastUpdateClientsBuildDuration(System.nanoTime() - buildStart);
+				}
 				updateTimeouts(player);
 			}
 		} catch (final Exception e) {
@@ -91,11 +98,164 @@ public final class GameStateUpdater {
 		}
 	}
 
+	/**
+	 * Updates every client the same way as calling {@link Player#sendUpdates()} on each of them, but builds the update
+	 * packets on the worker pool.
+	 *
+	 * Zone changes and timeouts can run plugins, so they stay on the game thread and keep their PID order. Building the
+	 * update packets only reads the world and writes the state of the player being updated, so that part is spread over
+	 * the pool while the game thread waits. The built packets are held back and queued player by player in PID order,
+	 * each followed by that player's timeouts.
+	 *
+	 * A zone change, or a timeout that runs a plugin or logs the player out, may change what the others see. Players
+	 * are therefore built in runs that end before a zone change and after such a timeout, so everyone sees those
+	 * changes on the same tick as on the serial path.
+	 */
+	public void sendUpdatesInParallel(final Collection<Player> players) {
+		final Player[] targets = players.toArray(new Player[0]);
+		final boolean[] keepaliveOnly = new boolean[targets.length];
+		final boolean[] failed = new boolean[targets.length];
+		final long now = System.currentTimeMillis();
+
+		int runStart = 0;
+		for (int i = 0; i < targets.length; i++) {
+			final int index = i;
+			keepaliveOnly[i] = isOnlySendingKeepalive(targets[i]);
+			if (keepaliveOnly[i]) {
+				continue;
+			}
+			if (isChangingZone(targets[i])) {
+				updateRun(targets, keepaliveOnly, failed, runStart, i, now);
+				runStart = i;
+			}
+			getServer().incrementLastUpdateClientsDuration(getServer().bench(() ->
+				failed[index] = !tryUpdate(targets[index], this::updateRegionLoad)));
+			if (!failed[i] && isTimeoutAffectingOthers(targets[i], now)) {
+				updateRun(targets, keepaliveOnly, failed, runStart, i + 1, now);
+				runStart = i + 1;
+			}
+		}
+		updateRun(targets, keepaliveOnly, failed, runStart, targets.length, now);
+	}
+
+	/**
+	 * Builds the update packets of a run of players on the worker pool, then queues them and runs the timeouts of
+	 * each player in PID order.
+	 */
+	private void updateRun(final Player[] targets, final boolean[] keepaliveOnly, final boolean[] failed, final int from, final int to, final long now) {
+		if (from == to) {
+			return;
+		}
+		final long buildDuration = getServer().bench(() ->
+			workerPool.invoke(new BuildUpdatesTask(targets, keepaliveOnly, failed, from, to)));
+		getServer().incrementLastUpdateClientsBuildDuration(buildDuration);
+		getServer().incrementLastUpdateClientsDuration(buildDuration);
+
+		for (int i = from; i < to; i++) {
+			final Player player = targets[i];
+			final boolean timeouts = !keepaliveOnly[i] && !failed[i];
+			getServer().incrementLastUpdateClientsDuration(getServer().bench(() -> {
+				player.commitStagedPackets();
+				if (timeouts) {
+					tryUpdate(player, p -> updateTimeouts(p, now));
+				}
+			}));
+			getServer().incrementLastOutgoingPacketsDuration(player.processOutgoingPackets());
+		}
+	}
+
+	private boolean isOnlySendingKeepalive(final Player player) {
+		return player.isUsing233CompatibleClient() && player.isChangingAppearance();
+	}
+
+	/**
+	 * Runs one step of a player's update, unregistering them if it fails.
+	 *
+	 * @return Whether the step completed.
+	 */
+	private boolean tryUpdate(final Player player, final Consumer<Player> step) {
+		try {
+			step.accept(player);
+			return true;
+		} catch (final Exception e) {
+			LOGGER.catching(e);
+			player.unregister(UnregisterForcefulness.FORCED, "Exception while updating player " + player.getUsername());
+			return false;
+		}
+	}
+
+	/**
+	 * Builds every update packet of a player that only depends on what they can see. Must not change anything but
+	 * the state of the player being updated, it is run for many players at once by {@link #sendUpdatesInParallel}.
+	 */
+	private void buildUpdatePackets(final Player player) {
+		updatePlayers(player);
+		updatePlayerAppearances(player);
+		updateNpcs(player);
+		updateNpcAppearances(player);
+		// Scenery and ground items rarely change, so they are only looked at again once the player moved or a region
+		// around them had one added or removed.
+		if (player.getViewArea().objectsChanged()) {
+			updateGameObjects(player);
+			updateWallObjects(player);
+		}
+		if (player.getViewArea().itemsChanged()) {
+			updateGroundItems(player);
+		}
+		sendClearLocations(player);
+	}
+
+	/**
+	 * Marks the player for a region load once they've moved away from the last one, telling plugins they've changed zone.
+	 */
+	private void updateRegionLoad(final Player playerToUpdate) {
+		if (isChangingZone(playerToUpdate)) {
+			playerToUpdate.setNextRegionLoad();
+			playerToUpdate.changeZone();
+		} else if (playerToUpdate.getAttribute("midpointRegion") == null) {
+			playerToUpdate.setNextRegionLoad();
+		}
+	}
+
+	/**
+	 * Checks if {@link #updateRegionLoad} is going to tell plugins that the player changed zone.
+	 */
+	private boolean isChangingZone(final Player playerToUpdate) {
+		Point midRegion = playerToUpdate.getAttribute("midpointRegion");
+		return midRegion != null
+			&& !playerToUpdate.getLocation().inBounds(midRegion.getX() - 32, midRegion.getY() - 32, midRegion.getX() + 32, midRegion.getY() + 32);
+	}
+
 	/**
 	 * Checks if the player has moved within the last X minutes
 	 */
 	protected void updateTimeouts(final Player player) {
-		final long curTime = System.currentTimeMillis();
+		updateTimeouts(player, System.currentTimeMillis());
+	}
+
+	/**
+	 * Checks if {@link #updateTimeouts} at the given time is going to run a plugin, log the player out or wake them up,
+	 * rather than at most save them and message them.
+	 */
+	private boolean isTimeoutAffectingOthers(final Player player, final long curTime) {
+		final int timeoutLimit = getServer().getConfig().IDLE_TIMER;
+		final int autoSave = getServer().getConfig().AUTO_SAVE;
+		if (player.isRemoved() || player.getAttribute("dummyplayer", false)) {
+			return false;
+		}
+		if (curTime - player.getLastSaveTime() >= (autoSave) && player.loggedIn() && player.getConfig().WANT_CUSTOM_QUESTS) {
+			return true;
+		}
+		if (curTime - player.getLastClientActivity() >= 30000) {
+			return true;
+		}
+		if (player.warnedToMove()) {
+			return curTime - player.getLastMoved() >= (timeoutLimit + 60000);
+		}
+		return timeoutLimit > 0 && !player.isMod() && (curTime - player.getLastMoved()) >= timeoutLimit && player.isSleeping();
+	}
+
+	private void updateTimeouts(final Player player, final long curTime) {
 		final int timeoutLimit = getServer().getConfig().IDLE_TIMER; // 5 minute idle log out
 		final int autoSave = getServer().getConfig().AUTO_SAVE; // 30 second autosave by default
 		if (player.isRemoved() || player.getAttribute("dummyplayer", false)) {
@@ -145,6 +305,10 @@ public final class GameStateUpdater {
 	protected void updateNpcs(final Player playerToUpdate) {
 		MobsUpdateStruct struct = new MobsUpdateStruct();
 		ClearMobsStruct clearStruct = new ClearMobsStruct();
+		// NPCs in view are only looked through for new ones when one moved, spawned or despawned around the player, the
+		// player moved, or a local NPC was just dropped. Otherwise they'd all be turned down again. The snapshot is
+		// refreshed first so that it never falls behind.
+		boolean lookForNew = playerToUpdate.getViewArea().npcsChanged() || playerToUpdate.getConfig().BREAK_NPC_LOCATION_CACHE;
 		boolean isRetroClient = playerToUpdate.isUsing38CompatibleClient() || playerToUpdate.isUsing39CompatibleClient();
 		if (isRetroClient) {
 			// TODO: check impl
@@ -159,6 +323,7 @@ public final class GameStateUpdater {
 						// TODO: check if more conditions need to be added from outer if
 						clearIdx.add(localNpc.getIndex());
 					}
+					lookForNew = true;
 					it$.remove();
 				} else {
 					final byte[] offsets = DataConversions.getMobPositionOffsets(localNpc.getLocation(), playerToUpdate.getLocation());
@@ -173,26 +338,34 @@ public final class GameStateUpdater {
 				}
 			}
 			clearStruct.indices = clearIdx;
-			for (final Npc newNPC : playerToUpdate.getViewArea().getNpcsInView()) {
-				if (playerToUpdate.getLocalNpcs().contains(newNPC) || newNPC.isRemoved() || newNPC.isRespawning()
-					|| newNPC.getID() == NpcId.NED_BOAT.id() && !playerToUpdate.getCache().hasKey("ned_hired")
-					|| !newNPC.withinAuthenticRangeAdditionally(playerToUpdate) || !playerToUpdate.withinRange(newNPC) || (newNPC.isTeleporting() && !newNPC.inCombat())) {
-					continue;
-				} else if (playerToUpdate.getLocalNpcs().size() >= 255) {
-					break;
-				}
-				final byte[] offsets = DataConversions.getMobPositionOffsets(newNPC.getLocation(), playerToUpdate.getLocation());
-
-				int X = offsets[0];
-				int Y = offsets[1];
-				int packed = (newNPC.getIndex() << 6) | ((X & 0x1F) << 1) | ((Y & 0x1F) >> 4);
-				mobsUpdate.add((short) packed);
-				int packed2 = ((Y & 0xF) << 4) | (newNPC.getSprite() & 0xF);
-				mobsUpdate.add((byte) packed2);
-				mobsUpdate.add((byte) newNPC.getID());
-
-				if (!playerToUpdate.getConfig().BREAK_NPC_LOCATION_CACHE) {
-					playerToUpdate.getLocalNpcs().add(newNPC);
+			if (lookForNew) {
+				for (final Npc newNPC : playerToUpdate.getViewArea().collectNpcsInView()) {
+					if (playerToUpdate.getLocalNpcs().contains(newNPC)
+						|| !newNPC.withinAuthenticRangeAdditionally(playerToUpdate) || !playerToUpdate.withinRange(newNPC)) {
+						continue;
+					} else if (newNPC.isRemoved() || newNPC.isRespawning()
+						|| newNPC.getID() == NpcId.NED_BOAT.id() && !playerToUpdate.getCache().hasKey("ned_hired")
+						|| (newNPC.isTeleporting() && !newNPC.inCombat())) {
+						// May be shown later without anything around the player changing.
+						playerToUpdate.getViewArea().invalidateNpcs();
+						continue;
+					} else if (playerToUpdate.getLocalNpcs().size() >= 255) {
+						playerToUpdate.getViewArea().invalidateNpcs();
+						break;
+					}
+					final byte[] offsets = DataConversions.getMobPositionOffsets(newNPC.getLocation(), playerToUpdate.getLocation());
+
+					int X = offsets[0];
+					int Y = offsets[1];
+					int packed = (newNPC.getIndex() << 6) | ((X & 0x1F) << 1) | ((Y & 0x1F) >> 4);
+					mobsUpdate.add((short) packed);
+					int packed2 = ((Y & 0xF) << 4) | (newNPC.getSprite() & 0xF);
+					mobsUpdate.add((byte) packed2);
+					mobsUpdate.add((byte) newNPC.getID());
+
+					if (!playerToUpdate.getConfig().BREAK_NPC_LOCATION_CACHE) {
+						playerToUpdate.getLocalNpcs().add(newNPC);
+					}
 				}
 			}
 
@@ -213,6 +386,7 @@ public final class GameStateUpdater {
 					if (playerToUpdate.getConfig().WANT_COMBAT_ODYSSEY
 						&& localNpc.getID() == NpcId.BIGGUM_FLODROT.id()
 						&& !playerToUpdate.canSeeBiggum()) {
+						lookForNew = true;
 						it$.remove(); // removes Biggum from player's localNpcs list (can happen if player restarts The Odyssey)
 						mobsUpdate.add(new AbstractMap.SimpleEntry<>(UPDATE_REQUIRED, 1));
 						mobsUpdate.add(new AbstractMap.SimpleEntry<>(NOT_MOVING, 1));
@@ -226,6 +400,7 @@ public final class GameStateUpdater {
 					localNpc.inCombat() || // remove because when FIRST entering combat, they may have advanced towards the player, then their sprite is incompatible with a movement update (no direction, and > 7) TODO: should be inCombatChanged(), since it's only necessary on the first round of combat.
 					localNpc.isRespawning() // removed because they have not yet respawned; may not be necessary, but there's no scenario where this is true & they shouldn't be removed.
 					) {
+					lookForNew = true;
 					it$.remove(); // removes NPC from player's localNpcs list
 					mobsUpdate.add(new AbstractMap.SimpleEntry<>(UPDATE_REQUIRED, 1));
 					mobsUpdate.add(new AbstractMap.SimpleEntry<>(NOT_MOVING, 1));
@@ -245,44 +420,53 @@ public final class GameStateUpdater {
 				}
 			}
 
-			for (final Npc newNPC : playerToUpdate.getViewArea().getNpcsInView()) {
-				if (playerToUpdate.getConfig().WANT_INSTANCED_NPCS && !playerToUpdate.isAdmin()) {
-					if (playerToUpdate.getConfig().WANT_COMBAT_ODYSSEY
-						&& newNPC.getID() == NpcId.BIGGUM_FLODROT.id()
-						&& !playerToUpdate.canSeeBiggum()) {
+			if (lookForNew) {
+				for (final Npc newNPC : playerToUpdate.getViewArea().collectNpcsInView()) {
+					if (playerToUpdate.getConfig().WANT_INSTANCED_NPCS && !playerToUpdate.isAdmin()) {
+						if (playerToUpdate.getConfig().WANT_COMBAT_ODYSSEY
+							&& newNPC.getID() == NpcId.BIGGUM_FLODROT.id()
+							&& !playerToUpdate.canSeeBiggum()) {
+							playerToUpdate.getViewArea().invalidateNpcs();
+							continue;
+						}
+					}
+					if (newNPC.getID() == NpcId.NED_BOAT.id() && !playerToUpdate.getCache().hasKey("ned_hired")) {
+						// TODO: probably this is incorrect & should be removed.
+						// There are authentically 4 versions of the Lady Lumbridge interior, to accommodate Ned being present or not & ship being crashed or not.
+						playerToUpdate.getViewArea().invalidateNpcs();
 						continue;
 					}
-				}
-				if (newNPC.getID() == NpcId.NED_BOAT.id() && !playerToUpdate.getCache().hasKey("ned_hired")) {
-					// TODO: probably this is incorrect & should be removed.
-					// There are authentically 4 versions of the Lady Lumbridge interior, to accommodate Ned being present or not & ship being crashed or not.
-					continue;
-				}
 
-				if (playerToUpdate.getLocalNpcs().contains(newNPC) || // The NPC is cached & updated successfully. Don't refresh & don't duplicate them in the localNpcs cache.
-					newNPC.isRemoved() || // The NPC is removed & shouldn't be added.
-					newNPC.isRespawning() || // The NPC has not yet spawned & shouldn't be added.
-					!newNPC.withinAuthenticRangeAdditionally(playerToUpdate) || !playerToUpdate.withinRange(newNPC) // only have 5 bits in the rsc235 protocol, so the npc can only be shown up to 16 tiles away
-					// || (newNPC.isTeleporting() && !newNPC.inCombat()) // ??? Might be a bug. If they teleported this tick, and ended up within range, we want to refresh them for sure, right?
-				) {
-					continue;
-				} else if (playerToUpdate.getLocalNpcs().size() >= 255) {
-					break;
-				}
+					if (playerToUpdate.getLocalNpcs().contains(newNPC) || // The NPC is cached & updated successfully. Don't refresh & don't duplicate them in the localNpcs cache.
+						!newNPC.withinAuthenticRangeAdditionally(playerToUpdate) || !playerToUpdate.withinRange(newNPC) // only have 5 bits in the rsc235 protocol, so the npc can only be shown up to 16 tiles away
+						// || (newNPC.isTeleporting() && !newNPC.inCombat()) // ??? Might be a bug. If they teleported this tick, and ended up within range, we want to refresh them for sure, right?
+					) {
+						continue;
+					} else if (newNPC.isRemoved() || // The NPC is removed & shouldn't be added.
+						newNPC.isRespawning() // The NPC has not yet spawned & shouldn't be added.
+					) {
+						// May be shown later without anything around the player changing.
+						playerToUpdate.getViewArea().invalidateNpcs();
+						continue;
+					} else if (playerToUpdate.getLocalNpcs().size() >= 255) {
+						playerToUpdate.getViewArea().invalidateNpcs();
+						break;
+					}
+
+					final byte[] offsets = DataConversions.getMobPositionOffsets(newNPC.getLocation(), playerToUpdate.getLocation());
+					boolean forClient115 = playerToUpdate.isUsing115CompatibleClient();
+					boolean forClient140 = playerToUpdate.isUsing140CompatibleClient();
+					mobsUpdate.add(new AbstractMap.SimpleEntry<>(safeNPCIndex(playerToUpdate, newNPC.getIndex()), forClient115 || forClient140 ? 11 : 12));
+					boolean forAuthentic = !playerToUpdate.isUsingCustomClient();
+					mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[0], forAuthentic ? 5 : 6));
+					mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[1], forAuthentic ? 5 : 6));
+					mobsUpdate.add(new AbstractMap.SimpleEntry<>(newNPC.getSprite(), 4));
+					int numBits = forClient115 ? 8 : (forClient140 ? 9 : 10);
+					mobsUpdate.add(new AbstractMap.SimpleEntry<>(newNPC.getID(), numBits));
 
-				final byte[] offsets = DataConversions.getMobPositionOffsets(newNPC.getLocation(), playerToUpdate.getLocation());
-				boolean forClient115 = playerToUpdate.isUsing115CompatibleClient();
-				boolean forClient140 = playerToUpdate.isUsing140CompatibleClient();
-				mobsUpdate.add(new AbstractMap.SimpleEntry<>(safeNPCIndex(playerToUpdate, newNPC.getIndex()), forClient115 || forClient140 ? 11 : 12));
-				boolean forAuthentic = !playerToUpdate.isUsingCustomClient();
-				mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[0], forAuthentic ? 5 : 6));
-				mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[1], forAuthentic ? 5 : 6));
-				mobsUpdate.add(new AbstractMap.SimpleEntry<>(newNPC.getSprite(), 4));
-				int numBits = forClient115 ? 8 : (forClient140 ? 9 : 10);
-				mobsUpdate.add(new AbstractMap.SimpleEntry<>(newNPC.getID(), numBits));
-
-				if (!playerToUpdate.getConfig().BREAK_NPC_LOCATION_CACHE) {
-					playerToUpdate.getLocalNpcs().add(newNPC);
+					if (!playerToUpdate.getConfig().BREAK_NPC_LOCATION_CACHE) {
+						playerToUpdate.getLocalNpcs().add(newNPC);
+					}
 				}
 			}
 
@@ -298,18 +482,14 @@ public final class GameStateUpdater {
 		MobsUpdateStruct struct = new MobsUpdateStruct();
 		ClearMobsStruct clearStruct = new ClearMobsStruct();
 
-		Point midRegion = playerToUpdate.getAttribute("midpointRegion");
-		if (midRegion != null) {
-			if (!playerToUpdate.getLocation().inBounds(midRegion.getX() - 32, midRegion.getY() - 32, midRegion.getX() + 32, midRegion.getY() + 32)) {
-				playerToUpdate.setNextRegionLoad();
-				playerToUpdate.changeZone();
-			}
-		} else {
-			playerToUpdate.setNextRegionLoad();
-		}
-
 		boolean isRetroClient = playerToUpdate.isUsing38CompatibleClient() || playerToUpdate.isUsing39CompatibleClient();
 		boolean usesKnownPlayers = playerToUpdate.getClientVersion() >= 61 && playerToUpdate.getClientVersion() <= 204;
+		// Same as for NPCs in updateNpcs, players in view are only looked through for new ones when something around
+		// the player changed or a local player was just dropped.
+		boolean lookForNew = playerToUpdate.getViewArea().playersChanged();
+		if (!playerToUpdate.loggedIn()) {
+			playerToUpdate.getViewArea().invalidatePlayers();
+		}
 
 		if (isRetroClient) {
 			// TODO: check impl
@@ -332,6 +512,7 @@ public final class GameStateUpdater {
 							// TODO: check if more conditions need to be added from outer if
 							clearIdx.add(otherPlayer.getIndex());
 						}
+						lookForNew = true;
 						it$.remove();
 						playerToUpdate.getKnownPlayerAppearanceIDs().remove(otherPlayer.getUsernameHash());
 					} else {
@@ -355,34 +536,41 @@ public final class GameStateUpdater {
 				}
 				clearStruct.indices = clearIdx;
 
-				for (final Player otherPlayer : playerToUpdate.getViewArea().getPlayersInView()) {
-					if (playerToUpdate.getLocalPlayers().contains(otherPlayer) || otherPlayer.equals(playerToUpdate)
-						|| !otherPlayer.withinAuthenticRangeAdditionally(playerToUpdate) || !otherPlayer.withinRange(playerToUpdate) || !otherPlayer.loggedIn() || otherPlayer.isUnregistering()
-						|| otherPlayer.isRemoved() || otherPlayer.isInvisibleTo(playerToUpdate)
-						|| (otherPlayer.isTeleporting() && !otherPlayer.inCombat())) {
-						continue;
-					}
+				if (lookForNew) {
+					for (final Player otherPlayer : playerToUpdate.getViewArea().collectPlayersInView()) {
+						if (playerToUpdate.getLocalPlayers().contains(otherPlayer) || otherPlayer.equals(playerToUpdate)
+							|| !otherPlayer.withinAuthenticRangeAdditionally(playerToUpdate) || !otherPlayer.withinRange(playerToUpdate)) {
+							continue;
+						} else if (!otherPlayer.loggedIn() || otherPlayer.isUnregistering()
+							|| otherPlayer.isRemoved() || otherPlayer.isInvisibleTo(playerToUpdate)
+							|| (otherPlayer.isTeleporting() && !otherPlayer.inCombat())) {
+							// May be shown later without anything around the player changing.
+							playerToUpdate.getViewArea().invalidatePlayers();
+							continue;
+						}
 
-					final byte[] offsets = DataConversions.getMobPositionOffsets(otherPlayer.getLocation(),
-						playerToUpdate.getLocation());
+						final byte[] offsets = DataConversions.getMobPositionOffsets(otherPlayer.getLocation(),
+							playerToUpdate.getLocation());
 
-					int X = offsets[0];
-					int Y = offsets[1];
-					if (otherPlayer.equals(playerToUpdate)) {
-						int packed = ((X & 0x1F) << 5) | (Y & 0x1F);
-						mobsUpdate.add((short) packed);
-						int packed2 = (otherPlayer.getIndex() << 4) | (otherPlayer.getSprite() & 0xF);
-						mobsUpdate.add((short) packed2);
-					} else {
-						int packed = (otherPlayer.getIndex() << 6) | ((X & 0x1F) << 1) | ((Y & 0x1F) >> 4);
-						mobsUpdate.add((short) packed);
-						int packed2 = ((Y & 0xF) << 4) | (otherPlayer.getSprite() & 0xF);
-						mobsUpdate.add((byte) packed2);
-					}
+						int X = offsets[0];
+						int Y = offsets[1];
+						if (otherPlayer.equals(playerToUpdate)) {
+							int packed = ((X & 0x1F) << 5) | (Y & 0x1F);
+							mobsUpdate.add((short) packed);
+							int packed2 = (otherPlayer.getIndex() << 4) | (otherPlayer.getSprite() & 0xF);
+							mobsUpdate.add((short) packed2);
+						} else {
+							int packed = (otherPlayer.getIndex() << 6) | ((X & 0x1F) << 1) | ((Y & 0x1F) >> 4);
+							mobsUpdate.add((short) packed);
+							int packed2 = ((Y & 0xF) << 4) | (otherPlayer.getSprite() & 0xF);
+							mobsUpdate.add((byte) packed2);
+						}
 
-					playerToUpdate.getLocalPlayers().add(otherPlayer);
-					if (playerToUpdate.getLocalPlayers().size() >= 255) {
-						break;
+						playerToUpdate.getLocalPlayers().add(otherPlayer);
+						if (playerToUpdate.getLocalPlayers().size() >= 255) {
+							playerToUpdate.getViewArea().invalidatePlayers();
+							break;
+						}
 					}
 				}
 			}
@@ -411,6 +599,7 @@ public final class GameStateUpdater {
 						mobsUpdate.add(new AbstractMap.SimpleEntry<>(1, 1)); //Needs Update
 						mobsUpdate.add(new AbstractMap.SimpleEntry<>(1, 1)); //Update Type
 						mobsUpdate.add(new AbstractMap.SimpleEntry<>(3, 2)); //Animation type (Remove)
+						lookForNew = true;
 						it$.remove();
 						playerToUpdate.getKnownPlayerAppearanceIDs().remove(otherPlayer.getUsernameHash());
 					} else {
@@ -431,28 +620,35 @@ public final class GameStateUpdater {
 					}
 				}
 
-				for (final Player otherPlayer : playerToUpdate.getViewArea().getPlayersInView()) {
-					if (playerToUpdate.getLocalPlayers().contains(otherPlayer) || otherPlayer.equals(playerToUpdate)
-						|| !otherPlayer.withinAuthenticRangeAdditionally(playerToUpdate) || !otherPlayer.withinRange(playerToUpdate) || !otherPlayer.loggedIn()
-						|| otherPlayer.isRemoved() || otherPlayer.isInvisibleTo(playerToUpdate)
-						|| (otherPlayer.isTeleporting() && !otherPlayer.inCombat())) {
-						continue;
-					}
+				if (lookForNew) {
+					for (final Player otherPlayer : playerToUpdate.getViewArea().collectPlayersInView()) {
+						if (playerToUpdate.getLocalPlayers().contains(otherPlayer) || otherPlayer.equals(playerToUpdate)
+							|| !otherPlayer.withinAuthenticRangeAdditionally(playerToUpdate) || !otherPlayer.withinRange(playerToUpdate)) {
+							continue;
+						} else if (!otherPlayer.loggedIn()
+							|| otherPlayer.isRemoved() || otherPlayer.isInvisibleTo(playerToUpdate)
+							|| (otherPlayer.isTeleporting() && !otherPlayer.inCombat())) {
+							// May be shown later without anything around the player changing.
+							playerToUpdate.getViewArea().invalidatePlayers();
+							continue;
+						}
 
-					final byte[] offsets = DataConversions.getMobPositionOffsets(otherPlayer.getLocation(),
-						playerToUpdate.getLocation());
-					mobsUpdate.add(new AbstractMap.SimpleEntry<>(otherPlayer.getIndex(), 11));
-					boolean forAuthentic = !playerToUpdate.isUsingCustomClient();
-					mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[0], forAuthentic ? 5 : 6));
-					mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[1], forAuthentic ? 5 : 6));
-					mobsUpdate.add(new AbstractMap.SimpleEntry<>(otherPlayer.getSprite(), 4));
-					if (usesKnownPlayers) {
-						mobsUpdate.add(new AbstractMap.SimpleEntry<>(playerToUpdate.isKnownPlayer(otherPlayer.getIndex()) ? 1 : 0, 1));
-					}
+						final byte[] offsets = DataConversions.getMobPositionOffsets(otherPlayer.getLocation(),
+							playerToUpdate.getLocation());
+						mobsUpdate.add(new AbstractMap.SimpleEntry<>(otherPlayer.getIndex(), 11));
+						boolean forAuthentic = !playerToUpdate.isUsingCustomClient();
+						mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[0], forAuthentic ? 5 : 6));
+						mobsUpdate.add(new AbstractMap.SimpleEntry<>((int) offsets[1], forAuthentic ? 5 : 6));
+						mobsUpdate.add(new AbstractMap.SimpleEntry<>(otherPlayer.getSprite(), 4));
+						if (usesKnownPlayers) {
+							mobsUpdate.add(new AbstractMap.SimpleEntry<>(playerToUpdate.isKnownPlayer(otherPlayer.getIndex()) ? 1 : 0, 1));
+						}
 
-					playerToUpdate.getLocalPlayers().add(otherPlayer);
-					if (playerToUpdate.getLocalPlayers().size() >= 255) {
-						break;
+						playerToUpdate.getLocalPlayers().add(otherPlayer);
+						if (playerToUpdate.getLocalPlayers().size() >= 255) {
+							playerToUpdate.getViewArea().invalidatePlayers();
+							break;
+						}
 					}
 				}
 			}
@@ -1084,7 +1280,7 @@ public final class GameStateUpdater {
 		}
 
 		// Add scenery
-		for (final GameObject newObject : playerToUpdate.getViewArea().getGameObjectsInView()) {
+		for (final GameObject newObject : playerToUpdate.getViewArea().collectGameObjectsInView()) {
 			boolean skipAdd = newObject.isRemoved() ||
 				newObject.isInvisibleTo(playerToUpdate) ||
 				newObject.getType() != 0 || // not a wallObject
@@ -1159,12 +1355,16 @@ public final class GameStateUpdater {
 			}
 		}
 
-		for (final GroundItem groundItem : playerToUpdate.getViewArea().getItemsInView()) {
+		for (final GroundItem groundItem : playerToUpdate.getViewArea().collectItemsInView()) {
 			if (!playerToUpdate.withinGridRange(groundItem) || groundItem.isRemoved()
-				|| groundItem.isInvisibleTo(playerToUpdate)
 				|| playerToUpdate.getLocalGroundItems().contains(groundItem)) {
 				continue;
 			}
+			if (groundItem.isInvisibleTo(playerToUpdate)) {
+				// Dropped items show up for everyone after a while, keep checking until they do.
+				playerToUpdate.getViewArea().invalidateItems();
+				continue;
+			}
 			final int offsetX = groundItem.getX() - playerToUpdate.getX();
 			final int offsetY = groundItem.getY() - playerToUpdate.getY();
 			itemLocs.add(new ItemLoc(groundItem.getID(), offsetX, offsetY, groundItem.getAmount(), 0,
@@ -1241,7 +1441,7 @@ public final class GameStateUpdater {
 		}
 
 		// add all new boundaries to be added
-		for (final GameObject newObject : playerToUpdate.getViewArea().getGameObjectsInView()) {
+		for (final GameObject newObject : playerToUpdate.getViewArea().collectGameObjectsInView()) {
 			if (!playerToUpdate.withinGridRange(newObject) || newObject.isRemoved()
 				|| newObject.isInvisibleTo(playerToUpdate) || newObject.getType() != 1
 				|| playerToUpdate.getLocalWallObjects().contains(newObject)) {
@@ -1286,7 +1486,7 @@ public final class GameStateUpdater {
 
 	public final long updateClient(final Player player) {
 		return getServer().bench(() -> {
-			sendUpdatePackets(player);
+			sendUpdatePackets(player, true);
 		});
 	}
 
@@ -1309,16 +1509,29 @@ public final class GameStateUpdater {
 	}
 
 	public final long processNpcs() {
+		if (getServer().getConfig().WANT_PARALLEL_NPC_PROCESSING) {
+			return getServer().bench(this::processNpcsInParallel);
+		}
 		return getServer().bench(() -> {
 			final boolean shouldUpdatePosition = !getServer().getConfig().WANT_CUSTOM_WALK_SPEED;
+			final boolean dormantRegions = updateObservers();
 			final EntityList<Npc> npcs = getServer().getWorld().getNpcs();
-			npcs.forEach(n -> {
+			long active = 0;
+			long dormant = 0;
+			for (final Npc n : npcs) {
 				try {
 					if (n.isUnregistering()) {
 						getServer().getWorld().unregisterNpc(n);
-						return;
+						continue;
 					}
 
+					if (dormantRegions && isDormant(n)) {
+						dormant++;
+						sleep(n);
+						continue;
+					}
+
+					active++;
 					// Only do the walking tick here if the NPC's walking tick matches the game tick
 					if (shouldUpdatePosition) {
 						n.updatePosition();
@@ -1327,10 +1540,114 @@ public final class GameStateUpdater {
 					LOGGER.error("Error while updating " + n + " at position " + n.getLocation() + " loc: " + n.getLoc());
 					LOGGER.catching(e);
 				}
-			});
+			}
+			getServer().incrementLastNpcCounts(active, dormant);
 		});
 	}
 
+	/**
+	 * Recounts which regions players have in view when want_dormant_regions is enabled.
+	 *
+	 * @return Whether npcs in unobserved regions should be skipped this tick.
+	 */
+	private boolean updateObservers() {
+		if (!getServer().getConfig().WANT_DORMANT_REGIONS) {
+			return false;
+		}
+		getServer().getWorld().getRegionManager().updateObservers(getServer().getWorld().getPlayers());
+		return true;
+	}
+
+	/**
+	 * An npc is dormant while no player has its region in view, there is nobody for its roaming or aggression to
+	 * matter to. Npcs that are still fighting keep ticking, they may be chasing or retreating from something.
+	 * Respawning and stat restoration are events of their own and keep running, and the behaviour timers are wall
+	 * clock based, so an npc that wakes up picks up where it would have been.
+	 */
+	private boolean isDormant(final Npc n) {
+		final Region region = n.getRegion();
+		return region != null && !region.isObserved() && !n.inCombat();
+	}
+
+	/**
+	 * Skips a dormant npc for this tick, it forgets who was near it until it wakes up.
+	 */
+	private void sleep(final Npc n) {
+		if (n.getNpcBehavior() != null) {
+			n.getNpcBehavior().dropAggroCandidates();
+		}
+	}
+
+	/**
+	 * Does the same as the serial {@link #processNpcs()}, but with the npcs of different regions ticking at once.
+	 *
+	 * Npcs are grouped by the region they stand in. Ticking an npc only reaches into its own region and the ones
+	 * around it, so the regions are split into nine phases by their coordinates modulo three, and no two regions of
+	 * the same phase share a neighbour. The phases run one after another in a fixed order, and the regions of a phase
+	 * run in parallel on the worker pool, each ticking its npcs in index order.
+	 *
+	 * Everything that would depend on which region got there first is made independent of it: each region rolls its
+	 * random numbers from its own generator, seeded from the configured seed, the tick and the region, and the events
+	 * it adds are held back and added region by region once its phase is over. With a fixed seed the outcome is the
+	 * same for every run and thread count.
+	 */
+	private void processNpcsInParallel() {
+		final World world = getServer().getWorld();
+		final boolean dormantRegions = updateObservers();
+		final List<Npc> ticking = new ArrayList<>();
+		long dormant = 0;
+		for (final Npc n : world.getNpcs()) {
+			try {
+				if (n.isUnregistering()) {
+					world.unregisterNpc(n);
+				} else if (dormantRegions && isDormant(n)) {
+					dormant++;
+					sleep(n);
+				} else {
+					ticking.add(n);
+				}
+			} catch (final Exception e) {
+				LOGGER.error("Error while updating " + n + " at position " + n.getLocation() + " loc: " + n.getLoc());
+				LOGGER.catching(e);
+			}
+		}
+		getServer().incrementLastNpcCounts(ticking.size(), dormant);
+
+		// Only do the walking tick here if the NPC's walking tick matches the game tick
+		if (getServer().getConfig().WANT_CUSTOM_WALK_SPEED) {
+			return;
+		}
+
+		final Map<Integer, NpcRegionTask> regions = new TreeMap<>();
+		for (final Npc n : ticking) {
+			final int regionX = n.getX() / Constants.REGION_SIZE;
+			final int regionY = n.getY() / Constants.REGION_SIZE;
+			regions.computeIfAbsent((regionX << 16) | regionY, key -> new NpcRegionTask(regionX, regionY)).npcs.add(n);
+		}
+
+		final List<List<NpcRegionTask>> phases = new ArrayList<>(9);
+		for (int phase = 0; phase < 9; phase++) {
+			phases.add(new ArrayList<>());
+		}
+		for (final NpcRegionTask region : regions.values()) {
+			phases.get((region.regionX % 3) * 3 + region.regionY % 3).add(region);
+		}
+
+		final long tick = getServer().getCurrentTick();
+		for (final List<NpcRegionTask> phase : phases) {
+			if (phase.isEmpty()) {
+				continue;
+			}
+			for (final NpcRegionTask region : phase) {
+				region.tick = tick;
+			}
+			workerPool.invokeAll(phase);
+			for (final NpcRegionTask region : phase) {
+				getServer().getGameEventHandler().commitStagedEvents(region.stagedEvents);
+			}
+		}
+	}
+
 	/**
 	 * Updates the messages queues for each player
 	 */
@@ -1359,18 +1676,18 @@ public final class GameStateUpdater {
 				} else {
 					// player not online
 					if (pm.getFriend() >= 0L) {
-						try {
-							int friendId = player.getWorld().getServer().getDatabase().playerIdFromUsername(DataConversions.hashToUsername(pm.getFriend()));
-
-							if (player.getWorld().getServer().getDatabase().playerExists(friendId)) {
-								// player not online
-								if (player.getClientVersion() <= 204) {
-									player.playerServerMessage(MessageType.PRIVATE_SEND,"@cya@" + DataConversions.hashToUsername(pm.getFriend()) + " is offline or has privacy mode enabled");
-								} else {
-									player.message("Unable to send message - player unavailable.");
-								}
+						final String friendName = DataConversions.hashToUsername(pm.getFriend());
+						getServer().getPlayerLookupService().lookupPlayerId(friendName, friendId -> {
+							if (friendId < 0 || !player.isLoggedIn()) {
+								return;
 							}
-						} catch (Exception e) { }
+							// player not online
+							if (player.getClientVersion() <= 204) {
+								player.playerServerMessage(MessageType.PRIVATE_SEND,"@cya@" + friendName + " is offline or has privacy mode enabled");
+							} else {
+								player.message("Unable to send message - player unavailable.");
+							}
+						});
 					}
 				}
 			}
@@ -1422,4 +1739,100 @@ public final class GameStateUpdater {
 			}
 		});
 	}
+
+	/**
+	 * Builds the update packets of a range of players, splitting it up until it is small enough to do in one go.
+	 */
+	private final class BuildUpdatesTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private static final int PLAYERS_PER_TASK = 16;
+
+		private final Player[] players;
+		private final boolean[] keepaliveOnly;
+		private final boolean[] failed;
+		private final int from;
+		private final int to;
+
+		private BuildUpdatesTask(final Player[] players, final boolean[] keepaliveOnly, final boolean[] failed, final int from, final int to) {
+			this.players = players;
+			this.keepaliveOnly = keepaliveOnly;
+			this.failed = failed;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > PLAYERS_PER_TASK) {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new BuildUpdatesTask(players, keepaliveOnly, failed, from, middle),
+					new BuildUpdatesTask(players, keepaliveOnly, failed, middle, to));
+				return;
+			}
+			for (int i = from; i < to; i++) {
+				if (failed[i]) {
+					continue;
+				}
+				final Player player = players[i];
+				player.stagePackets();
+				if (keepaliveOnly[i]) {
+					failed[i] = !tryUpdate(player, GameStateUpdater.this::sendAppearanceKeepalive);
+				} else {
+					failed[i] = !tryUpdate(player, GameStateUpdater.this::buildUpdatePackets);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Ticks the npcs standing in one region.
+	 */
+	private final class NpcRegionTask implements Callable<Void> {
+		private final int regionX;
+		private final int regionY;
+		private final List<Npc> npcs = new ArrayList<>();
+		private long tick;
+		private List<Runnable> stagedEvents = Collections.emptyList();
+
+		private NpcRegionTask(final int regionX, final int regionY) {
+			this.regionX = regionX;
+			this.regionY = regionY;
+		}
+
+		@Override
+		public Void call() {
+			long seed = getServer().getConfig().PARALLEL_NPC_RANDOM_SEED;
+			seed = seed * 31 + tick;
+			seed = seed * 31 + regionX;
+			seed = seed * 31 + regionY;
+			final Random random = new Random(seed);
+			stagedEvents = getServer().getGameEventHandler().stageEvents(() -> DataConversions.withRandom(random, () -> {
+				for (final Npc n : npcs) {
+					try {
+						n.updatePosition();
+					} catch (final Exception e) {
+						LOGGER.error("Error while updating " + n + " at position " + n.getLocation() + " loc: " + n.getLoc());
+						LOGGER.catching(e);
+					}
+				}
+			}));
+			return null;
+		}
+	}
+
+	private static final class WorkerThread extends ForkJoinWorkerThread {
+		private final Server server;
+
+		private WorkerThread(final ForkJoinPool pool, final Server server) {
+			super(pool);
+			this.server = server;
+			setName(server.getName() + " : GameStateWorker-" + getPoolIndex());
+		}
+
+		@Override
+		protected void onStart() {
+			super.onStart();
+			LogUtil.populateThreadContext(server.getConfig());
+		}
+	}
 }
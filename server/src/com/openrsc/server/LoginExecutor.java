@@ -4,33 +4,64 @@ import com.openrsc.server.login.CharacterCreateRequest;
 import com.openrsc.server.login.LoginExecutorProcess;
 import com.openrsc.server.login.LoginRequest;
 import com.openrsc.server.login.PlayerSaveRequest;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.util.NamedThreadFactory;
 import com.openrsc.server.util.ServerAwareThreadFactory;
+import com.openrsc.server.util.rsc.DataConversions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+/**
+ * Runs the requests that need the database on behalf of players: logins, character creation, saves and the like.
+ *
+ * Saves are written behind: a player has at most one save queued, any further save requested for them before it is
+ * written folds into it. A single scheduled thread writes the queued saves, several players per transaction, and runs
+ * the generic requests, then hands the queued logins, oldest first,
+ * to a pool of login workers. A worker validates the login, including the password check, and loads the player, after
+ * which the player is handed to the game thread. Player loads are limited to what the database pool can serve at once,
+ * a login for an account that is still being saved or logged in waits for the next run.
+ */
 public class LoginExecutor implements Runnable {
 	/**
 	 * The asynchronous logger.
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * The most players whose saves are written in the same transaction.
+	 */
+	private static final int PLAYERS_PER_SAVE_TRANSACTION = 10;
+
 	private ScheduledExecutorService scheduledExecutor;
 
+	private ExecutorService loginWorkers;
+
 	private final Set<LoginExecutorProcess> genericRequests;
 
-	private final Set<LoginExecutorProcess> loginRequests;
+	private final Queue<LoginExecutorProcess> loginRequests;
+
+	/**
+	 * Username hashes of the accounts a login worker is busy with.
+	 */
+	private final Set<Long> accountsInProgress;
+
+	private final Semaphore playerLoads;
 
-	private final Set<PlayerSaveRequest> saveRequests;
+	/**
+	 * The save queued for each player, by database id.
+	 */
+	private final Map<Integer, PlayerSaveRequest> saveRequests;
 
 	private boolean running;
 
 	private final Server server;
 
-	private int loginsProcessedThisTick = 0;
+	private final AtomicInteger loginsProcessedThisTick = new AtomicInteger();
 	public final Server getServer() {
 		return server;
 	}
@@ -39,15 +70,21 @@ public class LoginExecutor implements Runnable {
 		this.server = server;
 		this.running = false;
 		this.genericRequests = ConcurrentHashMap.newKeySet();
-		this.loginRequests = ConcurrentHashMap.newKeySet();
-		this.saveRequests = ConcurrentHashMap.newKeySet();
+		this.loginRequests = new ConcurrentLinkedQueue<>();
+		this.saveRequests = new ConcurrentHashMap<>();
+		this.accountsInProgress = ConcurrentHashMap.newKeySet();
+		// Units of work beyond the shared connection each get a connection of their own.
+		this.playerLoads = new Semaphore(Math.max(server.getConfig().DB_POOL_SIZE - 1, 1), true);
 	}
 
 	public boolean add(final LoginExecutorProcess request) {
 		if (isRunning()) {
 			//Separate queues for saving and logins so they can be executed and limited as appropriate.
 			if (request instanceof LoginRequest || request instanceof CharacterCreateRequest) return loginRequests.add(request);
-			else if (request instanceof PlayerSaveRequest) return saveRequests.add((PlayerSaveRequest) request);
+			else if (request instanceof PlayerSaveRequest) {
+				addSave((PlayerSaveRequest) request);
+				return true;
+			}
 			else return genericRequests.add(request);
 		}
 		return false;
@@ -59,20 +96,117 @@ public class LoginExecutor implements Runnable {
 			// Save requests should be run BEFORE logout requests or else we get duplication glitch because a user can login before they've saved, but after they've logged out.
 			// See Player.logout, save requests are added first before removal so we are good.
 
-			processAndClearSet(saveRequests, request -> request.process());
+			processSaves();
 			processAndClearSet(genericRequests, request -> request.process());
-			processAndClearSet(loginRequests, request -> {
-				if (loginsProcessedThisTick < server.getConfig().MAX_LOGINS_PER_SERVER_PER_TICK) {
-					request.process();
-					++loginsProcessedThisTick;
-				}
-			});
+			dispatchLogins();
 
 		} catch (final Throwable e) {
 			LOGGER.catching(e);
 		}
 	}
 
+	/**
+	 * Queues a save, folding it into the save already queued for the same player. A save reads the player as they are
+	 * when it is written, so a single save covers every request, it only has to stay a logout if any of them was one.
+	 */
+	private void addSave(final PlayerSaveRequest request) {
+		saveRequests.merge(request.getPlayer().getDatabaseID(), request, (queued, added) -> {
+			server.incrementCoalescedSaves();
+			return queued.isLogout() || !added.isLogout() ? queued : added;
+		});
+	}
+
+	/**
+	 * Writes the queued saves. Saves requested meanwhile are queued for the next run.
+	 */
+	private void processSaves() {
+		final List<PlayerSaveRequest> saves = new ArrayList<>();
+		for (final Integer playerId : saveRequests.keySet()) {
+			final PlayerSaveRequest request = saveRequests.remove(playerId);
+			if (request != null) {
+				saves.add(request);
+			}
+		}
+
+		for (int i = 0; i < saves.size(); i += PLAYERS_PER_SAVE_TRANSACTION) {
+			final List<PlayerSaveRequest> batch = saves.subList(i, Math.min(i + PLAYERS_PER_SAVE_TRANSACTION, saves.size()));
+			final List<Player> players = new ArrayList<>();
+			for (final PlayerSaveRequest request : batch) {
+				players.add(request.getPlayer());
+			}
+			Set<Player> saved;
+			try {
+				saved = server.getPlayerService().savePlayers(players);
+			} catch (final RuntimeException e) {
+				LOGGER.catching(e);
+				saved = Collections.emptySet();
+			}
+			for (final PlayerSaveRequest request : batch) {
+				request.setSaved(saved.contains(request.getPlayer()));
+				request.process();
+			}
+		}
+	}
+
+	/**
+	 * Hands queued logins to the login workers, as many as this tick still allows. Logins that can't run yet stay in
+	 * the queue in their place.
+	 */
+	private void dispatchLogins() {
+		final Iterator<LoginExecutorProcess> iterator = loginRequests.iterator();
+		while (iterator.hasNext() && loginsProcessedThisTick.get() < server.getConfig().MAX_LOGINS_PER_SERVER_PER_TICK) {
+			final LoginExecutorProcess request = iterator.next();
+			final long account = getAccount(request);
+			if (isSaving(account) || !accountsInProgress.add(account)) {
+				continue;
+			}
+			iterator.remove();
+			loginsProcessedThisTick.incrementAndGet();
+			try {
+				loginWorkers.execute(() -> {
+					try {
+						request.process();
+					} catch (final Throwable e) {
+						LOGGER.catching(e);
+					} finally {
+						accountsInProgress.remove(account);
+					}
+				});
+			} catch (final RejectedExecutionException e) {
+				accountsInProgress.remove(account);
+				LOGGER.catching(e);
+			}
+		}
+	}
+
+	/**
+	 * Loads a player whose login was validated, waiting while as many players as the database can serve are loading.
+	 */
+	public Player loadPlayer(final LoginRequest request) {
+		playerLoads.acquireUninterruptibly();
+		try {
+			return server.getPlayerService().loadPlayer(request);
+		} finally {
+			playerLoads.release();
+		}
+	}
+
+	private boolean isSaving(final long account) {
+		for (final PlayerSaveRequest save : saveRequests.values()) {
+			if (save.getPlayer().getUsernameHash() == account) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long getAccount(final LoginExecutorProcess request) {
+		if (request instanceof LoginRequest) {
+			return ((LoginRequest) request).getUsernameHash();
+		}
+		return DataConversions.usernameToHash(((CharacterCreateRequest) request).getUsername());
+	}
+
 	public void start() {
 		clearRequests();
 		scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
@@ -81,6 +215,10 @@ public class LoginExecutor implements Runnable {
 						server.getConfig()
 				)
 		);
+		loginWorkers = Executors.newFixedThreadPool(
+				Math.max(server.getConfig().LOGIN_WORKER_THREADS, 1),
+				new NamedThreadFactory(server.getName()+" : LoginWorker", server.getConfig())
+		);
 		scheduledExecutor.scheduleAtFixedRate(this, 0, 50, TimeUnit.MILLISECONDS);
 		running = true;
 	}
@@ -105,9 +243,20 @@ public class LoginExecutor implements Runnable {
 			run();
 		}
 
+		loginWorkers.shutdown();
+		try {
+			if (!loginWorkers.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.error("LoginExecutor worker termination failed");
+				loginWorkers.shutdownNow();
+			}
+		} catch (final InterruptedException e) {
+			LOGGER.catching(e);
+		}
+		loginWorkers = null;
+
 		if (genericRequests.size() > 0 || saveRequests.size() > 0 || loginRequests.size() > 0) {
 			LOGGER.error("There were " + (genericRequests.size() + saveRequests.size() + loginRequests.size()) + " unprocessed requests. (Very bad!!!!!!!!!!)");
-			processAndClearSet(saveRequests, saveRequest -> {
+			processAndClearSet(saveRequests.values(), saveRequest -> {
 				LOGGER.error("Could not save " + saveRequest.getPlayer() + " during LoginExecutor shutdown.");
 			});
 			clearRequests();
@@ -125,10 +274,10 @@ public class LoginExecutor implements Runnable {
 	}
 
 	public void resetRequestsThisTick() {
-		loginsProcessedThisTick = 0;
+		loginsProcessedThisTick.set(0);
 	}
 
-	private <T> void processAndClearSet(Set<T> set, Consumer<T> processor) {
+	private <T> void processAndClearSet(Collection<T> set, Consumer<T> processor) {
 		Iterator<T> iterator = set.iterator();
 		while (iterator.hasNext()) {
 			T item = iterator.next();
@@ -33,6 +33,7 @@ import com.openrsc.server.plugins.handler.PluginHandler;
 import com.openrsc.server.plugins.triggers.StartupTrigger;
 import com.openrsc.server.service.IPlayerService;
 import com.openrsc.server.service.PcapLoggerService;
+import com.openrsc.server.service.PlayerLookupService;
 import com.openrsc.server.service.PlayerService;
 import com.openrsc.server.util.*;
 import com.openrsc.server.util.languages.I18NService;
@@ -52,6 +53,7 @@ import org.apache.logging.log4j.Logger;
 import javax.net.ssl.SSLException;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.file.Files;
@@ -89,6 +91,7 @@ public class Server implements Runnable {
 	private final Constants constants;
 	private final RSCPacketFilter packetFilter;
 	private final IPlayerService playerService;
+	private final PlayerLookupService playerLookupService;
 	private final I18NService i18nService;
 
 	private final World world;
@@ -111,15 +114,33 @@ public class Server implements Runnable {
 	private long lastIncomingPacketsDuration = 0;
 	private long lastEventsDuration = 0;
 	private long lastOutgoingPacketsDuration = 0;
+	private long lastOutgoingBytes = 0;
+	private long lastOutgoingFlushes = 0;
 	private long lastWorldUpdateDuration = 0;
 	private long lastProcessPlayersDuration = 0;
 	private long lastProcessNpcsDuration = 0;
+	private long lastActiveNpcs = 0;
+	private long lastDormantNpcs = 0;
+	private long savedPlayers = 0;
+	private long savedPlayerRows = 0;
+	private long savedPlayerRowsFullRewrite = 0;
+	private long saveTransactions = 0;
+	private long saveTransactionPlayers = 0;
+	private long coalescedSaves = 0;
+	/**
+	 * How long the latest logins took, from the request being queued to the player being handed to the game thread.
+	 */
+	private final long[] loginDurations = new long[256];
+	private int loginDurationIndex = 0;
+	private int loginDurationSamples = 0;
 	private long lastProcessMessageQueuesDuration = 0;
 	private long lastUpdateClientsDuration = 0;
+	private long lastUpdateClientsBuildDuration = 0;
 	private long lastDoCleanupDuration = 0;
 	private long lastExecuteWalkToActionsDuration = 0;
 
 	private long lastTickDuration = 0;
+	private long lastTickAllocatedBytes = 0;
 	private long timeLate = 0;
 	private long lastTickTimestamp = 0;
 	private final Map<Integer, Long> incomingTimePerPacketOpcode = new HashMap<>();
@@ -285,6 +306,7 @@ public class Server implements Runnable {
 		entityHandler = new EntityHandler(this);
 		achievementSystem = new AchievementSystem(this);
 		playerService = new PlayerService(world, config, database);
+		playerLookupService = new PlayerLookupService(this);
 		i18nService = new I18NService(this);
 		ThreadPoolExecutor sqlLoggingExecutor = new ThreadPoolExecutor(
 			1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()
@@ -608,6 +630,7 @@ public class Server implements Runnable {
 				lastEventsDuration = 0;
 				lastOutgoingPacketsDuration = 0;
 				lastTickDuration = 0;
+				lastTickAllocatedBytes = 0;
 				timeLate = 0;
 				lastTickTimestamp = 0;
 				incomingTimePerPacketOpcode.clear();
@@ -637,6 +660,17 @@ public class Server implements Runnable {
 		return end - start;
 	}
 
+	/**
+	 * @return The bytes allocated by the calling thread so far, or -1 if the JVM can't tell.
+	 */
+	private static long getThreadAllocatedBytes() {
+		final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+			return -1;
+		}
+		return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
 	@Override
 	public void run() {
 		LogUtil.populateThreadContext(getConfig());
@@ -647,6 +681,7 @@ public class Server implements Runnable {
 					this.timeLate -= getConfig().GAME_TICK * 1000000L;
 
 					// Doing the set in two stages here such that the whole tick has access to the same values for profiling information.
+					final long allocatedBeforeTick = getThreadAllocatedBytes();
 					this.lastTickDuration = bench(() -> {
 						try {
 							resetBenchmarkDurations();
@@ -677,8 +712,12 @@ public class Server implements Runnable {
 							for (final Player player : getWorld().getPlayers()) {
 								player.processLogout();
 							}
-							for (final Player player : getWorld().getPlayers()) {
-								player.sendUpdates();
+							if (config.WANT_PARALLEL_CLIENT_UPDATES) {
+								getGameUpdater().sendUpdatesInParallel(getWorld().getPlayers());
+							} else {
+								for (final Player player : getWorld().getPlayers()) {
+									player.sendUpdates();
+								}
 							}
 
 							incrementLastDoCleanupDuration(getGameUpdater().doCleanup());
@@ -705,6 +744,7 @@ public class Server implements Runnable {
 							LOGGER.catching(t);
 						}
 					});
+					this.lastTickAllocatedBytes = allocatedBeforeTick == -1 ? -1 : getThreadAllocatedBytes() - allocatedBeforeTick;
 
 					monitorTickPerformance();
 
@@ -943,6 +983,13 @@ public class Server implements Runnable {
 		return lastTickDuration;
 	}
 
+	/**
+	 * @return The bytes the game thread allocated while processing the last tick, or -1 if the JVM can't tell.
+	 */
+	public final long getLastTickAllocatedBytes() {
+		return lastTickAllocatedBytes;
+	}
+
 	public final GameEventHandler getGameEventHandler() {
 		return gameEventHandler;
 	}
@@ -995,6 +1042,14 @@ public class Server implements Runnable {
 		return lastIncomingPacketsDuration;
 	}
 
+	public final long getLastOutgoingBytes() {
+		return lastOutgoingBytes;
+	}
+
+	public final long getLastOutgoingFlushes() {
+		return lastOutgoingFlushes;
+	}
+
 	public final long getLastOutgoingPacketsDuration() {
 		return lastOutgoingPacketsDuration;
 	}
@@ -1011,6 +1066,73 @@ public class Server implements Runnable {
 		return lastProcessNpcsDuration;
 	}
 
+	public long getLastActiveNpcs() {
+		return lastActiveNpcs;
+	}
+
+	/**
+	 * @return The npcs skipped last tick because no player had their region in view.
+	 */
+	public long getLastDormantNpcs() {
+		return lastDormantNpcs;
+	}
+
+	public synchronized long getSavedPlayers() {
+		return savedPlayers;
+	}
+
+	/**
+	 * @return The rows written by player saves since the server started.
+	 */
+	public synchronized long getSavedPlayerRows() {
+		return savedPlayerRows;
+	}
+
+	/**
+	 * @return The rows the same player saves would have written by rewriting everything they save.
+	 */
+	public synchronized long getSavedPlayerRowsFullRewrite() {
+		return savedPlayerRowsFullRewrite;
+	}
+
+	/**
+	 * @return The duration the given percentage of the latest logins completed within, in nanoseconds.
+	 */
+	public synchronized long getLoginDurationPercentile(final int percentile) {
+		if (loginDurationSamples == 0) {
+			return 0;
+		}
+		final long[] sorted = Arrays.copyOf(loginDurations, loginDurationSamples);
+		Arrays.sort(sorted);
+		final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	public synchronized int getLoginDurationSamples() {
+		return loginDurationSamples;
+	}
+
+	/**
+	 * @return The transactions player saves were written in since the server started.
+	 */
+	public synchronized long getSaveTransactions() {
+		return saveTransactions;
+	}
+
+	/**
+	 * @return The players written by those transactions, successful or not.
+	 */
+	public synchronized long getSaveTransactionPlayers() {
+		return saveTransactionPlayers;
+	}
+
+	/**
+	 * @return The save requests folded into one already queued for the same player.
+	 */
+	public synchronized long getCoalescedSaves() {
+		return coalescedSaves;
+	}
+
 	public long getLastProcessMessageQueuesDuration() {
 		return lastProcessMessageQueuesDuration;
 	}
@@ -1019,6 +1141,13 @@ public class Server implements Runnable {
 		return lastUpdateClientsDuration;
 	}
 
+	/**
+	 * @return The part of the last tick's client updates spent building update packets, the only part that can run in parallel.
+	 */
+	public long getLastUpdateClientsBuildDuration() {
+		return lastUpdateClientsBuildDuration;
+	}
+
 	public long getLastDoCleanupDuration() {
 		return lastDoCleanupDuration;
 	}
@@ -1089,6 +1218,10 @@ public class Server implements Runnable {
 
 	public IPlayerService getPlayerService() { return playerService; }
 
+	public PlayerLookupService getPlayerLookupService() {
+		return playerLookupService;
+	}
+
 	public AchievementSystem getAchievementSystem() {
 		return achievementSystem;
 	}
@@ -1173,6 +1306,11 @@ public class Server implements Runnable {
 		this.lastOutgoingPacketsDuration += duration;
 	}
 
+	public synchronized void incrementLastOutgoingTraffic(final long bytes, final long flushes) {
+		this.lastOutgoingBytes += bytes;
+		this.lastOutgoingFlushes += flushes;
+	}
+
 	public synchronized void incrementLastWorldUpdateDuration(final long duration) {
 		this.lastWorldUpdateDuration += duration;
 	}
@@ -1185,6 +1323,35 @@ public class Server implements Runnable {
 		this.lastProcessNpcsDuration += duration;
 	}
 
+	public synchronized void incrementLastNpcCounts(final long active, final long dormant) {
+		this.lastActiveNpcs += active;
+		this.lastDormantNpcs += dormant;
+	}
+
+	public synchronized void addLoginDuration(final long duration) {
+		loginDurations[loginDurationIndex] = duration;
+		loginDurationIndex = (loginDurationIndex + 1) % loginDurations.length;
+		loginDurationSamples = Math.min(loginDurationSamples + 1, loginDurations.length);
+	}
+
+	public synchronized void incrementSaveTransactions(final long players) {
+		this.saveTransactions++;
+		this.saveTransactionPlayers += players;
+	}
+
+	public synchronized void incrementCoalescedSaves() {
+		this.coalescedSaves++;
+	}
+
+	public synchronized void incrementSavedPlayers() {
+		this.savedPlayers++;
+	}
+
+	public synchronized void incrementSavedPlayerRows(final long rows, final long fullRewriteRows) {
+		this.savedPlayerRows += rows;
+		this.savedPlayerRowsFullRewrite += fullRewriteRows;
+	}
+
 	public synchronized void incrementLastProcessMessageQueuesDuration(final long duration) {
 		this.lastProcessMessageQueuesDuration += duration;
 	}
@@ -1193,6 +1360,10 @@ public class Server implements Runnable {
 		this.lastUpdateClientsDuration += duration;
 	}
 
+	public synchronized void incrementLastUpdateClientsBuildDuration(final long duration) {
+		this.lastUpdateClientsBuildDuration += duration;
+	}
+
 	public synchronized void incrementLastDoCleanupDuration(final long duration) {
 		this.lastDoCleanupDuration += duration;
 	}
@@ -1205,11 +1376,16 @@ public class Server implements Runnable {
 		this.lastIncomingPacketsDuration = 0;
 		this.lastEventsDuration = 0;
 		this.lastOutgoingPacketsDuration = 0;
+		this.lastOutgoingBytes = 0;
+		this.lastOutgoingFlushes = 0;
 		this.lastWorldUpdateDuration = 0;
 		this.lastProcessPlayersDuration = 0;
 		this.lastProcessNpcsDuration = 0;
+		this.lastActiveNpcs = 0;
+		this.lastDormantNpcs = 0;
 		this.lastProcessMessageQueuesDuration = 0;
 		this.lastUpdateClientsDuration = 0;
+		this.lastUpdateClientsBuildDuration = 0;
 		this.lastDoCleanupDuration = 0;
 		this.lastExecuteWalkToActionsDuration = 0;
 	}
@@ -2,6 +2,7 @@ package com.openrsc.server;
 
 import com.google.common.collect.ImmutableList;
 import com.openrsc.server.database.DatabaseType;
+import com.openrsc.server.database.LogOverflowPolicy;
 import com.openrsc.server.util.EntityList;
 import com.openrsc.server.util.SystemUtil;
 import com.openrsc.server.util.YMLReader;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 public class ServerConfiguration {
 
@@ -53,6 +55,9 @@ public class ServerConfiguration {
 	public String DB_USER;
 	public String DB_PASS;
 	public String DB_TABLE_PREFIX;
+	public int DB_POOL_SIZE;
+	public int DB_LOG_QUEUE_SIZE;
+	public LogOverflowPolicy DB_LOG_OVERFLOW;
 
 	public String SSL_SERVER_CERT_PATH;
 	public String SSL_SERVER_KEY_PATH;
@@ -74,10 +79,17 @@ public class ServerConfiguration {
 	public int MAX_PACKETS_PER_SECOND;
 	public int MAX_LOGINS_PER_SECOND;
 	public int MAX_LOGINS_PER_SERVER_PER_TICK;
+	public int LOGIN_WORKER_THREADS;
 	public int MAX_PASSWORD_GUESSES_PER_FIVE_MINUTES;
 	public int NETWORK_FLOOD_IP_BAN_MINUTES;
 	public boolean WANT_PCAP_LOGGING;
 	public boolean WANT_THREADING__BREAK_PID_PRIORITY;
+	public boolean WANT_VIRTUAL_PLUGIN_THREADS;
+	public boolean WANT_OUT_OF_MAP_REGIONS;
+	public boolean WANT_PARALLEL_CLIENT_UPDATES;
+	public boolean WANT_PARALLEL_NPC_PROCESSING;
+	public int PARALLEL_NPC_RANDOM_SEED;
+	public boolean WANT_DORMANT_REGIONS;
 	public boolean BREAK_NPC_LOCATION_CACHE;
 	public boolean IS_LOCALHOST_RESTRICTED;
 
@@ -388,6 +400,9 @@ public class ServerConfiguration {
 		DB_USER = tryReadString("db_user").orElse("root");
 		DB_PASS = tryReadString("db_pass").orElse("root");
 		DB_TABLE_PREFIX = tryReadString("db_table_prefix").orElse("");
+		DB_POOL_SIZE = tryReadInt("db_pool_size").orElse(1);
+		DB_LOG_QUEUE_SIZE = tryReadInt("db_log_queue_size").orElse(10000);
+		DB_LOG_OVERFLOW = LogOverflowPolicy.resolvePolicy(tryReadString("db_log_overflow").orElse(null));
 
 		// SSL settings
 		SSL_SERVER_CERT_PATH = tryReadString("ssl_server_cert_path").orElse("");
@@ -422,6 +437,7 @@ public class ServerConfiguration {
 		MAX_PACKETS_PER_SECOND = tryReadInt("max_packets_per_second").orElse(100);
 		MAX_LOGINS_PER_SECOND = tryReadInt("max_logins_per_second").orElse(2);
 		MAX_LOGINS_PER_SERVER_PER_TICK = tryReadInt("max_logins_per_server_per_tick").orElse(5);
+		LOGIN_WORKER_THREADS = tryReadInt("login_worker_threads").orElse(4);
 		MAX_PASSWORD_GUESSES_PER_FIVE_MINUTES = tryReadInt("max_password_guesses_per_five_minutes").orElse(10);
 		NETWORK_FLOOD_IP_BAN_MINUTES = tryReadInt("network_flood_ip_ban_minutes").orElse(5);
 		int SUSPICIOUS_PLAYER_IP_BAN_MINUTES = tryReadInt("suspicious_player_ip_ban_minutes").orElse(60);
@@ -433,6 +449,12 @@ public class ServerConfiguration {
 		MEMBER_WORLD = tryReadBool("member_world").orElse(true);
 		WANT_PCAP_LOGGING = tryReadBool("want_pcap_logging").orElse(false);
 		WANT_THREADING__BREAK_PID_PRIORITY = tryReadBool("want_threading__break_pid_priority").orElse(false);
+		WANT_VIRTUAL_PLUGIN_THREADS = tryReadBool("want_virtual_plugin_threads").orElse(false);
+		WANT_OUT_OF_MAP_REGIONS = tryReadBool("want_out_of_map_regions").orElse(false);
+		WANT_PARALLEL_CLIENT_UPDATES = tryReadBool("want_parallel_client_updates").orElse(false);
+		WANT_PARALLEL_NPC_PROCESSING = tryReadBool("want_parallel_npc_processing").orElse(false);
+		PARALLEL_NPC_RANDOM_SEED = tryReadInt("parallel_npc_random_seed").orElse(new Random().nextInt());
+		WANT_DORMANT_REGIONS = tryReadBool("want_dormant_regions").orElse(false);
 		BREAK_NPC_LOCATION_CACHE = tryReadBool("break_npc_location_cache").orElse(false);
 		WORLD_NUMBER = tryReadInt("world_number").orElse(1);
 		PLAYER_LEVEL_LIMIT = tryReadInt("player_level_limit").orElse(99);
@@ -15,13 +15,17 @@ import com.openrsc.server.external.ItemLoc;
 import com.openrsc.server.external.NPCLoc;
 import com.openrsc.server.external.SkillDef;
 import com.openrsc.server.model.Point;
+import com.openrsc.server.model.SaveState;
+import com.openrsc.server.model.container.Bank;
 import com.openrsc.server.model.container.BankPreset;
 import com.openrsc.server.model.container.Equipment;
+import com.openrsc.server.model.container.Inventory;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.UnregisterForcefulness;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.player.PlayerSettings;
+import com.openrsc.server.util.NamedThreadFactory;
 import com.openrsc.server.util.SystemUtil;
 import com.openrsc.server.util.checked.CheckedRunnable;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -32,6 +36,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class GameDatabase {
@@ -42,6 +50,7 @@ public abstract class GameDatabase {
 
 	public final Server server;
 	private volatile AtomicBoolean open = new AtomicBoolean(false);
+	private volatile ExecutorService loadExecutor = null;
 
 	public GameDatabase(final Server server) {
 		this.server = server;
@@ -54,12 +63,19 @@ public abstract class GameDatabase {
 
 	protected abstract void closeInternal();
 
-	protected abstract void startTransaction() throws GameDatabaseException;
+	protected abstract void startTransaction(boolean readOnly) throws GameDatabaseException;
 
 	protected abstract void commitTransaction() throws GameDatabaseException;
 
 	protected abstract void rollbackTransaction() throws GameDatabaseException;
 
+	/**
+	 * The amount of read only units of work the database can run side by side, each on a connection of its own.
+	 */
+	protected int getParallelReads() {
+		return 1;
+	}
+
 	protected abstract void initializeOnlinePlayers() throws GameDatabaseException;
 
 	protected abstract boolean queryPlayerExists(int playerId) throws GameDatabaseException;
@@ -211,6 +227,11 @@ public abstract class GameDatabase {
 
 	public abstract void querySavePlayerEquipped(int playerId, PlayerEquipped[] equipment) throws GameDatabaseException;
 
+	/**
+	 * Writes only the item rows of a container that changed since it was last saved.
+	 */
+	public abstract void querySavePlayerItemChanges(int playerId, ItemStore store, SaveState.Changes<Integer, PlayerItem> changes) throws GameDatabaseException;
+
 	public abstract void savePlayerBank(int playerId, PlayerBank[] bank) throws GameDatabaseException;
 
 	public abstract void querySavePlayerBankPresets(int playerId, PlayerBankPreset[] bankPreset) throws GameDatabaseException;
@@ -225,6 +246,11 @@ public abstract class GameDatabase {
 
 	public abstract void querySavePlayerCache(int playerId, PlayerCache[] cache) throws GameDatabaseException;
 
+	/**
+	 * Writes only the cache entries that changed since the cache was last saved.
+	 */
+	public abstract void querySavePlayerCacheChanges(int playerId, SaveState.Changes<String, PlayerCache> changes) throws GameDatabaseException;
+
 	public abstract void querySavePlayerNpcKills(int playerId, PlayerNpcKills[] kills) throws GameDatabaseException;
 
 	public abstract void querySavePlayerMaxSkills(int playerId, PlayerSkills[] maxSkillLevels) throws GameDatabaseException;
@@ -305,6 +331,10 @@ public abstract class GameDatabase {
 			try {
 				openInternal();
 				initializeOnlinePlayers();
+				if (getParallelReads() > 1) {
+					loadExecutor = Executors.newFixedThreadPool(getParallelReads(),
+						new NamedThreadFactory(getServer().getName() + " : DatabaseLoad", getServer().getConfig()));
+				}
 				open.set(true);
 			} catch (final GameDatabaseException ex) {
 				LOGGER.catching(ex);
@@ -315,14 +345,31 @@ public abstract class GameDatabase {
 
 	public void close() {
 		synchronized (open) {
+			if (loadExecutor != null) {
+				loadExecutor.shutdownNow();
+				loadExecutor = null;
+			}
 			closeInternal();
 			open.set(false);
 		}
 	}
 
 	public boolean atomically(CheckedRunnable<Exception> runnable) {
+		return atomically(false, runnable);
+	}
+
+	/**
+	 * @param readOnly Whether the transaction only reads, which lets the database run it alongside writers
+	 */
+	public boolean atomically(final boolean readOnly, CheckedRunnable<Exception> runnable) {
+		try {
+			startTransaction(readOnly);
+		} catch (final Exception ex) {
+			// No connection was leased, so there is nothing to roll back.
+			LOGGER.catching(ex);
+			return false;
+		}
 		try {
-			startTransaction();
 			runnable.run();
 			commitTransaction();
 			return true;
@@ -338,6 +385,89 @@ public abstract class GameDatabase {
 		}
 	}
 
+	/**
+	 * Fetches the records of a player whose {@link PlayerData} has already been loaded, so their database id is known.
+	 * When the database can serve several readers at once, every kind of record is fetched on a connection of its own
+	 * and the records are handed back once all of them have arrived. Otherwise they are fetched one after another in a
+	 * single read only transaction.
+	 */
+	public PlayerRecords loadPlayerRecords(final Player player) throws GameDatabaseException {
+		final PlayerRecords records = new PlayerRecords();
+		final List<CheckedRunnable<GameDatabaseException>> fetches = new ArrayList<>();
+		fetches.add(() -> records.experience = queryLoadPlayerExperience(player.getDatabaseID()));
+		fetches.add(() -> records.levels = queryLoadPlayerSkills(player, false));
+		fetches.add(() -> {
+			try {
+				records.maxLevels = queryLoadPlayerSkills(player, true);
+			} catch (final NoSuchElementException e) {
+				records.maxLevels = null;
+			}
+		});
+		fetches.add(() -> records.experienceCapped = queryLoadPlayerExperienceCapped(player.getDatabaseID()));
+		fetches.add(() -> records.recoveryChanges = queryPlayerRecoveryChanges(player));
+		if (getServer().getConfig().WANT_EQUIPMENT_TAB) {
+			fetches.add(() -> records.equipped = queryLoadPlayerEquipped(player));
+		}
+		fetches.add(() -> records.inventory = queryLoadPlayerInvItems(player.getDatabaseID()));
+		fetches.add(() -> records.bank = queryLoadPlayerBankItems(player.getDatabaseID()));
+		if (getServer().getConfig().WANT_BANK_PRESETS) {
+			fetches.add(() -> records.bankPresets = queryLoadPlayerBankPresets(player));
+		}
+		fetches.add(() -> records.friends = queryLoadPlayerFriends(player));
+		fetches.add(() -> records.ignored = queryLoadPlayerIgnored(player));
+		fetches.add(() -> records.quests = queryLoadPlayerQuests(player));
+		fetches.add(() -> records.cache = queryLoadPlayerCache(player));
+		fetches.add(() -> records.npcKills = queryLoadPlayerNpcKills(player));
+
+		final ExecutorService executor = loadExecutor;
+		if (executor == null) {
+			readAtomically(() -> {
+				for (final CheckedRunnable<GameDatabaseException> fetch : fetches) {
+					fetch.run();
+				}
+			});
+			return records;
+		}
+
+		final List<Future<?>> pending = new ArrayList<>();
+		for (final CheckedRunnable<GameDatabaseException> fetch : fetches) {
+			pending.add(executor.submit(() -> {
+				readAtomically(fetch);
+				return null;
+			}));
+		}
+		try {
+			for (final Future<?> future : pending) {
+				future.get();
+			}
+		} catch (final ExecutionException ex) {
+			if (ex.getCause() instanceof GameDatabaseException) {
+				throw (GameDatabaseException) ex.getCause();
+			}
+			throw new GameDatabaseException(GameDatabase.class, String.valueOf(ex.getCause()));
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new GameDatabaseException(GameDatabase.class, "Interrupted while loading " + player.getUsername());
+		} finally {
+			pending.forEach(future -> future.cancel(false));
+		}
+		return records;
+	}
+
+	private void readAtomically(final CheckedRunnable<GameDatabaseException> read) throws GameDatabaseException {
+		startTransaction(true);
+		boolean committed = false;
+		try {
+			read.run();
+			commitTransaction();
+			committed = true;
+		} finally {
+			if (!committed) {
+				rollbackTransaction();
+			}
+		}
+	}
+
 	// Creates a new player. If successful, will return the new player's ID. Otherwise, returns -1.
 	public int createPlayer(String username, String email, String password, long creationDate, String ip) throws GameDatabaseException {
 		queryCreatePlayer(username, email, password, creationDate, ip);
@@ -805,22 +935,41 @@ public abstract class GameDatabase {
 	}
 
 	public void savePlayerInventory(Player player) throws GameDatabaseException {
-		final int invSize = player.getCarriedItems().getInventory().size();
-		final PlayerInventory[] inventory = new PlayerInventory[invSize];
+		final Inventory playerInventory = player.getCarriedItems().getInventory();
+		final List<Item> items;
+		synchronized (playerInventory.getItems()) {
+			items = new ArrayList<>(playerInventory.getItems());
+		}
 
-		for (int i = 0; i < invSize; i++) {
+		final Map<Integer, PlayerItem> rows = new LinkedHashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			final Item item = items.get(i);
+			rows.put(item.getItemId(), new PlayerItem(item.getItemId(), i, item.getCatalogId(), item.getAmount(),
+				item.getNoted(), item.isWielded(), 100));
+		}
+
+		final SaveState.Changes<Integer, PlayerItem> changes = prepareItemChanges(playerInventory.getSaveState(), rows, items.size());
+		if (changes != null) {
+			querySavePlayerItemChanges(player.getDatabaseID(), ItemStore.INVENTORY, changes);
+			countItemChanges(changes, rows.size());
+			return;
+		}
+
+		final PlayerInventory[] inventory = new PlayerInventory[items.size()];
+		for (int i = 0; i < items.size(); i++) {
 			inventory[i] = new PlayerInventory();
-			inventory[i].itemId = player.getCarriedItems().getInventory().get(i).getItemId();
-			inventory[i].item = player.getCarriedItems().getInventory().get(i);
-			inventory[i].wielded = player.getCarriedItems().getInventory().get(i).isWielded();
+			inventory[i].itemId = items.get(i).getItemId();
+			inventory[i].item = items.get(i);
+			inventory[i].wielded = items.get(i).isWielded();
 			inventory[i].slot = i;
-			inventory[i].amount = player.getCarriedItems().getInventory().get(i).getAmount();
-			inventory[i].noted = player.getCarriedItems().getInventory().get(i).getNoted();
-			inventory[i].catalogID = player.getCarriedItems().getInventory().get(i).getCatalogId();
+			inventory[i].amount = items.get(i).getAmount();
+			inventory[i].noted = items.get(i).getNoted();
+			inventory[i].catalogID = items.get(i).getCatalogId();
 			inventory[i].durability = 100;
 		}
 
 		savePlayerInventory(player.getDatabaseID(), inventory);
+		countFullRewrite(2 * inventory.length);
 	}
 
 	public void querySavePlayerEquipped(Player player) throws GameDatabaseException {
@@ -829,34 +978,97 @@ public abstract class GameDatabase {
 
 			final ArrayList<PlayerEquipped> list = new ArrayList<>();
 
+			final Equipment playerEquipment = player.getCarriedItems().getEquipment();
+			final Map<Integer, PlayerItem> rows = new LinkedHashMap<>();
+
 			for (int i = 0; i < equipSize; i++) {
-				final Item item = player.getCarriedItems().getEquipment().get(i);
+				final Item item = playerEquipment.get(i);
 				if (item != null) {
 					final PlayerEquipped equipment = new PlayerEquipped();
 					equipment.playerId = player.getDatabaseID();
 					equipment.itemId = item.getItemId();
 					equipment.itemStatus = item.getItemStatus();
 					list.add(equipment);
+					rows.put(item.getItemId(), new PlayerItem(item.getItemId(), 0, item.getCatalogId(), item.getAmount(),
+						item.getNoted(), true, item.getItemStatus().getDurability()));
 				}
 			}
 
+			final SaveState.Changes<Integer, PlayerItem> changes = prepareItemChanges(playerEquipment.getSaveState(), rows, list.size());
+			if (changes != null) {
+				querySavePlayerItemChanges(player.getDatabaseID(), ItemStore.EQUIPPED, changes);
+				countItemChanges(changes, rows.size());
+				return;
+			}
+
 			final PlayerEquipped[] equippedItems = list.toArray(new PlayerEquipped[0]);
 
 			querySavePlayerEquipped(player.getDatabaseID(), equippedItems);
+			countFullRewrite(2 * equippedItems.length);
 		}
 	}
 
 	public void savePlayerBank(Player player) throws GameDatabaseException {
-		final int bankSize = player.getBank().size();
-		final PlayerBank[] bank = new PlayerBank[bankSize];
+		final Bank playerBank = player.getBank();
+		final List<Item> items;
+		synchronized (playerBank.getItems()) {
+			items = new ArrayList<>(playerBank.getItems());
+		}
+
+		final Map<Integer, PlayerItem> rows = new LinkedHashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			final Item item = items.get(i);
+			rows.put(item.getItemId(), new PlayerItem(item.getItemId(), i, item.getCatalogId(), item.getAmount(),
+				item.getNoted(), false, item.getItemStatus().getDurability()));
+		}
 
-		for (int i = 0; i < bankSize; i++) {
+		final SaveState.Changes<Integer, PlayerItem> changes = prepareItemChanges(playerBank.getSaveState(), rows, items.size());
+		if (changes != null) {
+			querySavePlayerItemChanges(player.getDatabaseID(), ItemStore.BANK, changes);
+			countItemChanges(changes, rows.size());
+			return;
+		}
+
+		final PlayerBank[] bank = new PlayerBank[items.size()];
+		for (int i = 0; i < items.size(); i++) {
 			bank[i] = new PlayerBank();
-			bank[i].itemId = player.getBank().get(i).getItemId();
-			bank[i].itemStatus = player.getBank().get(i).getItemStatus();
+			bank[i].itemId = items.get(i).getItemId();
+			bank[i].itemStatus = items.get(i).getItemStatus();
 		}
 
 		savePlayerBank(player.getDatabaseID(), bank);
+		countFullRewrite(2 * bank.length);
+	}
+
+	/**
+	 * @param itemCount The amount of items in the container, which only differs from the amount of rows if items
+	 *                  share an id, in which case the container is rewritten in full
+	 * @return The rows to write, or null if the container has to be rewritten in full
+	 */
+	private SaveState.Changes<Integer, PlayerItem> prepareItemChanges(final SaveState<Integer, PlayerItem> saveState,
+																	   final Map<Integer, PlayerItem> rows, final int itemCount) {
+		if (rows.size() != itemCount) {
+			saveState.invalidate();
+			return null;
+		}
+		return saveState.prepare(rows);
+	}
+
+	/**
+	 * Counts the rows written by saving the changes of a container, against the rows a full rewrite would have
+	 * deleted and reinserted. Every item is a container row and an itemstatuses row.
+	 */
+	private void countItemChanges(final SaveState.Changes<Integer, PlayerItem> changes, final int itemCount) {
+		long written = 2L * (changes.getAdded().size() + changes.getRemoved().size());
+		for (final Map.Entry<Integer, PlayerItem> row : changes.getChanged().entrySet()) {
+			final PlayerItem previous = changes.getPrevious(row.getKey());
+			written += (previous.slot != row.getValue().slot ? 1 : 0) + (previous.sameStatus(row.getValue()) ? 0 : 1);
+		}
+		getServer().incrementSavedPlayerRows(written, 2L * (changes.getPreviousSize() + itemCount));
+	}
+
+	private void countFullRewrite(final long rows) {
+		getServer().incrementSavedPlayerRows(rows, rows);
 	}
 
 	public void querySavePlayerBankPresets(Player player) throws GameDatabaseException {
@@ -965,30 +1177,39 @@ public abstract class GameDatabase {
 	}
 
 	public void querySavePlayerCache(Player player) throws GameDatabaseException {
-		final int cacheSize = player.getCache().getCacheMap().size();
-		final PlayerCache[] caches = new PlayerCache[cacheSize];
-
-		int i = 0;
-		for (final String key : player.getCache().getCacheMap().keySet()) {
-			final Object o = player.getCache().getCacheMap().get(key);
+		final Map<String, PlayerCache> rows = new LinkedHashMap<>();
+		for (final Map.Entry<String, Object> entry : player.getCache().getCacheMap().entrySet()) {
+			final Object o = entry.getValue();
 
-			caches[i] = new PlayerCache();
-			caches[i].value = o != null ? o.toString() : null;
-			caches[i].key = key;
+			final PlayerCache cache = new PlayerCache();
+			cache.value = o != null ? o.toString() : null;
+			cache.key = entry.getKey();
 
 			if (o instanceof Integer) {
-				caches[i].type = 0;
+				cache.type = 0;
 			} else if (o instanceof String) {
-				caches[i].type = 1;
+				cache.type = 1;
 			} else if (o instanceof Boolean) {
-				caches[i].type = 2;
+				cache.type = 2;
 			} else if (o instanceof Long) {
-				caches[i].type = 3;
+				cache.type = 3;
 			}
-			i++;
+			rows.put(cache.key, cache);
 		}
 
+		final SaveState.Changes<String, PlayerCache> changes = player.getCache().getSaveState().prepare(rows);
+		if (changes != null) {
+			querySavePlayerCacheChanges(player.getDatabaseID(), changes);
+			// A changed key is deleted and inserted again.
+			getServer().incrementSavedPlayerRows(
+				changes.getAdded().size() + 2L * changes.getChanged().size() + changes.getRemoved().size(),
+				changes.getPreviousSize() + rows.size());
+			return;
+		}
+
+		final PlayerCache[] caches = rows.values().toArray(new PlayerCache[0]);
 		querySavePlayerCache(player.getDatabaseID(), caches);
+		countFullRewrite(caches.length);
 	}
 
 	public void querySavePlayerNpcKills(Player player) throws GameDatabaseException {
@@ -1011,26 +1232,47 @@ public abstract class GameDatabase {
 		final int skillsSize = getServer().getConstants().getSkills().getSkillsCount();
 		final PlayerSkills[] skills = new PlayerSkills[skillsSize];
 
+		final Map<Integer, Integer> rows = new HashMap<>();
+
 		for (int i = 0; i < skillsSize; i++) {
 			skills[i] = new PlayerSkills();
 			skills[i].skillId = i;
 			skills[i].skillLevel = player.getSkills().getLevel(i);
+			rows.put(i, skills[i].skillLevel);
+		}
+
+		// Levels are a single row, it is only left alone if no level changed.
+		final SaveState.Changes<Integer, Integer> changes = player.getSkills().getLevelsSaveState().prepare(rows);
+		if (changes != null && changes.isEmpty()) {
+			getServer().incrementSavedPlayerRows(0, 1);
+			return;
 		}
 
 		querySavePlayerSkills(player.getDatabaseID(), skills);
+		countFullRewrite(1);
 	}
 
 	public void querySavePlayerExperience(Player player) throws GameDatabaseException {
 		final int skillsSize = getServer().getConstants().getSkills().getSkillsCount();
 		final PlayerExperience[] skills = new PlayerExperience[skillsSize];
 
+		final Map<Integer, Integer> rows = new HashMap<>();
+
 		for (int i = 0; i < skillsSize; i++) {
 			skills[i] = new PlayerExperience();
 			skills[i].skillId = i;
 			skills[i].experience = player.getSkills().getExperience(i);
+			rows.put(i, skills[i].experience);
+		}
+
+		final SaveState.Changes<Integer, Integer> changes = player.getSkills().getExperienceSaveState().prepare(rows);
+		if (changes != null && changes.isEmpty()) {
+			getServer().incrementSavedPlayerRows(0, 1);
+			return;
 		}
 
 		querySavePlayerExperience(player.getDatabaseID(), skills);
+		countFullRewrite(1);
 	}
 
 	public void querySavePlayerMaxSkills(Player player) throws GameDatabaseException {
@@ -1,18 +1,88 @@
 package com.openrsc.server.database;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * A bounded pool of JDBC connections.
+ *
+ * The first connection of the pool is shared, it serves every statement that is run outside of a unit of work, the
+ * same way the single connection of the database always has. The remaining connections are leased to one thread at a
+ * time for the length of a unit of work, see {@link #beginWork(boolean)}. A unit of work that can't be given a
+ * connection of its own, because the pool only holds the shared connection or because it has to write to a single
+ * writer database, leases the shared connection and holds it exclusively until the unit ends. Statements run outside
+ * of a unit of work wait for such a unit to end before they execute, so they never become part of its transaction.
+ * Units of work on leased connections don't wait on the shared connection at all.
+ *
+ * Only statements executed through this class are guarded that way, a caller using {@link #getConnection()} directly
+ * outside of a unit of work has to start one itself.
+ *
+ * Every connection keeps the prepared statements that were closed by their callers and hands them out again when the
+ * same query is prepared on it.
+ */
 public abstract class JDBCDatabaseConnection {
-    public synchronized int executeUpdate(final String string) throws SQLException {
-        return getStatement().executeUpdate(string);
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * The amount of closed prepared statements kept per query on a single connection.
+     */
+    private static final int CACHED_STATEMENTS_PER_QUERY = 4;
+
+    /**
+     * How long a unit of work waits for a connection before giving up.
+     */
+    private static final long BORROW_TIMEOUT_SECONDS = 30;
+
+    private final List<PooledConnection> connections = new ArrayList<>();
+    private final BlockingQueue<PooledConnection> idle = new LinkedBlockingQueue<>();
+    private final ThreadLocal<Lease> lease = new ThreadLocal<>();
+    private final ReentrantLock sharedLock = new ReentrantLock(true);
+    private volatile PooledConnection shared;
+
+    public int executeUpdate(final String string) throws SQLException {
+        final PooledConnection connection = current();
+        final ReentrantLock lock = sharedLock();
+        lockShared(lock);
+        try {
+            synchronized (connection) {
+                return connection.statement.executeUpdate(string);
+            }
+        } finally {
+            unlockShared(lock);
+        }
     }
 
-    public synchronized ResultSet executeQuery(final String string) throws SQLException {
-        return getStatement().executeQuery(string);
+    public ResultSet executeQuery(final String string) throws SQLException {
+        final PooledConnection connection = current();
+        final ReentrantLock lock = sharedLock();
+        lockShared(lock);
+        try {
+            synchronized (connection) {
+                return connection.statement.executeQuery(string);
+            }
+        } finally {
+            unlockShared(lock);
+        }
     }
 
     /**
@@ -22,21 +92,204 @@ public abstract class JDBCDatabaseConnection {
      * @return The MySQL query to run represented as a java.sql.PreparedStatement
      * @throws SQLException if there was an error when preparing the statement
      */
-    public synchronized PreparedStatement prepareStatement(final String statement) throws SQLException {
-        return getConnection().prepareStatement(statement);
+    public PreparedStatement prepareStatement(final String statement) throws SQLException {
+        final PooledConnection connection = current();
+        synchronized (connection) {
+            return connection.prepare(statement, sharedLock());
+        }
+    }
+
+    public PreparedStatement prepareStatement(final String statement, final String[] generatedColumns) throws SQLException {
+        final PooledConnection connection = current();
+        synchronized (connection) {
+            return SharedStatement.wrap(connection.connection.prepareStatement(statement, generatedColumns), sharedLock());
+        }
+    }
+
+    public PreparedStatement prepareStatement(final String statement, final int returnKeys) throws SQLException {
+        final PooledConnection connection = current();
+        synchronized (connection) {
+            return SharedStatement.wrap(connection.connection.prepareStatement(statement, returnKeys), sharedLock());
+        }
+    }
+
+    /**
+     * Starts a unit of work on the calling thread. Until the matching {@link #endWork()}, every statement the thread
+     * runs through this connection goes to the connection it leased. Units of work nest, the outermost one decides
+     * the connection.
+     *
+     * @param readOnly Whether the unit only reads, which lets a single writer database run it on a reader
+     * @throws SQLException if no connection became available in time
+     */
+    public void beginWork(final boolean readOnly) throws SQLException {
+        final Lease current = lease.get();
+        if (current != null) {
+            current.depth++;
+            return;
+        }
+
+        final PooledConnection owned = readOnly || !isSingleWriter() ? borrow() : null;
+        if (owned != null) {
+            lease.set(new Lease(owned, false));
+            return;
+        }
+
+        lockShared(sharedLock);
+        lease.set(new Lease(shared, true));
+    }
+
+    /**
+     * Ends the unit of work started by {@link #beginWork(boolean)}, giving its connection back to the pool.
+     */
+    public void endWork() {
+        final Lease current = lease.get();
+        if (current == null || --current.depth > 0) {
+            return;
+        }
+
+        lease.remove();
+        if (current.shared) {
+            sharedLock.unlock();
+        } else if (current.connection.open) {
+            idle.offer(current.connection);
+        }
     }
 
-    public synchronized PreparedStatement prepareStatement(final String statement, final String[] generatedColumns) throws SQLException {
-        return getConnection().prepareStatement(statement, generatedColumns);
+    public int getPoolSize() {
+        synchronized (connections) {
+            return connections.size();
+        }
     }
 
-    public synchronized PreparedStatement prepareStatement(final String statement, final int returnKeys) throws SQLException {
-        return getConnection().prepareStatement(statement, returnKeys);
+    public int getIdleConnections() {
+        return idle.size();
     }
 
-    protected abstract Statement getStatement();
+    /**
+     * Opens the connections of the pool, the first of which becomes the shared connection.
+     *
+     * @return Whether every connection could be opened
+     */
+    protected boolean openPool(final int size) throws SQLException {
+        closePool();
+        synchronized (connections) {
+            for (int i = 0; i < Math.max(size, 1); i++) {
+                final PooledConnection connection = new PooledConnection(createConnection());
+                connections.add(connection);
+                if (i == 0) {
+                    shared = connection;
+                } else {
+                    idle.offer(connection);
+                }
+            }
+        }
+        return checkConnection();
+    }
 
-    public abstract Connection getConnection();
+    protected void closePool() {
+        synchronized (connections) {
+            for (final PooledConnection connection : connections) {
+                connection.close();
+            }
+            connections.clear();
+            idle.clear();
+            shared = null;
+        }
+    }
+
+    /**
+     * @return A connection of the pool which isn't leased, or null if the pool has no connections besides the shared one
+     */
+    private PooledConnection borrow() throws SQLException {
+        if (getPoolSize() <= 1) {
+            return null;
+        }
+        try {
+            final PooledConnection connection = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (connection == null) {
+                throw new SQLException("Timed out waiting for a pooled database connection");
+            }
+            return connection;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled database connection", e);
+        }
+    }
+
+    private PooledConnection current() throws SQLException {
+        final Lease current = lease.get();
+        final PooledConnection connection = current != null ? current.connection : shared;
+        if (connection == null) {
+            throw new SQLException("The database connection is not open");
+        }
+        return connection;
+    }
+
+    /**
+     * @return The connection statements on the calling thread currently go to
+     */
+    public Connection getConnection() {
+        final Lease current = lease.get();
+        final PooledConnection connection = current != null ? current.connection : shared;
+        return connection != null ? connection.connection : null;
+    }
+
+    /**
+     * @return The lock statements on the calling thread have to hold while they execute, or null if the thread is in a
+     * unit of work and its statements go to the connection it leased
+     */
+    private ReentrantLock sharedLock() {
+        return lease.get() == null ? sharedLock : null;
+    }
+
+    private static void lockShared(final ReentrantLock lock) throws SQLException {
+        if (lock == null) {
+            return;
+        }
+        try {
+            if (!lock.tryLock(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new SQLException("Timed out waiting for the shared database connection");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the shared database connection", e);
+        }
+    }
+
+    private static void unlockShared(final ReentrantLock lock) {
+        if (lock != null) {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invokes a method of a statement, holding the lock of the shared connection while it executes.
+     */
+    private static Object invoke(final Statement statement, final ReentrantLock lock, final Method method,
+                                 final Object[] args) throws Throwable {
+        final ReentrantLock held = method.getName().startsWith("execute") ? lock : null;
+        lockShared(held);
+        try {
+            return method.invoke(statement, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            unlockShared(held);
+        }
+    }
+
+    /**
+     * Opens a new physical connection to the database for the pool.
+     */
+    protected abstract Connection createConnection() throws SQLException;
+
+    /**
+     * Whether the database only allows a single writer, in which case units of work that write are run on the
+     * shared connection.
+     */
+    protected boolean isSingleWriter() {
+        return false;
+    }
 
     protected abstract boolean checkConnection();
 
@@ -47,4 +300,173 @@ public abstract class JDBCDatabaseConnection {
     public abstract void close();
 
     public abstract DatabaseType getDatabaseType();
+
+    private static final class Lease {
+        private final PooledConnection connection;
+        private final boolean shared;
+        private int depth = 1;
+
+        private Lease(final PooledConnection connection, final boolean shared) {
+            this.connection = connection;
+            this.shared = shared;
+        }
+    }
+
+    private static final class PooledConnection {
+        private final Connection connection;
+        private final Statement statement;
+        private final Map<String, Deque<PreparedStatement>> cachedStatements = new HashMap<>();
+        private volatile boolean open = true;
+
+        private PooledConnection(final Connection connection) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.createStatement();
+            this.statement.setEscapeProcessing(true);
+        }
+
+        private PreparedStatement prepare(final String query, final ReentrantLock lock) throws SQLException {
+            final Deque<PreparedStatement> cached = cachedStatements.get(query);
+            PreparedStatement statement = cached != null ? cached.pollFirst() : null;
+            // Callers may have closed the statement itself through its result set.
+            while (statement != null && statement.isClosed()) {
+                statement = cached.pollFirst();
+            }
+            if (statement == null) {
+                statement = connection.prepareStatement(query);
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new CachedStatement(this, query, statement, lock)
+            );
+        }
+
+        private synchronized void release(final String query, final PreparedStatement statement) {
+            if (open) {
+                final Deque<PreparedStatement> cached = cachedStatements.computeIfAbsent(query, key -> new ArrayDeque<>());
+                if (cached.size() < CACHED_STATEMENTS_PER_QUERY) {
+                    cached.offerFirst(statement);
+                    return;
+                }
+            }
+            closeQuietly(statement);
+        }
+
+        private synchronized void close() {
+            open = false;
+            for (final Deque<PreparedStatement> cached : cachedStatements.values()) {
+                cached.forEach(PooledConnection::closeQuietly);
+            }
+            cachedStatements.clear();
+            closeQuietly(statement);
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                LOGGER.catching(e);
+            }
+        }
+
+        private static void closeQuietly(final Statement statement) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                LOGGER.catching(e);
+            }
+        }
+    }
+
+    /**
+     * Hands a prepared statement back to its connection's cache instead of closing it.
+     */
+    private static final class CachedStatement implements InvocationHandler {
+        private final PooledConnection owner;
+        private final String query;
+        private final PreparedStatement statement;
+        private final ReentrantLock lock;
+        private boolean closed = false;
+
+        private CachedStatement(final PooledConnection owner, final String query, final PreparedStatement statement,
+                                final ReentrantLock lock) {
+            this.owner = owner;
+            this.query = query;
+            this.statement = statement;
+            this.lock = lock;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        recycle();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return statement.toString();
+                default:
+                    if (closed) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    return JDBCDatabaseConnection.invoke(statement, lock, method, args);
+            }
+        }
+
+        private void recycle() {
+            try {
+                final ResultSet resultSet = statement.getResultSet();
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+            } catch (final SQLException e) {
+                PooledConnection.closeQuietly(statement);
+                return;
+            }
+            owner.release(query, statement);
+        }
+    }
+
+    /**
+     * Holds the lock of the shared connection while a statement prepared outside of a unit of work executes.
+     */
+    private static final class SharedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final ReentrantLock lock;
+
+        private SharedStatement(final PreparedStatement statement, final ReentrantLock lock) {
+            this.statement = statement;
+            this.lock = lock;
+        }
+
+        private static PreparedStatement wrap(final PreparedStatement statement, final ReentrantLock lock) {
+            if (lock == null) {
+                return statement;
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new SharedStatement(statement, lock)
+            );
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return JDBCDatabaseConnection.invoke(statement, lock, method, args);
+            }
+        }
+    }
 }
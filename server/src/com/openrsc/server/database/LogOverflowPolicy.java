@@ -0,0 +1,31 @@
+package com.openrsc.server.database;
+
+/**
+ * What the game logger does with a log row when its queue is full.
+ */
+public enum LogOverflowPolicy {
+	/**
+	 * Wait for the queue to make room, for a bounded time, then drop the row. Most rows are added on the game thread,
+	 * so while the database is down every row holds up the tick.
+	 */
+	BLOCK,
+	/**
+	 * Write the row to a file on disk, it is read back once the queue has drained. Only INSERTs are spilled, any
+	 * other statement waits for room as with {@link #BLOCK}.
+	 */
+	SPILL,
+	/**
+	 * Drop the row and count it.
+	 */
+	DROP;
+
+	public static final LogOverflowPolicy DEFAULT = SPILL;
+
+	public static LogOverflowPolicy resolvePolicy(String policy) {
+		try {
+			return LogOverflowPolicy.valueOf(policy.toUpperCase());
+		} catch (Exception e) {
+			return LogOverflowPolicy.DEFAULT;
+		}
+	}
+}
@@ -0,0 +1,388 @@
+package com.openrsc.server.database.impl.mysql;
+
+import com.openrsc.server.database.impl.mysql.queries.Query;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Game log rows that didn't fit in the logger's queue, kept on disk until the queue has room for them again.
+ *
+ * A row is stored as its statement and the values it binds, so it can be written long after the query that made it
+ * is gone, including after a restart. New rows are appended to the spill file, reading starts by moving that file
+ * aside so rows spilled while reading go to a fresh one.
+ *
+ * Rows read back only count as written once {@link #commit()} is called. How far the moved aside file has been
+ * committed is kept next to it, so rows written before a stop or a crash aren't read again on the next start.
+ */
+final class GameLogSpill {
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INT = 2;
+	private static final byte LONG = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte BOOLEAN = 6;
+
+	private final File file;
+	private final File replayFile;
+	private final File offsetFile;
+	private DataOutputStream out;
+	private DataInputStream in;
+	private CountingInputStream position;
+	private boolean readToEnd;
+
+	GameLogSpill(final File file) {
+		this.file = file;
+		this.replayFile = new File(file.getPath() + ".replay");
+		this.offsetFile = new File(file.getPath() + ".offset");
+	}
+
+	synchronized void write(final Query query) throws IOException, SQLException {
+		final Object[] parameters = capture(query);
+		if (out == null) {
+			file.getParentFile().mkdirs();
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+		}
+		writeRow(out, query.getQuery(), parameters);
+		out.flush();
+	}
+
+	/**
+	 * Spills a row only if older rows are still spilled, so that it is written after them.
+	 *
+	 * @return Whether the row was spilled
+	 */
+	synchronized boolean writeIfNotEmpty(final Query query) throws IOException, SQLException {
+		if (isEmpty()) {
+			return false;
+		}
+		write(query);
+		return true;
+	}
+
+	/**
+	 * Spills rows that are older than every row spilled so far, so that they are read back first.
+	 */
+	synchronized void writeAhead(final List<Query> queries) throws IOException, SQLException {
+		if (queries.isEmpty()) {
+			return;
+		}
+		close();
+		file.getParentFile().mkdirs();
+		final File aheadFile = new File(file.getPath() + ".ahead");
+		try (final DataOutputStream aheadOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(aheadFile)))) {
+			for (final Query query : queries) {
+				writeRow(aheadOut, query.getQuery(), capture(query));
+			}
+			if (replayFile.exists()) {
+				try (final InputStream rest = new FileInputStream(replayFile)) {
+					skipFully(rest, committedOffset());
+					final byte[] buffer = new byte[8192];
+					int read;
+					while ((read = rest.read(buffer)) != -1) {
+						aheadOut.write(buffer, 0, read);
+					}
+				}
+			}
+		}
+		Files.move(aheadFile.toPath(), replayFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		Files.deleteIfExists(offsetFile.toPath());
+	}
+
+	/**
+	 * @return Up to limit of the spilled rows, oldest first. They are read again after a restart until committed.
+	 */
+	synchronized List<Query> read(final int limit) throws IOException {
+		final List<Query> rows = new ArrayList<>();
+		while (rows.size() < limit && !readToEnd && open()) {
+			try {
+				rows.add(readRow());
+			} catch (final EOFException e) {
+				// Either the end of the file or a row that was cut short when the server stopped.
+				readToEnd = true;
+			} catch (final IOException e) {
+				LOGGER.error("Discarding the rest of " + replayFile + ", it could not be read", e);
+				readToEnd = true;
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Marks every row returned by {@link #read(int)} so far as written.
+	 */
+	synchronized void commit() throws IOException {
+		if (in == null) {
+			return;
+		}
+		if (readToEnd) {
+			in.close();
+			in = null;
+			position = null;
+			readToEnd = false;
+			Files.deleteIfExists(offsetFile.toPath());
+			if (!replayFile.delete()) {
+				throw new IOException("Could not delete " + replayFile);
+			}
+			return;
+		}
+		try (final DataOutputStream offsetOut = new DataOutputStream(new FileOutputStream(offsetFile))) {
+			offsetOut.writeLong(position.count);
+		}
+	}
+
+	synchronized boolean isEmpty() {
+		return in == null && !replayFile.exists() && !file.exists();
+	}
+
+	synchronized void close() {
+		try {
+			if (out != null) {
+				out.close();
+			}
+			if (in != null) {
+				in.close();
+			}
+		} catch (final IOException e) {
+			LOGGER.catching(e);
+		}
+		out = null;
+		in = null;
+		position = null;
+		readToEnd = false;
+	}
+
+	/**
+	 * Opens the rows left to read, moving the spill file aside if everything before it has been read.
+	 */
+	private boolean open() throws IOException {
+		if (in != null) {
+			return true;
+		}
+		if (!replayFile.exists()) {
+			if (!file.exists()) {
+				return false;
+			}
+			if (out != null) {
+				out.close();
+				out = null;
+			}
+			if (!file.renameTo(replayFile)) {
+				throw new IOException("Could not move " + file + " to " + replayFile);
+			}
+		}
+		final long offset = committedOffset();
+		position = new CountingInputStream(new BufferedInputStream(new FileInputStream(replayFile)));
+		in = new DataInputStream(position);
+		skipFully(in, offset);
+		return true;
+	}
+
+	private long committedOffset() throws IOException {
+		if (!offsetFile.exists()) {
+			return 0;
+		}
+		try (final DataInputStream offsetIn = new DataInputStream(new FileInputStream(offsetFile))) {
+			return offsetIn.readLong();
+		} catch (final EOFException e) {
+			return 0;
+		}
+	}
+
+	private static void skipFully(final InputStream stream, final long bytes) throws IOException {
+		long left = bytes;
+		while (left > 0) {
+			final long skipped = stream.skip(left);
+			if (skipped <= 0) {
+				if (stream.read() == -1) {
+					return;
+				}
+				left--;
+			} else {
+				left -= skipped;
+			}
+		}
+	}
+
+	private Query readRow() throws IOException {
+		final String statement = in.readUTF();
+		final Object[] parameters = new Object[in.readUnsignedShort()];
+		for (int i = 0; i < parameters.length; i++) {
+			parameters[i] = readValue();
+		}
+		return new SpilledQuery(statement, parameters);
+	}
+
+	private static void writeRow(final DataOutputStream out, final String statement, final Object[] parameters) throws IOException {
+		out.writeUTF(statement);
+		out.writeShort(parameters.length);
+		for (final Object parameter : parameters) {
+			writeValue(out, parameter);
+		}
+	}
+
+	private static void writeValue(final DataOutputStream out, final Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof Integer) {
+			out.writeByte(INT);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Short) {
+			out.writeByte(SHORT);
+			out.writeShort((Short) value);
+		} else if (value instanceof Byte) {
+			out.writeByte(BYTE);
+			out.writeByte((Byte) value);
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else {
+			// Strings may be longer than writeUTF allows, chat logs of game reports in particular.
+			final byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+			out.writeByte(STRING);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private Object readValue() throws IOException {
+		final byte type = in.readByte();
+		switch (type) {
+			case NULL:
+				return null;
+			case INT:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case SHORT:
+				return in.readShort();
+			case BYTE:
+				return in.readByte();
+			case BOOLEAN:
+				return in.readBoolean();
+			case STRING:
+				final byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			default:
+				throw new IOException("Unknown value type " + type + " in " + replayFile);
+		}
+	}
+
+	/**
+	 * Records the values a query binds, by handing it a statement that only remembers what it was given.
+	 */
+	private static Object[] capture(final Query query) throws SQLException {
+		final TreeMap<Integer, Object> values = new TreeMap<>();
+		final PreparedStatement recorder = (PreparedStatement) Proxy.newProxyInstance(
+			PreparedStatement.class.getClassLoader(),
+			new Class<?>[]{PreparedStatement.class},
+			(proxy, method, args) -> {
+				if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+					values.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+					return null;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			}
+		);
+		query.setParameters(recorder);
+
+		final Object[] parameters = new Object[values.isEmpty() ? 0 : values.lastKey()];
+		for (final Map.Entry<Integer, Object> value : values.entrySet()) {
+			parameters[value.getKey() - 1] = value.getValue();
+		}
+		return parameters;
+	}
+
+	/**
+	 * Counts the bytes read through it, which is how far into the file the rows handed out so far reach.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+		private long count;
+
+		private CountingInputStream(final InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			final int value = super.read();
+			if (value != -1) {
+				count++;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			final int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+			final long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+	}
+
+	/**
+	 * A row read back from the spill file.
+	 */
+	private static final class SpilledQuery extends Query {
+		private final Object[] parameters;
+
+		private SpilledQuery(final String query, final Object[] parameters) {
+			super(query);
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Query build() {
+			return this;
+		}
+
+		@Override
+		public void setParameters(final PreparedStatement statement) throws SQLException {
+			for (int i = 0; i < parameters.length; i++) {
+				if (parameters[i] == null) {
+					statement.setNull(i + 1, Types.NULL);
+				} else {
+					statement.setObject(i + 1, parameters[i]);
+				}
+			}
+		}
+	}
+}
@@ -16,8 +16,6 @@ public class MySQLDatabaseConnection extends JDBCDatabaseConnection {
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	private final Server server;
-	private Connection connection;
-	private Statement statement;
 	private boolean connected;
 
 	public MySQLDatabaseConnection(final Server server) {
@@ -37,13 +35,7 @@ public class MySQLDatabaseConnection extends JDBCDatabaseConnection {
 		}
 
 		try {
-			connection = DriverManager.getConnection("jdbc:mysql://"
-					+ getServer().getConfig().DB_HOST + "/" + getServer().getConfig().DB_NAME + "?autoReconnect=true&useSSL=false&rewriteBatchedStatements=true&serverTimezone=UTC",
-				getServer().getConfig().DB_USER,
-				getServer().getConfig().DB_PASS);
-			statement = getConnection().createStatement();
-			statement.setEscapeProcessing(true);
-			connected = checkConnection();
+			connected = openPool(getServer().getConfig().DB_POOL_SIZE);
 		} catch (final SQLException e) {
 			LOGGER.catching(e);
 			connected = false;
@@ -61,23 +53,16 @@ public class MySQLDatabaseConnection extends JDBCDatabaseConnection {
 
 	@Override
 	public synchronized void close() {
-		try {
-			if(statement != null) {
-				statement.close();
-			}
-		} catch (final SQLException e) {
-			LOGGER.catching(e);
-		}
-		try {
-			if(getConnection() != null) {
-				getConnection().close();
-			}
-		} catch (final SQLException e) {
-			LOGGER.catching(e);
-		}
+		closePool();
 		connected = false;
-		statement = null;
-		connection = null;
+	}
+
+	@Override
+	protected Connection createConnection() throws SQLException {
+		return DriverManager.getConnection("jdbc:mysql://"
+				+ getServer().getConfig().DB_HOST + "/" + getServer().getConfig().DB_NAME + "?autoReconnect=true&useSSL=false&rewriteBatchedStatements=true&serverTimezone=UTC",
+			getServer().getConfig().DB_USER,
+			getServer().getConfig().DB_PASS);
 	}
 
 	@Override
@@ -88,7 +73,7 @@ public class MySQLDatabaseConnection extends JDBCDatabaseConnection {
 	@Override
 	protected boolean checkConnection() {
 		try {
-			getStatement().executeQuery("SELECT CURRENT_DATE");
+			executeQuery("SELECT CURRENT_DATE").close();
 			return true;
 		} catch (final SQLException e) {
 			return false;
@@ -99,15 +84,6 @@ public class MySQLDatabaseConnection extends JDBCDatabaseConnection {
 		return server;
 	}
 
-	@Override
-	protected Statement getStatement() {
-		return statement;
-	}
-
-	public synchronized Connection getConnection() {
-		return connection;
-	}
-
 	public boolean isConnected() {
 		return connected;
 	}
@@ -18,6 +18,7 @@ import com.openrsc.server.external.GameObjectLoc;
 import com.openrsc.server.external.ItemLoc;
 import com.openrsc.server.external.NPCLoc;
 import com.openrsc.server.model.Point;
+import com.openrsc.server.model.SaveState;
 import com.openrsc.server.model.container.BankPreset;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.container.ItemStatus;
@@ -66,10 +67,17 @@ public class MySqlGameDatabase extends JDBCDatabase {
 		getConnection().close();
 	}
 
-	protected void startTransaction() throws GameDatabaseException {
+	protected void startTransaction(final boolean readOnly) throws GameDatabaseException {
+		try {
+			getConnection().beginWork(readOnly);
+		} catch (final SQLException ex) {
+			// Convert SQLException to a general usage exception
+			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
+		}
 		try {
 			getConnection().executeQuery("START TRANSACTION");
 		} catch (final SQLException ex) {
+			getConnection().endWork();
 			// Convert SQLException to a general usage exception
 			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
 		}
@@ -78,6 +86,7 @@ public class MySqlGameDatabase extends JDBCDatabase {
 	protected void commitTransaction() throws GameDatabaseException {
 		try {
 			getConnection().executeQuery("COMMIT");
+			getConnection().endWork();
 		} catch (final SQLException ex) {
 			// Convert SQLException to a general usage exception
 			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
@@ -90,9 +99,17 @@ public class MySqlGameDatabase extends JDBCDatabase {
 		} catch (final SQLException ex) {
 			// Convert SQLException to a general usage exception
 			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
+		} finally {
+			getConnection().endWork();
 		}
 	}
 
+	@Override
+	protected int getParallelReads() {
+		// The shared connection stays free for everything outside of a unit of work.
+		return getConnection().getPoolSize() - 1;
+	}
+
 	public void initializeOnlinePlayers() throws GameDatabaseException {
 		try {
 			getConnection().executeUpdate(getMySqlQueries().initializeOnlineUsers);
@@ -1688,6 +1705,100 @@ public class MySqlGameDatabase extends JDBCDatabase {
 		}
 	}
 
+	@Override
+	public void querySavePlayerItemChanges(final int playerId, final ItemStore store, final SaveState.Changes<Integer, PlayerItem> changes) throws GameDatabaseException {
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		final String addQuery;
+		final String removeQuery;
+		final String slotQuery;
+		switch (store) {
+			case INVENTORY:
+				addQuery = getMySqlQueries().save_InventoryAdd;
+				removeQuery = getMySqlQueries().save_InventoryRemoveRow;
+				slotQuery = getMySqlQueries().save_InventorySlot;
+				break;
+			case BANK:
+				addQuery = getMySqlQueries().save_BankAdd;
+				removeQuery = getMySqlQueries().save_BankRemoveRow;
+				slotQuery = getMySqlQueries().save_BankSlot;
+				break;
+			default:
+				// Equipped items have no slot column, their slot follows from the item.
+				addQuery = getMySqlQueries().save_EquipmentAdd;
+				removeQuery = getMySqlQueries().save_EquipmentRemoveRow;
+				slotQuery = null;
+				break;
+		}
+
+		try (final PreparedStatement removeStatement = getConnection().prepareStatement(removeQuery);
+			 final PreparedStatement purgeStatement = getConnection().prepareStatement(getMySqlQueries().save_ItemPurge);
+			 final PreparedStatement addStatement = getConnection().prepareStatement(addQuery);
+			 final PreparedStatement createStatement = getConnection().prepareStatement(getMySqlQueries().save_ItemCreate);
+			 final PreparedStatement statusStatement = getConnection().prepareStatement(getMySqlQueries().save_ItemStatusUpdate);
+			 final PreparedStatement slotStatement = slotQuery != null ? getConnection().prepareStatement(slotQuery) : null) {
+
+			for (final PlayerItem item : changes.getRemoved().values()) {
+				removeStatement.setInt(1, playerId);
+				removeStatement.setInt(2, item.itemId);
+				removeStatement.addBatch();
+
+				purgeStatement.setInt(1, item.itemId);
+				purgeStatement.addBatch();
+			}
+
+			for (final PlayerItem item : changes.getAdded().values()) {
+				addStatement.setInt(1, playerId);
+				addStatement.setInt(2, item.itemId);
+				if (slotStatement != null) {
+					addStatement.setInt(3, item.slot);
+				}
+				addStatement.addBatch();
+
+				createStatement.setInt(1, item.itemId);
+				createStatement.setInt(2, item.catalogId);
+				createStatement.setInt(3, item.amount);
+				createStatement.setInt(4, item.noted ? 1 : 0);
+				createStatement.setInt(5, item.wielded ? 1 : 0);
+				createStatement.setInt(6, item.durability);
+				createStatement.addBatch();
+			}
+
+			for (final PlayerItem item : changes.getChanged().values()) {
+				final PlayerItem previous = changes.getPrevious(item.itemId);
+				if (!previous.sameStatus(item)) {
+					statusStatement.setInt(1, item.catalogId);
+					statusStatement.setInt(2, item.amount);
+					statusStatement.setInt(3, item.noted ? 1 : 0);
+					statusStatement.setInt(4, item.wielded ? 1 : 0);
+					statusStatement.setInt(5, item.durability);
+					statusStatement.setInt(6, item.itemId);
+					statusStatement.addBatch();
+				}
+				if (slotStatement != null && previous.slot != item.slot) {
+					slotStatement.setInt(1, item.slot);
+					slotStatement.setInt(2, playerId);
+					slotStatement.setInt(3, item.itemId);
+					slotStatement.addBatch();
+				}
+			}
+
+			removeStatement.executeBatch();
+			purgeStatement.executeBatch();
+			addStatement.executeBatch();
+			createStatement.executeBatch();
+			statusStatement.executeBatch();
+			if (slotStatement != null) {
+				slotStatement.executeBatch();
+			}
+		} catch (final SQLException ex) {
+			// Convert SQLException to a general usage exception
+			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
+		}
+	}
+
 	@Override
 	public void querySavePlayerBankPresets(final int playerId, final PlayerBankPreset[] bankPreset) throws GameDatabaseException {
 		try (final PreparedStatement removeStatement = getConnection().prepareStatement(getMySqlQueries().save_BankPresetRemove);
@@ -1801,6 +1912,44 @@ public class MySqlGameDatabase extends JDBCDatabase {
 		}
 	}
 
+	@Override
+	public void querySavePlayerCacheChanges(final int playerId, final SaveState.Changes<String, PlayerCache> changes) throws GameDatabaseException {
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		try (final PreparedStatement removeStatement = getConnection().prepareStatement(getMySqlQueries().save_DeleteCacheKey);
+			 final PreparedStatement addStatement = getConnection().prepareStatement(getMySqlQueries().save_AddCache)) {
+
+			// Keys aren't unique in the table, a changed entry is replaced rather than updated.
+			for (final String key : changes.getRemoved().keySet()) {
+				removeStatement.setInt(1, playerId);
+				removeStatement.setString(2, key);
+				removeStatement.addBatch();
+			}
+			for (final PlayerCache cacheKey : changes.getChanged().values()) {
+				removeStatement.setInt(1, playerId);
+				removeStatement.setString(2, cacheKey.key);
+				removeStatement.addBatch();
+			}
+			final List<PlayerCache> inserted = new ArrayList<>(changes.getChanged().values());
+			inserted.addAll(changes.getAdded().values());
+			for (final PlayerCache cacheKey : inserted) {
+				addStatement.setInt(1, playerId);
+				addStatement.setInt(2, cacheKey.type);
+				addStatement.setString(3, cacheKey.key);
+				addStatement.setString(4, cacheKey.value);
+				addStatement.addBatch();
+			}
+
+			removeStatement.executeBatch();
+			addStatement.executeBatch();
+		} catch (final SQLException ex) {
+			// Convert SQLException to a general usage exception
+			throw new GameDatabaseException(MySqlGameDatabase.class, ex.getMessage());
+		}
+	}
+
 	@Override
 	public void querySavePlayerNpcKills(int playerId, PlayerNpcKills[] kills) throws GameDatabaseException {
 		try (final PreparedStatement statement = statementFromInteger(getMySqlQueries().npcKillSelectAll, playerId);
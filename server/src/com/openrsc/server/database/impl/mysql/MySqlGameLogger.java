@@ -2,6 +2,7 @@ package com.openrsc.server.database.impl.mysql;
 
 import com.openrsc.server.Server;
 import com.openrsc.server.database.GameLogger;
+import com.openrsc.server.database.LogOverflowPolicy;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 import com.openrsc.server.database.impl.mysql.queries.ResultQuery;
 import com.openrsc.server.util.ServerAwareThreadFactory;
@@ -9,12 +10,19 @@ import com.openrsc.server.util.SystemUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class MySqlGameLogger extends GameLogger {
 
@@ -23,17 +31,38 @@ public final class MySqlGameLogger extends GameLogger {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * The most rows written in a single transaction.
+	 */
+	private static final int MAX_ROWS_PER_FLUSH = 1000;
+
+	/**
+	 * How long a full queue holds up the thread adding a row when overflowing rows block.
+	 */
+	private static final long BLOCK_TIMEOUT_MILLIS = 1000;
+
 	private volatile AtomicBoolean running;
 	private final BlockingQueue<Query> queries;
 	private final Server server;
 	private ScheduledExecutorService scheduledExecutor;
 	private final MySqlGameDatabase database;
+	private final LogOverflowPolicy overflowPolicy;
+	private final GameLogSpill spill;
+
+	private final AtomicLong droppedQueries = new AtomicLong();
+	private final AtomicLong spilledQueries = new AtomicLong();
+	private volatile int lastFlushRows;
+	private volatile int lastFlushBatches;
+	private volatile long lastFlushDuration;
 
 	public MySqlGameLogger(final Server server, final MySqlGameDatabase database) {
 		this.server = server;
 
 		running = new AtomicBoolean(false);
-		queries = new ArrayBlockingQueue<>(10000);
+		queries = new ArrayBlockingQueue<>(Math.max(server.getConfig().DB_LOG_QUEUE_SIZE, 1));
+		overflowPolicy = server.getConfig().DB_LOG_OVERFLOW;
+		// Always kept, so rows spilled before a restart are written even if the policy has changed since.
+		spill = new GameLogSpill(new File("logs/gamelogs/" + server.getName() + ".spill"));
 		// TODO: Implement GameLogger into the database driver.
 		if (database == null) {
 			LOGGER.error("GameDatabase provided was null or not a MySqlGameDatabase.");
@@ -72,7 +101,12 @@ public final class MySqlGameLogger extends GameLogger {
 			} catch (final InterruptedException e) {
 				LOGGER.catching(e);
 			}
-			clearQueries();
+			if (overflowPolicy == LogOverflowPolicy.SPILL) {
+				spillQueries();
+			} else {
+				clearQueries();
+			}
+			spill.close();
 			scheduledExecutor = null;
 			running.set(false);
 		}
@@ -82,19 +116,142 @@ public final class MySqlGameLogger extends GameLogger {
 		queries.clear();
 	}
 
+	/**
+	 * Spills what is left in the queue ahead of the rows already spilled, which all came in after it. Rows that can't be
+	 * spilled are written now while the database is still there.
+	 */
+	private void spillQueries() {
+		final List<Query> rows = new ArrayList<>();
+		Query query;
+		while ((query = queries.poll()) != null) {
+			if (isSpillable(query)) {
+				rows.add(query);
+			} else {
+				runQuery(query);
+			}
+		}
+		try {
+			spill.writeAhead(rows);
+			spilledQueries.addAndGet(rows.size());
+		} catch (final IOException | SQLException ex) {
+			LOGGER.catching(ex);
+			LOGGER.error("{} game log row(s) could not be spilled and are lost", rows.size());
+		}
+	}
+
 	@Override
 	public void run() {
 		synchronized (running) {
 			if (running.get()) {
-				while (queries.size() > 0 && getDatabase().getConnection().isConnected()) {
-					pollNextQuery();
+				while (getDatabase().getConnection().isConnected()) {
+					if (!flush()) {
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the next rows of the queue in one transaction, or once it is empty, the next rows read back from the spill
+	 * file. While anything is spilled new rows are spilled after it, so the rows in the queue are always older than
+	 * the spilled ones.
+	 *
+	 * INSERTs of the same statement are bound onto a single prepared statement and sent as one batch, which the MySQL
+	 * driver rewrites into a multi-row INSERT. Any other statement keeps its place, the INSERTs before it are written
+	 * before it and the ones after it after it.
+	 *
+	 * @return Whether there were rows to write
+	 */
+	private boolean flush() {
+		final List<Query> rows = new ArrayList<>();
+		queries.drainTo(rows, MAX_ROWS_PER_FLUSH);
+		final boolean fromSpill = rows.isEmpty() && !spill.isEmpty();
+		if (fromSpill) {
+			try {
+				rows.addAll(spill.read(MAX_ROWS_PER_FLUSH));
+			} catch (final IOException ex) {
+				LOGGER.catching(ex);
+			}
+		}
+		if (rows.isEmpty()) {
+			if (fromSpill) {
+				commitSpill();
+			}
+			return false;
+		}
+
+		final long start = System.nanoTime();
+		final List<List<Query>> batches = new ArrayList<>();
+		final Map<String, List<Query>> openBatches = new HashMap<>();
+		for (final Query query : rows) {
+			if (isInsert(query)) {
+				List<Query> batch = openBatches.get(query.getQuery());
+				if (batch == null) {
+					batch = new ArrayList<>();
+					openBatches.put(query.getQuery(), batch);
+					batches.add(batch);
 				}
+				batch.add(query);
+			} else {
+				batches.add(Collections.singletonList(query));
+				openBatches.clear();
+			}
+		}
+
+		final boolean written = getDatabase().atomically(() -> {
+			for (final List<Query> batch : batches) {
+				writeBatch(batch);
+			}
+		});
+		if (!written) {
+			// A single bad row rolls back the whole flush, write the rows one at a time so only the bad ones are lost.
+			for (final List<Query> batch : batches) {
+				batch.forEach(this::runQuery);
 			}
 		}
+		if (fromSpill) {
+			commitSpill();
+		}
+
+		lastFlushRows = rows.size();
+		lastFlushBatches = batches.size();
+		lastFlushDuration = System.nanoTime() - start;
+		return true;
 	}
 
-	protected void pollNextQuery() {
-		runQuery(queries.poll());
+	private void commitSpill() {
+		try {
+			spill.commit();
+		} catch (final IOException ex) {
+			LOGGER.catching(ex);
+		}
+	}
+
+	private static boolean isInsert(final Query query) {
+		return !(query instanceof ResultQuery) && query.getQuery().trim().regionMatches(true, 0, "INSERT", 0, 6);
+	}
+
+	/**
+	 * Only INSERTs are spilled. Anything else may be stale by the time the spill is read back, say an UPDATE marking a
+	 * player offline read back after they logged in again, and results can only be handed to the query that asked.
+	 */
+	private static boolean isSpillable(final Query query) {
+		return isInsert(query);
+	}
+
+	private void writeBatch(final List<Query> batch) throws SQLException {
+		if (batch.get(0) instanceof ResultQuery) {
+			runQuery(batch.get(0));
+			return;
+		}
+		try (final PreparedStatement statement = getDatabase().getConnection().prepareStatement(batch.get(0).getQuery())) {
+			for (final Query query : batch) {
+				query.setParameters(statement);
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
 	}
 
 	protected void runQuery(final Query query) {
@@ -102,12 +259,16 @@ public final class MySqlGameLogger extends GameLogger {
 			if (query != null) {
 				if (query instanceof ResultQuery) {
 					final ResultQuery rq = (ResultQuery) query;
-					try (final PreparedStatement statement = rq.prepareStatement(getDatabase().getConnection().getConnection());
-						 final ResultSet result = statement.executeQuery();) {
-						rq.onResult(result);
+					// Prepared through the pool, so that outside of a unit of work it waits for one holding the shared connection.
+					try (final PreparedStatement statement = getDatabase().getConnection().prepareStatement(rq.getQuery())) {
+						rq.setParameters(statement);
+						try (final ResultSet result = statement.executeQuery()) {
+							rq.onResult(result);
+						}
 					}
 				} else {
-					try (final PreparedStatement statement = query.prepareStatement(getDatabase().getConnection().getConnection());) {
+					try (final PreparedStatement statement = getDatabase().getConnection().prepareStatement(query.getQuery())) {
+						query.setParameters(statement);
 						statement.execute();
 					}
 				}
@@ -124,7 +285,60 @@ public final class MySqlGameLogger extends GameLogger {
 		if (!running.get()) {
 			return;
 		}
-		queries.add(query);
+		if (isSpillable(query) && spillAfterOlderRows(query)) {
+			return;
+		}
+		if (queries.offer(query)) {
+			return;
+		}
+
+		// Rows that can't be spilled wait for room instead, they are not log rows and shouldn't be lost.
+		switch (isSpillable(query) ? overflowPolicy : LogOverflowPolicy.BLOCK) {
+			case BLOCK:
+				try {
+					if (queries.offer(query, BLOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+						return;
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				break;
+			case SPILL:
+				if (spill(query)) {
+					return;
+				}
+				break;
+		}
+		if (droppedQueries.getAndIncrement() % 1000 == 0) {
+			LOGGER.warn("Game log queue is full, " + droppedQueries.get() + " log row(s) dropped so far");
+		}
+	}
+
+	/**
+	 * Keeps rows in order while older ones are spilled, whatever the overflow policy, including rows left from before
+	 * a restart.
+	 */
+	private boolean spillAfterOlderRows(final Query query) {
+		try {
+			if (spill.writeIfNotEmpty(query)) {
+				spilledQueries.incrementAndGet();
+				return true;
+			}
+		} catch (final IOException | SQLException ex) {
+			LOGGER.catching(ex);
+		}
+		return false;
+	}
+
+	private boolean spill(final Query query) {
+		try {
+			spill.write(query);
+			spilledQueries.incrementAndGet();
+			return true;
+		} catch (final IOException | SQLException ex) {
+			LOGGER.catching(ex);
+			return false;
+		}
 	}
 
 	// Runs a query on whatever program thread initiated the request. This is mostly useful for playing loading/saving to ensure data is returned.
@@ -132,6 +346,30 @@ public final class MySqlGameLogger extends GameLogger {
 		runQuery(query);
 	}
 
+	public int getQueueDepth() {
+		return queries.size();
+	}
+
+	public long getDroppedQueries() {
+		return droppedQueries.get();
+	}
+
+	public long getSpilledQueries() {
+		return spilledQueries.get();
+	}
+
+	public int getLastFlushRows() {
+		return lastFlushRows;
+	}
+
+	public int getLastFlushBatches() {
+		return lastFlushBatches;
+	}
+
+	public long getLastFlushDuration() {
+		return lastFlushDuration;
+	}
+
 	private MySqlGameDatabase getDatabase() {
 		return database;
 	}
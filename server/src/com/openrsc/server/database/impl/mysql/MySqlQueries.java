@@ -12,7 +12,8 @@ public class MySqlQueries {
 	public final String save_AddFriends, save_DeleteFriends, save_AddIgnored, save_DeleteIgnored;
 	public final String playerExists, playerInvItems, playerEquipped, playerBankItems, playerBankPresets;
 	public final String playerFriends, playerIgnored, playerQuests, playerAchievements, playerCache;
-	public final String max_itemStatus, save_ItemCreate, save_ItemUpdate, save_ItemPurge; //itemstatuses, must be inserted before adding entry on bank, equipment, inventory
+	public final String max_itemStatus, save_ItemCreate, save_ItemUpdate, save_ItemPurge, save_ItemStatusUpdate; //itemstatuses, must be inserted before adding entry on bank, equipment, inventory
+	public final String save_BankRemoveRow, save_BankSlot, save_InventoryRemoveRow, save_InventorySlot, save_EquipmentRemoveRow, save_DeleteCacheKey; //single rows, leave itemstatuses alone
 	public final String save_DeleteBank, save_DeleteBankPresets, save_BankAdd, save_BankRemove, save_BankRemovePartialStack, save_BankPresetAdd, save_BankPresetRemove;
 	public final String save_DeleteInv, save_InventoryAdd, save_InventoryRemove, save_DeleteEquip, save_EquipmentAdd, save_EquipmentRemove, save_UpdateBasicInfo;
 	public final String save_DeleteQuests, save_DeleteAchievements, save_DeleteCache, save_AddCache, save_AddQuest, save_AddAchievement;
@@ -108,6 +109,12 @@ public class MySqlQueries {
 		save_ItemCreate = "INSERT INTO `" + PREFIX + "itemstatuses`(`itemId`, `catalogID`, `amount`, `noted`, `wielded`, `durability`) VALUES(?, ?, ?, ?, ?, ?)";
 		save_ItemPurge = "DELETE FROM `" + PREFIX + "itemstatuses` WHERE `itemID`=?";
 		save_ItemUpdate = "UPDATE `" + PREFIX + "itemstatuses` SET `amount`=?, `noted`=?, `wielded`=?, `durability`=? WHERE `itemID`=?";
+		save_ItemStatusUpdate = "UPDATE `" + PREFIX + "itemstatuses` SET `catalogID`=?, `amount`=?, `noted`=?, `wielded`=?, `durability`=? WHERE `itemID`=?";
+		save_BankRemoveRow = "DELETE FROM `" + PREFIX + "bank` WHERE `playerID`=? AND `itemID`=?";
+		save_BankSlot = "UPDATE `" + PREFIX + "bank` SET `slot`=? WHERE `playerID`=? AND `itemID`=?";
+		save_InventoryRemoveRow = "DELETE FROM `" + PREFIX + "invitems` WHERE `playerID`=? AND `itemID`=?";
+		save_InventorySlot = "UPDATE `" + PREFIX + "invitems` SET `slot`=? WHERE `playerID`=? AND `itemID`=?";
+		save_EquipmentRemoveRow = "DELETE FROM `" + PREFIX + "equipped` WHERE `playerID`=? AND `itemID`=?";
 		save_BankAdd = "INSERT INTO `" + PREFIX + "bank`(`playerID`, `itemID`, `slot`) VALUES(?, ?, ?)";
 		save_BankRemove = "DELETE i.*, i2.* FROM `" + PREFIX + "bank` i JOIN `" + PREFIX + "itemstatuses` i2 ON i.`itemID`=i2.`itemID`  WHERE i.`playerID`=? AND i.`itemID`=?";
 		save_BankRemovePartialStack = "UPDATE `" + PREFIX + "itemstatuses` i2 JOIN `" + PREFIX + "bank` i ON i.`itemID`=i2.`itemID` SET i2.`amount` = ? WHERE i.`playerID`=? AND i.`itemID`=?";
@@ -128,6 +135,7 @@ public class MySqlQueries {
 		save_DeleteQuests = "DELETE FROM `" + PREFIX + "quests` WHERE `playerID`=?";
 		save_DeleteAchievements = "DELETE FROM `" + PREFIX + "achievement_status` WHERE `playerID`=?";
 		save_DeleteCache = "DELETE FROM `" + PREFIX + "player_cache` WHERE `playerID`=?";
+		save_DeleteCacheKey = "DELETE FROM `" + PREFIX + "player_cache` WHERE `playerID`=? AND `key`=?";
 		save_AddQuest = "INSERT INTO `" + PREFIX + "quests` (`playerID`, `id`, `stage`) VALUES(?, ?, ?)";
 		save_AddAchievement = "INSERT INTO `" + PREFIX + "achievement_status` (`playerID`, `id`, `status`) VALUES(?, ?, ?)";
 		save_AddCache = "INSERT INTO `" + PREFIX + "player_cache` (`playerID`, `type`, `key`, `value`) VALUES(?,?,?,?)";
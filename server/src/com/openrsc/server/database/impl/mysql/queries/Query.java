@@ -17,6 +17,20 @@ public abstract class Query {
 
 	public abstract Query build(); // add any logic here
 
-	public abstract PreparedStatement prepareStatement(Connection connection) throws SQLException;
+	/**
+	 * Binds the values of this query to a statement prepared from {@link #getQuery()}. Queries sharing the same
+	 * statement can be bound one after another onto the same statement and written as a single batch.
+	 */
+	public abstract void setParameters(PreparedStatement statement) throws SQLException;
+
+	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
+		PreparedStatement statement = connection.prepareStatement(query);
+		setParameters(statement);
+		return statement;
+	}
+
+	public String getQuery() {
+		return query;
+	}
 
 }
@@ -3,7 +3,6 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -19,13 +18,11 @@ public final class PMLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void setParameters(PreparedStatement statement) throws SQLException {
 		statement.setString(1, sender);
 		statement.setString(2, message);
 		statement.setString(3, reciever);
 		statement.setLong(4, time);
-		return statement;
 	}
 
 	@Override
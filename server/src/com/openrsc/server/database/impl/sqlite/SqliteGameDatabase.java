@@ -51,18 +51,32 @@ public class SqliteGameDatabase extends MySqlGameDatabase {
     }
 
     @Override
-    protected void startTransaction() throws GameDatabaseException {
-        executeUpdate("BEGIN TRANSACTION");
+    protected void startTransaction(final boolean readOnly) throws GameDatabaseException {
+        withErrorHandling(() -> getConnection().beginWork(readOnly));
+        boolean begun = false;
+        try {
+            executeUpdate("BEGIN TRANSACTION");
+            begun = true;
+        } finally {
+            if (!begun) {
+                getConnection().endWork();
+            }
+        }
     }
 
     @Override
     protected void commitTransaction() throws GameDatabaseException {
         executeUpdate("END TRANSACTION");
+        getConnection().endWork();
     }
 
     @Override
     protected void rollbackTransaction() throws GameDatabaseException {
-        executeUpdate("ROLLBACK");
+        try {
+            executeUpdate("ROLLBACK");
+        } finally {
+            getConnection().endWork();
+        }
     }
 
     private int executeUpdate(String query) {
@@ -15,9 +15,8 @@ import java.sql.Statement;
 
 public class SqliteGameDatabaseConnection extends JDBCDatabaseConnection {
     public static final String DB_FOLDER = "inc/sqlite/";
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
     private final Logger LOGGER = LogManager.getLogger();
-    private Connection connection;
-    private Statement statement;
     private boolean connected;
     private final Server server;
 
@@ -42,9 +41,7 @@ public class SqliteGameDatabaseConnection extends JDBCDatabaseConnection {
         }
 
         try {
-            connection = DriverManager.getConnection("jdbc:sqlite:" + getDBPath(dbName));
-            statement = getConnection().createStatement();
-            connected = checkConnection();
+            connected = openPool(server.getConfig().DB_POOL_SIZE);
         } catch (final SQLException e) {
             LOGGER.catching(e);
             connected = false;
@@ -62,44 +59,40 @@ public class SqliteGameDatabaseConnection extends JDBCDatabaseConnection {
 
     @Override
     public synchronized void close() {
-        try {
-            if(statement != null) {
-                statement.close();
-            }
-        } catch (final SQLException e) {
-            LOGGER.catching(e);
-        }
-        try {
-            if(getConnection() != null) {
-                getConnection().close();
-            }
-        } catch (final SQLException e) {
-            LOGGER.catching(e);
-        }
+        closePool();
         connected = false;
-        statement = null;
-        connection = null;
     }
 
     @Override
-    public DatabaseType getDatabaseType() {
-        return DatabaseType.SQLITE;
+    protected Connection createConnection() throws SQLException {
+        final Connection connection = DriverManager.getConnection("jdbc:sqlite:" + getDBPath(server.getConfig().DB_NAME));
+        if (server.getConfig().DB_POOL_SIZE > 1) {
+            // Write ahead logging lets the reader connections run alongside the writer.
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA busy_timeout=" + BUSY_TIMEOUT_MILLIS);
+            }
+        }
+        return connection;
     }
 
+    /**
+     * SQLite only ever lets one connection write, units of work that write all go to the shared connection.
+     */
     @Override
-    protected Statement getStatement() {
-        return statement;
+    protected boolean isSingleWriter() {
+        return true;
     }
 
     @Override
-    public Connection getConnection() {
-        return connection;
+    public DatabaseType getDatabaseType() {
+        return DatabaseType.SQLITE;
     }
 
     @Override
     protected boolean checkConnection() {
         try {
-            getStatement().executeQuery("SELECT CURRENT_DATE");
+            executeQuery("SELECT CURRENT_DATE").close();
             return true;
         } catch (final SQLException e) {
             return false;
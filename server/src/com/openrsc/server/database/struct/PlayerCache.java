@@ -1,7 +1,22 @@
 package com.openrsc.server.database.struct;
 
+import java.util.Objects;
+
 public class PlayerCache {
 	public int type;
 	public String key;
 	public String value;
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		final PlayerCache other = (PlayerCache) o;
+		return type == other.type && Objects.equals(key, other.key) && Objects.equals(value, other.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, key, value);
+	}
 }
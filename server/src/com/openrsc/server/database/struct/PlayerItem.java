@@ -0,0 +1,45 @@
+package com.openrsc.server.database.struct;
+
+import java.util.Objects;
+
+/**
+ * An item row of a player's inventory, bank or equipment together with its itemstatuses row.
+ */
+public class PlayerItem {
+	public int itemId;
+	public int slot;
+	public int catalogId;
+	public int amount;
+	public boolean noted;
+	public boolean wielded;
+	public int durability;
+
+	public PlayerItem(final int itemId, final int slot, final int catalogId, final int amount,
+					  final boolean noted, final boolean wielded, final int durability) {
+		this.itemId = itemId;
+		this.slot = slot;
+		this.catalogId = catalogId;
+		this.amount = amount;
+		this.noted = noted;
+		this.wielded = wielded;
+		this.durability = durability;
+	}
+
+	public boolean sameStatus(final PlayerItem other) {
+		return catalogId == other.catalogId && amount == other.amount && noted == other.noted
+			&& wielded == other.wielded && durability == other.durability;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		final PlayerItem other = (PlayerItem) o;
+		return itemId == other.itemId && slot == other.slot && sameStatus(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(itemId, slot, catalogId, amount, noted, wielded, durability);
+	}
+}
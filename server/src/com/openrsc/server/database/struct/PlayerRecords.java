@@ -0,0 +1,30 @@
+package com.openrsc.server.database.struct;
+
+/**
+ * Everything loaded for a player besides their {@link PlayerData}, fetched together when they log in.
+ */
+public class PlayerRecords {
+	public PlayerExperience[] experience;
+	public PlayerSkills[] levels;
+	/**
+	 * Null if the player has no max levels stored yet.
+	 */
+	public PlayerSkills[] maxLevels;
+	public PlayerExperienceCapped[] experienceCapped;
+	public PlayerRecoveryQuestions[] recoveryChanges;
+	/**
+	 * Null unless the world has an equipment tab.
+	 */
+	public PlayerEquipped[] equipped;
+	public PlayerInventory[] inventory;
+	public PlayerBank[] bank;
+	/**
+	 * Null unless the world has bank presets.
+	 */
+	public PlayerBankPreset[] bankPresets;
+	public PlayerFriend[] friends;
+	public PlayerIgnore[] ignored;
+	public PlayerQuest[] quests;
+	public PlayerCache[] cache;
+	public PlayerNpcKills[] npcKills;
+}
@@ -51,7 +51,7 @@ public class HolidayDropEvent extends HourlyEvent  {
 		for (int y = 96; y < 912; ) {
 			for (int x = 1; x < 770; ) {
 
-				final int traversal = getWorld().getTile(x, y).traversalMask;
+				final int traversal = getWorld().getTraversalMask(x, y);
 				final boolean isBlocking = traversal != 0;
 
 				int curItemCatalogId = getItems().get(DataConversions.random(0, getItems().size() - 1));
@@ -20,13 +20,22 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	private final Mob owner;
 	private final World world;
 	private long delayTicks;
-	private long ticksBeforeRun = -1;
+	long ticksBeforeRun = -1;
 	private String descriptor;
 	private long lastEventDuration = 0;
 	private final UUID uuid;
 	private final DuplicationStrategy duplicationStrategy;
 	private volatile int timesRan;
 
+	/**
+	 * Scheduling state, owned by the {@link GameTickWheel} this event is tracked in (if any)
+	 */
+	volatile GameTickWheel wheel;
+	volatile long dueTick;
+	long sequence;
+	int slot = -1;
+	boolean awaitingTick;
+
 	public GameTickEvent(final World world, final Mob owner, final long ticks, final String descriptor, DuplicationStrategy duplicationStrategy) {
 		this.world = world;
 		this.owner = owner;
@@ -66,11 +75,15 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	}
 
 	public final boolean shouldRun() {
-		return running && ticksBeforeRun <= 0;
+		return running && getTicksBeforeRun() <= 0;
 	}
 
 	public void stop() {
 		running = false;
+		final GameTickWheel wheel = this.wheel;
+		if (wheel != null) {
+			wheel.stopped(this);
+		}
 	}
 
 	public boolean isRunning() {
@@ -84,14 +97,24 @@ public abstract class GameTickEvent implements Callable<Integer> {
 
 	public void resetCountdown() {
 		ticksBeforeRun = delayTicks;
+		final GameTickWheel wheel = this.wheel;
+		if (wheel != null) {
+			wheel.reschedule(this);
+		}
 	}
 
 	public void tick() {
-		ticksBeforeRun--;
+		final GameTickWheel wheel = this.wheel;
+		if (wheel != null) {
+			// The wheel already counted down for us, it only hands over events that are due.
+			wheel.ticked(this);
+		} else {
+			ticksBeforeRun--;
+		}
 	}
 
 	public long timeTillNextRun() {
-		return System.currentTimeMillis() + (ticksBeforeRun * getWorld().getServer().getConfig().GAME_TICK);
+		return System.currentTimeMillis() + (getTicksBeforeRun() * getWorld().getServer().getConfig().GAME_TICK);
 	}
 
 	public final boolean shouldRemove() {
@@ -126,7 +149,8 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	}
 
 	public long getTicksBeforeRun() {
-		return ticksBeforeRun;
+		final GameTickWheel wheel = this.wheel;
+		return wheel != null ? wheel.ticksUntilDue(this) : ticksBeforeRun;
 	}
 
 	public final long getLastEventDuration() {
@@ -0,0 +1,182 @@
+package com.openrsc.server.event.rsc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel holding the {@link GameTickEvent}s of a single processing scope (the world, or one player).
+ *
+ * Events are bucketed by the tick they are next due on, so advancing the wheel only touches the bucket for the
+ * current tick instead of counting down every event. Events due further away than the wheel spans stay in their
+ * bucket for another rotation.
+ *
+ * Ticks are counted per wheel, and only advance when the scope is actually processed, which keeps the countdown
+ * semantics of {@link GameTickEvent#getTicksBeforeRun()} identical to ticking every event.
+ */
+public final class GameTickWheel {
+
+	private static final Comparator<GameTickEvent> BY_SEQUENCE = Comparator.comparingLong(event -> event.sequence);
+
+	private final Object lock;
+	private final Consumer<GameTickEvent> stopListener;
+	/**
+	 * One bucket per slot, created on first use.
+	 */
+	private final List<Set<GameTickEvent>> buckets;
+	private final int mask;
+	private volatile long currentTick = 0;
+	private int size = 0;
+
+	public GameTickWheel(final int slots, final Object lock, final Consumer<GameTickEvent> stopListener) {
+		if (Integer.bitCount(slots) != 1) {
+			throw new IllegalArgumentException("Timing wheel slots must be a power of two: " + slots);
+		}
+		this.buckets = new ArrayList<>(Collections.nCopies(slots, null));
+		this.mask = slots - 1;
+		this.lock = lock;
+		this.stopListener = stopListener;
+	}
+
+	/**
+	 * Starts tracking an event. The sequence number decides execution order amongst events due on the same tick.
+	 */
+	public void schedule(final GameTickEvent event, final long sequence) {
+		synchronized (lock) {
+			event.wheel = this;
+			event.sequence = sequence;
+			event.awaitingTick = false;
+			event.slot = -1;
+			size++;
+			place(event);
+		}
+	}
+
+	/**
+	 * Stops tracking an event, handing its remaining countdown back to the event.
+	 */
+	public void unschedule(final GameTickEvent event) {
+		synchronized (lock) {
+			if (event.wheel != this) {
+				return;
+			}
+			unbucket(event);
+			event.ticksBeforeRun = event.dueTick - currentTick;
+			event.awaitingTick = false;
+			event.wheel = null;
+			size--;
+		}
+	}
+
+	/**
+	 * Moves an event after its countdown was changed.
+	 */
+	void reschedule(final GameTickEvent event) {
+		synchronized (lock) {
+			if (event.wheel != this) {
+				return;
+			}
+			unbucket(event);
+			place(event);
+		}
+	}
+
+	/**
+	 * Re-buckets an event that is still running but was left out of the wheel,
+	 * i.e. one that was drawn while stopped and restarted before it got cleaned up.
+	 */
+	public void ensureScheduled(final GameTickEvent event) {
+		synchronized (lock) {
+			if (event.wheel == this && event.slot == -1 && !event.awaitingTick && event.isRunning()) {
+				event.ticksBeforeRun = 0;
+				place(event);
+			}
+		}
+	}
+
+	/**
+	 * Marks an event drawn by {@link #advance()} as processed for the current tick.
+	 */
+	void ticked(final GameTickEvent event) {
+		synchronized (lock) {
+			event.awaitingTick = false;
+		}
+	}
+
+	void stopped(final GameTickEvent event) {
+		stopListener.accept(event);
+	}
+
+	/**
+	 * Moves the wheel on by one tick.
+	 *
+	 * @return The events due on the new tick, in sequence order.
+	 */
+	public List<GameTickEvent> advance() {
+		synchronized (lock) {
+			final long tick = ++currentTick;
+			final Set<GameTickEvent> bucket = buckets.get((int) (tick & mask));
+			if (bucket == null || bucket.isEmpty()) {
+				return new ArrayList<>(0);
+			}
+
+			final List<GameTickEvent> due = new ArrayList<>();
+			final Iterator<GameTickEvent> iterator = bucket.iterator();
+			while (iterator.hasNext()) {
+				final GameTickEvent event = iterator.next();
+				if (event.dueTick <= tick) {
+					iterator.remove();
+					event.slot = -1;
+					event.awaitingTick = true;
+					due.add(event);
+				}
+			}
+			due.sort(BY_SEQUENCE);
+			return due;
+		}
+	}
+
+	public long getCurrentTick() {
+		return currentTick;
+	}
+
+	long ticksUntilDue(final GameTickEvent event) {
+		return event.dueTick - currentTick;
+	}
+
+	public boolean isEmpty() {
+		synchronized (lock) {
+			return size == 0;
+		}
+	}
+
+	private void place(final GameTickEvent event) {
+		// An event drawn for this tick but not yet processed still owes the current tick its countdown.
+		final long due = currentTick + Math.max(event.ticksBeforeRun, 1) - (event.awaitingTick ? 1 : 0);
+		event.dueTick = due;
+		if (due <= currentTick) {
+			return;
+		}
+
+		final int slot = (int) (due & mask);
+		Set<GameTickEvent> bucket = buckets.get(slot);
+		if (bucket == null) {
+			bucket = new LinkedHashSet<>();
+			buckets.set(slot, bucket);
+		}
+		bucket.add(event);
+		event.slot = slot;
+	}
+
+	private void unbucket(final GameTickEvent event) {
+		if (event.slot != -1) {
+			buckets.get(event.slot).remove(event);
+			event.slot = -1;
+		}
+	}
+}
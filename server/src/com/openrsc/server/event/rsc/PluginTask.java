@@ -10,7 +10,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -21,12 +20,12 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	/**
-	 * List of PluginTasks indexed by thread to retrieve from a static context
+	 * The PluginTask running on the current thread, bound for the duration of call() to retrieve from a static context
 	 */
-	private final static ConcurrentHashMap<String, PluginTask> tasksMap = new ConcurrentHashMap<String, PluginTask>();
+	private final static ThreadLocal<PluginTask> contextTask = new ThreadLocal<>();
 
 	public static PluginTask getContextPluginTask() {
-		return PluginTask.tasksMap.get(Thread.currentThread().getName());
+		return PluginTask.contextTask.get();
 	}
 
 	private AtomicBoolean initialized = new AtomicBoolean(false);
@@ -51,6 +50,7 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 	}
 
 	public synchronized Integer call() {
+		contextTask.set(this);
 		try {
 			registerPluginThread();
 			final int result = action();
@@ -60,6 +60,9 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 			LOGGER.catching(ex);
 			stop();
 			return 0;
+		} finally {
+			// Pooled threads are reused by other tasks
+			contextTask.remove();
 		}
 	}
 
@@ -101,10 +104,8 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 
 	private synchronized void registerPluginThread() {
 		pluginThread = Thread.currentThread();
-		final String threadName = getPluginThread().getName();
 		setInitialized(true);
 		setThreadRunning(true);
-		tasksMap.put(threadName, this);
 		getScriptContext().startScript(action, data);
 	}
 
@@ -117,7 +118,6 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 		getScriptContext().endScript();
 
 		if(thread != null) {
-			tasksMap.remove(thread.getName());
 			thread.interrupt();
 		}
 	}
@@ -21,8 +21,10 @@ public class GameEventHandler {
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	private final GameTickEventStore eventStore = new GameTickEventStore();
-	private final ConcurrentHashMap<String, Integer> eventsCounts = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Long> eventsDurations = new ConcurrentHashMap<>();
+	/**
+	 * Events added by the current thread while it is staging, see {@link #stageEvents(Runnable)}.
+	 */
+	private final ThreadLocal<List<Runnable>> stagedEvents = new ThreadLocal<>();
 	private final Server server;
 	private ThreadPoolExecutor executor;
 
@@ -71,20 +73,20 @@ public class GameEventHandler {
 	}
 
 	public void cleanupEvents() {
-		eventStore.getTrackedEvents().forEach(event -> {
-			incrementCounts(event);
+		// Only events that ran or were stopped this tick can have finished, the rest are still waiting on their wheel.
+		eventStore.drainPendingCleanup().forEach(event -> {
 			if (event.shouldRemove()) {
 				eventStore.remove(event);
+			} else {
+				eventStore.ensureScheduled(event);
 			}
 		});
-		eventsCounts.clear();
-		eventsDurations.clear();
 	}
 
 	public long processNonPlayerEvents() {
 		return getServer().bench(() -> {
 			try {
-				executor.invokeAll(eventStore.getNonPlayerEvents());
+				executor.invokeAll(eventStore.advanceNonPlayerEvents());
 			} catch (final Exception e) {
 				LOGGER.catching(e);
 			}
@@ -95,20 +97,32 @@ public class GameEventHandler {
 		return getServer().bench(() -> processEvents(player));
 	}
 
-	private void incrementCounts(GameTickEvent event) {
-		eventsCounts.put(event.getDescriptor(),
-			eventsCounts.containsKey(event.getDescriptor()) ?
-				eventsCounts.get(event.getDescriptor()) + 1 :
-				1);
-		eventsDurations.put(event.getDescriptor(),
-			eventsDurations.containsKey(event.getDescriptor()) ?
-				eventsDurations.get(event.getDescriptor()) + event.getLastEventDuration() :
-				event.getLastEventDuration());
+	/**
+	 * Counts the events by their descriptor. Cleaning up only visits the events that ran or were stopped, so every
+	 * tracked event is counted here, when the profiling information is asked for, instead of on every tick.
+	 */
+	private static HashMap<String, Integer> countEvents(final Collection<GameTickEvent> events) {
+		final HashMap<String, Integer> eventsCounts = new LinkedHashMap<>();
+		for (final GameTickEvent event : events) {
+			eventsCounts.merge(event.getDescriptor(), 1, Integer::sum);
+		}
+		return eventsCounts;
+	}
+
+	/**
+	 * Adds up how long the events of each descriptor took the last time they ran, see {@link #countEvents(Collection)}.
+	 */
+	private static HashMap<String, Long> sumEventDurations(final Collection<GameTickEvent> events) {
+		final HashMap<String, Long> eventsDurations = new LinkedHashMap<>();
+		for (final GameTickEvent event : events) {
+			eventsDurations.merge(event.getDescriptor(), event.getLastEventDuration(), Long::sum);
+		}
+		return eventsDurations;
 	}
 
 	public void processEvents(final Player player) {
 		try {
-			executor.invokeAll(eventStore.getPlayerEvents(player.getUsernameHash()));
+			executor.invokeAll(eventStore.advancePlayerEvents(player.getUsernameHash()));
 		} catch (final Exception e) {
 			LOGGER.catching(e);
 		}
@@ -128,13 +142,47 @@ public class GameEventHandler {
 	}
 
 	public boolean add(final GameTickEvent event) {
+		final List<Runnable> staged = stagedEvents.get();
+		if (staged != null) {
+			staged.add(() -> eventStore.add(event));
+			return true;
+		}
 		return eventStore.add(event);
 	}
 
 	public boolean addOrUpdate(final GameTickEvent event) {
+		final List<Runnable> staged = stagedEvents.get();
+		if (staged != null) {
+			staged.add(() -> eventStore.addOrUpdate(event));
+			return true;
+		}
 		return eventStore.addOrUpdate(event);
 	}
 
+	/**
+	 * Runs the task with every event it adds held back instead of being added straight away.
+	 * Events are ordered by when they were added, so work done on several threads at once stages its events and
+	 * commits them in a fixed order afterwards.
+	 *
+	 * @return The held back events, to be passed to {@link #commitStagedEvents(List)}.
+	 */
+	public List<Runnable> stageEvents(final Runnable task) {
+		final List<Runnable> staged = new ArrayList<>();
+		stagedEvents.set(staged);
+		try {
+			task.run();
+		} finally {
+			stagedEvents.remove();
+		}
+		return staged;
+	}
+
+	public void commitStagedEvents(final List<Runnable> staged) {
+		for (final Runnable add : staged) {
+			add.run();
+		}
+	}
+
 	public boolean has(final GameTickEvent event) {
 		return eventStore.eventIsContained(event);
 	}
@@ -144,8 +192,9 @@ public class GameEventHandler {
 		long durationAllEvents = 0;
 		String newLine = forInGame ? "%" : "\r\n";
 
-		final HashMap<String, Integer> eventsCounts = getEventsCounts();
-		final HashMap<String, Long> eventsDurations = getEventsDurations();
+		final Collection<GameTickEvent> events = eventStore.getTrackedEvents();
+		final HashMap<String, Integer> eventsCounts = countEvents(events);
+		final HashMap<String, Long> eventsDurations = sumEventDurations(events);
 
 		// Calculate Totals
 		for (Map.Entry<String, Integer> eventEntry : eventsCounts.entrySet())
@@ -219,8 +268,14 @@ public class GameEventHandler {
 		final String usedMemory = DataConversions.formatBytes(Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
 
 		final String returnString = (
-			"Tick: " + getServer().getConfig().GAME_TICK + "ms, Server: " + (getServer().getLastTickDuration() / 1000000) + "ms " + (getServer().getLastIncomingPacketsDuration() / 1000000) + "ms " + (getServer().getLastEventsDuration() / 1000000) + "ms " + (getServer().getLastOutgoingPacketsDuration() / 1000000) + "ms" + newLine +
+			"Tick: " + getServer().getConfig().GAME_TICK + "ms, Server: " + (getServer().getLastTickDuration() / 1000000) + "ms " + (getServer().getLastIncomingPacketsDuration() / 1000000) + "ms " + (getServer().getLastEventsDuration() / 1000000) + "ms " + (getServer().getLastOutgoingPacketsDuration() / 1000000) + "ms, Allocated: " + (getServer().getLastTickAllocatedBytes() / 1024) + "KB" + newLine +
 				"Game Updater: " + (getServer().getLastWorldUpdateDuration() / 1000000) + "ms " + (getServer().getLastProcessPlayersDuration() / 1000000) + "ms " + (getServer().getLastProcessNpcsDuration() / 1000000) + "ms " + (getServer().getLastProcessMessageQueuesDuration() / 1000000) + "ms " + (getServer().getLastUpdateClientsDuration() / 1000000) + "ms " + (getServer().getLastDoCleanupDuration() / 1000000) + "ms " + (getServer().getLastExecuteWalkToActionsDuration() / 1000000) + "ms " + newLine +
+				"Outgoing: " + (getServer().getLastOutgoingBytes() / 1024) + "KB in " + getServer().getLastOutgoingFlushes() + " flushes" + newLine +
+				"Client Updates: " + (getServer().getConfig().WANT_PARALLEL_CLIENT_UPDATES ? "parallel" : "serial") + ", building packets " + (getServer().getLastUpdateClientsBuildDuration() / 1000000) + "ms of " + (getServer().getLastUpdateClientsDuration() / 1000000) + "ms" + newLine +
+				"NPC Processing: " + getServer().getLastActiveNpcs() + " active, " + getServer().getLastDormantNpcs() + " dormant" + newLine +
+				"Player Saves: " + getServer().getSavedPlayers() + " in " + getServer().getSaveTransactions() + " transactions of " + getServer().getSaveTransactionPlayers() + " players, " + getServer().getCoalescedSaves() + " coalesced, " + getServer().getSavedPlayerRows() + " rows written of " + getServer().getSavedPlayerRowsFullRewrite() + " for full rewrites" + newLine +
+				"Logins: p50 " + (getServer().getLoginDurationPercentile(50) / 1000000) + "ms, p99 " + (getServer().getLoginDurationPercentile(99) / 1000000) + "ms of the last " + getServer().getLoginDurationSamples() + newLine +
+				"Game Logs: " + getServer().getGameLogger().getQueueDepth() + " queued, last flush " + getServer().getGameLogger().getLastFlushRows() + " rows in " + getServer().getGameLogger().getLastFlushBatches() + " batches " + (getServer().getGameLogger().getLastFlushDuration() / 1000000) + "ms, " + getServer().getGameLogger().getSpilledQueries() + " spilled, " + getServer().getGameLogger().getDroppedQueries() + " dropped" + newLine +
 				"Events: " + countAllEvents + ", NPCs: " + getServer().getWorld().getNpcs().size() + ", Players: " + getServer().getWorld().getPlayers().size() + ", Shops: " + getServer().getWorld().getShops().size() + newLine +
 				"Threads: " + Thread.activeCount() + ", Total: " + totalMemory + ", Free: " + freeMemory + ", Used: " + usedMemory + newLine +
 				/*"Player Atk Map: " + getWorld().getPlayersUnderAttack().size() + ", NPC Atk Map: " + getWorld().getNpcsUnderAttack().size() + ", Quests: " + getWorld().getQuests().size() + ", Mini Games: " + getWorld().getMiniGames().size() + newLine +*/
@@ -235,11 +290,11 @@ public class GameEventHandler {
 	}
 
 	public HashMap<String, Integer> getEventsCounts() {
-		return new LinkedHashMap<>(eventsCounts);
+		return countEvents(eventStore.getTrackedEvents());
 	}
 
 	public HashMap<String, Long> getEventsDurations() {
-		return new LinkedHashMap<>(eventsDurations);
+		return sumEventDurations(eventStore.getTrackedEvents());
 	}
 
 	public List<GameTickEvent> getEvents() {
@@ -6,6 +6,7 @@ import com.google.common.collect.Multimap;
 import com.google.inject.Key;
 import com.openrsc.server.event.rsc.DuplicationStrategy;
 import com.openrsc.server.event.rsc.GameTickEvent;
+import com.openrsc.server.event.rsc.GameTickWheel;
 import com.openrsc.server.event.rsc.PluginTickEvent;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.player.Player;
@@ -17,14 +18,25 @@ import org.apache.logging.log4j.Logger;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 class GameTickEventStore {
     private static final Logger LOGGER = LogManager.getLogger(GameTickEventStore.class);
 
+    /**
+     * Wheel sizes in ticks, events due further ahead than this wait additional rotations in their bucket
+     */
+    private static final int NON_PLAYER_WHEEL_SLOTS = 512;
+    private static final int PLAYER_WHEEL_SLOTS = 64;
+
     private final Object LOCK = new Object();
 
     /**
@@ -38,15 +50,30 @@ class GameTickEventStore {
     private final Multimap<Long, GameTickEvent> byUsernameHash = ArrayListMultimap.create();
 
     /**
-     * Keep the non player events ready
+     * Timing wheel for the non player events, only hands back events once they are due
      */
-    private final Map<GameTickKey, GameTickEvent> nonPlayerEvents = new LinkedHashMap<>();
+    private final GameTickWheel nonPlayerWheel = new GameTickWheel(NON_PLAYER_WHEEL_SLOTS, LOCK, this::markForCleanup);
+
+    /**
+     * Timing wheels for the player events, indexed by username. Each advances only when its player is processed.
+     */
+    private final Map<Long, GameTickWheel> playerWheels = new HashMap<>();
 
     /**
      * Index by event type to quickly know if a certain event type exists (i.e. instanceof)
      */
     private final Multimap<Key<? extends GameTickEvent>, GameTickEvent> byType = LinkedHashMultimap.create();
 
+    /**
+     * Events that ran or were stopped since the last cleanup, the only ones that can need removing
+     */
+    private final Set<GameTickEvent> pendingCleanup = new LinkedHashSet<>();
+
+    /**
+     * Insertion order of events, used to run events due on the same tick in the order they were added
+     */
+    private long nextSequence = 0;
+
     public boolean add(GameTickEvent event) {
         synchronized (LOCK) {
             final GameTickKey eventKey = getKey(event);
@@ -57,13 +84,7 @@ class GameTickEventStore {
                 return false;
             }
 
-            events.put(eventKey, event);
-            byType.put(Key.get(event.getClass()), event);
-            if (isPlayerOwner(event)) {
-                byUsernameHash.put(((Player) event.getOwner()).getUsernameHash(), event);
-            } else {
-                nonPlayerEvents.put(eventKey, event);
-            }
+            track(eventKey, event);
             return true;
         }
     }
@@ -85,18 +106,25 @@ class GameTickEventStore {
 					remove(existingEvent);
 				}
 	
-				events.put(eventKey, event);
-				byType.put(Key.get(event.getClass()), event);
-				if (isPlayerOwner(event)) {
-					byUsernameHash.put(((Player) event.getOwner()).getUsernameHash(), event);
-				} else {
-					nonPlayerEvents.put(eventKey, event);
-				}
+				track(eventKey, event);
 				return true;
 			}
 		}
 	}
 
+    private void track(GameTickKey eventKey, GameTickEvent event) {
+        events.put(eventKey, event);
+        byType.put(Key.get(event.getClass()), event);
+        if (isPlayerOwner(event)) {
+            final long usernameHash = ((Player) event.getOwner()).getUsernameHash();
+            byUsernameHash.put(usernameHash, event);
+            playerWheels.computeIfAbsent(usernameHash, hash -> new GameTickWheel(PLAYER_WHEEL_SLOTS, LOCK, this::markForCleanup))
+                .schedule(event, nextSequence++);
+        } else {
+            nonPlayerWheel.schedule(event, nextSequence++);
+        }
+    }
+
     public boolean eventIsContained(GameTickEvent event) {
 		final GameTickKey eventKey = getKey(event);
 		return events.containsKey(eventKey);
@@ -112,31 +140,94 @@ class GameTickEventStore {
                 return;
             }
 
-            events.remove(eventKey);
+            final GameTickEvent tracked = events.remove(eventKey);
             byType.remove(Key.get(event.getClass()), event);
+            pendingCleanup.remove(tracked);
             if(isPlayerOwner(event)) {
-                byUsernameHash.remove(((Player) event.getOwner()).getUsernameHash(), event);
+                final long usernameHash = ((Player) event.getOwner()).getUsernameHash();
+                byUsernameHash.remove(usernameHash, event);
+                final GameTickWheel wheel = playerWheels.get(usernameHash);
+                if (wheel != null) {
+                    wheel.unschedule(tracked);
+                    if (wheel.isEmpty()) {
+                        playerWheels.remove(usernameHash);
+                    }
+                }
             } else {
-                nonPlayerEvents.remove(eventKey);
+                nonPlayerWheel.unschedule(tracked);
             }
         }
     }
 
-    public Collection<GameTickEvent> getPlayerEvents(Player player) {
+    /**
+     * Advances the player's timing wheel by one tick.
+     *
+     * @return The player's events that are due this tick, in the order they were added.
+     */
+    public Collection<GameTickEvent> advancePlayerEvents(Long usernameHash) {
         synchronized (LOCK) {
-            return new ArrayList<>(byUsernameHash.get(player.getUsernameHash()));
+            final GameTickWheel wheel = playerWheels.get(usernameHash);
+            if (wheel == null) {
+                return Collections.emptyList();
+            }
+            final List<GameTickEvent> due = wheel.advance();
+            pendingCleanup.addAll(due);
+            return due;
         }
     }
 
-    public Collection<GameTickEvent> getPlayerEvents(Long usernameHash) {
+    /**
+     * Advances the non player timing wheel by one tick.
+     *
+     * @return The non player events that are due this tick, in the order they were added.
+     */
+    public Collection<GameTickEvent> advanceNonPlayerEvents() {
+        synchronized (LOCK) {
+            final List<GameTickEvent> due = nonPlayerWheel.advance();
+            pendingCleanup.addAll(due);
+            return due;
+        }
+    }
+
+    /**
+     * @return The events that ran or were stopped since the last call, clearing the pending list.
+     */
+    public Collection<GameTickEvent> drainPendingCleanup() {
+        synchronized (LOCK) {
+            final List<GameTickEvent> pending = new ArrayList<>(pendingCleanup);
+            pendingCleanup.clear();
+            return pending;
+        }
+    }
+
+    /**
+     * Puts a restarted event back on its wheel if it was drawn while it was stopped.
+     */
+    public void ensureScheduled(GameTickEvent event) {
+        synchronized (LOCK) {
+            if (!events.containsKey(getKey(event))) {
+                return;
+            }
+            if (isPlayerOwner(event)) {
+                final GameTickWheel wheel = playerWheels.get(((Player) event.getOwner()).getUsernameHash());
+                if (wheel != null) {
+                    wheel.ensureScheduled(event);
+                }
+            } else {
+                nonPlayerWheel.ensureScheduled(event);
+            }
+        }
+    }
+
+    private void markForCleanup(GameTickEvent event) {
         synchronized (LOCK) {
-            return new ArrayList<>(byUsernameHash.get(usernameHash));
+            pendingCleanup.add(event);
         }
     }
 
-    public Collection<GameTickEvent> getNonPlayerEvents() {
+    public Collection<GameTickEvent> getPlayerEvents(Player player) {
         synchronized (LOCK) {
-            return new ArrayList<>(nonPlayerEvents.values());
+            return new ArrayList<>(byUsernameHash.get(player.getUsernameHash()));
         }
     }
 
@@ -370,12 +370,12 @@ public class WorldLoader {
 				Tile sectorTile = s.getTile(x, y);
 				TileValue tile = getWorld().getTile(bx, by);
 
-				tile.overlay = sectorTile.groundOverlay;
-				tile.diagWallVal = sectorTile.diagonalWalls;
-				tile.horizontalWallVal = sectorTile.horizontalWall;
-				tile.verticalWallVal = sectorTile.verticalWall;
-				tile.elevation = sectorTile.groundElevation;
-				tile.traversalMask = 0;
+				tile.setOverlay(sectorTile.groundOverlay);
+				tile.setDiagWallVal(sectorTile.diagonalWalls);
+				tile.setHorizontalWallVal(sectorTile.horizontalWall);
+				tile.setVerticalWallVal(sectorTile.verticalWall);
+				tile.setElevation(sectorTile.groundElevation);
+				tile.setTraversalMask(0);
 
 				if ((sectorTile.groundOverlay & 0xff) == 250) {
 					sectorTile.groundOverlay = (byte) 2;
@@ -384,21 +384,21 @@ public class WorldLoader {
 				final byte groundOverlay = sectorTile.groundOverlay;
 				if (groundOverlay > 0
 					&& getWorld().getServer().getEntityHandler().getTileDef(groundOverlay - 1).getObjectType() != 0) {
-					tile.traversalMask |= 0x40; // 64
+					tile.addTraversalFlags(0x40); // 64
 				}
 
 				final int verticalWall = sectorTile.verticalWall & 0xFF;
 				if (verticalWall > 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(verticalWall - 1).getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(verticalWall - 1).getDoorType() != 0) {
-					getWorld().getTile(bx, by).traversalMask |= 1; // 1
-					getWorld().getTile(bx, by - 1).traversalMask |= 4; // 4
+					getWorld().getTile(bx, by).addTraversalFlags(1); // 1
+					getWorld().getTile(bx, by - 1).addTraversalFlags(4); // 4
 
 					if (projectileClipAllowed(verticalWall)) {
-						tile.projectileAllowed = true;
-						tile.originalProjectileAllowed = true;
-						getWorld().getTile(bx, by - 1).projectileAllowed = true;
-						getWorld().getTile(bx, by - 1).originalProjectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						tile.setOriginalProjectileAllowed(true);
+						getWorld().getTile(bx, by - 1).setProjectileAllowed(true);
+						getWorld().getTile(bx, by - 1).setOriginalProjectileAllowed(true);
 					}
 				}
 
@@ -406,13 +406,13 @@ public class WorldLoader {
 				if (horizontalWall > 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(horizontalWall - 1).getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(horizontalWall - 1).getDoorType() != 0) {
-					tile.traversalMask |= 2; // 2
-					getWorld().getTile(bx - 1, by).traversalMask |= 8; // 8
+					tile.addTraversalFlags(2); // 2
+					getWorld().getTile(bx - 1, by).addTraversalFlags(8); // 8
 					if (projectileClipAllowed(horizontalWall)) {
-						tile.projectileAllowed = true;
-						tile.originalProjectileAllowed = true;
-						getWorld().getTile(bx - 1, by).projectileAllowed = true;
-						getWorld().getTile(bx - 1, by).originalProjectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						tile.setOriginalProjectileAllowed(true);
+						getWorld().getTile(bx - 1, by).setProjectileAllowed(true);
+						getWorld().getTile(bx - 1, by).setOriginalProjectileAllowed(true);
 					}
 				}
 
@@ -421,27 +421,27 @@ public class WorldLoader {
 					&& diagonalWalls < 12000
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 1).getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 1).getDoorType() != 0) {
-					tile.traversalMask |= 0x20; // 32
+					tile.addTraversalFlags(0x20); // 32
 					if (projectileClipAllowed(diagonalWalls & 0xFF)) {
-						tile.projectileAllowed = true;
-						tile.originalProjectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						tile.setOriginalProjectileAllowed(true);
 					}
 				}
 				if (diagonalWalls > 12000
 					&& diagonalWalls < 24000
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 12001).getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 12001).getDoorType() != 0) {
-					tile.traversalMask |= 0x10; // 16
+					tile.addTraversalFlags(0x10); // 16
 
 					if (projectileClipAllowed(diagonalWalls & 0xFF)) {
-						tile.projectileAllowed = true;
-						tile.originalProjectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						tile.setOriginalProjectileAllowed(true);
 					}
 				}
 
-				if (tile.overlay == 2 || tile.overlay == 11) {
-					tile.projectileAllowed = true;
-					tile.originalProjectileAllowed = true;
+				if (tile.getOverlay() == 2 || tile.getOverlay() == 11) {
+					tile.setProjectileAllowed(true);
+					tile.setOriginalProjectileAllowed(true);
 				}
 			}
 		}
@@ -540,7 +540,7 @@ public class WorldLoader {
 		// The authentic map file may have a way to flag null regions and only use one tile value across the entire thing
 		// Unfortunately, the map files we are using currently do not support that feature so we need to detect
 		// Unfortunately, we also have to allocate all the tiles and then clear them because the process of loading a sector can effect other sectors.
-		// Downside is that Scenery/Boundary spawn can change tile values, and if one is spawned in a "null region," then we will not be able to change the tile value from the Scenery/Boundary spawn.
+		// A Scenery/Boundary spawn that changes a tile value in a "null region" expands that region back to one value per tile.
 
 		final RegionManager regionManager = getWorld().getRegionManager();
 		for (int lvl = 0; lvl < 4; lvl++) {
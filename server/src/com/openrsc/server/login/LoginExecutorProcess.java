@@ -1,7 +1,7 @@
 package com.openrsc.server.login;
 
 public abstract class LoginExecutorProcess {
-	private boolean processed = false;
+	private volatile boolean processed = false;
 
 	public final void process() {
 		processInternal();
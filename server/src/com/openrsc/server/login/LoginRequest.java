@@ -38,6 +38,7 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 	private boolean isSimLogin;
 	private int[] nonces;
 	private UsernameChangeType usernameChangeType = UsernameChangeType.NOT_RENAMED;
+	private final long requestTime = System.nanoTime();
 
 	protected LoginRequest(final Server server, final Channel channel, final String username, final String password, final boolean isAuthenticClient, final int clientVersion, final boolean reconnecting, final int[] nonces) {
 		this.server = server;
@@ -136,7 +137,15 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 		loginValidated(loginResponse);
 
 		if (!isSimLogin && isLoginSuccessful(loginResponse)) {
-			final Player loadedPlayer = getServer().getPlayerService().loadPlayer(this);
+			final Player loadedPlayer = getServer().getLoginExecutor().loadPlayer(this);
+			if (loadedPlayer == null) {
+				// The client was already told the login succeeded, all that's left is to let go of it.
+				getServer().getPacketFilter().removeLoggedInPlayer(getIpAddress(), getUsernameHash());
+				if (getChannel() != null) {
+					getChannel().close();
+				}
+				return;
+			}
 			loadedPlayer.setLoggedIn(true);
 
 			LOGGER.info("Player Loaded: " + getUsername() +  String.format("; Client Version: %d", clientVersion));
@@ -149,6 +158,7 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 					ActionSender.sendReleasedNameExplanation(loadedPlayer, usernameChangeType);
 				}
 			});
+			getServer().addLoginDuration(System.nanoTime() - requestTime);
 
 		}
 		LOGGER.info("Processed login request for " + getUsername() + " response: " + loginResponse);
@@ -22,6 +22,10 @@ public class PlayerSaveRequest extends LoginExecutorProcess {
 	private final Server server;
 	private final Player player;
 	private final boolean logout;
+	/**
+	 * Whether the player was saved, if the save was already written along with other players.
+	 */
+	private Boolean saved = null;
 
 	public PlayerSaveRequest(final Server server, final Player player, boolean logout) {
 		this.server = server;
@@ -37,10 +41,18 @@ public class PlayerSaveRequest extends LoginExecutorProcess {
 		return server;
 	}
 
+	public final boolean isLogout() {
+		return logout;
+	}
+
+	public void setSaved(final boolean saved) {
+		this.saved = saved;
+	}
+
 	protected void processInternal() {
 //		LOGGER.info("Saved player " + player.getUsername() + "");
 		try {
-			boolean success = getServer().getPlayerService().savePlayer(player);
+			boolean success = saved != null ? saved : getServer().getPlayerService().savePlayer(player);
 			if (success && this.logout) {
 				logoutSaveSuccess();
 			}
@@ -1,419 +1,365 @@
 package com.openrsc.server.model;
 
 import com.openrsc.server.model.world.World;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.util.rsc.CollisionFlag;
 
-import javax.swing.*;
-import java.awt.*;
-import java.util.ArrayList;
+import java.util.Arrays;
 
+/**
+ * A* search over a square board of (2 * depth + 1) tiles centered on the start point.
+ *
+ * The board is addressed by cell index (boardX * width + boardY), where board x runs opposite to world x. All search
+ * state lives in int arrays of a per thread {@link Workspace}, tiles are only read from the world once the search
+ * reaches them, and the open set is an indexed binary heap ordered by total cost, then cost so far, then the order in
+ * which nodes were opened.
+ */
 public class AStarPathfinder {
 
-	boolean debug = false;
-	//JPanel2 panel = new JPanel2();
-	//JFrame frame = new JFrame();
-	//javax.swing.GroupLayout layout = new javax.swing.GroupLayout(panel);
 	final static int basicCost = 10;
 	final static int diagCost = 14;
-	private int depth;
-	private Node[][] costBoard = null;
-	private Path bestPath = null;
-	private Point worldStart;
-	private Point pointStart;
-	private Point pointEnd;
-	private Point currentPosition;
+
+	private static final int SOUTH = 1;
+	private static final int WEST = 2;
+	private static final int NORTH = 4;
+	private static final int EAST = 8;
+
+	private static final byte STATE_OPEN = 1;
+	private static final byte STATE_CLOSED = 2;
+
+	/**
+	 * Cached traversal mask of a tile outside of the world.
+	 */
+	static final int OUTSIDE_WORLD = 0x100;
+
+	private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+	private final TraversalMasks masks;
+	private final Point worldStart;
+	private final int depth;
+	private final int width;
+	private final int endX;
+	private final int endY;
 	long starttime;
 	long endtime;
 	private Path path;
-	private ArrayList<Node> openNodes = new ArrayList<>();
-	private ArrayList<Node> closedNodes = new ArrayList<>();
+	private Workspace ws;
 
 	public AStarPathfinder(World world, Point start, Point end, int depth) {
+		this((x, y) -> world.withinWorld(x, y) ? world.getTraversalMask(x, y) & 0xFF : OUTSIDE_WORLD, start, end, depth);
+	}
+
+	AStarPathfinder(TraversalMasks masks, Point start, Point end, int depth) {
+		this.masks = masks;
 		this.worldStart = start;
-		this.pointStart = new Point(depth,depth);
-		this.pointEnd = new Point((start.getX()+depth)-end.getX(), end.getY() - (start.getY() - depth));
 		this.depth = depth;
-		this.generateTraversalInfo(world, start, depth);
-		/*
-		if (debug) {
-			panel.setLayout(layout);
-			frame.add(panel);
-			frame.setSize(600, 600);
-			frame.setVisible(true);
-		}
-		 */
+		this.width = 2 * depth + 1;
+		this.endX = (start.getX() + depth) - end.getX();
+		this.endY = end.getY() - (start.getY() - depth);
 	}
 
 	public void feedPath(Path path) {
 		this.path = path;
 	}
-	public void generateTraversalInfo(World world, Point center, int depth) {
+
+	public Path findPath() {
 		if (depth < 1)
-			return;
+			return null;
+
+		if (depth == endX && depth == endY)
+			return null;
 
-		costBoard = new Node[2*depth + 1][2*depth + 1];
-		initBoard(costBoard);
-		int curposx, curposy;
-		for (int x = -depth; x <= depth; x++) {
-			for (int y = -depth; y <= depth; y++) {
-				TileValue tile = world.getTile(center.getX() - x, center.getY() + y);
-				if (tile == null) {
-					continue;
-				}
-				curposx = x + depth;
-				curposy = y + depth;
-
-				if ((tile.traversalMask & (CollisionFlag.FULL_BLOCK_A | CollisionFlag.FULL_BLOCK_B | CollisionFlag.FULL_BLOCK_C)) != 0) {
-					if (y < depth) {
-						costBoard[curposx][curposy+1].northBlocked = true;
-					}
-					if (x > -depth) {
-						costBoard[curposx-1][curposy].eastBlocked = true;
-					}
-					if (y > -depth) {
-						costBoard[curposx][curposy-1].southBlocked = true;
-					}
-					if (x < depth) {
-						costBoard[curposx+1][curposy].westBlocked = true;
-					}
-				} else {
-					if (!costBoard[curposx][curposy].southBlocked)
-						costBoard[curposx][curposy].southBlocked = (tile.traversalMask & CollisionFlag.SOUTH_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].westBlocked)
-						costBoard[curposx][curposy].westBlocked = (tile.traversalMask & CollisionFlag.WEST_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].northBlocked)
-						costBoard[curposx][curposy].northBlocked = (tile.traversalMask & CollisionFlag.NORTH_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].eastBlocked)
-						costBoard[curposx][curposy].eastBlocked = (tile.traversalMask & CollisionFlag.EAST_BLOCKED) != 0;
-				}
+		ws = WORKSPACE.get();
+		ws.begin(width * width);
+		try {
+			starttime = System.currentTimeMillis();
+			final int startCell = cell(depth, depth);
+			touch(startCell);
+			selectNode(startCell);
+
+			final boolean endOnBoard = endX >= 0 && endX < width && endY >= 0 && endY < width;
+			final int endCell = endOnBoard ? cell(endX, endY) : -1;
+			while (true) {
+				final int next = ws.poll();
+				endtime = System.currentTimeMillis();
+				if (next == -1)
+					return null;
+
+				if (next == endCell)
+					return buildPath(endCell);
+
+				selectNode(next);
 			}
+		} finally {
+			ws = null;
 		}
 	}
 
-	private int calcDistance(Point one, Point two) {
-		int xdiff = Math.abs(one.getX() - two.getX());
-		int ydiff = Math.abs(one.getY() - two.getY());
-
-		int shortL = xdiff > ydiff ? ydiff : xdiff;
-		int longL = xdiff > ydiff ? xdiff : ydiff;
+	public long getRunTime() { return endtime - starttime; }
 
-		return shortL * diagCost + (longL - shortL) * basicCost;
+	private Path buildPath(final int endCell) {
+		int node = ws.parent[endCell];
+		while (ws.parent[node] != -1) {
+			final int worldX = worldStart.getX() + depth - node / width;
+			final int worldY = worldStart.getY() - depth + node % width;
+			path.addDirect(worldX, worldY);
+			node = ws.parent[node];
+		}
+		return path;
 	}
 
-	public Node findNextNode() {
-		int minimum = Integer.MAX_VALUE;
-		Node minNode = null;
-		for (Node node : openNodes) {
-			if (node.hCost < minimum) {
-				minimum = node.hCost;
-				minNode = node;
-			} else if (node.hCost == minimum && node.fCost < minNode.fCost)
-				minNode = node;
-
-		}
-		return minNode;
+	private void selectNode(final int node) {
+		ws.state[node] = STATE_CLOSED;
+		final int x = node / width;
+		final int y = node % width;
+		final int max = width - 1;
+		final int blocked = blockedSides(x, y);
+
+		if ((blocked & SOUTH) == 0 && y < max)
+			update(cell(x, y + 1), node, basicCost);
+		if ((blocked & WEST) == 0 && x > 0)
+			update(cell(x - 1, y), node, basicCost);
+		if ((blocked & NORTH) == 0 && y > 0)
+			update(cell(x, y - 1), node, basicCost);
+		if ((blocked & EAST) == 0 && x < max)
+			update(cell(x + 1, y), node, basicCost);
+		if ((blocked & (SOUTH | WEST)) == 0 && x > 0 && y < max
+			&& (blockedSides(x - 1, y) & SOUTH) == 0 && (blockedSides(x, y + 1) & WEST) == 0)
+			update(cell(x - 1, y + 1), node, diagCost);
+		if ((blocked & (NORTH | WEST)) == 0 && x > 0 && y > 0
+			&& (blockedSides(x - 1, y) & NORTH) == 0 && (blockedSides(x, y - 1) & WEST) == 0)
+			update(cell(x - 1, y - 1), node, diagCost);
+		if ((blocked & (NORTH | EAST)) == 0 && x < max && y > 0
+			&& (blockedSides(x + 1, y) & NORTH) == 0 && (blockedSides(x, y - 1) & EAST) == 0)
+			update(cell(x + 1, y - 1), node, diagCost);
+		if ((blocked & (SOUTH | EAST)) == 0 && x < max && y < max
+			&& (blockedSides(x + 1, y) & SOUTH) == 0 && (blockedSides(x, y + 1) & EAST) == 0)
+			update(cell(x + 1, y + 1), node, diagCost);
 	}
 
-	private Path buildPath() {
-		Point parent = closedNodes.get(closedNodes.size()-1).parent;
-		Node endNode = costBoard[parent.getX()][parent.getY()];
-		while (endNode != null) {
-			int worldX = worldStart.getX() + depth - endNode.position.getX();
-			int worldY = worldStart.getY() - depth + endNode.position.getY();
-			if (endNode.parent == null)
-				endNode = null;
-			else {
-				path.addDirect(worldX, worldY);
-				endNode = costBoard[endNode.parent.getX()][endNode.parent.getY()];
-			}
+	private void update(final int node, final int from, final int cost) {
+		touch(node);
+		final int newCost = ws.cost[from] + cost;
+		final byte state = ws.state[node];
+		if (state == STATE_CLOSED)
+			return;
 
+		if (state == STATE_OPEN) {
+			if (newCost > ws.cost[node])
+				return;
+			if (newCost < ws.cost[node]) {
+				ws.cost[node] = newCost;
+				ws.total[node] = newCost + ws.heuristic[node];
+				ws.siftUp(ws.heapIndex[node]);
+			}
+		} else {
+			ws.cost[node] = newCost;
+			ws.heuristic[node] = calcDistance(node / width, node % width);
+			ws.total[node] = newCost + ws.heuristic[node];
+			ws.push(node);
 		}
-		return path;
+		// Equal cost routes still take over the parent, the last one to be found wins.
+		ws.parent[node] = from;
 	}
 
-	public Path findPath() {
-		if (depth < 1)
-			return null;
-
-		if (pointStart.getX() == pointEnd.getX()
-		&& pointStart.getY() == pointEnd.getY())
-			return null;
-
-		boolean quit = false;
-		starttime = System.currentTimeMillis();
-		costBoard[depth][depth].selectNode();
-
-		while (true) {
-			Node next = findNextNode();
-			endtime = System.currentTimeMillis();
-			if (next == null)
-				return null;
-
-			if (next.position.getX() == pointEnd.getX()
-			&& next.position.getY() == pointEnd.getY()) {
-				closedNodes.add(next);
-				return buildPath();
-			}
+	private int calcDistance(final int x, final int y) {
+		int xdiff = Math.abs(x - endX);
+		int ydiff = Math.abs(y - endY);
 
+		int shortL = xdiff > ydiff ? ydiff : xdiff;
+		int longL = xdiff > ydiff ? xdiff : ydiff;
 
-			next.selectNode();
-			if (debug) {
-			//	panel.repaint();
+		return shortL * diagCost + (longL - shortL) * basicCost;
+	}
 
-				/*
-				// We should no longer put threads to sleep
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException a) {
-					a.printStackTrace();
-				}*/
+	/**
+	 * The sides of a board cell that can't be crossed, from its own walls and from fully blocked neighbours.
+	 */
+	private int blockedSides(final int x, final int y) {
+		final int node = cell(x, y);
+		if (ws.sidesGeneration[node] == ws.generation) {
+			return ws.sides[node];
+		}
 
-			}
+		int blocked = 0;
+		final int mask = traversalMask(x, y);
+		if (mask != OUTSIDE_WORLD && (mask & CollisionFlag.FULL_BLOCK) == 0) {
+			if ((mask & CollisionFlag.SOUTH_BLOCKED) != 0)
+				blocked |= SOUTH;
+			if ((mask & CollisionFlag.WEST_BLOCKED) != 0)
+				blocked |= WEST;
+			if ((mask & CollisionFlag.NORTH_BLOCKED) != 0)
+				blocked |= NORTH;
+			if ((mask & CollisionFlag.EAST_BLOCKED) != 0)
+				blocked |= EAST;
 		}
+		if (isFullBlock(x, y + 1))
+			blocked |= SOUTH;
+		if (isFullBlock(x - 1, y))
+			blocked |= WEST;
+		if (isFullBlock(x, y - 1))
+			blocked |= NORTH;
+		if (isFullBlock(x + 1, y))
+			blocked |= EAST;
+		ws.sides[node] = blocked;
+		ws.sidesGeneration[node] = ws.generation;
+		return blocked;
 	}
 
-	private void initBoard(Node[][] board) {
-		if (board == null)
-			return;
+	private boolean isFullBlock(final int x, final int y) {
+		if (x < 0 || x >= width || y < 0 || y >= width)
+			return false;
+		final int mask = traversalMask(x, y);
+		return mask != OUTSIDE_WORLD && (mask & CollisionFlag.FULL_BLOCK) != 0;
+	}
 
-		for(int i = 0; i < board[0].length; i++) {
-			for (int j = 0; j < board[0].length; j++) {
-				board[i][j] = new Node(i,j);
-			}
+	private int traversalMask(final int x, final int y) {
+		final int node = cell(x, y);
+		if (ws.maskGeneration[node] != ws.generation) {
+			final int worldX = worldStart.getX() + depth - x;
+			final int worldY = worldStart.getY() - depth + y;
+			ws.mask[node] = masks.get(worldX, worldY);
+			ws.maskGeneration[node] = ws.generation;
 		}
+		return ws.mask[node];
 	}
 
-	public boolean diagBlocked(Node node, adjacent_direction dir) {
-		Node neighbor1 = null;
-		Node neighbor2 = null;
-		if (dir == adjacent_direction.SOUTHWEST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.WEST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.SOUTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.southBlocked && !neighbor2.westBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.NORTHWEST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.WEST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.NORTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.northBlocked && !neighbor2.westBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.NORTHEAST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.EAST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.NORTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.northBlocked && !neighbor2.eastBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.SOUTHEAST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.EAST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.SOUTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.southBlocked && !neighbor2.eastBlocked)
-						return false;
-				}
-			}
+	private void touch(final int node) {
+		if (ws.nodeGeneration[node] != ws.generation) {
+			ws.nodeGeneration[node] = ws.generation;
+			ws.state[node] = 0;
+			ws.cost[node] = 0;
+			ws.parent[node] = -1;
 		}
-		return true;
 	}
 
-	public long getRunTime() { return endtime - starttime; }
-
-	public class Node {
-		int fCost, gCost, hCost;
-		node_state state;
-		boolean southBlocked = false;
-		boolean northBlocked = false;
-		boolean westBlocked = false;
-		boolean eastBlocked = false;
-		public Point position;
-		Point parent;
-
-		public Node(int x, int y) {
-			position = new Point(x,y);
-			fCost = 0;
-			gCost = 0;
-			hCost = 0;
-			state = node_state.INIT;
-		}
+	private int cell(final int x, final int y) {
+		return x * width + y;
+	}
 
-		public void setState(node_state state) {
-			this.state = state;
-		}
+	/**
+	 * Where the search reads tiles from, the world's collision map outside of tests.
+	 */
+	interface TraversalMasks {
+		/**
+		 * @return The traversal mask of the tile, or {@link #OUTSIDE_WORLD} if it isn't in the world
+		 */
+		int get(int x, int y);
+	}
 
-		public void update(Node node, int cost) {
-			if (this.state == node_state.INIT) {
-				this.setState(node_state.OPEN);
-				this.fCost = node.fCost + cost;
-				calcGCost();
-				openNodes.add(this);
-			} else if (this.state == node_state.CLOSED)
-				return;
-			else {
-				int newFcost = node.fCost + cost;
-				if (newFcost > this.fCost)
-					return;
-				this.fCost = newFcost;
+	/**
+	 * Search state reused by every search on the same thread. Cells are reset lazily by comparing their generation
+	 * with the current search's, so starting a search doesn't have to clear the arrays.
+	 */
+	private static final class Workspace {
+		private int generation = 0;
+		private int capacity = 0;
+		private int[] maskGeneration;
+		private int[] nodeGeneration;
+		private int[] mask;
+		private int[] sidesGeneration;
+		private int[] sides;
+		private byte[] state;
+		private int[] cost;
+		private int[] heuristic;
+		private int[] total;
+		private int[] parent;
+		private int[] openOrder;
+		private int[] heapIndex;
+		private int[] heap;
+		private int heapSize;
+		private int nextOpenOrder;
+
+		private void begin(final int cells) {
+			if (cells > capacity) {
+				capacity = cells;
+				maskGeneration = new int[cells];
+				nodeGeneration = new int[cells];
+				mask = new int[cells];
+				sidesGeneration = new int[cells];
+				sides = new int[cells];
+				state = new byte[cells];
+				cost = new int[cells];
+				heuristic = new int[cells];
+				total = new int[cells];
+				parent = new int[cells];
+				openOrder = new int[cells];
+				heapIndex = new int[cells];
+				heap = new int[cells];
+				generation = 0;
 			}
-			calcHCost();
-			this.parent = node.position;
-		}
-
-		public void calcGCost() {
-			gCost = calcDistance(this.position, pointEnd);
+			if (++generation == 0) {
+				Arrays.fill(maskGeneration, 0);
+				Arrays.fill(nodeGeneration, 0);
+				Arrays.fill(sidesGeneration, 0);
+				generation = 1;
+			}
+			heapSize = 0;
+			nextOpenOrder = 0;
 		}
 
-		public void calcHCost() {
-			hCost = fCost + gCost;
+		private void push(final int node) {
+			state[node] = STATE_OPEN;
+			openOrder[node] = nextOpenOrder++;
+			heap[heapSize] = node;
+			heapIndex[node] = heapSize;
+			siftUp(heapSize++);
 		}
 
-		public Node getNeighbor(adjacent_direction dir) {
-			switch (dir) {
-				case SOUTH:
-					if (position.getY() < 2*depth)
-						return costBoard[position.getX()][position.getY()+1];
-					else
-						return null;
-				case SOUTHWEST:
-					if (position.getY() < 2*depth && position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()+1];
-					else
-						return null;
-				case WEST:
-					if (position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()];
-					else
-						return null;
-				case NORTHWEST:
-					if (position.getY() > 0 && position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()-1];
-					else
-						return null;
-				case NORTH:
-					if (position.getY() > 0)
-						return costBoard[position.getX()][position.getY()-1];
-					else
-						return null;
-				case NORTHEAST:
-					if (position.getY() > 0 && position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()-1];
-					else
-						return null;
-				case EAST:
-					if (position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()];
-					else
-						return null;
-				case SOUTHEAST:
-					if (position.getY() < 2*depth && position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()+1];
-					else
-						return null;
+		private int poll() {
+			if (heapSize == 0)
+				return -1;
+			final int node = heap[0];
+			final int last = heap[--heapSize];
+			if (heapSize > 0) {
+				heap[0] = last;
+				heapIndex[last] = 0;
+				siftDown(0);
 			}
-			return null;
+			return node;
 		}
 
-		private void selectNode() {
-			if (state == node_state.OPEN)
-				openNodes.remove(this);
-
-			setState(node_state.CLOSED);
-			closedNodes.add(this);
-			Node neighbor = null;
-			//South to SouthEast
-			if (!southBlocked && (neighbor = getNeighbor(adjacent_direction.SOUTH)) != null)
-				neighbor.update(this, basicCost);
-			if (!westBlocked && (neighbor = getNeighbor(adjacent_direction.WEST)) != null)
-				neighbor.update(this, basicCost);
-			if (!northBlocked && (neighbor = getNeighbor(adjacent_direction.NORTH)) != null)
-				neighbor.update(this, basicCost);
-			if (!eastBlocked && (neighbor = getNeighbor(adjacent_direction.EAST)) != null)
-				neighbor.update(this, basicCost);
-			if (!(southBlocked || westBlocked) && !diagBlocked(this, adjacent_direction.SOUTHWEST)
-				&& (neighbor = getNeighbor(adjacent_direction.SOUTHWEST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(northBlocked || westBlocked) && !diagBlocked(this, adjacent_direction.NORTHWEST)
-				&& (neighbor = getNeighbor(adjacent_direction.NORTHWEST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(northBlocked || eastBlocked) && !diagBlocked(this, adjacent_direction.NORTHEAST)
-				&& (neighbor = getNeighbor(adjacent_direction.NORTHEAST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(southBlocked || eastBlocked) && !diagBlocked(this, adjacent_direction.SOUTHEAST)
-				&& (neighbor = getNeighbor(adjacent_direction.SOUTHEAST)) != null)
-				neighbor.update(this, diagCost);
+		private void siftUp(int index) {
+			final int node = heap[index];
+			while (index > 0) {
+				final int parentIndex = (index - 1) >>> 1;
+				final int parentNode = heap[parentIndex];
+				if (!before(node, parentNode))
+					break;
+				heap[index] = parentNode;
+				heapIndex[parentNode] = index;
+				index = parentIndex;
+			}
+			heap[index] = node;
+			heapIndex[node] = index;
 		}
-	}
-
 
-	public enum node_state{
-		INIT,
-		OPEN,
-		CLOSED
-	}
-
-	public enum adjacent_direction{
-		SOUTH,
-		SOUTHWEST,
-		WEST,
-		NORTHWEST,
-		NORTH,
-		NORTHEAST,
-		EAST,
-		SOUTHEAST
-	}
-
-	/*debug code*/
-	class JPanel2 extends JPanel {
-		int width = 20;
-		JPanel2() {
+		private void siftDown(int index) {
+			final int node = heap[index];
+			final int half = heapSize >>> 1;
+			while (index < half) {
+				int child = 2 * index + 1;
+				final int right = child + 1;
+				if (right < heapSize && before(heap[right], heap[child]))
+					child = right;
+				if (!before(heap[child], node))
+					break;
+				heap[index] = heap[child];
+				heapIndex[heap[index]] = index;
+				index = child;
+			}
+			heap[index] = node;
+			heapIndex[node] = index;
 		}
 
-
-		@Override
-		public void paintComponent(Graphics g) {
-			super.paintComponent(g);
-			g.setFont(new Font("Arial",1,10));
-			for (Node[] nodes : costBoard) {
-				for (Node node : nodes) {
-					g.setColor(Color.black);
-					g.drawRect(node.position.getX()*width, node.position.getY()*width, width, width);
-					g.setColor(Color.red);
-					if (node.southBlocked)
-						g.fillRect(node.position.getX()*width, node.position.getY()*width+width - 4,width,3);
-					if (node.eastBlocked)
-						g.fillRect(node.position.getX()*width + width - 4, node.position.getY()*width,3,width);
-					if (node.northBlocked)
-						g.fillRect(node.position.getX()*width, node.position.getY()*width+1,width,3);
-					if (node.westBlocked)
-						g.fillRect(node.position.getX()*width+1, node.position.getY()*width,3,width);
-					if (node.state == node_state.OPEN) {
-						g.setColor(Color.green);
-						g.drawString("" + node.hCost, node.position.getX()*width, node.position.getY()*width + width/2);
-					} else if (node.state == node_state.CLOSED) {
-						g.setColor(Color.red);
-						g.drawString("" + node.hCost, node.position.getX()*width, node.position.getY()*width + width/2);
-					}
-				}
-			}
-			Node guy = closedNodes.get(closedNodes.size()-1);
-			g.setColor(Color.ORANGE);
-			while (guy != null) {
-				g.fillRect(guy.position.getX() * width, guy.position.getY()*width, 5,5);
-				if (guy.parent == null)
-					guy = null;
-				else
-					guy = costBoard[guy.parent.getX()][guy.parent.getY()];
-			}
+		/**
+		 * Lowest total cost first, then lowest cost so far, then whichever node was opened first.
+		 */
+		private boolean before(final int a, final int b) {
+			if (total[a] != total[b])
+				return total[a] < total[b];
+			if (cost[a] != cost[b])
+				return cost[a] < cost[b];
+			return openOrder[a] < openOrder[b];
 		}
 	}
 }
@@ -1,5 +1,7 @@
 package com.openrsc.server.model;
 
+import com.openrsc.server.database.struct.PlayerCache;
+
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,10 +19,19 @@ public class Cache {
 	 */
 	private ConcurrentMap<String, Object> storage = new ConcurrentHashMap<String, Object>();
 
+	/**
+	 * The entries as they were last saved, by key.
+	 */
+	private final SaveState<String, PlayerCache> saveState = new SaveState<>();
+
 	public Map<String, Object> getCacheMap() {
 		return storage;
 	}
 
+	public SaveState<String, PlayerCache> getSaveState() {
+		return saveState;
+	}
+
 	/**
 	 * Determines if the selected key already exists in the cache
 	 *
@@ -8,7 +8,6 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.model.world.region.Region;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.util.rsc.CollisionFlag;
 
 import java.util.ArrayList;
@@ -249,12 +248,11 @@ public class PathValidation {
 	}
 
 	private static boolean checkBlockingDistance(World world, int x, int y, int bit, boolean isCurrentTile, boolean ignoreProjectileAllowed) {
-		TileValue t = world.getTile(x, y);
-		if (!ignoreProjectileAllowed && t.projectileAllowed) {
+		if (!ignoreProjectileAllowed && world.isProjectileAllowed(x, y)) {
 			return false;
 		}
 
-		return isBlocking(t.traversalMask, (byte) bit, isCurrentTile);
+		return isBlocking(world.getTraversalMask(x, y), (byte) bit, isCurrentTile);
 	}
 
 	/**
@@ -312,7 +310,7 @@ public class PathValidation {
 
 	// returns true if the point is *not* blocked by anything
 	static boolean checkPoint(World world, Point point) {
-		return (world.getTile(point.getX(), point.getY()).traversalMask & CollisionFlag.FULL_BLOCK) == 0;
+		return (world.getTraversalMask(point.getX(), point.getY()) & CollisionFlag.FULL_BLOCK) == 0;
 	}
 
 	private static boolean checkNortheast(World world, Point curPoint) {
@@ -323,19 +321,19 @@ public class PathValidation {
 		// Object east
 		// |   or   |
 		//  \        X
-		int mask = world.getTile(x - 1, y).traversalMask;
+		int mask = world.getTraversalMask(x - 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on north tile, east side
-			mask = world.getTile(x, y - 1).traversalMask;
+			mask = world.getTraversalMask(x, y - 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northeast tile, west side
-			mask = world.getTile(x - 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
@@ -344,19 +342,19 @@ public class PathValidation {
 
 		// Object north
 		// \__  or  X__
-		mask = world.getTile(x, y - 1).traversalMask;
+		mask = world.getTraversalMask(x, y - 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on east tile, north side
-			mask = world.getTile(x - 1, y).traversalMask;
+			mask = world.getTraversalMask(x - 1, y);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northeast tile, south side
-			mask = world.getTile(x - 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			return blocking;
 
@@ -374,19 +372,19 @@ public class PathValidation {
 		// Object west
 		//   |  or  |
 		//  /      X
-		int mask = world.getTile(x + 1, y).traversalMask;
+		int mask = world.getTraversalMask(x + 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on north tile, west side
-			mask = world.getTile(x, y - 1).traversalMask;
+			mask = world.getTraversalMask(x, y - 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northwest tile, east side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
@@ -395,19 +393,19 @@ public class PathValidation {
 
 		// Object north
 		// __/  or  __X
-		mask = world.getTile(x, y - 1).traversalMask;
+		mask = world.getTraversalMask(x, y - 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on west tile, north side
-			mask = world.getTile(x + 1, y).traversalMask;
+			mask = world.getTraversalMask(x + 1, y);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northwest tile, south side
-			mask = world.getTile(x + 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			return blocking;
 
@@ -424,19 +422,19 @@ public class PathValidation {
 		// Object east
 		//   /  or   X
 		//  |       |
-		int mask = world.getTile(x - 1, y).traversalMask;
+		int mask = world.getTraversalMask(x - 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on south tile, east side
-			mask = world.getTile(x, y + 1).traversalMask;
+			mask = world.getTraversalMask(x, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southeast tile, west side
-			mask = world.getTile(x - 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
@@ -446,19 +444,19 @@ public class PathValidation {
 		// Object south
 		//  __       __
 		// /    or  X
-		mask = world.getTile(x, y + 1).traversalMask;
+		mask = world.getTraversalMask(x, y + 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on east tile, south side
-			mask = world.getTile(x - 1, y).traversalMask;
+			mask = world.getTraversalMask(x - 1, y);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southeast tile, north side
-			mask = world.getTile(x - 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			return blocking;
 
@@ -476,19 +474,19 @@ public class PathValidation {
 		// Object west
 		//  \  or  X
 		//   |      |
-		int mask = world.getTile(x + 1, y).traversalMask;
+		int mask = world.getTraversalMask(x + 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on south tile, west side
-			mask = world.getTile(x, y + 1).traversalMask;
+			mask = world.getTraversalMask(x, y + 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southwest tile, east side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
@@ -498,19 +496,19 @@ public class PathValidation {
 		// Object south
 		// __       __
 		//   \  or    X
-		mask = world.getTile(x, y + 1).traversalMask;
+		mask = world.getTraversalMask(x, y + 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on west tile, south side
-			mask = world.getTile(x + 1, y).traversalMask;
+			mask = world.getTraversalMask(x + 1, y);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southwest tile, north side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			return blocking;
 
@@ -623,10 +621,9 @@ public class PathValidation {
 	}
 
 	private static boolean checkBlocking(Mob mob, int x, int y, int bit, boolean isCurrentTile) {
-		TileValue t = mob.getWorld().getTile(x, y);
 		/*boolean inFisherKingdom = (mob.getLocation().inBounds(415, 976, 423, 984)
 			|| mob.getLocation().inBounds(511, 976, 519, 984));*/
-		boolean blockedPath = PathValidation.isBlocking(t.traversalMask, (byte) bit, isCurrentTile);
+		boolean blockedPath = PathValidation.isBlocking(mob.getWorld().getTraversalMask(x, y), (byte) bit, isCurrentTile);
 		blockedPath |= isMobBlocking(mob, x, y);
 		if (mob.isPlayer() && mob.getConfig().PLAYER_BLOCKING == 2) {
 			blockedPath |= isPlayerBlocking((Player)mob, x, y);
@@ -643,7 +640,10 @@ public class PathValidation {
 				return false;
 			case 1: // Players can walk through other players, but only if they are not the last point on their path (authentic to 2018 RSC)
 			case 2: // Players act like solid objects. Possibly authentic to very early RSC, based on reports that players could stand in doors to block off buildings.
-				Region region = localPlayer.getWorld().getRegionManager().getRegion(Point.location(x, y));
+				Region region = localPlayer.getWorld().getRegionManager().getRegion(x, y);
+				if (region == null) {
+					return false;
+				}
 				Player player = region.getPlayer(x, y, localPlayer, false);
 
 				if (player != null) {
@@ -656,9 +656,9 @@ public class PathValidation {
 	}
 
 	public static boolean isMobBlocking(Mob mob, int x, int y) {
-		Region region = mob.getWorld().getRegionManager().getRegion(Point.location(x, y));
+		Region region = mob.getWorld().getRegionManager().getRegion(x, y);
 
-		if (mob.getX() == x && mob.getY() == y) {
+		if (region == null || (mob.getX() == x && mob.getY() == y)) {
 			return false;
 		}
 
@@ -1,13 +1,14 @@
 package com.openrsc.server.model;
 
+import com.openrsc.server.constants.Constants;
 import com.openrsc.server.model.entity.WildernessLocation;
 import com.openrsc.server.model.entity.WildernessLocation.WildState;
 import com.openrsc.server.model.world.Area;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.util.rsc.DataConversions;
-import com.openrsc.server.util.rsc.Formulae;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class Point {
 
@@ -22,6 +23,18 @@ public class Point {
 		wildernessLocations.add(new WildernessLocation(WildState.MEMBERS_WILD, 243, 2988, 283, 3020));
 	}
 
+	/**
+	 * The number of regions along each axis of the map, see {@link #location(short, short)}.
+	 */
+	private static final int REGIONS_WIDE = (Constants.MAX_WIDTH + Constants.REGION_SIZE - 1) / Constants.REGION_SIZE;
+	private static final int REGIONS_HIGH = (Constants.MAX_HEIGHT + Constants.REGION_SIZE - 1) / Constants.REGION_SIZE;
+
+	/**
+	 * The shared points of every map tile asked for so far, indexed by region and then by tile within the region.
+	 * Region slots and tile slots are both filled in on first use, so only the parts of the map in use take up memory.
+	 */
+	private static final AtomicReferenceArray<AtomicReferenceArray<Point>> LOCATIONS = new AtomicReferenceArray<>(REGIONS_WIDE * REGIONS_HIGH);
+
 	protected short x, y;
 
 	protected Point() {
@@ -39,16 +52,44 @@ public class Point {
 	public static Point location(int x, int y) {
 		return location((short)x, (short)y);
 	}
+	/**
+	 * Points on the map are shared, asking for the same tile twice gives the same instance, so moving around and
+	 * pathing don't allocate. The returned point must never be changed.
+	 */
 	public static Point location(short x, short y) {
 		if (x < 0 || y < 0) {
 			throw new IllegalArgumentException(
 				"Point may not contain non negative values x:" + x + " y:"
 					+ y);
 		}
-		return new Point(x, y);
+		if (x >= Constants.MAX_WIDTH || y >= Constants.MAX_HEIGHT) {
+			return new Point(x, y);
+		}
+
+		final int region = (x / Constants.REGION_SIZE) * REGIONS_HIGH + y / Constants.REGION_SIZE;
+		AtomicReferenceArray<Point> tiles = LOCATIONS.get(region);
+		if (tiles == null) {
+			LOCATIONS.compareAndSet(region, null, new AtomicReferenceArray<>(Constants.REGION_SIZE * Constants.REGION_SIZE));
+			tiles = LOCATIONS.get(region);
+		}
+
+		final int tile = (x % Constants.REGION_SIZE) * Constants.REGION_SIZE + y % Constants.REGION_SIZE;
+		final Point point = tiles.get(tile);
+		if (point != null) {
+			return point;
+		}
+		// Whoever loses the race uses the winner's point.
+		tiles.compareAndSet(tile, null, new Point(x, y));
+		return tiles.get(tile);
 	}
 
 	public String returnLocationName() {
+		if (x >= 0 && x < Constants.MAX_WIDTH && y >= 0 && y < Constants.MAX_HEIGHT) {
+			final String name = ZoneTable.areaName(x, y);
+			return name != null ? name : getX() + "," + getY();
+		}
+
+		// Off the map, ask every area.
 		if (inHeroQuestRangeRoom()) {
 			return "Hero's Quest Range Room";
 		}
@@ -168,15 +209,15 @@ public class Point {
 		return getX() + "," + getY();
 	}
 
+	/**
+	 * Compiles the named areas of {@link #returnLocationName()} into their lookup table.
+	 */
+	public static void loadAreas() {
+		ZoneTable.load();
+	}
+
 	public static boolean inWilderness(int x, int y) {
-		int wild = 2203 - (y + (1776 - (944 * (int) (y / 944))));
-		if (x + 2304 >= 2640) {
-			wild = -50;
-		}
-		if (wild > 0) {
-			return (1 + wild / 6) >= 1;
-		}
-		return false;
+		return ZoneTable.wildernessLevel(x, y) > 0;
 	}
 
 	public boolean isMembersWild() {
@@ -270,7 +311,8 @@ public class Point {
 	}
 
 	public boolean inFreeWild() {
-		return (wildernessLevel() >= 1 && wildernessLevel() <= 48);
+		final int wildernessLevel = wildernessLevel();
+		return wildernessLevel >= 1 && wildernessLevel <= 48;
 	}
 
 	public boolean inVarrock() {
@@ -370,14 +412,7 @@ public class Point {
 	}
 
 	public int wildernessLevel() {
-		int wild = 2203 - (y + (1776 - (944 * Formulae.getHeight(this))));
-		if (x + 2304 >= 2640) {
-			wild = -50;
-		}
-		if (wild > 0) {
-			return 1 + wild / 6;
-		}
-		return 0;
+		return ZoneTable.wildernessLevel(x, y);
 	}
 
 	@Override
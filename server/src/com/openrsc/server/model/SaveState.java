@@ -0,0 +1,103 @@
+package com.openrsc.server.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The rows one part of a player (their inventory, bank, cache...) had when it was last written to the database,
+ * keyed by whatever identifies a row.
+ *
+ * A save hands over the rows the part has now and gets back only the ones that were added, changed or removed since
+ * the last save, see {@link #prepare(Map)}. Until the part has been written out in full once, and again after a save
+ * failed, the rows in the database aren't known and the part has to be rewritten.
+ */
+public final class SaveState<K, V> {
+	private Map<K, V> saved = null;
+	private Map<K, V> pending = null;
+
+	/**
+	 * @param rows The rows the part has now. They count as saved once {@link #commit()} is called.
+	 * @return The rows that differ from the saved ones, or null if the saved rows aren't known.
+	 */
+	public synchronized Changes<K, V> prepare(final Map<K, V> rows) {
+		pending = rows;
+		if (saved == null) {
+			return null;
+		}
+
+		final Changes<K, V> changes = new Changes<>(saved);
+		for (final Map.Entry<K, V> row : rows.entrySet()) {
+			final V previous = saved.get(row.getKey());
+			if (previous == null) {
+				changes.added.put(row.getKey(), row.getValue());
+			} else if (!previous.equals(row.getValue())) {
+				changes.changed.put(row.getKey(), row.getValue());
+			}
+		}
+		for (final Map.Entry<K, V> row : saved.entrySet()) {
+			if (!rows.containsKey(row.getKey())) {
+				changes.removed.put(row.getKey(), row.getValue());
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Marks the rows handed to the last {@link #prepare(Map)} as written.
+	 */
+	public synchronized void commit() {
+		if (pending != null) {
+			saved = pending;
+			pending = null;
+		}
+	}
+
+	/**
+	 * Forgets the saved rows, so the next save rewrites the part in full.
+	 */
+	public synchronized void invalidate() {
+		saved = null;
+		pending = null;
+	}
+
+	public static final class Changes<K, V> {
+		private final Map<K, V> previous;
+		private final Map<K, V> added = new LinkedHashMap<>();
+		private final Map<K, V> changed = new LinkedHashMap<>();
+		private final Map<K, V> removed = new LinkedHashMap<>();
+
+		private Changes(final Map<K, V> previous) {
+			this.previous = previous;
+		}
+
+		public Map<K, V> getAdded() {
+			return added;
+		}
+
+		public Map<K, V> getChanged() {
+			return changed;
+		}
+
+		public Map<K, V> getRemoved() {
+			return removed;
+		}
+
+		/**
+		 * @return The row as it was last saved
+		 */
+		public V getPrevious(final K key) {
+			return previous.get(key);
+		}
+
+		/**
+		 * @return The amount of rows there were when the part was last saved
+		 */
+		public int getPreviousSize() {
+			return previous.size();
+		}
+
+		public boolean isEmpty() {
+			return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+		}
+	}
+}
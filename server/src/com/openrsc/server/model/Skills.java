@@ -26,6 +26,8 @@ public class Skills {
 	private int[] maxStats;
 	private int[] maxStatsMob;
 	private long[] expCaps;
+	private final SaveState<Integer, Integer> levelsSaveState = new SaveState<>();
+	private final SaveState<Integer, Integer> experienceSaveState = new SaveState<>();
 
 	/**
 	 * Creates a skills object.
@@ -388,6 +390,20 @@ public class Skills {
 		return exps;
 	}
 
+	/**
+	 * @return The levels as they were last saved, by skill id
+	 */
+	public SaveState<Integer, Integer> getLevelsSaveState() {
+		return levelsSaveState;
+	}
+
+	/**
+	 * @return The experience as it was last saved, by skill id
+	 */
+	public SaveState<Integer, Integer> getExperienceSaveState() {
+		return experienceSaveState;
+	}
+
 	public void loadExp(final PlayerExperience[] xp) {
 		for(int i = 0; i < xp.length; i++) {
 			exps[xp[i].skillId] = xp[i].experience;
@@ -5,18 +5,139 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.world.region.Region;
+import com.openrsc.server.model.world.region.RegionManager;
 
+import com.openrsc.server.constants.Constants;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
 
 
 public class ViewArea {
 
 	private final Mob mob;
 
+	/**
+	 * Scratch buffers for the collect methods, reused on every call so the per tick view updates don't allocate.
+	 */
+	private final Region[] regionBuffer = new Region[RegionManager.MAX_VISIBLE_REGIONS];
+	private final List<GameObject> objectBuffer = new ArrayList<>();
+	private final List<GroundItem> itemBuffer = new ArrayList<>();
+	private final List<Npc> npcBuffer = new ArrayList<>();
+	private final List<Player> playerBuffer = new ArrayList<>();
+
+	/**
+	 * What the objects, ground items, NPCs and players in view looked like when they were last sent.
+	 */
+	private final Snapshot objectsSnapshot = new Snapshot(Region::getObjectsVersion);
+	private final Snapshot itemsSnapshot = new Snapshot(Region::getItemsVersion);
+	private final Snapshot npcsSnapshot = new Snapshot(Region::getNpcsVersion);
+	private final Snapshot playersSnapshot = new Snapshot(Region::getPlayersVersion);
+
 	public ViewArea(final Mob mob) {
 		this.mob = mob;
 	}
 
+	/**
+	 * Checks whether the objects in view may have changed since the last call, which is only the case once the mob
+	 * moved or an object was added to or removed from a region around it.
+	 */
+	public boolean objectsChanged() {
+		return objectsSnapshot.refresh(mob);
+	}
+
+	/**
+	 * Same as {@link #objectsChanged()}, for ground items.
+	 */
+	public boolean itemsChanged() {
+		return itemsSnapshot.refresh(mob);
+	}
+
+	/**
+	 * Makes the next {@link #itemsChanged()} report a change, for items in view whose visibility depends on time.
+	 */
+	public void invalidateItems() {
+		itemsSnapshot.invalidate();
+	}
+
+	/**
+	 * Same as {@link #objectsChanged()}, for NPCs. Any NPC moving, spawning or despawning around the mob counts as a
+	 * change.
+	 */
+	public boolean npcsChanged() {
+		return npcsSnapshot.refresh(mob);
+	}
+
+	/**
+	 * Makes the next {@link #npcsChanged()} report a change, for NPCs in view that were left out for a reason that
+	 * doesn't show in the region versions.
+	 */
+	public void invalidateNpcs() {
+		npcsSnapshot.invalidate();
+	}
+
+	/**
+	 * Same as {@link #npcsChanged()}, for players.
+	 */
+	public boolean playersChanged() {
+		return playersSnapshot.refresh(mob);
+	}
+
+	/**
+	 * Same as {@link #invalidateNpcs()}, for players.
+	 */
+	public void invalidatePlayers() {
+		playersSnapshot.invalidate();
+	}
+
+	/**
+	 * @return Scratch space for the regions around the mob, {@link RegionManager#MAX_VISIBLE_REGIONS} long.
+	 * Its contents are only valid until the next call of any collect method and it must only be used from the game
+	 * thread.
+	 */
+	public Region[] getRegionBuffer() {
+		return regionBuffer;
+	}
+
+	/**
+	 * Same as {@link #getGameObjectsInView()}, but fills a buffer owned by this view area.
+	 * The returned list is only valid until the next call and must only be used from the game thread.
+	 */
+	public List<GameObject> collectGameObjectsInView() {
+		objectBuffer.clear();
+		return mob.getWorld().getRegionManager().getLocalObjects(mob, regionBuffer, objectBuffer);
+	}
+
+	/**
+	 * Same as {@link #getItemsInView()}, but fills a buffer owned by this view area.
+	 * The returned list is only valid until the next call and must only be used from the game thread.
+	 */
+	public List<GroundItem> collectItemsInView() {
+		itemBuffer.clear();
+		return mob.getWorld().getRegionManager().getLocalGroundItems(mob, regionBuffer, itemBuffer);
+	}
+
+	/**
+	 * Same as {@link #getNpcsInView()}, but fills a buffer owned by this view area.
+	 * The returned list is only valid until the next call and must only be used from the game thread.
+	 */
+	public List<Npc> collectNpcsInView() {
+		npcBuffer.clear();
+		return mob.getWorld().getRegionManager().getLocalNpcs(mob, regionBuffer, npcBuffer);
+	}
+
+	/**
+	 * Same as {@link #getPlayersInView()}, but fills a buffer owned by this view area.
+	 * The returned list is only valid until the next call and must only be used from the game thread.
+	 */
+	public List<Player> collectPlayersInView() {
+		playerBuffer.clear();
+		return mob.getWorld().getRegionManager().getLocalPlayers(mob, regionBuffer, playerBuffer);
+	}
+
 	public Collection<GameObject> getGameObjectsInView() {
 		return mob.getWorld().getRegionManager().getLocalObjects(mob);
 	}
@@ -33,8 +154,24 @@ public class ViewArea {
 		return mob.getWorld().getRegionManager().getLocalPlayers(mob);
 	}
 
+	/**
+	 * The objects on a single tile in view, looked up straight from the tile's region instead of gathering every
+	 * object in view.
+	 */
+	public List<GameObject> getGameObjectsInView(final Point location) {
+		return mob.getWorld().getRegionManager().getLocalObjectsAt(mob, location, new ArrayList<>(2));
+	}
+
+	/**
+	 * The ground items on a single tile in view, looked up straight from the tile's region instead of gathering every
+	 * item in view.
+	 */
+	public List<GroundItem> getItemsInView(final Point location) {
+		return mob.getWorld().getRegionManager().getLocalGroundItemsAt(mob, location, new ArrayList<>(2));
+	}
+
 	public GameObject getGameObject(final Point location) {
-		for (final GameObject o : getGameObjectsInView()) {
+		for (final GameObject o : getGameObjectsInView(location)) {
 			if (o.getLocation().equals(location) && o.getType() != 1) {
 				return o;
 			}
@@ -43,7 +180,7 @@ public class ViewArea {
 	}
 
 	public GameObject getGameObject(final int id, final int x, final int y) {
-		for (final GameObject o : getGameObjectsInView()) {
+		for (final GameObject o : getGameObjectsInView(Point.location(x, y))) {
 			if (o.getID() == id && o.getX() == x && o.getY() == y) {
 				return o;
 			}
@@ -56,7 +193,7 @@ public class ViewArea {
 	 * @return FACT: RSC uses direction for wall objects, so that it doesn't collapse.
 	 */
 	public GameObject getWallObjectWithDir(final Point location, final int dir) {
-		for (GameObject o : getGameObjectsInView()) {
+		for (GameObject o : getGameObjectsInView(location)) {
 			if (o.getDirection() == dir && o.getLocation().equals(location) && (o.getType() != 0)) {
 				return o;
 			}
@@ -65,7 +202,7 @@ public class ViewArea {
 	}
 
 	public GroundItem getGroundItem(final Point location) {
-		for (final GroundItem o : getItemsInView()) {
+		for (final GroundItem o : getItemsInView(location)) {
 			if (o.getLocation().equals(location)) {
 				return o;
 			}
@@ -74,11 +211,56 @@ public class ViewArea {
 	}
 	
 	public GroundItem getVisibleGroundItem(final int id, final Point location, final Player player) {
-		for (final GroundItem o : getItemsInView()) {
+		for (final GroundItem o : getItemsInView(location)) {
 			if (!o.isInvisibleTo(player) && o.getID() == id && o.getLocation().equals(location)) {
 				return o;
 			}
 		}
 		return null;
 	}
+
+	/**
+	 * The location of a mob and the versions of the 3x3 regions around it, which cover everything it can have in view.
+	 */
+	private static final class Snapshot {
+		private static final int REGIONS = 9;
+
+		private final ToIntFunction<Region> version;
+		private final Region[] regions = new Region[REGIONS];
+		private final int[] versions = new int[REGIONS];
+		private Point location;
+
+		private Snapshot(final ToIntFunction<Region> version) {
+			this.version = version;
+		}
+
+		/**
+		 * @return Whether anything changed since the last refresh.
+		 */
+		private synchronized boolean refresh(final Mob mob) {
+			final Point current = mob.getLocation();
+			boolean changed = !current.equals(location);
+			location = current;
+
+			final RegionManager regionManager = mob.getWorld().getRegionManager();
+			int i = 0;
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++, i++) {
+					final Region region = regionManager.getRegion(current.getX() + dx * Constants.REGION_SIZE,
+						current.getY() + dy * Constants.REGION_SIZE);
+					final int regionVersion = region == null ? 0 : version.applyAsInt(region);
+					if (region != regions[i] || regionVersion != versions[i]) {
+						regions[i] = region;
+						versions[i] = regionVersion;
+						changed = true;
+					}
+				}
+			}
+			return changed;
+		}
+
+		private synchronized void invalidate() {
+			location = null;
+		}
+	}
 }
@@ -35,8 +35,8 @@ public class WalkingQueue {
 			if (currentPlayer != null && !currentPlayer.isBusy()) {
 				Point targetTile = currentPlayer.getLastTileClicked();
 
-				if (targetTile != null) {
-					Region region = currentPlayer.getWorld().getRegionManager().getRegion(targetTile);
+				Region region = targetTile == null ? null : currentPlayer.getWorld().getRegionManager().getRegion(targetTile);
+				if (region != null) {
 
 					// Target would be the other player currentPlayer clicked on.
 					Player target = region.getPlayer(targetTile.getX(), targetTile.getY(), currentPlayer, false);
@@ -88,9 +88,7 @@ public class WalkingQueue {
 
 		int destX = walkPoint.getX();
 		int destY = walkPoint.getY();
-		int startX = mob.getX();
-		int startY = mob.getY();
-		if (!PathValidation.checkAdjacent(mob, new Point(startX, startY), new Point(destX, destY))) {
+		if (!PathValidation.checkAdjacent(mob, mob.getLocation(), walkPoint)) {
 			reset();
 			if (DEBUG && mob.isPlayer()) System.out.println("Failed adjacent check, not pathing.");
 			return;
@@ -98,16 +96,18 @@ public class WalkingQueue {
 
 		if (mob.isNpc()) {
 			NPCLoc loc = ((Npc) mob).getLoc();
-			if (Point.location(destX, destY).inBounds(loc.minX() - 12, loc.minY() - 12,
+			final Point destination = Point.location(destX, destY);
+			if (destination.inBounds(loc.minX() - 12, loc.minY() - 12,
 				loc.maxX() + 12, loc.maxY() + 12) || (destX == 0 && destY == 0)) {
-				mob.face(Point.location(destX, destY));
-				mob.setLocation(Point.location(destX, destY));
+				mob.face(destination);
+				mob.setLocation(destination);
 			}
 		}
 		else {
+			final Point destination = Point.location(destX, destY);
 			Player player = (Player) mob;
-			player.face(Point.location(destX, destY));
-			player.setLocation(Point.location(destX, destY));
+			player.face(destination);
+			player.setLocation(destination);
 			player.stepIncrementActivity();
 		}
 
@@ -0,0 +1,181 @@
+package com.openrsc.server.model;
+
+import com.openrsc.server.constants.Constants;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The area rules of {@link Point} compiled into lookup tables, so the ones asked every tick are plain array reads.
+ *
+ * The wilderness level only depends on the row and on which side of the wilderness' east edge a tile is, so it is
+ * kept per row. Named areas are kept per 8x8 block of tiles: a block entirely inside one area (or none) stores that
+ * area, a block on an area's edge points at a 64 tile table of its own.
+ */
+final class ZoneTable {
+
+	/**
+	 * The first column east of the wilderness.
+	 */
+	private static final int WILDERNESS_EAST_EDGE = 2640 - 2304;
+
+	private static final byte[] WILDERNESS_LEVELS = new byte[Constants.MAX_HEIGHT];
+
+	static {
+		for (int y = 0; y < WILDERNESS_LEVELS.length; y++) {
+			WILDERNESS_LEVELS[y] = (byte) calculateWildernessLevel(0, y);
+		}
+	}
+
+	private ZoneTable() {
+	}
+
+	/**
+	 * Builds the named area blocks, which takes a moment, so it is done while the world loads rather than on first use.
+	 */
+	static void load() {
+		AreaBlocks.area(0, 0);
+	}
+
+	static int wildernessLevel(final int x, final int y) {
+		if (x >= WILDERNESS_EAST_EDGE) {
+			return 0;
+		}
+		if (y >= 0 && y < WILDERNESS_LEVELS.length) {
+			return WILDERNESS_LEVELS[y];
+		}
+		return calculateWildernessLevel(x, y);
+	}
+
+	static int calculateWildernessLevel(final int x, final int y) {
+		int wild = 2203 - (y + (1776 - (944 * (y / 944))));
+		if (x + 2304 >= 2640) {
+			wild = -50;
+		}
+		if (wild > 0) {
+			return 1 + wild / 6;
+		}
+		return 0;
+	}
+
+	/**
+	 * @return The name {@link Point#returnLocationName()} gives the tile, or null if it isn't in a named area.
+	 */
+	static String areaName(final int x, final int y) {
+		if (x < 0 || x >= Constants.MAX_WIDTH || y < 0 || y >= Constants.MAX_HEIGHT) {
+			return null;
+		}
+		final int area = AreaBlocks.area(x, y);
+		return area == AreaBlocks.NONE ? null : AreaBlocks.AREAS[area].name;
+	}
+
+	private static final class Area {
+		private final String name;
+		private final Predicate<Point> test;
+
+		private Area(final String name, final Predicate<Point> test) {
+			this.name = name;
+			this.test = test;
+		}
+	}
+
+	/**
+	 * Built by {@link #load()}, or the first time a name is asked for.
+	 */
+	private static final class AreaBlocks {
+		/**
+		 * The named areas, in the order they take precedence.
+		 */
+		private static final Area[] AREAS = {
+			new Area("Hero's Quest Range Room", Point::inHeroQuestRangeRoom),
+			new Area("Tutorial Landing", Point::inTutorialLanding),
+			new Area("Tutorial Rats", Point::aroundTutorialRatZone),
+			new Area("Tutorial Island", Point::onTutorialIsland),
+			new Area("Black Hole", Point::onBlackHole),
+			new Area("Mod Room", Point::inModRoom),
+			new Area("F2P Wilderness", Point::inFreeWild),
+			new Area("Wilderness", Point::inWilderness),
+			new Area("Varrock", Point::inVarrock),
+			new Area("Edgeville", Point::inEdgeville),
+			new Area("Barbarian Village", Point::inBarbVillage),
+			new Area("Draynor", Point::inDraynor),
+			new Area("Lumbridge", Point::inLumbridge),
+			new Area("Al Kharid", Point::inAlKharid),
+			new Area("Falador", Point::inFalador),
+			new Area("Port Sarim", Point::inPortSarim),
+			new Area("Taverly", Point::inTaverly),
+			new Area("Entrana", Point::inEntrana),
+			new Area("Catherby", Point::inCatherby),
+			new Area("Seers Party Hall", Point::isInSeersPartyHall),
+			new Area("Seers", Point::inSeers),
+			new Area("Gnome Stronghold", Point::inGnomeStronghold),
+			new Area("Ardougne", Point::inArdougne),
+			new Area("Yanille", Point::inYanille),
+			new Area("Brimhaven", Point::inBrimhaven),
+			new Area("Shilo Village", Point::inShiloVillage),
+			new Area("Karamja", Point::inKaramja),
+			new Area("Fisher King Realm", Point::isInFisherKingRealm),
+			new Area("Grand Tree", Point::isInsideGrandTreeGround),
+		};
+
+		private static final byte NONE = -1;
+		private static final int BLOCK_SIZE = 8;
+		private static final int BLOCKS_HIGH = (Constants.MAX_HEIGHT + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+		/**
+		 * Per block, the area all of its tiles are in, or -2 - i for a block whose tiles are in mixedTiles at i * 64.
+		 */
+		private static final int[] blocks;
+		private static final byte[] mixedTiles;
+
+		static {
+			final int blocksWide = (Constants.MAX_WIDTH + BLOCK_SIZE - 1) / BLOCK_SIZE;
+			blocks = new int[blocksWide * BLOCKS_HIGH];
+			byte[] mixed = new byte[BLOCK_SIZE * BLOCK_SIZE * 64];
+			int mixedCount = 0;
+
+			final Point tile = new Point();
+			final byte[] blockTiles = new byte[BLOCK_SIZE * BLOCK_SIZE];
+			for (int blockX = 0; blockX < blocksWide; blockX++) {
+				for (int blockY = 0; blockY < BLOCKS_HIGH; blockY++) {
+					boolean uniform = true;
+					for (int i = 0; i < blockTiles.length; i++) {
+						tile.x = (short) (blockX * BLOCK_SIZE + i / BLOCK_SIZE);
+						tile.y = (short) (blockY * BLOCK_SIZE + i % BLOCK_SIZE);
+						blockTiles[i] = firstArea(tile);
+						uniform &= blockTiles[i] == blockTiles[0];
+					}
+
+					final int block = blockX * BLOCKS_HIGH + blockY;
+					if (uniform) {
+						blocks[block] = blockTiles[0];
+						continue;
+					}
+					if ((mixedCount + 1) * blockTiles.length > mixed.length) {
+						mixed = Arrays.copyOf(mixed, mixed.length * 2);
+					}
+					System.arraycopy(blockTiles, 0, mixed, mixedCount * blockTiles.length, blockTiles.length);
+					blocks[block] = -2 - mixedCount++;
+				}
+			}
+			mixedTiles = Arrays.copyOf(mixed, mixedCount * BLOCK_SIZE * BLOCK_SIZE);
+		}
+
+		private static byte firstArea(final Point tile) {
+			for (int i = 0; i < AREAS.length; i++) {
+				if (AREAS[i].test.test(tile)) {
+					return (byte) i;
+				}
+			}
+			return NONE;
+		}
+
+		private static int area(final int x, final int y) {
+			final int block = blocks[(x / BLOCK_SIZE) * BLOCKS_HIGH + y / BLOCK_SIZE];
+			if (block >= NONE) {
+				return block;
+			}
+			return mixedTiles[(-2 - block) * BLOCK_SIZE * BLOCK_SIZE + (x % BLOCK_SIZE) * BLOCK_SIZE + y % BLOCK_SIZE];
+		}
+	}
+}
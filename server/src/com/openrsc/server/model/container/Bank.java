@@ -2,7 +2,9 @@ package com.openrsc.server.model.container;
 
 import com.openrsc.server.constants.IronmanMode;
 import com.openrsc.server.constants.ItemId;
+import com.openrsc.server.database.struct.PlayerItem;
 import com.openrsc.server.external.ItemDefinition;
+import com.openrsc.server.model.SaveState;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.struct.UnequipRequest;
@@ -27,6 +29,7 @@ public class Bank {
 	private List<Item> list = Collections.synchronizedList(new ArrayList<>());
 	private final Player player;
 	private final BankPreset[] bankPresets;
+	private final SaveState<Integer, PlayerItem> saveState = new SaveState<>();
 
 	public Bank(final Player player) {
 		this.player = player;
@@ -260,6 +263,13 @@ public class Bank {
 		}
 	}
 
+	/**
+	 * @return The rows of this bank as they were last saved, by item id
+	 */
+	public SaveState<Integer, PlayerItem> getSaveState() {
+		return saveState;
+	}
+
 	public List<Item> getItems() {
 		// TODO: This should be made private and all calls converted to use API on ItemContainer. This could stay public, IF we copy the list to a new list before returning.
 		synchronized(list) {
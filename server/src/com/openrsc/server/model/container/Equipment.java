@@ -1,7 +1,9 @@
 package com.openrsc.server.model.container;
 
 import com.openrsc.server.constants.*;
+import com.openrsc.server.database.struct.PlayerItem;
 import com.openrsc.server.external.ItemDefinition;
+import com.openrsc.server.model.SaveState;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.struct.EquipRequest;
 import com.openrsc.server.model.struct.UnequipRequest;
@@ -19,6 +21,7 @@ public class Equipment {
 	public static final int SLOT_COUNT = 14;
 	private final Item[] list = new Item[SLOT_COUNT];
 	private final Player player;
+	private final SaveState<Integer, PlayerItem> saveState = new SaveState<>();
 
 	public Equipment(Player player) {
 		synchronized (list) {
@@ -36,6 +39,13 @@ public class Equipment {
 		}
 	}
 
+	/**
+	 * @return The rows of this equipment as they were last saved, by item id
+	 */
+	public SaveState<Integer, PlayerItem> getSaveState() {
+		return saveState;
+	}
+
 	public Item getAmmoItem() {
 		synchronized (list) {
 			return list[EquipmentSlot.SLOT_AMMO.getIndex()];
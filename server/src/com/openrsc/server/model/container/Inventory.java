@@ -4,8 +4,10 @@ import com.openrsc.server.constants.IronmanMode;
 import com.openrsc.server.constants.Quests;
 import com.openrsc.server.database.impl.mysql.queries.logging.DeathLog;
 import com.openrsc.server.database.struct.PlayerInventory;
+import com.openrsc.server.database.struct.PlayerItem;
 import com.openrsc.server.external.Gauntlets;
 import com.openrsc.server.external.ItemDefinition;
+import com.openrsc.server.model.SaveState;
 import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.player.Player;
@@ -40,6 +42,11 @@ public class Inventory {
 	 */
 	private Player player;
 
+	/**
+	 * The rows of this inventory as they were last saved, by item id
+	 */
+	private final SaveState<Integer, PlayerItem> saveState = new SaveState<>();
+
 	//----------------------------------------------------------------
 	//Constructors----------------------------------------------------
 	public Inventory(Player player, PlayerInventory[] inventory) {
@@ -63,6 +70,10 @@ public class Inventory {
 
 	//----------------------------------------------------------------
 	//Class member retrievers-----------------------------------------
+	public SaveState<Integer, PlayerItem> getSaveState() {
+		return saveState;
+	}
+
 	public List<Item> getItems() {
 		// TODO: This should be made private and all calls converted to use API on ItemContainer. This could stay public, IF we copy the list to a new list before returning.
 		synchronized (list) {
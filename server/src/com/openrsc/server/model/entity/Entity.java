@@ -40,11 +40,12 @@ public abstract class Entity {
 	}
 
 	public synchronized void updateRegion(Point oldLocation) {
+		final Region newRegion = requireRegion(getLocation());
+
 		if (getRegion() != null && oldLocation != null) {
 			region.get().removeEntity(oldLocation, this);
 		}
 
-		final Region newRegion = getWorld().getRegionManager().getRegion(getLocation());
 		if (!isRemoved()) {
 			region.set(newRegion);
 			region.get().addEntity(this);
@@ -126,10 +127,20 @@ public abstract class Entity {
 	}
 
 	public void setLocation(final Point point) {
+		// Refuse the move before anything changes, the entity stays filed under its old location in its old region.
+		requireRegion(point);
 		Point oldLocation = location.getAndSet(point);
 		updateRegion(oldLocation);
 	}
 
+	private Region requireRegion(final Point point) {
+		final Region pointRegion = getWorld().getRegionManager().getRegion(point);
+		if (pointRegion == null) {
+			throw new IllegalStateException("No region for " + point + ", the location is outside of the map and want_out_of_map_regions is disabled.");
+		}
+		return pointRegion;
+	}
+
 	public void setInitialLocation(Point player) {
 		// Used when logging in a player in order to not cause exceptions of missing locations while updating the region
 		location.set(player);
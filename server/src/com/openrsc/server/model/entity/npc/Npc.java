@@ -20,7 +20,6 @@ import com.openrsc.server.model.entity.KillType;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
@@ -1000,7 +999,6 @@ public class Npc extends Mob {
 	}
 
 	private boolean checkBlocking(World world, int x, int y, int bit) {
-		TileValue t = world.getTile(x, y);
 		Point point = new Point(x, y);
 		for (Npc n : getViewArea().getNpcsInView()) {
 			if (n.getLocation().equals(point)) {
@@ -1012,7 +1010,7 @@ public class Npc extends Mob {
 				return true;
 			}
 		}
-		return isBlocking(t.traversalMask, (byte) bit);
+		return isBlocking(world.getTraversalMask(x, y), (byte) bit);
 	}
 
 	private boolean isBlocking(int objectValue, byte bit) {
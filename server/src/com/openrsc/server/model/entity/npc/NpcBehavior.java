@@ -18,7 +18,13 @@ import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.openrsc.server.plugins.Functions.*;
 
@@ -35,6 +41,17 @@ public class NpcBehavior {
 	private State state = State.ROAM;
 	private int aggroRadius;
 
+	/**
+	 * Players that came within aggro radius of this npc, in the order they did. Added by the regions as players and
+	 * this npc move, and dropped again once they are out of range, so roaming only looks at players it may attack.
+	 */
+	private final Set<Player> aggroCandidates = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	/**
+	 * Whether the candidates were dropped, see {@link #dropAggroCandidates()}, and have to be looked up again.
+	 */
+	private boolean aggroCandidatesDropped = false;
+
 	private boolean draynorManorSkeleton;
 	private boolean blackKnightsFortress;
 	private int tickFactor;
@@ -64,7 +81,14 @@ public class NpcBehavior {
 	}
 
 	public void tick() {
+		if (state != State.ROAM) {
+			dropAggroCandidates();
+		}
 		if (state == State.ROAM) {
+			if (aggroCandidatesDropped) {
+				aggroCandidatesDropped = false;
+				findAggroCandidates();
+			}
 			handleRoam();
 		} else if (state == State.AGGRO) {
 			handleAggro();
@@ -103,12 +127,10 @@ public class NpcBehavior {
 
 		// Check if NPC will aggro
 		if (checkCombatTimer(npc.getCombatTimer(), 5 * tickFactor)) {
-			if ((npc.getDef().isAggressive() && !draynorManorSkeleton) || npc.getLocation().inWilderness() || (blackKnightsFortress)) {
-
-				// We loop through all players in view.
-				for (Player player : npc.getViewArea().getPlayersInView()) {
+			if (isAggressive()) {
 
-					if (!player.withinRange(npc, aggroRadius)) continue;
+				// We loop through all players within aggro radius.
+				for (Player player : takeAggroCandidates()) {
 
 					// Player is a new target AND can't aggro.
 					if (!canAggro(player)) {
@@ -140,7 +162,7 @@ public class NpcBehavior {
 			checkCombatTimer(npc.getCombatTimer(), 5)
 			&& npc.getDef().getName().toLowerCase().equals("gnome baller")
 			&& !(npc.getID() == NpcId.GNOME_BALLER_TEAMNORTH.id() || npc.getID() == NpcId.GNOME_BALLER_TEAMSOUTH.id())) {
-			for (Player player : npc.getViewArea().getPlayersInView()) {
+			for (Player player : npc.getViewArea().collectPlayersInView()) {
 				int range = 1;
 				if (!player.withinRange(npc, range) || !player.getCarriedItems().hasCatalogID(ItemId.GNOME_BALL.id(), Optional.of(false))
 					|| !inArray(player.getAttribute("gnomeball_npc", -1), -1, 0))
@@ -191,8 +213,7 @@ public class NpcBehavior {
 
 			// Send the NPC back to its original spawn point.
 			if (npc.getConfig().WANT_IMPROVED_PATHFINDING) {
-				Point origin = new Point(npc.getLoc().startX(), npc.getLoc().startY());
-				npc.walkToEntityAStar(origin.getX(), origin.getY());
+				npc.walkToEntityAStar(npc.getLoc().startX(), npc.getLoc().startY());
 				npc.getSkills().normalize();
 				npc.cure();
 			}
@@ -376,6 +397,63 @@ public class NpcBehavior {
 		npc.walk(walkTo.getX(), walkTo.getY());
 	}
 
+	/**
+	 * @return Whether the npc looks for players to attack while roaming.
+	 */
+	public boolean isAggressive() {
+		return (npc.getDef().isAggressive() && !draynorManorSkeleton) || npc.getLocation().inWilderness() || blackKnightsFortress;
+	}
+
+	/**
+	 * Called by the regions whenever a player shows up or moves within view of this npc.
+	 */
+	public void notifyPlayerNearby(final Player player) {
+		if (player.withinRange(npc, aggroRadius)) {
+			aggroCandidates.add(player);
+		}
+	}
+
+	/**
+	 * Called by the regions whenever this npc shows up or moves, to pick up the players already standing near it.
+	 */
+	public void findAggroCandidates() {
+		for (final Player player : npc.getViewArea().collectPlayersInView()) {
+			notifyPlayerNearby(player);
+		}
+	}
+
+	/**
+	 * Forgets the aggro candidates while the npc doesn't roam or its region is dormant, so it doesn't hold on to players
+	 * that log out in the meantime. The players around it are picked up again once it roams.
+	 */
+	public void dropAggroCandidates() {
+		if (!aggroCandidates.isEmpty()) {
+			aggroCandidates.clear();
+		}
+		aggroCandidatesDropped = true;
+	}
+
+	/**
+	 * @return The candidates still within aggro radius, dropping the ones that left it or logged out.
+	 */
+	private List<Player> takeAggroCandidates() {
+		if (aggroCandidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final List<Player> inRange = new ArrayList<>(aggroCandidates.size());
+		synchronized (aggroCandidates) {
+			for (final Iterator<Player> it = aggroCandidates.iterator(); it.hasNext(); ) {
+				final Player player = it.next();
+				if (player.isRemoved() || !player.withinRange(npc, aggroRadius)) {
+					it.remove();
+				} else {
+					inRange.add(player);
+				}
+			}
+		}
+		return inRange;
+	}
+
 	private boolean aggressiveCheck(Mob target) {
 		boolean bothInWilderness = (target.getLocation().inWilderness() && npc.getLocation().inWilderness());
 		boolean levelMeetsStandard = target.getCombatLevel() < ((npc.getNPCCombatLevel() * 2) + 1);
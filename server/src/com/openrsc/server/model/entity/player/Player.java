@@ -36,6 +36,8 @@ import com.openrsc.server.net.Packet;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.net.rsc.ClientLimitations;
 import com.openrsc.server.net.rsc.PayloadProcessorManager;
+import com.openrsc.server.net.rsc.enums.OpcodeOut;
+import com.openrsc.server.net.rsc.generators.PayloadGenerator;
 import com.openrsc.server.net.rsc.parsers.PayloadParser;
 import com.openrsc.server.net.rsc.parsers.impl.*;
 import com.openrsc.server.net.rsc.struct.AbstractStruct;
@@ -133,6 +135,8 @@ public final class Player extends Mob {
 	private List<PluginTask> ownedPlugins = Collections.synchronizedList(new ArrayList<>());
 	private long lastExchangeTime = System.currentTimeMillis();
 	private int clientVersion = 0;
+	private volatile PayloadGenerator<OpcodeOut> payloadGenerator;
+	private volatile PayloadParser<com.openrsc.server.net.rsc.enums.OpcodeIn> payloadParser;
 	public int preferredIcon = -1;
 	private boolean denyAllLogoutRequests = false;
 	private boolean qolOptOutWarned = false;
@@ -173,6 +177,15 @@ public final class Player extends Mob {
 	 * Outgoing packets from this player yet to be processed.
 	 */
 	private final ArrayList<Packet> outgoingPackets = new ArrayList<>();
+	/**
+	 * Packets held back from outgoingPackets while they are built off the game thread, guarded by outgoingPackets.
+	 */
+	private ArrayList<Packet> stagedPackets = null;
+	/**
+	 * Bytes and channel flushes sent to this player by the last processOutgoingPackets call.
+	 */
+	private volatile int lastOutgoingBytes = 0;
+	private volatile int lastOutgoingFlushes = 0;
 	/**
 	 * Current active packets - used on packets that should be rated to 1-per-player.
 	 */
@@ -685,7 +698,35 @@ public final class Player extends Mob {
 	public void write(final Packet o) {
 		if (channel != null && channel.isOpen() && isLoggedIn()) {
 			synchronized (outgoingPackets) {
-				outgoingPackets.add(o);
+				if (stagedPackets != null) {
+					stagedPackets.add(o);
+				} else {
+					outgoingPackets.add(o);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Holds back every packet written to this player until {@link #commitStagedPackets()}, so packets built off the
+	 * game thread can be queued in PID order afterwards.
+	 */
+	public void stagePackets() {
+		synchronized (outgoingPackets) {
+			if (stagedPackets == null) {
+				stagedPackets = new ArrayList<>();
+			}
+		}
+	}
+
+	/**
+	 * Queues the packets held back since {@link #stagePackets()}, in the order they were written.
+	 */
+	public void commitStagedPackets() {
+		synchronized (outgoingPackets) {
+			if (stagedPackets != null) {
+				outgoingPackets.addAll(stagedPackets);
+				stagedPackets = null;
 			}
 		}
 	}
@@ -2464,35 +2505,7 @@ public final class Player extends Mob {
 					final long packetTime = getWorld().getServer().bench(
 						() -> {
 							activePackets.remove(activePackets.indexOf(curPacket.getID()));
-							PayloadParser<com.openrsc.server.net.rsc.enums.OpcodeIn> parser;
-							if (isUsing38CompatibleClient() || isUsing39CompatibleClient()) {
-								parser = new Payload38Parser();
-							} else if (isUsing69CompatibleClient()) {
-								parser = new Payload69Parser();
-							} else if (isUsing233CompatibleClient()) {
-								parser = new Payload235Parser();
-							} else if (isUsing203CompatibleClient()) {
-								parser = new Payload203Parser();
-							} else if (isUsing202CompatibleClient()) {
-								parser = new Payload202Parser();
-							} else if (isUsing201CompatibleClient()) {
-								parser = new Payload201Parser();
-							} else if (isUsing199CompatibleClient()) {
-								parser = new Payload199Parser();
-							} else if (isUsing198CompatibleClient()) {
-								parser = new Payload198Parser();
-							} else if (isUsing196CompatibleClient()) {
-								parser = new Payload196Parser();
-							} else if (isUsing177CompatibleClient()) {
-								parser = new Payload177Parser();
-							} else if (isUsing140CompatibleClient()) {
-								parser = new Payload140Parser();
-							} else if (isUsing115CompatibleClient()) {
-								parser = new Payload115Parser();
-							} else {
-								parser = new PayloadCustomParser();
-							}
-							AbstractStruct<com.openrsc.server.net.rsc.enums.OpcodeIn> res = parser.parse(curPacket, this);
+							AbstractStruct<com.openrsc.server.net.rsc.enums.OpcodeIn> res = getPayloadParser().parse(curPacket, this);
 							if (res != null) {
 								boolean couldProcess;
 								try {
@@ -2525,15 +2538,20 @@ public final class Player extends Mob {
 		}*/
 
 		return getWorld().getServer().bench(() -> {
+			lastOutgoingBytes = 0;
+			lastOutgoingFlushes = 0;
 			if (!channel.isOpen() || !isLoggedIn() || !channel.isActive() || !channel.isWritable()) {
 				return;
 			}
 			synchronized (outgoingPackets) {
+				int bytes = 0;
 				try {
+					// Packets are only queued in the channel here, the single flush below hands the whole tick to the socket at once.
 					for (final Packet outgoing : outgoingPackets) {
+						bytes += outgoing.getBuffer().readableBytes();
 						final long packetTime = getWorld().getServer().bench(
 							() -> {
-								channel.writeAndFlush(outgoing);
+								channel.write(outgoing);
 							}
 						);
 						getWorld().getServer().addOutgoingPacketDuration(outgoing.getID(), packetTime);
@@ -2542,12 +2560,25 @@ public final class Player extends Mob {
 				} catch (final Exception e) {
 					LOGGER.catching(e);
 				}
-				//channel.flush();
+				if (!outgoingPackets.isEmpty()) {
+					channel.flush();
+					lastOutgoingBytes = bytes;
+					lastOutgoingFlushes = 1;
+					getWorld().getServer().incrementLastOutgoingTraffic(bytes, 1);
+				}
 				outgoingPackets.clear();
 			}
 		});
 	}
 
+	public int getLastOutgoingBytes() {
+		return lastOutgoingBytes;
+	}
+
+	public int getLastOutgoingFlushes() {
+		return lastOutgoingFlushes;
+	}
+
 	public void removeSkull() {
 		if (skullEvent != null) {
 			skullEvent.stop();
@@ -3896,6 +3927,59 @@ public final class Player extends Mob {
 
 	public void setClientVersion(int cv) {
 		this.clientVersion = cv;
+		// Resolved again for the new protocol the next time a packet is read or written.
+		this.payloadGenerator = null;
+		this.payloadParser = null;
+	}
+
+	/**
+	 * @return The generator for outgoing packets in this player's client protocol.
+	 */
+	public PayloadGenerator<OpcodeOut> getPayloadGenerator() {
+		if (payloadGenerator == null) {
+			payloadGenerator = ActionSender.createGenerator(this);
+		}
+		return payloadGenerator;
+	}
+
+	/**
+	 * @return The parser for incoming packets in this player's client protocol.
+	 */
+	public PayloadParser<com.openrsc.server.net.rsc.enums.OpcodeIn> getPayloadParser() {
+		if (payloadParser == null) {
+			payloadParser = createPayloadParser();
+		}
+		return payloadParser;
+	}
+
+	private PayloadParser<com.openrsc.server.net.rsc.enums.OpcodeIn> createPayloadParser() {
+		if (isUsing38CompatibleClient() || isUsing39CompatibleClient()) {
+			return new Payload38Parser();
+		} else if (isUsing69CompatibleClient()) {
+			return new Payload69Parser();
+		} else if (isUsing233CompatibleClient()) {
+			return new Payload235Parser();
+		} else if (isUsing203CompatibleClient()) {
+			return new Payload203Parser();
+		} else if (isUsing202CompatibleClient()) {
+			return new Payload202Parser();
+		} else if (isUsing201CompatibleClient()) {
+			return new Payload201Parser();
+		} else if (isUsing199CompatibleClient()) {
+			return new Payload199Parser();
+		} else if (isUsing198CompatibleClient()) {
+			return new Payload198Parser();
+		} else if (isUsing196CompatibleClient()) {
+			return new Payload196Parser();
+		} else if (isUsing177CompatibleClient()) {
+			return new Payload177Parser();
+		} else if (isUsing140CompatibleClient()) {
+			return new Payload140Parser();
+		} else if (isUsing115CompatibleClient()) {
+			return new Payload115Parser();
+		} else {
+			return new PayloadCustomParser();
+		}
 	}
 
 	public int getClientVersion() {
@@ -185,7 +185,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 			public void action() {
 				registerGameObject(new GameObject(getWorld(), loc));
 				if (forceFullBlock) {
-					getTile(loc.getX(), loc.getY()).traversalMask |= 64;
+					getTile(loc.getX(), loc.getY()).addTraversalFlags(64);
 				}
 			}
 		});
@@ -408,6 +408,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				getMarket().start();
 			}
 			getRegionManager().load();
+			Point.loadAreas();
 			getWorldLoader().getWorldPopulator().populateWorld();
 			getNpcDrops().load();
 
@@ -515,23 +516,23 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 							handleProjectileClipAllowance(x, y, dir, o.getType(), o.getGameObjectDef().getType(), -1);
 						}
 						if (o.getGameObjectDef().getType() == 1) {
-							getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_C;
+							getTile(x, y).addTraversalFlags(CollisionFlag.FULL_BLOCK_C);
 						} else if (dir == 0) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_EAST;
+							getTile(x, y).addTraversalFlags(CollisionFlag.WALL_EAST);
 							if (getTile(x - 1, y) != null)
-								getTile(x - 1, y).traversalMask |= CollisionFlag.WALL_WEST;
+								getTile(x - 1, y).addTraversalFlags(CollisionFlag.WALL_WEST);
 						} else if (dir == 2) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_SOUTH;
+							getTile(x, y).addTraversalFlags(CollisionFlag.WALL_SOUTH);
 							if (getTile(x, y + 1) != null)
-								getTile(x, y + 1).traversalMask |= CollisionFlag.WALL_NORTH;
+								getTile(x, y + 1).addTraversalFlags(CollisionFlag.WALL_NORTH);
 						} else if (dir == 4) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_WEST;
+							getTile(x, y).addTraversalFlags(CollisionFlag.WALL_WEST);
 							if (getTile(x + 1, y) != null)
-								getTile(x + 1, y).traversalMask |= CollisionFlag.WALL_EAST;
+								getTile(x + 1, y).addTraversalFlags(CollisionFlag.WALL_EAST);
 						} else if (dir == 6) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_NORTH;
+							getTile(x, y).addTraversalFlags(CollisionFlag.WALL_NORTH);
 							if (getTile(x, y - 1) != null)
-								getTile(x, y - 1).traversalMask |= CollisionFlag.WALL_SOUTH;
+								getTile(x, y - 1).addTraversalFlags(CollisionFlag.WALL_SOUTH);
 						}
 					}
 				}
@@ -547,17 +548,17 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				}
 				if (dir == 0) {
 
-					getTile(x, y).traversalMask |= CollisionFlag.WALL_NORTH;
+					getTile(x, y).addTraversalFlags(CollisionFlag.WALL_NORTH);
 					if (getTile(x, y - 1) != null)
-						getTile(x, y - 1).traversalMask |= CollisionFlag.WALL_SOUTH;
+						getTile(x, y - 1).addTraversalFlags(CollisionFlag.WALL_SOUTH);
 				} else if (dir == 1) {
-					getTile(x, y).traversalMask |= CollisionFlag.WALL_EAST;
+					getTile(x, y).addTraversalFlags(CollisionFlag.WALL_EAST);
 					if (getTile(x - 1, y) != null)
-						getTile(x - 1, y).traversalMask |= CollisionFlag.WALL_WEST;
+						getTile(x - 1, y).addTraversalFlags(CollisionFlag.WALL_WEST);
 				} else if (dir == 2) {
-					getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_A;
+					getTile(x, y).addTraversalFlags(CollisionFlag.FULL_BLOCK_A);
 				} else if (dir == 3) {
-					getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_B;
+					getTile(x, y).addTraversalFlags(CollisionFlag.FULL_BLOCK_B);
 				}
 				break;
 		}
@@ -587,30 +588,30 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	private void handleProjectileClipAllowance(final int x, final int y, final int dir, final int type, final int objectType, final int doorType) {
 
 		// Always give the current tile a clip mask.
-		getTile(x, y).projectileAllowed = true;
+		getTile(x, y).setProjectileAllowed(true);
 
 		if ((type == 0 && objectType == 1) || (type == 1 && doorType != 1)) return;
 
 		if (dir == 0 && getTile(x - 1, y) != null) {
-			getTile(x - 1, y).projectileAllowed = true;
+			getTile(x - 1, y).setProjectileAllowed(true);
 		}
 
 		else if (dir == 2 && getTile(x, y + 1) != null) {
-			getTile(x, y + 1).projectileAllowed = true;
+			getTile(x, y + 1).setProjectileAllowed(true);
 		}
 
 		else if (dir == 4 && getTile(x + 1, y) != null) {
-			getTile(x + 1, y).projectileAllowed = true;
+			getTile(x + 1, y).setProjectileAllowed(true);
 		}
 
 		else if (dir == 6 && getTile(x, y - 1) != null) {
-			getTile(x, y - 1).projectileAllowed = true;
+			getTile(x, y - 1).setProjectileAllowed(true);
 		}
 	}
 
 	public void resetProjectileAllowance(final int x, final int y, final int dir, final int type, final int objectType, final int doorType) {
 		TileValue tile = getTile(x, y);
-		tile.projectileAllowed = tile.originalProjectileAllowed;
+		tile.setProjectileAllowed(tile.isOriginalProjectileAllowed());
 
 		if ((type == 0 && objectType == 1) || (type == 1 && doorType != 1)) return;
 
@@ -629,7 +630,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		else if (dir == 6 && getTile(x, y - 1) != null) {
 			tile = getTile(x, y - 1);
 		}
-		tile.projectileAllowed = tile.originalProjectileAllowed;
+		tile.setProjectileAllowed(tile.isOriginalProjectileAllowed());
 	}
 
 	public void registerItem(final GroundItem i) {
@@ -654,7 +655,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	public Npc registerNpc(final Npc n) {
 		final NPCLoc npc = n.getLoc();
 		if (npc.startX < npc.minX || npc.startX > npc.maxX || npc.startY < npc.minY || npc.startY > npc.maxY
-			|| (getTile(npc.startX, npc.startY).overlay & 64) != 0) {
+			|| (getTile(npc.startX, npc.startY).getOverlay() & 64) != 0) {
 			LOGGER.error("Broken Npc: <id>" + npc.id + "</id><startX>" + npc.startX + "</startX><startY>"
 				+ npc.startY + "</startY>");
 		}
@@ -784,19 +785,19 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 							resetProjectileAllowance(x, y, dir, o.getType(), o.getGameObjectDef().getType(), -1);
 						}
 						if (o.getGameObjectDef().getType() == 1) {
-							getTile(x, y).traversalMask &= 0xffbf;
+							getTile(x, y).removeTraversalFlags(0x40);
 						} else if (dir == 0) {
-							getTile(x, y).traversalMask &= 0xfffd;
-							getTile(x - 1, y).traversalMask &= 65535 - 8;
+							getTile(x, y).removeTraversalFlags(2);
+							getTile(x - 1, y).removeTraversalFlags(8);
 						} else if (dir == 2) {
-							getTile(x, y).traversalMask &= 0xfffb;
-							getTile(x, y + 1).traversalMask &= 65535 - 1;
+							getTile(x, y).removeTraversalFlags(4);
+							getTile(x, y + 1).removeTraversalFlags(1);
 						} else if (dir == 4) {
-							getTile(x, y).traversalMask &= 0xfff7;
-							getTile(x + 1, y).traversalMask &= 65535 - 2;
+							getTile(x, y).removeTraversalFlags(8);
+							getTile(x + 1, y).removeTraversalFlags(2);
 						} else if (dir == 6) {
-							getTile(x, y).traversalMask &= 0xfffe;
-							getTile(x, y - 1).traversalMask &= 65535 - 4;
+							getTile(x, y).removeTraversalFlags(1);
+							getTile(x, y - 1).removeTraversalFlags(4);
 						}
 					}
 				}
@@ -812,15 +813,15 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				}
 
 				if (dir == 0) {
-					getTile(x, y).traversalMask &= 0xfffe;
-					getTile(x, y - 1).traversalMask &= 65535 - 4;
+					getTile(x, y).removeTraversalFlags(1);
+					getTile(x, y - 1).removeTraversalFlags(4);
 				} else if (dir == 1) {
-					getTile(x, y).traversalMask &= 0xfffd;
-					getTile(x - 1, y).traversalMask &= 65535 - 8;
+					getTile(x, y).removeTraversalFlags(2);
+					getTile(x - 1, y).removeTraversalFlags(8);
 				} else if (dir == 2) {
-					getTile(x, y).traversalMask &= 0xffef;
+					getTile(x, y).removeTraversalFlags(0x10);
 				} else if (dir == 3) {
-					getTile(x, y).traversalMask &= 0xffdf;
+					getTile(x, y).removeTraversalFlags(0x20);
 				}
 				break;
 		}
@@ -937,6 +938,14 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		return getRegionManager().getTile(point);
 	}
 
+	public byte getTraversalMask(final int x, final int y) {
+		return getRegionManager().getTraversalMask(x, y);
+	}
+
+	public boolean isProjectileAllowed(final int x, final int y) {
+		return getRegionManager().isProjectileAllowed(x, y);
+	}
+
 	public boolean canYield(final Item item) {
 		boolean notYieldable = this.server.getConfig().RESTRICT_ITEM_ID >= 0 && this.server.getConfig().RESTRICT_ITEM_ID < item.getCatalogId();
 		return !notYieldable;
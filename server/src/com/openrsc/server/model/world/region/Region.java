@@ -14,7 +14,12 @@ import com.openrsc.server.model.entity.player.Player;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Region {
 	private static final Logger LOGGER = LogManager.getLogger();
@@ -33,6 +38,11 @@ public class Region {
 	 */
 	final private Multimap<Point, Npc> npcs = Multimaps.synchronizedMultimap(LinkedHashMultimap.create());
 
+	/**
+	 * The NPCs in this region that look for players to attack, told about every player that moves near them.
+	 */
+	final private Set<Npc> aggressiveNpcs = Collections.synchronizedSet(new LinkedHashSet<>());
+
 	/**
 	 * A list of objects in this region.
 	 */
@@ -44,14 +54,24 @@ public class Region {
 	final private Multimap<Point, GroundItem> items = Multimaps.synchronizedMultimap(LinkedHashMultimap.create());
 
 	/**
-	 * A list of tiles in this region.
+	 * Bumped whenever an object or a ground item is added to or removed from this region, so that viewers can tell
+	 * nothing changed without looking at the entities themselves. Mobs are removed and added again on every move, so
+	 * their versions change whenever one walks, teleports, spawns or despawns here.
+	 */
+	private final AtomicInteger objectsVersion = new AtomicInteger();
+	private final AtomicInteger itemsVersion = new AtomicInteger();
+	private final AtomicInteger npcsVersion = new AtomicInteger();
+	private final AtomicInteger playersVersion = new AtomicInteger();
+
+	/**
+	 * The packed tile values of this region, indexed by x * REGION_SIZE + y. See {@link TileValue} for the layout.
 	 */
-	private volatile TileValue[][] tiles;
+	private volatile long[] tiles;
 
 	/**
-	 * The constant tile value used for this region.
+	 * The packed tile value shared by every tile of this region while tiles is null.
 	 */
-	private volatile TileValue tile;
+	private volatile long tile;
 
 	/**
 	 * The X index of this region
@@ -63,6 +83,11 @@ public class Region {
 	 */
 	private final int regionY;
 
+	/**
+	 * The number of players that had this region in view when the RegionManager last counted, only touched by the game thread
+	 */
+	private int observers;
+
 	/**
 	 * This constructor is used to create a blank region
 	 *
@@ -75,23 +100,19 @@ public class Region {
 		this.regionX = regionX;
 		this.regionY = regionY;
 
-		this.tiles = new TileValue[Constants.REGION_SIZE][Constants.REGION_SIZE];
-		this.tile = null;
-
-		for (int i = 0; i < Constants.REGION_SIZE; i++) {
-			for (int j = 0; j < Constants.REGION_SIZE; j++) {
-				tiles[i][j] = new TileValue();
-			}
-		}
+		this.tiles = new long[Constants.REGION_SIZE * Constants.REGION_SIZE];
+		this.tile = TileValue.BLANK;
+		Arrays.fill(tiles, TileValue.BLANK);
 	}
 
 	public void unload() {
 		players.clear();
 		npcs.clear();
+		aggressiveNpcs.clear();
 		objects.clear();
 		items.clear();
 		tiles = null;
-		tile = null;
+		tile = TileValue.BLANK;
 	}
 
 	/**
@@ -132,12 +153,17 @@ public class Region {
 	public void removeEntity(Point location, final Entity entity) {
 		if (entity.isPlayer()) {
 			players.remove(location, entity);
+			playersVersion.incrementAndGet();
 		} else if (entity.isNpc()) {
 			npcs.remove(location, entity);
+			aggressiveNpcs.remove(entity);
+			npcsVersion.incrementAndGet();
 		} else if (entity instanceof GameObject) {
 			objects.remove(location, entity);
+			objectsVersion.incrementAndGet();
 		} else if (entity instanceof GroundItem) {
 			items.remove(location, entity);
+			itemsVersion.incrementAndGet();
 		}
 	}
 
@@ -148,15 +174,25 @@ public class Region {
 		switch (entity.getEntityType()) {
 			case PLAYER:
 				players.put(entity.getLocation(), (Player) entity);
+				playersVersion.incrementAndGet();
+				regionManager.notifyAggressiveNpcs((Player) entity);
 				break;
 			case NPC:
-				npcs.put(entity.getLocation(), (Npc) entity);
+				final Npc npc = (Npc) entity;
+				npcs.put(entity.getLocation(), npc);
+				npcsVersion.incrementAndGet();
+				if (npc.getNpcBehavior() != null && npc.getNpcBehavior().isAggressive()) {
+					aggressiveNpcs.add(npc);
+					npc.getNpcBehavior().findAggroCandidates();
+				}
 				break;
 			case GAME_OBJECT:
 				objects.put(entity.getLocation(), (GameObject) entity);
+				objectsVersion.incrementAndGet();
 				break;
 			case GROUND_ITEM:
 				items.put(entity.getLocation(), (GroundItem) entity);
+				itemsVersion.incrementAndGet();
 				break;
 		}
 	}
@@ -217,6 +253,26 @@ public class Region {
 		return getGameObject(location, entity, GameObjectType.BOUNDARY, null);
 	}
 
+	/**
+	 * Adds the objects on a tile to a caller owned collection, in the order they were added to the region.
+	 */
+	public <C extends Collection<? super GameObject>> C getGameObjects(final Point location, final C out) {
+		synchronized (objects) {
+			out.addAll(objects.get(location));
+		}
+		return out;
+	}
+
+	/**
+	 * Adds the ground items on a tile to a caller owned collection, in the order they were added to the region.
+	 */
+	public <C extends Collection<? super GroundItem>> C getGroundItems(final Point location, final C out) {
+		synchronized (items) {
+			out.addAll(items.get(location));
+		}
+		return out;
+	}
+
 	public Npc getNpc(Point location, Entity observer) {
 		return npcs.get(location)
 			.stream()
@@ -248,7 +304,39 @@ public class Region {
 	}
 
 	public TileValue getTileValue(final int regionX, final int regionY) {
-		return tile != null ? tile : tiles[regionX][regionY];
+		return new TileValue(this, regionX * Constants.REGION_SIZE + regionY);
+	}
+
+	/**
+	 * Reads the traversal mask of a tile without going through a {@link TileValue}, for the pathing checks.
+	 */
+	public byte getTraversalMask(final int regionX, final int regionY) {
+		return TileValue.traversalMask(getTileData(regionX * Constants.REGION_SIZE + regionY));
+	}
+
+	/**
+	 * Reads the projectile allowed flag of a tile without going through a {@link TileValue}, for the pathing checks.
+	 */
+	public boolean isProjectileAllowed(final int regionX, final int regionY) {
+		return TileValue.projectileAllowed(getTileData(regionX * Constants.REGION_SIZE + regionY));
+	}
+
+	long getTileData(final int index) {
+		final long[] tiles = this.tiles;
+		return tiles != null ? tiles[index] : tile;
+	}
+
+	synchronized void setTileData(final int index, final long data) {
+		if (tiles == null) {
+			if (data == tile) {
+				return;
+			}
+			// A spawned scenery or boundary changed a tile of a region that was collapsed to a single value.
+			final long[] expanded = new long[Constants.REGION_SIZE * Constants.REGION_SIZE];
+			Arrays.fill(expanded, tile);
+			tiles = expanded;
+		}
+		tiles[index] = data;
 	}
 
 	public TileValue getTileValue(final Point regionPoint) {
@@ -267,19 +355,65 @@ public class Region {
 		return regionY;
 	}
 
-	public void checkRegionValues() {
-		boolean allTilesEqual = true;
-		final TileValue firstTile = tiles[0][0];
-		for (int i = 0; i < Constants.REGION_SIZE && allTilesEqual; i++) {
-			for (int j = 0; j < Constants.REGION_SIZE && allTilesEqual; j++) {
-				allTilesEqual = allTilesEqual && firstTile.equals(tiles[i][j]);
+	public int getObjectsVersion() {
+		return objectsVersion.get();
+	}
+
+	public int getItemsVersion() {
+		return itemsVersion.get();
+	}
+
+	public int getNpcsVersion() {
+		return npcsVersion.get();
+	}
+
+	public int getPlayersVersion() {
+		return playersVersion.get();
+	}
+
+	void notifyAggressiveNpcs(final Player player) {
+		if (aggressiveNpcs.isEmpty()) {
+			return;
+		}
+		synchronized (aggressiveNpcs) {
+			for (final Npc npc : aggressiveNpcs) {
+				npc.getNpcBehavior().notifyPlayerNearby(player);
 			}
 		}
+	}
 
-		if (allTilesEqual) {
-			tile = tiles[0][0];
-			tiles = null;
+	public int getObservers() {
+		return observers;
+	}
+
+	/**
+	 * @return Whether a player had this region in view when the RegionManager last counted
+	 */
+	public boolean isObserved() {
+		return observers > 0;
+	}
+
+	int addObserver() {
+		return ++observers;
+	}
+
+	void clearObservers() {
+		observers = 0;
+	}
+
+	public synchronized void checkRegionValues() {
+		if (tiles == null) {
+			return;
 		}
+		final long firstTile = tiles[0];
+		for (final long value : tiles) {
+			if (value != firstTile) {
+				return;
+			}
+		}
+
+		tile = firstTile;
+		tiles = null;
 	}
 
 	@Override
@@ -16,15 +16,38 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class RegionManager {
-	private final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Region>> regions;
+	/**
+	 * The number of regions along each axis of the map.
+	 */
+	private static final int REGIONS_WIDE = (Constants.MAX_WIDTH + Constants.REGION_SIZE - 1) / Constants.REGION_SIZE;
+	private static final int REGIONS_HIGH = (Constants.MAX_HEIGHT + Constants.REGION_SIZE - 1) / Constants.REGION_SIZE;
+
+	/**
+	 * Every region of the map, indexed by regionX * REGIONS_HIGH + regionY. Slots are filled in the first time they
+	 * are asked for, so reads never lock.
+	 */
+	private final AtomicReferenceArray<Region> regions;
+
+	/**
+	 * Blank regions created for coordinates outside of the map, only used when want_out_of_map_regions is enabled.
+	 */
+	private final ConcurrentHashMap<Long, Region> outOfMapRegions;
+
+	/**
+	 * The regions counted as observed by the last {@link #updateObservers(Collection)}, so that recounting only has to
+	 * clear those instead of every region.
+	 */
+	private final List<Region> observedRegions = new ArrayList<>();
 
 	private final World world;
 
 	public RegionManager(final World world) {
 		this.world = world;
-		this.regions = new ConcurrentHashMap<>();
+		this.regions = new AtomicReferenceArray<>(REGIONS_WIDE * REGIONS_HIGH);
+		this.outOfMapRegions = new ConcurrentHashMap<>();
 	}
 
 	public void load() {
@@ -33,14 +56,21 @@ public class RegionManager {
 	}
 
 	public void unload() {
-		for (final ConcurrentHashMap<Integer, Region> yRegionList : regions.values()) {
-			for (final Region region : yRegionList.values()) {
-				region.unload();
-			}
+		for (final Region region : getRegions()) {
+			region.unload();
+		}
+		observedRegions.clear();
+		for (int i = 0; i < regions.length(); i++) {
+			regions.set(i, null);
 		}
-		regions.clear();
+		outOfMapRegions.clear();
 	}
 
+	/**
+	 * The most regions a location can have in view, the location's own region plus at most one neighbour on each axis.
+	 */
+	public static final int MAX_VISIBLE_REGIONS = 4;
+
 	/**
 	 * Gets the local players around an entity.
 	 *
@@ -48,9 +78,21 @@ public class RegionManager {
 	 * @return The collection of local players.
 	 */
 	public Collection<Player> getLocalPlayers(final Entity entity) {
-		final LinkedHashSet<Player> localPlayers = new LinkedHashSet<Player>();
-		for (final Region region : getVisibleRegions(entity.getLocation())) {
-			for (final Player player : region.getPlayers()) {
+		return getLocalPlayers(entity, new Region[MAX_VISIBLE_REGIONS], new LinkedHashSet<>());
+	}
+
+	/**
+	 * Adds the local players around an entity to a caller owned collection, without allocating.
+	 *
+	 * @param entity The entity.
+	 * @param regionBuffer Scratch space for the visible regions, at least {@link #MAX_VISIBLE_REGIONS} long.
+	 * @param localPlayers The collection to add the local players to.
+	 * @return localPlayers
+	 */
+	public <C extends Collection<? super Player>> C getLocalPlayers(final Entity entity, final Region[] regionBuffer, final C localPlayers) {
+		final int regionCount = getVisibleRegions(entity.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			for (final Player player : regionBuffer[i].getPlayers()) {
 				if (player.withinRange(entity)) {
 					localPlayers.add(player);
 				}
@@ -66,9 +108,21 @@ public class RegionManager {
 	 * @return The collection of local NPCs.
 	 */
 	public Collection<Npc> getLocalNpcs(final Entity entity) {
-		final LinkedHashSet<Npc> localNpcs = new LinkedHashSet<>();
-		for (final Region region : getVisibleRegions(entity.getLocation())) {
-			for (final Npc npc : region.getNpcs()) {
+		return getLocalNpcs(entity, new Region[MAX_VISIBLE_REGIONS], new LinkedHashSet<>());
+	}
+
+	/**
+	 * Adds the local NPCs around an entity to a caller owned collection, without allocating.
+	 *
+	 * @param entity The entity.
+	 * @param regionBuffer Scratch space for the visible regions, at least {@link #MAX_VISIBLE_REGIONS} long.
+	 * @param localNpcs The collection to add the local NPCs to.
+	 * @return localNpcs
+	 */
+	public <C extends Collection<? super Npc>> C getLocalNpcs(final Entity entity, final Region[] regionBuffer, final C localNpcs) {
+		final int regionCount = getVisibleRegions(entity.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			for (final Npc npc : regionBuffer[i].getNpcs()) {
 				if (npc.withinRange(entity)) {
 					localNpcs.add(npc);
 				}
@@ -78,19 +132,18 @@ public class RegionManager {
 	}
 
 	public Collection<GameObject> getLocalObjects(final Mob entity) {
-		LinkedHashSet<GameObject> localObjects = new LinkedHashSet<GameObject>();
-		for (final Iterator<Region> region = getVisibleRegions(entity.getLocation()).iterator(); region.hasNext(); ) {
-			Collection<GameObject> objects = region.next().getGameObjects();
+		return getLocalObjects(entity, new Region[MAX_VISIBLE_REGIONS], new LinkedHashSet<>());
+	}
+
+	public <C extends Collection<? super GameObject>> C getLocalObjects(final Mob entity, final Region[] regionBuffer, final C localObjects) {
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionCount = getVisibleRegions(entity.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			Collection<GameObject> objects = regionBuffer[i].getGameObjects();
 			synchronized (objects) {
 				for (final Iterator<GameObject> o = objects.iterator(); o.hasNext(); ) {
 					final GameObject gameObject = o.next();
-					if (gameObject
-						.getLocation()
-						.withinGridRange(
-							entity.getLocation(),
-							getWorld().getServer().getConfig().VIEW_DISTANCE
-						)
-					) {
+					if (gameObject.getLocation().withinGridRange(entity.getLocation(), viewDistance)) {
 						localObjects.add(gameObject);
 					}
 				}
@@ -100,10 +153,15 @@ public class RegionManager {
 	}
 
 	public Collection<GroundItem> getLocalGroundItems(final Mob entity) {
-		final LinkedHashSet<GroundItem> localItems = new LinkedHashSet<GroundItem>();
-		for (final Region region : getVisibleRegions(entity.getLocation())) {
-			for (final GroundItem o : region.getGroundItems()) {
-				if (o.getLocation().withinGridRange(entity.getLocation(), getWorld().getServer().getConfig().VIEW_DISTANCE)) {
+		return getLocalGroundItems(entity, new Region[MAX_VISIBLE_REGIONS], new LinkedHashSet<>());
+	}
+
+	public <C extends Collection<? super GroundItem>> C getLocalGroundItems(final Mob entity, final Region[] regionBuffer, final C localItems) {
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionCount = getVisibleRegions(entity.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			for (final GroundItem o : regionBuffer[i].getGroundItems()) {
+				if (o.getLocation().withinGridRange(entity.getLocation(), viewDistance)) {
 					localItems.add(o);
 				}
 			}
@@ -111,12 +169,65 @@ public class RegionManager {
 		return localItems;
 	}
 
+	/**
+	 * Adds the objects on one tile to a caller owned collection, if the tile is in view of the entity.
+	 * Gives the same objects, in the same order, as picking the ones on that tile out of {@link #getLocalObjects(Mob)}.
+	 */
+	public <C extends Collection<? super GameObject>> C getLocalObjectsAt(final Mob entity, final Point location, final C localObjects) {
+		final Region region = getRegionInView(entity, location);
+		return region == null ? localObjects : region.getGameObjects(location, localObjects);
+	}
+
+	/**
+	 * Adds the ground items on one tile to a caller owned collection, if the tile is in view of the entity.
+	 * Gives the same items, in the same order, as picking the ones on that tile out of {@link #getLocalGroundItems(Mob)}.
+	 */
+	public <C extends Collection<? super GroundItem>> C getLocalGroundItemsAt(final Mob entity, final Point location, final C localItems) {
+		final Region region = getRegionInView(entity, location);
+		return region == null ? localItems : region.getGroundItems(location, localItems);
+	}
+
+	/**
+	 * @return The region holding the tile, or null if the local objects and items of the entity don't cover the tile.
+	 */
+	private Region getRegionInView(final Mob entity, final Point location) {
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		if (!location.withinGridRange(entity.getLocation(), viewDistance)) {
+			return null;
+		}
+		final Region region = getRegion(location);
+		final Region[] regionBuffer = new Region[MAX_VISIBLE_REGIONS];
+		final int regionCount = getVisibleRegions(entity.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			if (regionBuffer[i] == region) {
+				return region;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Gets regions within range of the given location
 	 * @param location location
 	 * @return regions within range of the given location
 	 */
 	public LinkedHashSet<Region> getVisibleRegions(final Point location) {
+		final Region[] regionBuffer = new Region[MAX_VISIBLE_REGIONS];
+		final int regionCount = getVisibleRegions(location, regionBuffer);
+		final LinkedHashSet<Region> visible = new LinkedHashSet<>();
+		for (int i = 0; i < regionCount; i++) {
+			visible.add(regionBuffer[i]);
+		}
+		return visible;
+	}
+
+	/**
+	 * Writes the regions within range of the given location into a caller owned array
+	 * @param location location
+	 * @param visible array of at least {@link #MAX_VISIBLE_REGIONS} regions to fill
+	 * @return the number of regions written
+	 */
+	public int getVisibleRegions(final Point location, final Region[] visible) {
 		// View distance is in multiples of 8
 		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE << 3;
 
@@ -126,37 +237,74 @@ public class RegionManager {
 		final int offsetX = location.getX() % Constants.REGION_SIZE;
 		final int offsetY = location.getY() % Constants.REGION_SIZE;
 
-		List<Integer> xMod = new ArrayList<>(2);
-		List<Integer> yMod = new ArrayList<>(2);
-		xMod.add(0);
-		yMod.add(0);
-
-		final LinkedHashSet<Region> visible = new LinkedHashSet<>();
+		// The location's own region always comes first, followed by the neighbouring column, row and corner.
+		int xMod = 0;
+		int yMod = 0;
 		if(offsetX <= viewDistance) {
-			xMod.add(-1);
+			xMod = -1;
 		} else if(Constants.REGION_SIZE - offsetX <= viewDistance) {
-			xMod.add(1);
+			xMod = 1;
 		}
 
 		if(offsetY <= viewDistance) {
-			yMod.add(-1);
+			yMod = -1;
 		} else if(Constants.REGION_SIZE - offsetY <= viewDistance) {
-			yMod.add(1);
+			yMod = 1;
+		}
+
+		int count = 0;
+		count = addVisibleRegion(visible, count, regionX, regionY);
+		if (yMod != 0) {
+			count = addVisibleRegion(visible, count, regionX, regionY + yMod);
+		}
+		if (xMod != 0) {
+			count = addVisibleRegion(visible, count, regionX + xMod, regionY);
+			if (yMod != 0) {
+				count = addVisibleRegion(visible, count, regionX + xMod, regionY + yMod);
+			}
+		}
+		return count;
+	}
+
+	private int addVisibleRegion(final Region[] visible, final int count, final int regionX, final int regionY) {
+		final Region region = getRegionFromSectorCoordinates(regionX, regionY);
+		if (region == null) {
+			return count;
 		}
+		visible[count] = region;
+		return count + 1;
+	}
 
-		for(int x : xMod) {
-			for(int y : yMod) {
-				final Region tmpRegion = getRegionFromSectorCoordinates(
-						regionX + x,
-						regionY + y
-				);
-				if (tmpRegion != null) {
-					visible.add(tmpRegion);
+	/**
+	 * Recounts how many of the given players have each region in view, see {@link Region#isObserved()}.
+	 * A region no player has in view can't have anything in it seen by, or reach, a player.
+	 */
+	public void updateObservers(final Collection<Player> players) {
+		for (final Region region : observedRegions) {
+			region.clearObservers();
+		}
+		observedRegions.clear();
+
+		final Region[] regionBuffer = new Region[MAX_VISIBLE_REGIONS];
+		for (final Player player : players) {
+			final int regionCount = getVisibleRegions(player.getLocation(), regionBuffer);
+			for (int i = 0; i < regionCount; i++) {
+				if (regionBuffer[i].addObserver() == 1) {
+					observedRegions.add(regionBuffer[i]);
 				}
 			}
 		}
+	}
 
-		return visible;
+	/**
+	 * Tells the aggressive npcs that can see a player that it is there, called whenever the player is added to a region.
+	 */
+	void notifyAggressiveNpcs(final Player player) {
+		final Region[] regionBuffer = player.getViewArea().getRegionBuffer();
+		final int regionCount = getVisibleRegions(player.getLocation(), regionBuffer);
+		for (int i = 0; i < regionCount; i++) {
+			regionBuffer[i].notifyAggressiveNpcs(player);
+		}
 	}
 
 	/**
@@ -170,7 +318,10 @@ public class RegionManager {
 		final int regionY = location.getY() / Constants.REGION_SIZE;
 
 		final LinkedHashSet<Region> surrounding = new LinkedHashSet<Region>();
-		surrounding.add(getRegionFromSectorCoordinates(regionX, regionY));
+		final Region region = getRegionFromSectorCoordinates(regionX, regionY);
+		if (region != null) {
+			surrounding.add(region);
+		}
 		final int[] xMod = {-1, +1, -1, 0, +1, 0, -1, +1};
 		final int[] yMod = {-1, +1, 0, -1, 0, +1, +1, -1};
 		for (int i = 0; i < xMod.length; i++) {
@@ -183,21 +334,36 @@ public class RegionManager {
 	}
 
 	private Region getRegionFromSectorCoordinates(final int regionX, final int regionY) {
-		// Create a new HashMap if it doesn't exist.
-		if (!getRegions().containsKey(regionX)) {
-			getRegions().put(regionX, new ConcurrentHashMap<>());
+		if (regionX < 0 || regionX >= REGIONS_WIDE || regionY < 0 || regionY >= REGIONS_HIGH) {
+			return getOutOfMapRegion(regionX, regionY);
 		}
 
-		if (!getRegions().get(regionX).containsKey(regionY)) {
-			getRegions().get(regionX).put(regionY, new Region(this, regionX, regionY));
+		final int index = regionX * REGIONS_HIGH + regionY;
+		final Region region = regions.get(index);
+		if (region != null) {
+			return region;
 		}
 
-		return getRegions().get(regionX).get(regionY);
+		// First visit to this part of the map, whoever loses the race uses the winner's region.
+		regions.compareAndSet(index, null, new Region(this, regionX, regionY));
+		return regions.get(index);
+	}
+
+	private Region getOutOfMapRegion(final int regionX, final int regionY) {
+		if (!getWorld().getServer().getConfig().WANT_OUT_OF_MAP_REGIONS) {
+			return null;
+		}
+		final long key = ((long) regionX << 32) | (regionY & 0xFFFFFFFFL);
+		return outOfMapRegions.computeIfAbsent(key, k -> new Region(this, regionX, regionY));
 	}
 
+	/**
+	 * @return The region holding the given tile, or null if the tile is outside of the map and want_out_of_map_regions is disabled.
+	 */
 	public Region getRegion(final int x, final int y) {
-		final int regionX = x / Constants.REGION_SIZE;
-		final int regionY = y / Constants.REGION_SIZE;
+		// Floor the division so that tiles just outside of the map don't map to the regions on its edge.
+		final int regionX = Math.floorDiv(x, Constants.REGION_SIZE);
+		final int regionY = Math.floorDiv(y, Constants.REGION_SIZE);
 		return getRegionFromSectorCoordinates(regionX, regionY);
 	}
 
@@ -217,16 +383,48 @@ public class RegionManager {
 			return null;
 		}
 
-		return getRegion(x, y).getTileValue(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE);
+		return getRegionFromSectorCoordinates(x / Constants.REGION_SIZE, y / Constants.REGION_SIZE)
+			.getTileValue(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE);
 	}
 
 	public TileValue getTile(final Point point) {
 		return getTile(point.getX(), point.getY());
 	}
 
-	// originally private, set to public to access for reset event
-	public ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Region>> getRegions() {
-		return regions;
+	/**
+	 * Reads the traversal mask of a tile straight out of its region, tiles outside of the map are fully blocked.
+	 */
+	public byte getTraversalMask(final int x, final int y) {
+		if (!withinWorld(x, y)) {
+			return (byte) TileValue.BLANK;
+		}
+
+		return getRegionFromSectorCoordinates(x / Constants.REGION_SIZE, y / Constants.REGION_SIZE)
+			.getTraversalMask(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE);
+	}
+
+	public boolean isProjectileAllowed(final int x, final int y) {
+		if (!withinWorld(x, y)) {
+			return false;
+		}
+
+		return getRegionFromSectorCoordinates(x / Constants.REGION_SIZE, y / Constants.REGION_SIZE)
+			.isProjectileAllowed(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE);
+	}
+
+	/**
+	 * @return A snapshot of every region created so far, used by the scenery reset event
+	 */
+	public List<Region> getRegions() {
+		final List<Region> loaded = new ArrayList<>();
+		for (int i = 0; i < regions.length(); i++) {
+			final Region region = regions.get(i);
+			if (region != null) {
+				loaded.add(region);
+			}
+		}
+		loaded.addAll(outOfMapRegions.values());
+		return loaded;
 	}
 
 	public World getWorld() {
@@ -2,38 +2,137 @@ package com.openrsc.server.model.world.region;
 
 import com.openrsc.server.util.rsc.CollisionFlag;
 
+/**
+ * View of a single tile of a {@link Region}. The tile data itself lives in the region, packed into one long per tile,
+ * so a TileValue only holds where to find it and every getter and setter reads or writes through to the region.
+ *
+ * Packed layout, from the lowest bit:
+ * traversalMask (8) | diagWallVal (16) | horizontalWallVal (8) | overlay (8) | verticalWallVal (8) | elevation (8)
+ * | projectileAllowed (1) | originalProjectileAllowed (1)
+ */
 public class TileValue {
-	public byte traversalMask = CollisionFlag.FULL_BLOCK;
-	public short diagWallVal = 0;
-	public byte horizontalWallVal = 0;
-	public byte overlay = 0;
-	public byte verticalWallVal = 0;
-	public byte elevation = 0;
-	public boolean projectileAllowed = false;
-	public boolean originalProjectileAllowed = false;
+	private static final int DIAG_WALL_SHIFT = 8;
+	private static final int HORIZONTAL_WALL_SHIFT = 24;
+	private static final int OVERLAY_SHIFT = 32;
+	private static final int VERTICAL_WALL_SHIFT = 40;
+	private static final int ELEVATION_SHIFT = 48;
+	private static final long PROJECTILE_ALLOWED = 1L << 56;
+	private static final long ORIGINAL_PROJECTILE_ALLOWED = 1L << 57;
+
+	/**
+	 * The packed value of a tile nothing has been loaded into.
+	 */
+	static final long BLANK = CollisionFlag.FULL_BLOCK;
+
+	private final Region region;
+	private final int index;
+
+	TileValue(final Region region, final int index) {
+		this.region = region;
+		this.index = index;
+	}
+
+	static byte traversalMask(final long data) {
+		return (byte) data;
+	}
+
+	static boolean projectileAllowed(final long data) {
+		return (data & PROJECTILE_ALLOWED) != 0;
+	}
+
+	public byte getTraversalMask() {
+		return traversalMask(region.getTileData(index));
+	}
+
+	public void setTraversalMask(final int traversalMask) {
+		set(0, 0xFF, traversalMask);
+	}
+
+	public void addTraversalFlags(final int flags) {
+		setTraversalMask(getTraversalMask() | flags);
+	}
+
+	public void removeTraversalFlags(final int flags) {
+		setTraversalMask(getTraversalMask() & ~flags);
+	}
+
+	public short getDiagWallVal() {
+		return (short) (region.getTileData(index) >>> DIAG_WALL_SHIFT);
+	}
+
+	public void setDiagWallVal(final short diagWallVal) {
+		set(DIAG_WALL_SHIFT, 0xFFFF, diagWallVal);
+	}
+
+	public byte getHorizontalWallVal() {
+		return (byte) (region.getTileData(index) >>> HORIZONTAL_WALL_SHIFT);
+	}
+
+	public void setHorizontalWallVal(final byte horizontalWallVal) {
+		set(HORIZONTAL_WALL_SHIFT, 0xFF, horizontalWallVal);
+	}
+
+	public byte getOverlay() {
+		return (byte) (region.getTileData(index) >>> OVERLAY_SHIFT);
+	}
+
+	public void setOverlay(final byte overlay) {
+		set(OVERLAY_SHIFT, 0xFF, overlay);
+	}
+
+	public byte getVerticalWallVal() {
+		return (byte) (region.getTileData(index) >>> VERTICAL_WALL_SHIFT);
+	}
+
+	public void setVerticalWallVal(final byte verticalWallVal) {
+		set(VERTICAL_WALL_SHIFT, 0xFF, verticalWallVal);
+	}
+
+	public byte getElevation() {
+		return (byte) (region.getTileData(index) >>> ELEVATION_SHIFT);
+	}
+
+	public void setElevation(final byte elevation) {
+		set(ELEVATION_SHIFT, 0xFF, elevation);
+	}
+
+	public boolean isProjectileAllowed() {
+		return projectileAllowed(region.getTileData(index));
+	}
+
+	public void setProjectileAllowed(final boolean projectileAllowed) {
+		setFlag(PROJECTILE_ALLOWED, projectileAllowed);
+	}
+
+	public boolean isOriginalProjectileAllowed() {
+		return (region.getTileData(index) & ORIGINAL_PROJECTILE_ALLOWED) != 0;
+	}
+
+	public void setOriginalProjectileAllowed(final boolean originalProjectileAllowed) {
+		setFlag(ORIGINAL_PROJECTILE_ALLOWED, originalProjectileAllowed);
+	}
+
+	private void set(final int shift, final long mask, final long value) {
+		final long data = region.getTileData(index);
+		region.setTileData(index, (data & ~(mask << shift)) | ((value & mask) << shift));
+	}
+
+	private void setFlag(final long flag, final boolean value) {
+		final long data = region.getTileData(index);
+		region.setTileData(index, value ? data | flag : data & ~flag);
+	}
 
 	@Override
 	public String toString() {
 		return "TileValue{" +
-			"traversalMask=" + traversalMask +
-			", diagWallVal=" + diagWallVal +
-			", horizontalWallVal=" + horizontalWallVal +
-			", overlay=" + overlay +
-			", verticalWallVal=" + verticalWallVal +
-			", elevation=" + elevation +
-			", projectileAllowed=" + projectileAllowed +
-			", originalProjectileAllowed=" + originalProjectileAllowed +
+			"traversalMask=" + getTraversalMask() +
+			", diagWallVal=" + getDiagWallVal() +
+			", horizontalWallVal=" + getHorizontalWallVal() +
+			", overlay=" + getOverlay() +
+			", verticalWallVal=" + getVerticalWallVal() +
+			", elevation=" + getElevation() +
+			", projectileAllowed=" + isProjectileAllowed() +
+			", originalProjectileAllowed=" + isOriginalProjectileAllowed() +
 			'}';
 	}
-
-	public boolean equals(final TileValue other) {
-		return 	this.traversalMask == other.traversalMask &&
-				this.diagWallVal == other.diagWallVal &&
-				this.horizontalWallVal == other.horizontalWallVal &&
-				this.overlay == other.overlay &&
-				this.verticalWallVal == other.verticalWallVal &&
-				this.elevation == other.elevation &&
-				this.projectileAllowed == other.projectileAllowed &&
-				this.originalProjectileAllowed == other.originalProjectileAllowed;
-	}
 }
@@ -10,9 +10,16 @@ import io.netty.util.AttributeMap;
 public final class RSCProtocolEncoder extends MessageToByteEncoder<Packet> implements AttributeMap {
 	private final RSCProtocolEncoderMain encoder = new RSCProtocolEncoderMain();
 
+	@Override
+	protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Packet message, boolean preferDirect) {
+		// Sized to the exact frame so the pooled buffer never has to grow while the packet is written into it.
+		final int length = encoder.getEncodedLength(ctx, message);
+		return preferDirect ? ctx.alloc().ioBuffer(length) : ctx.alloc().heapBuffer(length);
+	}
+
 	@Override
 	protected void encode(ChannelHandlerContext ctx, Packet message, ByteBuf outBuffer) throws Exception {
-		outBuffer.writeBytes(encoder.encode(ctx, message));
+		encoder.encode(ctx, message, outBuffer);
 	}
 
 	@Override
@@ -1,5 +1,6 @@
 package com.openrsc.server.net;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageEncoder;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
@@ -14,9 +15,14 @@ public final class RSCProtocolWebEncoder extends MessageToMessageEncoder<Packet>
 
 	@Override
 	protected void encode(ChannelHandlerContext ctx, Packet message, List<Object> out) throws Exception {
-		BinaryWebSocketFrame result = new BinaryWebSocketFrame();
-		result.content().writeBytes(encoder.encode(ctx, message));
-		out.add(result);
+		final ByteBuf buffer = ctx.alloc().buffer(encoder.getEncodedLength(ctx, message));
+		try {
+			encoder.encode(ctx, message, buffer);
+		} catch (final Exception e) {
+			buffer.release();
+			throw e;
+		}
+		out.add(new BinaryWebSocketFrame(buffer));
 	}
 
 	@Override
@@ -54,6 +54,13 @@ public class ActionSender {
 	 * Get respective generator
 	 * */
 	public static PayloadGenerator<OpcodeOut> getGenerator(Player player) {
+		return player.getPayloadGenerator();
+	}
+
+	/**
+	 * Creates the generator for the player's client version, resolved once per connection by the player
+	 * */
+	public static PayloadGenerator<OpcodeOut> createGenerator(Player player) {
 		PayloadGenerator<OpcodeOut> generator;
 		if (player.isUsing38CompatibleClient() || player.isUsing39CompatibleClient()) {
 			generator = new Payload38Generator();
@@ -7,15 +7,14 @@ import com.openrsc.server.net.rsc.struct.AbstractStruct;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.EnumMap;
 
 /**
  * Redistributes payload to appropriate handler
  * */
 public class PayloadProcessorManager {
 	/* Handlers for parsed payload */
-	private static HashMap<OpcodeIn, PayloadProcessor<? extends AbstractStruct<OpcodeIn>, OpcodeIn>> payloadProcessors = new HashMap<>();
+	private static final EnumMap<OpcodeIn, PayloadProcessor<? extends AbstractStruct<OpcodeIn>, OpcodeIn>> payloadProcessors = new EnumMap<>(OpcodeIn.class);
 	private static final Logger LOGGER = LogManager.getLogger();
 	static {
 
@@ -149,21 +148,14 @@ public class PayloadProcessorManager {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public static boolean processed(AbstractStruct<OpcodeIn> payload, Player player) {
 		PayloadProcessor<? extends AbstractStruct<OpcodeIn>, OpcodeIn> processor = get(payload.getOpcode());
 		if (processor != null) {
 			try {
-				Method method = null;
-				for (Method m : processor.getClass().getDeclaredMethods()) {
-					if (m.getName().equals("process")) {
-						method = m;
-						break;
-					}
-				}
-				if (method != null) {
-					checkIfShouldCancelMenu(player, payload.getOpcode());
-					method.invoke(processor, payload, player); //processor.process(payload, player);
-				}
+				checkIfShouldCancelMenu(player, payload.getOpcode());
+				// A payload of the wrong struct type fails the cast inside process and is treated as malformed.
+				((PayloadProcessor<AbstractStruct<OpcodeIn>, OpcodeIn>) processor).process(payload, player);
 			} catch(Exception e) {
 				return false;
 			}
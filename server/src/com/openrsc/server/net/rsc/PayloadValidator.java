@@ -4,7 +4,7 @@ import com.openrsc.server.net.rsc.enums.OpcodeOut;
 import com.openrsc.server.net.rsc.struct.AbstractStruct;
 import com.openrsc.server.net.rsc.struct.outgoing.*;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -12,7 +12,7 @@ import java.util.Map;
  */
 public class PayloadValidator {
 
-	private static final Map<OpcodeOut, Class<? extends AbstractStruct<OpcodeOut>>> opcodeValidate = new HashMap<OpcodeOut, Class<? extends AbstractStruct<OpcodeOut>>>() {{
+	private static final Map<OpcodeOut, Class<? extends AbstractStruct<OpcodeOut>>> opcodeValidate = new EnumMap<OpcodeOut, Class<? extends AbstractStruct<OpcodeOut>>>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_LOGOUT_REQUEST_CONFIRM, NoPayloadStruct.class);
 		put(OpcodeOut.SEND_QUESTS, QuestInfoStruct.class);
 		put(OpcodeOut.SEND_DUEL_OPPONENTS_ITEMS, DuelStakeStruct.class);
@@ -117,6 +117,6 @@ public class PayloadValidator {
 	}};
 
 	public static boolean isPayloadCorrectInstance(AbstractStruct<OpcodeOut> payload, OpcodeOut opcode) {
-		return payload.getClass().equals(opcodeValidate.getOrDefault(opcode, null));
+		return payload.getClass().equals(opcodeValidate.get(opcode));
 	}
 }
@@ -18,14 +18,14 @@ import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MathUtil;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * RSC Protocol-115 Generator for Outgoing Packets from respective Protocol Independent Structs
  * **/
 public class Payload115Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodeMap = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodeMap = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_PLAYER_COORDS, 255);
 		put(OpcodeOut.SEND_GROUND_ITEM_HANDLER, 254);
 		put(OpcodeOut.SEND_SCENERY_HANDLER, 253);
@@ -107,7 +107,7 @@ public class Payload115Generator implements PayloadGenerator<OpcodeOut> {
 	@Override
 	public PacketBuilder fromOpcodeEnum(OpcodeOut opcode, Player player) {
 		PacketBuilder builder = null;
-		Integer opcodeNum = opcodeMap.getOrDefault(opcode, null);
+		Integer opcodeNum = opcodeMap.get(opcode);
 		if (opcodeNum != null) {
 			builder = new PacketBuilder().setID(opcodeNum);
 		}
@@ -19,14 +19,14 @@ import com.openrsc.server.util.rsc.MathUtil;
 import com.openrsc.server.util.rsc.StringUtil;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * RSC Protocol-177 Generator for Outgoing Packets from respective Protocol Independent Structs
  * **/
 public class Payload177Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodeMap = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodeMap = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_PLAYER_COORDS, 255);
 		put(OpcodeOut.SEND_GROUND_ITEM_HANDLER, 254);
 		put(OpcodeOut.SEND_SCENERY_HANDLER, 253);
@@ -109,7 +109,7 @@ public class Payload177Generator implements PayloadGenerator<OpcodeOut> {
 	@Override
 	public PacketBuilder fromOpcodeEnum(OpcodeOut opcode, Player player) {
 		PacketBuilder builder = null;
-		Integer opcodeNum = opcodeMap.getOrDefault(opcode, null);
+		Integer opcodeNum = opcodeMap.get(opcode);
 		if (opcodeNum != null) {
 			builder = new PacketBuilder().setID(opcodeNum);
 		}
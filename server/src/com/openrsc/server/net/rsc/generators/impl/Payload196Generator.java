@@ -18,7 +18,7 @@ import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MathUtil;
 import com.openrsc.server.util.rsc.StringUtil;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -30,7 +30,7 @@ import java.util.Map;
  * username hash to select a login server.
  * **/
 public class Payload196Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodes = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodes = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_SERVER_MESSAGE, 53);
 		put(OpcodeOut.SEND_LOGOUT_REQUEST_CONFIRM, 183);
 		put(OpcodeOut.SEND_CANT_LOGOUT, 36);
@@ -18,7 +18,7 @@ import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MathUtil;
 import com.openrsc.server.util.rsc.StringUtil;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -29,7 +29,7 @@ import java.util.Map;
  * Contemporary open source clients for 198 include TheLoveMachine by SeanWT and saevion.
  * **/
 public class Payload198Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodes = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodes = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_SERVER_MESSAGE, 202);
 		put(OpcodeOut.SEND_LOGOUT_REQUEST_CONFIRM, 178);
 		put(OpcodeOut.SEND_CANT_LOGOUT, 11);
@@ -18,7 +18,7 @@ import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MathUtil;
 import com.openrsc.server.util.rsc.StringUtil;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -32,7 +32,7 @@ import java.util.Map;
  * mudclient204.jar (same protocol version) was released on 2006-05-25.
  * **/
 public class Payload203Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodes203 = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodes203 = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_LOGOUT_REQUEST_CONFIRM, 4);
 		put(OpcodeOut.SEND_QUESTS, 5);
 		put(OpcodeOut.SEND_DUEL_OPPONENTS_ITEMS, 6);
@@ -108,7 +108,7 @@ public class Payload203Generator implements PayloadGenerator<OpcodeOut> {
 	@Override
 	public PacketBuilder fromOpcodeEnum(OpcodeOut opcode, Player player) {
 		PacketBuilder builder = null;
-		Integer opcodeNum = opcodes.getOrDefault(opcode, null);
+		Integer opcodeNum = opcodes.get(opcode);
 		if (opcodeNum != null) {
 			builder = new PacketBuilder().setID(opcodeNum);
 		}
@@ -15,14 +15,14 @@ import com.openrsc.server.net.rsc.generators.PayloadGenerator;
 import com.openrsc.server.net.rsc.struct.AbstractStruct;
 import com.openrsc.server.net.rsc.struct.outgoing.*;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * RSC Protocol-235 Generator for Outgoing Packets from respective Protocol Independent Structs
  * **/
 public class Payload235Generator implements PayloadGenerator<OpcodeOut> {
-	private static final Map<OpcodeOut, Integer> opcodeMap = new HashMap<OpcodeOut, Integer>() {{
+	private static final Map<OpcodeOut, Integer> opcodeMap = new EnumMap<OpcodeOut, Integer>(OpcodeOut.class) {{
 		put(OpcodeOut.SEND_LOGOUT_REQUEST_CONFIRM, 4);
 		put(OpcodeOut.SEND_QUESTS, 5);
 		put(OpcodeOut.SEND_DUEL_OPPONENTS_ITEMS, 6);
@@ -95,7 +95,7 @@ public class Payload235Generator implements PayloadGenerator<OpcodeOut> {
 	@Override
 	public PacketBuilder fromOpcodeEnum(OpcodeOut opcode, Player player) {
 		PacketBuilder builder = null;
-		Integer opcodeNum = opcodeMap.getOrDefault(opcode, null);
+		Integer opcodeNum = opcodeMap.get(opcode);
 		if (opcodeNum != null) {
 			builder = new PacketBuilder().setID(opcodeNum);
 		}
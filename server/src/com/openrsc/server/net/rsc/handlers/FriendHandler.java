@@ -26,6 +26,24 @@ public final class FriendHandler implements PayloadProcessor<FriendStruct, Opcod
 		return Math.min(clientLimit, freeOrMembersLimit);
 	}
 
+	private void addFriend(Player player, long friendHash, PlayerFriend friendProperUsername) {
+		player.getSocial().addFriend(friendHash, 0, friendProperUsername.playerName, friendProperUsername.formerName);
+		ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
+		Player affectedPlayer = player.getWorld().getPlayer(friendHash);
+		if (affectedPlayer != null && affectedPlayer.loggedIn()) {
+			boolean blockAll = affectedPlayer.getSettings().getPrivacySetting(PlayerSettings.PRIVACY_BLOCK_PRIVATE_MESSAGES, affectedPlayer.isUsingCustomClient())
+				== PlayerSettings.BlockingMode.All.id();
+			boolean blockNone = affectedPlayer.getSettings().getPrivacySetting(PlayerSettings.PRIVACY_BLOCK_PRIVATE_MESSAGES, affectedPlayer.isUsingCustomClient())
+				== PlayerSettings.BlockingMode.None.id();
+			if (!blockAll && affectedPlayer.getSocial().isFriendsWith(player.getUsernameHash())) {
+				ActionSender.sendFriendUpdate(affectedPlayer, player.getUsernameHash(), player.getUsername(), player.getFormerName());
+				ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
+			} else if (blockNone && !affectedPlayer.getSocial().isFriendsWith(player.getUsernameHash())) {
+				ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
+			}
+		}
+	}
+
 	public void process(FriendStruct payload, Player player) throws Exception {
 		String friendName = payload.player;
 		long friendHash = DataConversions.usernameToHash(friendName);
@@ -58,40 +76,28 @@ public final class FriendHandler implements PayloadProcessor<FriendStruct, Opcod
 					return;
 				}
 
-				PlayerFriend friendProperUsername = null;
-
-				if (friendHash > 0L) {
-					try {
-						friendProperUsername = player.getWorld().getServer().getDatabase().getProperUsernameCapitalization(friendName);
-
-						if (friendProperUsername == null) {
-							// only able to add those that exist!
-							player.message("Unable to add friend - unknown player.");
-							ActionSender.sendFriendList(player);
-							return;
-						}
-					} catch (Exception e) {
-					}
-				}
-
-				if (friendProperUsername == null) {
+				if (friendHash <= 0L) {
 					return;
 				}
 
-				player.getSocial().addFriend(friendHash, 0, friendProperUsername.playerName, friendProperUsername.formerName);
-				ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
-				if (affectedPlayer != null && affectedPlayer.loggedIn()) {
-					boolean blockAll = affectedPlayer.getSettings().getPrivacySetting(PlayerSettings.PRIVACY_BLOCK_PRIVATE_MESSAGES, affectedPlayer.isUsingCustomClient())
-						== PlayerSettings.BlockingMode.All.id();
-					boolean blockNone = affectedPlayer.getSettings().getPrivacySetting(PlayerSettings.PRIVACY_BLOCK_PRIVATE_MESSAGES, affectedPlayer.isUsingCustomClient())
-						== PlayerSettings.BlockingMode.None.id();
-					if (!blockAll && affectedPlayer.getSocial().isFriendsWith(player.getUsernameHash())) {
-						ActionSender.sendFriendUpdate(affectedPlayer, player.getUsernameHash(), player.getUsername(), player.getFormerName());
-						ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
-					} else if (blockNone && !affectedPlayer.getSocial().isFriendsWith(player.getUsernameHash())) {
-						ActionSender.sendFriendUpdate(player, friendHash, friendProperUsername.playerName, friendProperUsername.formerName);
+				player.getWorld().getServer().getPlayerLookupService().lookupPlayer(friendName, friendProperUsername -> {
+					if (!player.isLoggedIn()) {
+						return;
 					}
-				}
+					if (friendProperUsername == null) {
+						// only able to add those that exist!
+						player.message("Unable to add friend - unknown player.");
+						ActionSender.sendFriendList(player);
+						return;
+					}
+					// Other friends may have been added while the name was looked up.
+					if (player.getSocial().friendCount() >= maxFriends) {
+						player.message("Friend list is full");
+						ActionSender.sendFriendList(player);
+						return;
+					}
+					addFriend(player, friendHash, friendProperUsername);
+				});
 				break;
 			}
 			case SOCIAL_REMOVE_FRIEND: {
@@ -120,35 +126,36 @@ public final class FriendHandler implements PayloadProcessor<FriendStruct, Opcod
 					return;
 				}
 
-				PlayerFriend enemyProperUsername = null;
-
-				if (friendHash > 0L) {
-					try {
-						enemyProperUsername = player.getWorld().getServer().getDatabase().getProperUsernameCapitalization(friendName);
-
-						if (enemyProperUsername == null) {
-							// only able to add those that exist!
-							player.message("Unable to add name - unknown player.");
-							ActionSender.sendIgnoreList(player);
-							return;
-						}
+				if (friendHash <= 0L) {
+					return;
+				}
 
-						int staffGroup = enemyProperUsername.groupId;
-						if (staffGroup >= 0 && staffGroup <= 3) {
-							player.message("Staff may not be added to ignore list");
-							ActionSender.sendIgnoreList(player);
-							return;
-						}
-					} catch (Exception e) {
+				player.getWorld().getServer().getPlayerLookupService().lookupPlayer(friendName, enemyProperUsername -> {
+					if (!player.isLoggedIn()) {
+						return;
+					}
+					if (enemyProperUsername == null) {
+						// only able to add those that exist!
+						player.message("Unable to add name - unknown player.");
+						ActionSender.sendIgnoreList(player);
+						return;
 					}
-				}
 
-				if (enemyProperUsername == null) {
-					return;
-				}
+					int staffGroup = enemyProperUsername.groupId;
+					if (staffGroup >= 0 && staffGroup <= 3) {
+						player.message("Staff may not be added to ignore list");
+						ActionSender.sendIgnoreList(player);
+						return;
+					}
+					if (player.getSocial().ignoreCount() >= maxIgnore) {
+						player.message("Ignore list full");
+						ActionSender.sendIgnoreList(player);
+						return;
+					}
 
-				player.getSocial().addIgnore(friendHash, DataConversions.usernameToHash(enemyProperUsername.formerName));
-				ActionSender.sendIgnoreList(player);
+					player.getSocial().addIgnore(friendHash, DataConversions.usernameToHash(enemyProperUsername.formerName));
+					ActionSender.sendIgnoreList(player);
+				});
 				break;
 			}
 			case SOCIAL_REMOVE_IGNORE: {
@@ -36,7 +36,7 @@ public class Payload196Parser implements PayloadParser<OpcodeIn> {
 
 	@Override
 	public OpcodeIn toOpcodeEnum(Packet packet, Player player) {
-		return opcodes.get(packet.getID());
+		return parser.toOpcodeEnum(packet, player);
 	}
 
 	@Override
@@ -44,7 +44,7 @@ public class Payload201Parser implements PayloadParser<OpcodeIn> {
 
 	@Override
 	public OpcodeIn toOpcodeEnum(Packet packet, Player player) {
-		return opcodes.get(packet.getID());
+		return parser.toOpcodeEnum(packet, player);
 	}
 
 	@Override
@@ -30,19 +30,37 @@ public class Payload203Parser implements PayloadParser<OpcodeIn> {
 
 	private static final Map<Integer, OpcodeIn> opcodes203 = new HashMap<Integer, OpcodeIn>();
 
-	private final Map<Integer, OpcodeIn> opcodes;
+	private final OpcodeIn[] opcodes;
 
 	public Payload203Parser(Map<Integer, OpcodeIn> opcodes) {
-		this.opcodes = opcodes;
+		this.opcodes = toOpcodeTable(opcodes);
 	}
 
 	public Payload203Parser() {
-		this.opcodes = opcodes203;
+		this(opcodes203);
 	}
 
 	@Override
 	public OpcodeIn toOpcodeEnum(Packet packet, Player player) {
-		return opcodes.get(packet.getID());
+		final int id = packet.getID();
+		return id >= 0 && id < opcodes.length ? opcodes[id] : null;
+	}
+
+	/**
+	 * Flattens an opcode map into an array indexed by opcode, so incoming packets are looked up without boxing or hashing.
+	 */
+	private static OpcodeIn[] toOpcodeTable(Map<Integer, OpcodeIn> opcodes) {
+		int maxOpcode = -1;
+		for (int opcode : opcodes.keySet()) {
+			maxOpcode = Math.max(maxOpcode, opcode);
+		}
+		final OpcodeIn[] table = new OpcodeIn[maxOpcode + 1];
+		for (Map.Entry<Integer, OpcodeIn> entry : opcodes.entrySet()) {
+			if (entry.getKey() >= 0) {
+				table[entry.getKey()] = entry.getValue();
+			}
+		}
+		return table;
 	}
 
 	@Override
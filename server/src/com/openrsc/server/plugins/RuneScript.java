@@ -836,7 +836,7 @@ public class RuneScript {
 		final Point interactingCoordinate = scriptContext.getInteractingCoordinate();
 		if (interactingCoordinate == null) return false;
 
-		final boolean isBlocked = (player.getWorld().getTile(interactingCoordinate).traversalMask & 64) != 0;
+		final boolean isBlocked = (player.getWorld().getTile(interactingCoordinate).getTraversalMask() & 64) != 0;
 		scriptContext.setExecutionFlag(isBlocked);
 		return isBlocked;
 	}
@@ -0,0 +1,18 @@
+package com.openrsc.server.plugins;
+
+/**
+ * Implemented by plugins whose block methods only ever return true for a fixed set of npc, object or item ids.
+ * The PluginHandler indexes these plugins by id and skips them entirely for every other entity.
+ *
+ * The ids are declared once, as a constant that both the block method and {@link #getTriggerIds} use, so that an id
+ * added to the block method can't be left out of the index. A block method that can't check its ids against a single
+ * constant should not be filtered.
+ */
+public interface TriggerIdFilter {
+	/**
+	 * @param triggerType The trigger interface being dispatched, e.g. TalkNpcTrigger.class
+	 * @return The ids of the first npc, object or item argument of the trigger that blockX can return true for,
+	 * or null if blocking that trigger is not purely id based and the plugin must always be asked.
+	 */
+	int[] getTriggerIds(Class<?> triggerType);
+}
@@ -1,7 +1,7 @@
 package com.openrsc.server.plugins.handler;
 
 import com.google.common.collect.ClassToInstanceMap;
-import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MutableClassToInstanceMap;
 import com.google.inject.Guice;
@@ -23,7 +23,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.*;
@@ -40,19 +39,23 @@ public final class PluginHandler implements IPluginHandler {
     private static final Logger LOGGER = LogManager.getLogger();
 
     private final Server server;
-    private final ThreadFactory threadFactory;
-    private final Multimap<Class<?>, Object> triggerTypeToInstance = HashMultimap.create();
+    private final Multimap<Class<?>, Object> triggerTypeToInstance = LinkedHashMultimap.create();
     private final Set<Class<?>> triggerTypes = new HashSet<>();
+    private final Object pluginEventLock = new Object();
     private final ClassToInstanceMap<Object> pluginInstances = MutableClassToInstanceMap.create();
     private final PluginJarLoader loader = new PluginJarLoader();
     private final Injector injector;
-    private ThreadPoolExecutor executor;
-    private boolean reloading = true;
+    private ExecutorService executor;
+    private volatile boolean reloading = true;
     private Object defaultHandler = null;
+    /**
+     * Dispatch tables per trigger type, rebuilt on every (re)load and read without locking
+     */
+    private volatile Map<Class<?>, TriggerDispatch> dispatchIndex = Collections.emptyMap();
+    private volatile Map<Class<?>, TriggerDispatch.Handler> defaultDispatch = Collections.emptyMap();
 
     public PluginHandler(final Server server) {
         this.server = server;
-        this.threadFactory = new NamedThreadFactory(server.getName() + " : PluginThread", server.getConfig());
         try {
             triggerTypes.addAll(loader.loadTriggers("com.openrsc.server.plugins.triggers"));
         } catch (Exception ex) {
@@ -119,11 +122,31 @@ public final class PluginHandler implements IPluginHandler {
             }
         }
 
+        buildDispatchIndex();
+
         LOGGER.info("Loaded {}", box(server.getWorld().getQuests().size()) + " Quests.");
         LOGGER.info("Loaded {}", box(server.getWorld().getMiniGames().size()) + " MiniGames.");
         LOGGER.info("Loaded total of {}", pluginInstances.size() + " plugin handlers.");
     }
 
+    private void buildDispatchIndex() {
+        final Map<Class<?>, TriggerDispatch> index = new HashMap<>();
+        final Map<Class<?>, TriggerDispatch.Handler> defaults = new HashMap<>();
+        for (final Class<?> triggerType : triggerTypes) {
+            try {
+                final TriggerDispatch dispatch = TriggerDispatch.build(triggerType, triggerTypeToInstance.get(triggerType));
+                index.put(triggerType, dispatch);
+                if (triggerType.isInstance(defaultHandler)) {
+                    defaults.put(triggerType, dispatch.bind(defaultHandler));
+                }
+            } catch (final ReflectiveOperationException ex) {
+                LOGGER.error("Unable to build plugin dispatch for trigger {}", triggerType.getSimpleName(), ex);
+            }
+        }
+        dispatchIndex = index;
+        defaultDispatch = defaults;
+    }
+
     public <T> T getPluginInstance(Class<T> type) {
         if (!pluginInstances.containsKey(type)) {
             final T instance = injector.getInstance(type);
@@ -151,7 +174,7 @@ public final class PluginHandler implements IPluginHandler {
         reloading = false;
 
         defaultHandler = null;
-        executor = (ThreadPoolExecutor) Executors.newCachedThreadPool(threadFactory);
+        executor = createExecutor();
 
         loader.loadJar();
         initPlugins();
@@ -175,6 +198,8 @@ public final class PluginHandler implements IPluginHandler {
         server.getWorld().getShops().clear();
 
         triggerTypeToInstance.clear();
+        dispatchIndex = Collections.emptyMap();
+        defaultDispatch = Collections.emptyMap();
         pluginInstances.clear();
         loader.clear();
 
@@ -183,56 +208,48 @@ public final class PluginHandler implements IPluginHandler {
     }
 
     public boolean handlePlugin(Class<?> triggerType, Player owner, Object[] data, WalkToAction walkToAction) {
-        final String simpleName = triggerType.getSimpleName();
-        String triggerName = simpleName.substring(0, simpleName.indexOf("Trigger"));
-        synchronized (triggerTypeToInstance) {
-            if (reloading) {
-                Arrays.stream(data)
-                        .filter(obj -> obj instanceof Player)
-                        .findAny()
-                        .map(Player.class::cast)
-                        .ifPresent(player -> player.message("Plugins are being updated, please wait."));
-                return false;
-            }
-            boolean shouldBlockDefault = false;
-
-            Collection<Object> triggerInstances = triggerTypeToInstance.get(triggerType);
-            if (triggerInstances.isEmpty()) {
-                LOGGER.warn("Unable to handle unknown plugin: {}", simpleName);
-            } else {
-                for (Object trigger : triggerInstances) {
-                    try {
-                        final Class<?>[] dataClasses = Arrays.stream(data)
-                                .map(Object::getClass)
-                                .toArray(Class<?>[]::new);
-                        final Method method = triggerType.getMethod("block" + triggerName, dataClasses);
-                        final boolean shouldBlock = (Boolean) method.invoke(trigger, data);
-                        if (shouldBlock) {
-                            shouldBlockDefault = true;
-                            invokePluginAction(triggerType, owner, trigger, data, walkToAction);
-                        }
-                    } catch (final Exception e) {
-                        LOGGER.catching(e);
+        if (reloading) {
+            Arrays.stream(data)
+                    .filter(obj -> obj instanceof Player)
+                    .findAny()
+                    .map(Player.class::cast)
+                    .ifPresent(player -> player.message("Plugins are being updated, please wait."));
+            return false;
+        }
+        boolean shouldBlockDefault = false;
+
+        final TriggerDispatch dispatch = dispatchIndex.get(triggerType);
+        if (dispatch == null || dispatch.isEmpty()) {
+            LOGGER.warn("Unable to handle unknown plugin: {}", triggerType.getSimpleName());
+        } else {
+            for (final TriggerDispatch.Handler handler : dispatch.getCandidates(data)) {
+                try {
+                    if (handler.block(data)) {
+                        shouldBlockDefault = true;
+                        invokePluginAction(dispatch, owner, handler, data, walkToAction);
                     }
+                } catch (final Throwable e) {
+                    LOGGER.catching(e);
                 }
             }
+        }
 
-            try {
-                if (!shouldBlockDefault) {
-                    invokePluginAction(triggerType, owner, defaultHandler, data, walkToAction);
-                }
-            } catch (final Exception e) {
-                LOGGER.catching(e);
+        try {
+            final TriggerDispatch.Handler defaultAction = defaultDispatch.get(triggerType);
+            if (!shouldBlockDefault && defaultAction != null) {
+                invokePluginAction(dispatch, owner, defaultAction, data, walkToAction);
             }
-
-            return shouldBlockDefault;
+        } catch (final Exception e) {
+            LOGGER.catching(e);
         }
+
+        return shouldBlockDefault;
     }
 
     private void invokePluginAction(
-            Class<?> triggerType,
+            TriggerDispatch dispatch,
             Player player,
-            Object triggerInstance,
+            TriggerDispatch.Handler handler,
             Object[] data,
             WalkToAction walkToAction
     ) {
@@ -241,40 +258,29 @@ public final class PluginHandler implements IPluginHandler {
         }
 
         try {
-            final Class<?>[] dataClasses = Arrays.stream(data)
-                    .map(Object::getClass)
-                    .toArray(Class<?>[]::new);
+            final String pluginName = handler.getPluginName();
 
-            final String simpleName = triggerType.getSimpleName();
-            String triggerName = simpleName.substring(0, simpleName.indexOf("Trigger"));
-            try {
-                final Method method = triggerType.getMethod("on" + triggerName, dataClasses);
-                final String pluginName = triggerInstance.getClass().getSimpleName() + "." + method.getName();
-
-                final PluginTask task = new PluginTask(server.getWorld(), player, triggerName, data) {
-                    @Override
-                    public int action() {
-                        try {
-                            LOGGER.info("Tick " + getWorld().getServer().getCurrentTick() + " : " + pluginName + " : " + Arrays.deepToString(data));
-                            method.invoke(triggerInstance, data);
-                            return 1;
-                        } catch (final InvocationTargetException ex) {
-                            if (ex.getCause() instanceof PluginInterruptedException) {
-                                // PluginTask.call() will do stop() after this which will correctly shut down the Plugin.
-                                return 1;
-                            } else {
-                                LOGGER.catching(ex);
-                                return 0;
-                            }
-                        } catch (final Exception ex) {
-                            LOGGER.catching(ex);
-                            return 0;
-                        }
+            final PluginTask task = new PluginTask(server.getWorld(), player, dispatch.getTriggerName(), data) {
+                @Override
+                public int action() {
+                    try {
+                        LOGGER.info("Tick " + getWorld().getServer().getCurrentTick() + " : " + pluginName + " : " + Arrays.deepToString(data));
+                        handler.action(data);
+                        return 1;
+                    } catch (final PluginInterruptedException ex) {
+                        // PluginTask.call() will do stop() after this which will correctly shut down the Plugin.
+                        return 1;
+                    } catch (final Throwable ex) {
+                        LOGGER.catching(ex);
+                        return 0;
                     }
-                };
+                }
+            };
 
-                final PluginTickEvent e = new PluginTickEvent(server.getWorld(), player, pluginName, walkToAction, task);
+            final PluginTickEvent e = new PluginTickEvent(server.getWorld(), player, pluginName, walkToAction, task);
 
+            // Checking for and replacing a player's plugin event has to happen as one step.
+            synchronized (pluginEventLock) {
                 boolean hasEvent = server.getGameEventHandler().has(e);
                 // On Jagex Original Clients there was no immediate menu cancels when clicking out of menu
 				// Addendum circa 14th March 2023: There wasn't an extra tick delay like in the codebase prior.
@@ -292,11 +298,6 @@ public final class PluginHandler implements IPluginHandler {
 				} else {
 					server.getGameEventHandler().add(e);
 				}
-            } catch (final NoSuchMethodException ex) {
-                LOGGER.info(ex.getMessage());
-                LOGGER.info(simpleName + ".on" + triggerName + " : " + Arrays.deepToString(data));
-                // getClass().getMethod() failed because there is an executive listener, but NOT a corresponding action listener, OR
-                // there is no action listener defined in Default plugin
             }
         } catch (final Exception e) {
             System.err.println("Exception at plugin handling: ");
@@ -308,7 +309,49 @@ public final class PluginHandler implements IPluginHandler {
         return getExecutor().submit(pluginTask);
     }
 
-    private ThreadPoolExecutor getExecutor() {
+    private ExecutorService getExecutor() {
         return executor;
     }
+
+    /**
+     * Plugin scripts spend nearly all of their life parked in PluginTask.pause() between ticks, so each one either
+     * holds a platform thread from a cached pool or, with want_virtual_plugin_threads, a virtual thread.
+     * Virtual threads need a Java 24+ runtime, before that a script paused inside the task's monitor pins its carrier
+     * thread and enough paused scripts would leave none to run on. On older runtimes we fall back to platform threads.
+     */
+    private ExecutorService createExecutor() {
+        final String threadName = server.getName() + " : PluginThread";
+        if (server.getConfig().WANT_VIRTUAL_PLUGIN_THREADS && javaFeatureVersion() < 24) {
+            LOGGER.warn("Virtual plugin threads need Java 24 or newer, running plugin tasks on platform threads under Java {}", System.getProperty("java.version"));
+        } else if (server.getConfig().WANT_VIRTUAL_PLUGIN_THREADS) {
+            try {
+                final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                // The builder's own class isn't public, so the method has to come from the public interface.
+                final ThreadFactory virtualThreadFactory = (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                        .getMethod("factory").invoke(builder);
+                final ThreadFactory threadFactory = new NamedThreadFactory(threadName, server.getConfig(), virtualThreadFactory);
+                final ExecutorService virtualExecutor = (ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, threadFactory);
+                LOGGER.info("Running plugin tasks on virtual threads");
+                return virtualExecutor;
+            } catch (final ReflectiveOperationException ex) {
+                LOGGER.warn("Unable to create virtual threads under Java {}, running plugin tasks on platform threads", System.getProperty("java.version"));
+                LOGGER.catching(ex);
+            }
+        }
+        return Executors.newCachedThreadPool(new NamedThreadFactory(threadName, server.getConfig()));
+    }
+
+    /**
+     * @return The major version of the running Java, 8 for "1.8"
+     */
+    private static int javaFeatureVersion() {
+        final String version = System.getProperty("java.specification.version", "1.8");
+        try {
+            return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+        } catch (final NumberFormatException ex) {
+            return 8;
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.openrsc.server.plugins.handler;
+
+import com.openrsc.server.model.container.Item;
+import com.openrsc.server.model.entity.Entity;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerIdFilter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed dispatch table for one trigger type, built once when plugins are loaded.
+ *
+ * Plugins implementing {@link TriggerIdFilter} are indexed by the ids they block on, everything else is asked on
+ * every dispatch. The block and action methods of every plugin are bound to method handles up front, so
+ * dispatching does no reflective lookups.
+ */
+final class TriggerDispatch {
+
+	private static final MethodType BLOCK_TYPE = MethodType.methodType(boolean.class, Object[].class);
+	private static final MethodType ACTION_TYPE = MethodType.methodType(void.class, Object[].class);
+
+	private final String triggerName;
+	private final Method blockMethod;
+	private final Method actionMethod;
+	private final List<Handler> unfilteredHandlers;
+	private final Map<Integer, List<Handler>> handlersById;
+
+	private TriggerDispatch(final String triggerName, final Method blockMethod, final Method actionMethod,
+							final List<Handler> unfilteredHandlers, final Map<Integer, List<Handler>> handlersById) {
+		this.triggerName = triggerName;
+		this.blockMethod = blockMethod;
+		this.actionMethod = actionMethod;
+		this.unfilteredHandlers = unfilteredHandlers;
+		this.handlersById = handlersById;
+	}
+
+	static TriggerDispatch build(final Class<?> triggerType, final Collection<Object> instances) throws ReflectiveOperationException {
+		final String simpleName = triggerType.getSimpleName();
+		final String triggerName = simpleName.substring(0, simpleName.indexOf("Trigger"));
+		final Method blockMethod = findMethod(triggerType, "block" + triggerName);
+		final Method actionMethod = findMethod(triggerType, "on" + triggerName);
+
+		final List<Handler> unfiltered = new ArrayList<>();
+		final Map<Integer, List<Handler>> byId = new HashMap<>();
+		int order = 0;
+		for (final Object instance : instances) {
+			final Handler handler = new Handler(order++, instance, blockMethod, actionMethod);
+			final int[] ids = instance instanceof TriggerIdFilter
+				? ((TriggerIdFilter) instance).getTriggerIds(triggerType)
+				: null;
+			if (ids == null) {
+				unfiltered.add(handler);
+			} else {
+				for (final int id : ids) {
+					byId.computeIfAbsent(id, key -> new ArrayList<>()).add(handler);
+				}
+			}
+		}
+
+		// Every id keeps the registration order of the plugins, filtered and unfiltered alike.
+		for (final Map.Entry<Integer, List<Handler>> entry : byId.entrySet()) {
+			final List<Handler> merged = new ArrayList<>(entry.getValue());
+			merged.addAll(unfiltered);
+			merged.sort((a, b) -> Integer.compare(a.order, b.order));
+			entry.setValue(Collections.unmodifiableList(merged));
+		}
+
+		return new TriggerDispatch(triggerName, blockMethod, actionMethod, Collections.unmodifiableList(unfiltered), byId);
+	}
+
+	/**
+	 * Binds the trigger methods of a single instance, used for the default handler.
+	 */
+	Handler bind(final Object instance) throws ReflectiveOperationException {
+		return new Handler(0, instance, blockMethod, actionMethod);
+	}
+
+	/**
+	 * @return The plugins that may block the trigger for this data, in registration order.
+	 */
+	List<Handler> getCandidates(final Object[] data) {
+		if (handlersById.isEmpty()) {
+			return unfilteredHandlers;
+		}
+		final int id = getEntityId(data);
+		if (id == -1) {
+			return unfilteredHandlers;
+		}
+		return handlersById.getOrDefault(id, unfilteredHandlers);
+	}
+
+	boolean isEmpty() {
+		return unfilteredHandlers.isEmpty() && handlersById.isEmpty();
+	}
+
+	String getTriggerName() {
+		return triggerName;
+	}
+
+	/**
+	 * The id of the first npc, object, ground item or item argument, or -1 if there is none.
+	 */
+	private static int getEntityId(final Object[] data) {
+		for (int i = 1; i < data.length; i++) {
+			final Object arg = data[i];
+			if (arg instanceof Entity && !(arg instanceof Player)) {
+				return ((Entity) arg).getID();
+			}
+			if (arg instanceof Item) {
+				return ((Item) arg).getCatalogId();
+			}
+		}
+		return -1;
+	}
+
+	private static Method findMethod(final Class<?> triggerType, final String name) throws NoSuchMethodException {
+		for (final Method method : triggerType.getMethods()) {
+			if (method.getName().equals(name)) {
+				return method;
+			}
+		}
+		throw new NoSuchMethodException(triggerType.getName() + "." + name);
+	}
+
+	static final class Handler {
+		private final int order;
+		private final MethodHandle block;
+		private final MethodHandle action;
+		private final String pluginName;
+
+		private Handler(final int order, final Object instance, final Method blockMethod, final Method actionMethod) throws ReflectiveOperationException {
+			final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			this.order = order;
+			this.block = lookup.unreflect(blockMethod).bindTo(instance)
+				.asSpreader(Object[].class, blockMethod.getParameterCount()).asType(BLOCK_TYPE);
+			this.action = lookup.unreflect(actionMethod).bindTo(instance)
+				.asSpreader(Object[].class, actionMethod.getParameterCount()).asType(ACTION_TYPE);
+			this.pluginName = instance.getClass().getSimpleName() + "." + actionMethod.getName();
+		}
+
+		boolean block(final Object[] data) throws Throwable {
+			return (boolean) block.invokeExact(data);
+		}
+
+		void action(final Object[] data) throws Throwable {
+			action.invokeExact(data);
+		}
+
+		String getPluginName() {
+			return pluginName;
+		}
+	}
+}
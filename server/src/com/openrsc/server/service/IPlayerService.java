@@ -5,7 +5,9 @@ import com.openrsc.server.login.LoginRequest;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface IPlayerService {
 
@@ -13,6 +15,8 @@ public interface IPlayerService {
 
     boolean savePlayer(final Player player);
 
+    Set<Player> savePlayers(final Collection<Player> players);
+
     void savePlayerMaxStats(final Player player);
 
     void savePlayerMaxSkill(
@@ -0,0 +1,175 @@
+package com.openrsc.server.service;
+
+import com.openrsc.server.Server;
+import com.openrsc.server.database.GameDatabaseException;
+import com.openrsc.server.database.struct.PlayerFriend;
+import com.openrsc.server.event.rsc.ImmediateEvent;
+import com.openrsc.server.util.checked.CheckedFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Looks up players that may be offline by username, without holding up the game thread on the database.
+ *
+ * Players that were found are kept in a small least recently used cache for a short while, so the same name asked for
+ * again and again, say by someone messaging an offline player over and over, only reaches the database once. Names that
+ * weren't found aren't kept, the account may be created at any moment. Anything not cached is
+ * looked up on the SQL thread pool and handed back on the game thread on a later tick. Lookups for a name that is
+ * already being looked up wait for that answer instead of asking again.
+ */
+public final class PlayerLookupService {
+
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final int CACHE_SIZE = 1024;
+
+	/**
+	 * How long an answer is trusted, names are created and changed while the server runs.
+	 */
+	private static final long CACHE_MILLIS = 60000;
+
+	private final Server server;
+	private final Lookup<Integer> playerIds;
+	private final Lookup<PlayerFriend> players;
+
+	public PlayerLookupService(final Server server) {
+		this.server = server;
+		this.playerIds = new Lookup<>("Player Id Lookup", username -> {
+			final int id = server.getDatabase().playerIdFromUsername(username);
+			return id >= 0 ? id : null;
+		});
+		this.players = new Lookup<>("Player Lookup", username -> server.getDatabase().getProperUsernameCapitalization(username));
+	}
+
+	/**
+	 * Finds the database id of a player, matching their name regardless of case.
+	 *
+	 * @param onResult Called on the game thread with the id, or -1 if there is no such player or the lookup failed
+	 */
+	public void lookupPlayerId(final String username, final Consumer<Integer> onResult) {
+		playerIds.lookup(username, id -> onResult.accept(id != null ? id : -1));
+	}
+
+	/**
+	 * Finds the name of a player as it is stored, along with their former name and group.
+	 *
+	 * @param onResult Called on the game thread with the player, or null if there is no such player or the lookup failed
+	 */
+	public void lookupPlayer(final String username, final Consumer<PlayerFriend> onResult) {
+		players.lookup(username, onResult);
+	}
+
+	/**
+	 * Forgets what is known about a name, for when a player is renamed.
+	 */
+	public void invalidate(final String username) {
+		playerIds.invalidate(username);
+		players.invalidate(username);
+	}
+
+	public final Server getServer() {
+		return server;
+	}
+
+	private final class Lookup<T> {
+		private final String description;
+		private final CheckedFunction<GameDatabaseException, String, T> query;
+		private final Map<String, Answer<T>> cache = new LinkedHashMap<String, Answer<T>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Answer<T>> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		};
+		private final Map<String, List<Consumer<T>>> pending = new HashMap<>();
+
+		private Lookup(final String description, final CheckedFunction<GameDatabaseException, String, T> query) {
+			this.description = description;
+			this.query = query;
+		}
+
+		private void lookup(final String username, final Consumer<T> onResult) {
+			final String key = username.toLowerCase();
+			synchronized (this) {
+				final Answer<T> answer = cache.get(key);
+				if (answer != null && System.currentTimeMillis() - answer.time < CACHE_MILLIS) {
+					onResult.accept(answer.value);
+					return;
+				}
+				final List<Consumer<T>> waiting = pending.get(key);
+				if (waiting != null) {
+					waiting.add(onResult);
+					return;
+				}
+				pending.put(key, new ArrayList<>(Collections.singletonList(onResult)));
+			}
+
+			try {
+				getServer().submitSql(() -> {
+					T value = null;
+					try {
+						value = query.apply(username);
+					} catch (final RuntimeException ex) {
+						LOGGER.catching(ex);
+					} finally {
+						answer(key, value);
+					}
+				});
+			} catch (final RuntimeException ex) {
+				// The pool refused the lookup, most likely because the server is shutting down.
+				LOGGER.catching(ex);
+				answer(key, null);
+			}
+		}
+
+		/**
+		 * Hands the answer for a name to everyone waiting on it, on the game thread.
+		 *
+		 * @param value What was found, or null if there is no such player or the lookup failed
+		 */
+		private void answer(final String key, final T value) {
+			final List<Consumer<T>> callbacks;
+			synchronized (this) {
+				if (value != null) {
+					cache.put(key, new Answer<>(value));
+				}
+				callbacks = pending.remove(key);
+			}
+			if (callbacks == null) {
+				return;
+			}
+
+			getServer().getGameEventHandler().add(new ImmediateEvent(getServer().getWorld(), description) {
+				@Override
+				public void action() {
+					for (final Consumer<T> callback : callbacks) {
+						callback.accept(value);
+					}
+				}
+			});
+		}
+
+		private synchronized void invalidate(final String username) {
+			cache.remove(username.toLowerCase());
+		}
+	}
+
+	private static final class Answer<T> {
+		private final T value;
+		private final long time = System.currentTimeMillis();
+
+		private Answer(final T value) {
+			this.value = value;
+		}
+	}
+}
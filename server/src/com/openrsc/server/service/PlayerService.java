@@ -11,6 +11,7 @@ import com.openrsc.server.external.ItemDefinition;
 import com.openrsc.server.login.LoginRequest;
 import com.openrsc.server.model.PlayerAppearance;
 import com.openrsc.server.model.Point;
+import com.openrsc.server.model.SaveState;
 import com.openrsc.server.model.container.Bank;
 import com.openrsc.server.model.container.Equipment;
 import com.openrsc.server.model.container.Inventory;
@@ -24,8 +25,12 @@ import org.apache.logging.log4j.Logger;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 public class PlayerService implements IPlayerService {
     private static final Logger LOGGER = LogManager.getLogger(PlayerService.class);
@@ -48,21 +53,20 @@ public class PlayerService implements IPlayerService {
         try {
             final Player loaded = new Player(world, rq);
 
-            database.atomically(() -> {
-                loadPlayerData(loaded);
-                loadPlayerSkills(loaded);
-                loadPlayerLastRecoveryChangeRequest(loaded);
-                loadPlayerEquipment(loaded);
-                loadPlayerInventory(loaded);
-                loadPlayerBank(loaded);
-                loadPlayerBankPresets(loaded);
-                loadPlayerSocial(loaded);
-                loadPlayerQuests(loaded);
-                //loadPlayerAchievements(loaded);
-                loadPlayerCache(loaded);
-                loadPlayerLastSpellCast(loaded);
-                loadPlayerNpcKills(loaded);
-            });
+            loadPlayerData(loaded);
+            final PlayerRecords records = database.loadPlayerRecords(loaded);
+            loadPlayerSkills(loaded, records);
+            loadPlayerLastRecoveryChangeRequest(loaded, records);
+            loadPlayerEquipment(loaded, records);
+            loadPlayerInventory(loaded, records);
+            loadPlayerBank(loaded, records);
+            loadPlayerBankPresets(loaded, records);
+            loadPlayerSocial(loaded, records);
+            loadPlayerQuests(loaded, records);
+            //loadPlayerAchievements(loaded);
+            loadPlayerCache(loaded, records);
+            loadPlayerLastSpellCast(loaded);
+            loadPlayerNpcKills(loaded, records);
 
 			loadPlayerLanguage(loaded);
 			updateUnlockedPlayerSkins(loaded);
@@ -85,26 +89,9 @@ public class PlayerService implements IPlayerService {
 				LOGGER.error("ERROR SAVING : PLAYER DOES NOT EXIST : {}", player.getUsername());
 				return player.checkAndIncrementSaveAttempts();
 			}
-			boolean realSuccess = database.atomically(() -> {
-				savePlayerBankPresets(player);
-				savePlayerInventory(player);
-				savePlayerEquipment(player);
-				savePlayerBank(player);
-				//savePlayerAchievements(player);
-				savePlayerQuests(player);
-				savePlayerCastTime(player);
-				savePlayerCache(player);
-				savePlayerNpcKills(player);
-				savePlayerData(player);
-				savePlayerSkills(player);
-				savePlayerSocial(player);
-			});
-			if (realSuccess) {
-				if (null != player.getUsernameChangePending()) {
-					player.getUsernameChangePending().doChangeUsername();
-				}
-				player.resetSaveAttempts();
-			}
+			boolean realSuccess = database.atomically(() -> writePlayer(player));
+			world.getServer().incrementSaveTransactions(1);
+			finishSave(player, realSuccess);
 			return realSuccess;
 		} catch (final Exception ex) {
 			if (player != null) {
@@ -120,6 +107,104 @@ public class PlayerService implements IPlayerService {
 		}
 	}
 
+	/**
+	 * Saves several players in one transaction. If the transaction fails, every player is saved on their own so a
+	 * single bad save doesn't hold up the others.
+	 *
+	 * @return The players that count as saved, see {@link #savePlayer(Player)}
+	 */
+	@Override
+	public Set<Player> savePlayers(final Collection<Player> players) {
+		final Set<Player> saved = new HashSet<>();
+		final List<Player> existing = new ArrayList<>();
+		for (final Player player : players) {
+			try {
+				if (database.playerExists(player.getDatabaseID())) {
+					existing.add(player);
+					continue;
+				}
+			} catch (final GameDatabaseException ex) {
+				LOGGER.catching(ex);
+			}
+			// Let the single save deal with the player, it knows when to give up on them.
+			if (savePlayer(player)) {
+				saved.add(player);
+			}
+		}
+		if (existing.size() <= 1) {
+			for (final Player player : existing) {
+				if (savePlayer(player)) {
+					saved.add(player);
+				}
+			}
+			return saved;
+		}
+
+		final boolean success = database.atomically(() -> {
+			for (final Player player : existing) {
+				writePlayer(player);
+			}
+		});
+		world.getServer().incrementSaveTransactions(existing.size());
+		for (final Player player : existing) {
+			finishSave(player, success);
+		}
+		if (success) {
+			saved.addAll(existing);
+		} else {
+			for (final Player player : existing) {
+				if (savePlayer(player)) {
+					saved.add(player);
+				}
+			}
+		}
+		return saved;
+	}
+
+	private void writePlayer(final Player player) throws GameDatabaseException {
+		savePlayerBankPresets(player);
+		savePlayerInventory(player);
+		savePlayerEquipment(player);
+		savePlayerBank(player);
+		//savePlayerAchievements(player);
+		savePlayerQuests(player);
+		savePlayerCastTime(player);
+		savePlayerCache(player);
+		savePlayerNpcKills(player);
+		savePlayerData(player);
+		savePlayerSkills(player);
+		savePlayerSocial(player);
+	}
+
+	/**
+	 * Marks the rows a save prepared as written, or forgets the saved rows after the save was rolled back so the next
+	 * one rewrites everything.
+	 */
+	private void finishSave(final Player player, final boolean success) {
+		final List<SaveState<?, ?>> saveStates = Arrays.asList(
+			player.getCarriedItems().getInventory().getSaveState(),
+			player.getCarriedItems().getEquipment().getSaveState(),
+			player.getBank().getSaveState(),
+			player.getCache().getSaveState(),
+			player.getSkills().getLevelsSaveState(),
+			player.getSkills().getExperienceSaveState()
+		);
+		for (final SaveState<?, ?> saveState : saveStates) {
+			if (success) {
+				saveState.commit();
+			} else {
+				saveState.invalidate();
+			}
+		}
+		if (success) {
+			world.getServer().incrementSavedPlayers();
+			if (null != player.getUsernameChangePending()) {
+				player.getUsernameChangePending().doChangeUsername();
+			}
+			player.resetSaveAttempts();
+		}
+	}
+
 	@Override
 	public void savePlayerMaxStats(final Player player) throws GameDatabaseException {
 		try {
@@ -139,9 +224,8 @@ public class PlayerService implements IPlayerService {
 		}
 	}
 
-    private void loadPlayerCache(final Player player) throws GameDatabaseException {
-        final PlayerCache[] playerCache = database.queryLoadPlayerCache(player);
-        for (PlayerCache cache : playerCache) {
+    private void loadPlayerCache(final Player player, final PlayerRecords records) {
+        for (PlayerCache cache : records.cache) {
             final int identifier = cache.type;
             final String key = cache.key;
             switch (identifier) {
@@ -221,9 +305,8 @@ public class PlayerService implements IPlayerService {
         player.setWornItems(player.getSettings().getAppearance().getSprites());
     }
 
-    private void loadPlayerInventory(final Player player) throws GameDatabaseException {
-        final PlayerInventory[] invItems = database.queryLoadPlayerInvItems(player.getDatabaseID());
-        final Inventory inv = new Inventory(player, invItems);
+    private void loadPlayerInventory(final Player player, final PlayerRecords records) {
+        final Inventory inv = new Inventory(player, records.inventory);
 
         player.getCarriedItems().setInventory(inv);
     }
@@ -242,11 +325,11 @@ public class PlayerService implements IPlayerService {
         return items;
     }
 
-    private void loadPlayerEquipment(final Player player) throws GameDatabaseException {
+    private void loadPlayerEquipment(final Player player, final PlayerRecords records) {
         if (configuration.WANT_EQUIPMENT_TAB) {
             final Equipment equipment = new Equipment(player);
             synchronized (equipment.getList()) {
-                final PlayerEquipped[] equippedItems = database.queryLoadPlayerEquipped(player);
+                final PlayerEquipped[] equippedItems = records.equipped;
 
                 // check if player is morphed
                 ItemDefinition morph = null;
@@ -286,8 +369,8 @@ public class PlayerService implements IPlayerService {
             player.getCarriedItems().setEquipment(new Equipment(player));
     }
 
-    private void loadPlayerBank(final Player player) throws GameDatabaseException {
-        final PlayerBank[] bankItems = database.queryLoadPlayerBankItems(player.getDatabaseID());
+    private void loadPlayerBank(final Player player, final PlayerRecords records) {
+        final PlayerBank[] bankItems = records.bank;
         final Bank bank = new Bank(player);
         for (int i = 0; i < bankItems.length; i++) {
             bank.getItems().add(new Item(bankItems[i].itemId, bankItems[i].itemStatus));
@@ -309,7 +392,7 @@ public class PlayerService implements IPlayerService {
         return bank;
     }
 
-    private void loadPlayerBankPresets(final Player player) throws GameDatabaseException {
+    private void loadPlayerBankPresets(final Player player, final PlayerRecords records) {
 
         //Check the player is on a world with bank presets
         if (!configuration.WANT_BANK_PRESETS)
@@ -319,9 +402,7 @@ public class PlayerService implements IPlayerService {
         if (player.getBank() == null)
             return;
 
-        final PlayerBankPreset[] bankPresets = database.queryLoadPlayerBankPresets(player);
-
-        for (PlayerBankPreset bankPreset : bankPresets) {
+        for (PlayerBankPreset bankPreset : records.bankPresets) {
             final int slot = bankPreset.slot;
             final byte[] inventoryItems = bankPreset.inventory;
             final byte[] equipmentItems = bankPreset.equipment;
@@ -330,15 +411,13 @@ public class PlayerService implements IPlayerService {
 
     }
 
-    private void loadPlayerSocial(final Player player) throws GameDatabaseException {
-        player.getSocial().addFriends(database.queryLoadPlayerFriends(player));
-        player.getSocial().addIgnore(database.queryLoadPlayerIgnored(player));
+    private void loadPlayerSocial(final Player player, final PlayerRecords records) {
+        player.getSocial().addFriends(records.friends);
+        player.getSocial().addIgnore(records.ignored);
     }
 
-    private void loadPlayerQuests(final Player player) throws GameDatabaseException {
-        final PlayerQuest[] quests = database.queryLoadPlayerQuests(player);
-
-        for (PlayerQuest quest : quests) {
+    private void loadPlayerQuests(final Player player, final PlayerRecords records) {
+        for (PlayerQuest quest : records.quests) {
             player.setQuestStage(quest.questId, quest.stage);
         }
 
@@ -360,35 +439,38 @@ public class PlayerService implements IPlayerService {
         }
     }
 
-    private void loadPlayerNpcKills(final Player player) throws GameDatabaseException {
-        final PlayerNpcKills[] kills = database.queryLoadPlayerNpcKills(player);
-        for (PlayerNpcKills kill : kills) {
+    private void loadPlayerNpcKills(final Player player, final PlayerRecords records) {
+        for (PlayerNpcKills kill : records.npcKills) {
             final int key = kill.npcId;
             final int value = kill.killCount;
             player.getKillCache().put(key, value);
         }
     }
 
-    private void loadPlayerSkills(final Player player) throws GameDatabaseException {
-        final PlayerExperience[] exp = database.queryLoadPlayerExperience(player.getDatabaseID());
+    private void loadPlayerSkills(final Player player, final PlayerRecords records) throws GameDatabaseException {
+        final PlayerExperience[] exp = records.experience;
         player.getSkills().loadExp(exp);
-        player.getSkills().loadLevels(database.queryLoadPlayerSkills(player, false));
-        try {
-            player.getSkills().loadMaxLevels(database.queryLoadPlayerSkills(player, true));
-        } catch (NoSuchElementException e) {
+        player.getSkills().loadLevels(records.levels);
+        if (records.maxLevels != null) {
+            player.getSkills().loadMaxLevels(records.maxLevels);
+        } else {
             // from old architecture to new one, compute the expected max level and store back in
             PlayerSkills[] lvls = player.getSkills().asLevels(exp);
             player.getSkills().loadMaxLevels(lvls);
-            database.queryInitializeMaxStats(player.getDatabaseID());
-            database.querySavePlayerMaxSkills(player.getDatabaseID(), lvls);
+            final boolean initialized = database.atomically(() -> {
+                database.queryInitializeMaxStats(player.getDatabaseID());
+                database.querySavePlayerMaxSkills(player.getDatabaseID(), lvls);
+            });
+            if (!initialized) {
+                throw new GameDatabaseException(PlayerService.class, "Unable to initialize max stats of " + player.getUsername());
+            }
         }
-        player.getSkills().loadExpCapped(database.queryLoadPlayerExperienceCapped(player.getDatabaseID()));
+        player.getSkills().loadExpCapped(records.experienceCapped);
     }
 
-    private void loadPlayerLastRecoveryChangeRequest(final Player player) throws GameDatabaseException {
+    private void loadPlayerLastRecoveryChangeRequest(final Player player, final PlayerRecords records) {
         long dateSet = 0;
-        final PlayerRecoveryQuestions[] recoveryChanges = database.queryPlayerRecoveryChanges(player);
-        for (PlayerRecoveryQuestions recoveryChange : recoveryChanges) {
+        for (PlayerRecoveryQuestions recoveryChange : records.recoveryChanges) {
             dateSet = Math.max(dateSet, recoveryChange.dateSet);
         }
         player.setLastRecoveryChangeRequest(dateSet);
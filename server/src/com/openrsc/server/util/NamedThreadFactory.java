@@ -2,6 +2,7 @@ package com.openrsc.server.util;
 
 import com.openrsc.server.ServerConfiguration;
 
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class NamedThreadFactory extends ServerAwareThreadFactory {
@@ -21,4 +22,15 @@ public final class NamedThreadFactory extends ServerAwareThreadFactory {
 		this.name = name;
 	}
 
+	/**
+	 * Creates the named thread factory on top of another factory, e.g. one producing virtual threads.
+	 *
+	 * @param name The unique name.
+	 * @param backingThreadFactory The factory that actually creates the threads.
+	 */
+	public NamedThreadFactory(String name, ServerConfiguration configuration, ThreadFactory backingThreadFactory) {
+		super(name + "-%d", configuration, backingThreadFactory);
+		this.name = name;
+	}
+
 }
@@ -13,6 +13,11 @@ public class ServerAwareThreadFactory implements ThreadFactory {
         this.configuration = configuration;
     }
 
+    public ServerAwareThreadFactory(String nameFormat, ServerConfiguration configuration, ThreadFactory backingThreadFactory) {
+        threadFactory = new ThreadFactoryBuilder().setNameFormat(nameFormat).setThreadFactory(backingThreadFactory).build();
+        this.configuration = configuration;
+    }
+
     @Override
     public Thread newThread(final Runnable runnable) {
         return threadFactory.newThread(() -> {
@@ -75,6 +75,8 @@ public class UsernameChange {
 
 		server.getDatabase().renamePlayer(targetPlayerDatabaseId, formerFormerName, formerName, newUsername, changeType.id());
 		server.getDatabase().insertFormerName(targetPlayerDatabaseId, formerName, commandUserUsername, changeType.id(), reason);
+		server.getPlayerLookupService().invalidate(formerName);
+		server.getPlayerLookupService().invalidate(newUsername);
 
 		if (null != commandUser) {
 			commandUser.message("@red@" + formerName + "@whi@ was successfully renamed to @cya@" + newUsername);
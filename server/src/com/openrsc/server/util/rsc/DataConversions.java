@@ -44,6 +44,7 @@ public final class DataConversions {
 	private static SimpleDateFormat dateFormatter = new SimpleDateFormat("dd MMMM yyyy");
 	private static MessageDigest md5, sha1, sha512;
 	private static Random rand = new Random();
+	private static final ThreadLocal<Random> scopedRandom = new ThreadLocal<>();
 	private static SecureRandom secureRandom = new SecureRandom();
 
 	/**
@@ -418,11 +419,31 @@ public final class DataConversions {
 	 * Returns the random number generator
 	 */
 	public static Random getRandom() {
-		return rand;
+		final Random scoped = scopedRandom.get();
+		return scoped != null ? scoped : rand;
+	}
+
+	/**
+	 * Runs the task with every random number of this thread drawn from the given generator,
+	 * so a seeded generator makes the task's rolls reproducible.
+	 */
+	public static void withRandom(final Random random, final Runnable task) {
+		final Random previous = scopedRandom.get();
+		scopedRandom.set(random);
+		try {
+			task.run();
+		} finally {
+			if (previous == null) {
+				scopedRandom.remove();
+			} else {
+				scopedRandom.set(previous);
+			}
+		}
 	}
 
 	public static int random(int range) {
-		int number = (int) (Math.random() * (range + 1));
+		final Random scoped = scopedRandom.get();
+		int number = (int) ((scoped != null ? scoped.nextDouble() : Math.random()) * (range + 1));
 		return number < 0 ? 0 : number;
 	}
 
@@ -484,14 +505,14 @@ public final class DataConversions {
 	 * returns a random number within the given bounds
 	 */
 	public static double random(double low, double high) {
-		return high - (rand.nextDouble() * low);
+		return high - (getRandom().nextDouble() * low);
 	}
 
 	/**
 	 * returns a random number within the given bounds
 	 */
 	public static int random(int low, int high) {
-		return low + rand.nextInt(high - low + 1);
+		return low + getRandom().nextInt(high - low + 1);
 	}
 
 	public static double round(double value, int decimalPlace) {
@@ -0,0 +1,216 @@
+package com.openrsc.server.model;
+
+import com.openrsc.server.util.rsc.CollisionFlag;
+import org.junit.jupiter.api.Test;
+
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the pathfinder over a fixed collision grid and compares every path with the one the original implementation
+ * (the Node board with a linear scan of the open list) found for the same search.
+ */
+class AStarPathfinderTest {
+
+	/**
+	 * Tiles 0 to 63 in both directions are in the world, everything else is outside of it.
+	 */
+	private static final int GRID_SIZE = 64;
+
+	/**
+	 * Start x, start y, end x, end y and depth of every search.
+	 */
+	static final int[][] CASES = {
+		{41, 19, 41, 21, 1},
+		{6, 9, 10, 6, 2},
+		{46, 7, 49, 5, 3},
+		{4, 11, 3, 10, 5},
+		{8, 30, 0, 37, 8},
+		{54, 7, 66, 11, 12},
+		{15, 28, 0, 46, 16},
+		{50, 6, 42, -14, 20},
+		{17, 37, 17, 35, 1},
+		{15, 39, 19, 37, 2},
+		{13, 24, 13, 20, 3},
+		{8, 7, 10, 3, 5},
+		{63, 54, 63, 58, 8},
+		{58, 46, 53, 39, 12},
+		{23, 31, 10, 49, 16},
+		{38, 63, 37, 69, 20},
+		{36, 9, 33, 10, 1},
+		{53, 21, 54, 19, 2},
+		{62, 53, 57, 58, 3},
+		{9, 40, 7, 44, 5},
+		{44, 63, 52, 67, 8},
+		{8, 11, 2, 12, 12},
+		{8, 7, 9, 25, 16},
+		{57, 36, 59, 56, 20},
+		{44, 2, 44, 1, 1},
+		{21, 14, 24, 10, 2},
+		{27, 36, 24, 34, 3},
+		{50, 50, 57, 56, 5},
+		{63, 10, 58, 14, 8},
+		{51, 35, 65, 25, 12},
+		{55, 35, 63, 39, 16},
+		{48, 29, 35, 12, 20},
+		{22, 19, 20, 21, 1},
+		{29, 1, 32, -1, 2},
+		{33, 36, 28, 33, 3},
+		{53, 47, 55, 49, 5},
+		{40, 16, 46, 25, 8},
+		{6, 58, 20, 71, 12},
+		{50, 50, 57, 57, 16},
+		{13, 61, 31, 64, 20},
+		{7, 24, 4, 22, 1},
+		{56, 20, 53, 21, 2},
+		{6, 13, 1, 17, 3},
+		{19, 12, 17, 14, 5},
+		{3, 9, -1, 18, 8},
+		{48, 19, 54, 13, 12},
+		{44, 46, 56, 35, 16},
+		{14, 62, 21, 70, 20},
+		{61, 39, 58, 37, 1},
+		{13, 43, 13, 46, 2},
+		{20, 2, 18, 5, 3},
+		{46, 18, 50, 19, 5},
+		{3, 38, 13, 30, 8},
+		{33, 46, 24, 43, 12},
+		{28, 42, 24, 36, 16},
+		{30, 51, 22, 41, 20},
+		{63, 45, 65, 42, 1},
+		{3, 35, 6, 35, 2},
+		{24, 44, 26, 44, 3},
+		{46, 10, 42, 4, 5},
+		{30, 30, 30, 30, 20}
+	};
+
+	/**
+	 * The waypoints each search of {@link #CASES} returned from the original implementation, or "none" if it found no
+	 * path.
+	 */
+	private static final String[] EXPECTED = {
+		"none",
+		"none",
+		"none",
+		"3,11",
+		"7,30 7,31 6,32 6,33 5,33 4,33 3,34 2,35 2,36 1,37",
+		"55,7 55,6 56,6 57,6 58,7 59,7 60,8 61,8 62,8 63,8 64,9 65,10",
+		"none",
+		"49,6 48,6 47,5 47,4 47,3 46,2 46,1 46,0 46,-1 45,-2 44,-3 43,-4 42,-5 42,-6 42,-7 42,-8 42,-9 42,-10 42,-11 42,-12 42,-13",
+		"none",
+		"none",
+		"none",
+		"9,6 10,6 11,5 12,5 12,4 12,3 11,3",
+		"63,55 63,56 63,57",
+		"57,45 57,44 56,44 55,44 55,43 54,43 53,42 53,41 53,40",
+		"none",
+		"37,64 37,65 37,66 37,67 37,68",
+		"none",
+		"54,20",
+		"none",
+		"8,41 7,41 7,42 7,43",
+		"45,64 46,65 47,66 48,67 49,67 50,67 51,67",
+		"7,10 6,10 5,10 5,11 4,11 3,11 2,11",
+		"none",
+		"none",
+		"",
+		"none",
+		"26,35 25,34",
+		"none",
+		"63,11 62,12 61,13 60,13 59,14",
+		"none",
+		"55,36 55,37 56,37 57,37 58,38 59,39 60,39 61,39 62,39",
+		"47,28 47,27 46,27 45,27 45,26 44,26 43,25 42,24 42,23 42,22 42,21 42,20 42,19 42,18 42,17 41,16 40,15 39,15 38,14 37,14 37,13 36,12",
+		"none",
+		"none",
+		"none",
+		"54,47 54,48",
+		"none",
+		"none",
+		"51,50 52,50 53,50 53,51 54,51 55,52 56,53 57,54 57,55 57,56",
+		"13,62 14,62 15,62 16,62 17,63 18,64 19,64 20,64 21,64 22,64 23,64 24,64 25,64 26,64 27,64 28,64 29,64 30,64",
+		"none",
+		"none",
+		"none",
+		"19,13 19,14 18,14",
+		"none",
+		"none",
+		"45,45 46,45 47,45 47,44 48,43 49,42 49,41 49,40 49,39 50,39 50,38 51,37 52,37 53,36 54,35 55,35",
+		"15,63 15,64 16,65 17,66 18,67 19,68 20,69",
+		"none",
+		"none",
+		"19,3 18,4",
+		"46,19 47,19 48,19 49,19",
+		"none",
+		"33,45 32,45 31,45 30,45 29,45 28,45 27,45 26,45 25,45 24,44",
+		"27,41 27,40 26,39 25,38 24,37",
+		"30,50 29,50 28,50 27,49 26,48 25,47 24,46 24,45 24,44 24,43 23,43 23,42",
+		"none",
+		"none",
+		"25,44",
+		"none",
+		"none"
+	};
+
+	@Test
+	void pathsMatchOriginalImplementation() {
+		for (int i = 0; i < CASES.length; i++) {
+			final int[] c = CASES[i];
+			final AStarPathfinder pathfinder = new AStarPathfinder(AStarPathfinderTest::mask,
+				new Point(c[0], c[1]), new Point(c[2], c[3]), c[4]);
+			pathfinder.feedPath(new Path(null, Path.PathType.WALK_TO_POINT));
+			assertEquals(EXPECTED[i], describe(pathfinder.findPath()), "Search " + i + " from " + c[0] + "," + c[1]
+				+ " to " + c[2] + "," + c[3] + " at depth " + c[4]);
+		}
+	}
+
+	@Test
+	void repeatedSearchesOnOneThreadMatch() {
+		// The search state is reused between searches, running the corpus twice catches state leaking between them.
+		pathsMatchOriginalImplementation();
+		pathsMatchOriginalImplementation();
+	}
+
+	static String describe(final Path path) {
+		if (path == null) {
+			return "none";
+		}
+		final StringJoiner waypoints = new StringJoiner(" ");
+		for (final Point point : path.getWaypoints()) {
+			waypoints.add(point.getX() + "," + point.getY());
+		}
+		return waypoints.toString();
+	}
+
+	/**
+	 * A scattering of walls and fully blocked tiles, hashed from the tile so it is the same on every run.
+	 */
+	static int mask(final int x, final int y) {
+		if (x < 0 || x >= GRID_SIZE || y < 0 || y >= GRID_SIZE) {
+			return AStarPathfinder.OUTSIDE_WORLD;
+		}
+		int h = x * 0x9E3779B1 + y * 0x85EBCA77;
+		h ^= h >>> 15;
+		h *= 0x2C1B3C6D;
+		h ^= h >>> 12;
+
+		int mask = 0;
+		if ((h & 7) == 0) {
+			mask |= CollisionFlag.WALL_SOUTH;
+		}
+		if (((h >>> 3) & 7) == 0) {
+			mask |= CollisionFlag.WALL_WEST;
+		}
+		if (((h >>> 6) & 7) == 0) {
+			mask |= CollisionFlag.WALL_NORTH;
+		}
+		if (((h >>> 9) & 7) == 0) {
+			mask |= CollisionFlag.WALL_EAST;
+		}
+		if (((h >>> 12) & 7) == 0) {
+			mask |= CollisionFlag.FULL_BLOCK_A;
+		}
+		return mask;
+	}
+}
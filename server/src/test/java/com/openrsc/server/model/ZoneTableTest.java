@@ -0,0 +1,135 @@
+package com.openrsc.server.model;
+
+import com.openrsc.server.constants.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Sweeps every tile of the map, and a margin around it, comparing {@link ZoneTable} with the rectangle predicates and
+ * wilderness formula it was compiled from.
+ */
+class ZoneTableTest {
+
+	private static final int MARGIN = 16;
+
+	@Test
+	void wildernessMatchesFormula() {
+		for (int x = -MARGIN; x < Constants.MAX_WIDTH + MARGIN; x++) {
+			for (int y = -MARGIN; y < Constants.MAX_HEIGHT + MARGIN; y++) {
+				final Point point = new Point(x, y);
+				final int expected = legacyWildernessLevel(x, y);
+				if (point.wildernessLevel() != expected) {
+					fail("Wilderness level of " + x + "," + y + " is " + point.wildernessLevel() + ", expected " + expected);
+				}
+				if (Point.inWilderness(x, y) != expected >= 1 || point.inWilderness() != expected >= 1) {
+					fail("inWilderness of " + x + "," + y + " is " + point.inWilderness());
+				}
+				if (point.inFreeWild() != (expected >= 1 && expected <= 48)) {
+					fail("inFreeWild of " + x + "," + y + " is " + point.inFreeWild());
+				}
+			}
+		}
+	}
+
+	@Test
+	void areaNamesMatchPredicates() {
+		for (int x = -MARGIN; x < Constants.MAX_WIDTH + MARGIN; x++) {
+			for (int y = -MARGIN; y < Constants.MAX_HEIGHT + MARGIN; y++) {
+				final Point point = new Point(x, y);
+				final String expected = legacyLocationName(point);
+				if (!expected.equals(point.returnLocationName())) {
+					fail("Location name of " + x + "," + y + " is " + point.returnLocationName() + ", expected " + expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	void offMapTilesHaveNoAreaName() {
+		assertEquals(null, ZoneTable.areaName(-1, 0));
+		assertEquals(null, ZoneTable.areaName(0, Constants.MAX_HEIGHT));
+	}
+
+	/**
+	 * Point.wildernessLevel() before the levels were tabled.
+	 */
+	private static int legacyWildernessLevel(final int x, final int y) {
+		int wild = 2203 - (y + (1776 - (944 * (y / 944))));
+		if (x + 2304 >= 2640) {
+			wild = -50;
+		}
+		if (wild > 0) {
+			return 1 + wild / 6;
+		}
+		return 0;
+	}
+
+	/**
+	 * Point.returnLocationName() before the areas were tabled.
+	 */
+	private static String legacyLocationName(final Point p) {
+		final int wildernessLevel = legacyWildernessLevel(p.getX(), p.getY());
+		if (p.inHeroQuestRangeRoom()) {
+			return "Hero's Quest Range Room";
+		} else if (p.inTutorialLanding()) {
+			return "Tutorial Landing";
+		} else if (p.aroundTutorialRatZone()) {
+			return "Tutorial Rats";
+		} else if (p.onTutorialIsland()) {
+			return "Tutorial Island";
+		} else if (p.onBlackHole()) {
+			return "Black Hole";
+		} else if (p.inModRoom()) {
+			return "Mod Room";
+		} else if (wildernessLevel >= 1 && wildernessLevel <= 48) {
+			return "F2P Wilderness";
+		} else if (wildernessLevel >= 1) {
+			return "Wilderness";
+		} else if (p.inVarrock()) {
+			return "Varrock";
+		} else if (p.inEdgeville()) {
+			return "Edgeville";
+		} else if (p.inBarbVillage()) {
+			return "Barbarian Village";
+		} else if (p.inDraynor()) {
+			return "Draynor";
+		} else if (p.inLumbridge()) {
+			return "Lumbridge";
+		} else if (p.inAlKharid()) {
+			return "Al Kharid";
+		} else if (p.inFalador()) {
+			return "Falador";
+		} else if (p.inPortSarim()) {
+			return "Port Sarim";
+		} else if (p.inTaverly()) {
+			return "Taverly";
+		} else if (p.inEntrana()) {
+			return "Entrana";
+		} else if (p.inCatherby()) {
+			return "Catherby";
+		} else if (p.isInSeersPartyHall()) {
+			return "Seers Party Hall";
+		} else if (p.inSeers()) {
+			return "Seers";
+		} else if (p.inGnomeStronghold()) {
+			return "Gnome Stronghold";
+		} else if (p.inArdougne()) {
+			return "Ardougne";
+		} else if (p.inYanille()) {
+			return "Yanille";
+		} else if (p.inBrimhaven()) {
+			return "Brimhaven";
+		} else if (p.inShiloVillage()) {
+			return "Shilo Village";
+		} else if (p.inKaramja()) {
+			return "Karamja";
+		} else if (p.isInFisherKingRealm()) {
+			return "Fisher King Realm";
+		} else if (p.isInsideGrandTreeGround()) {
+			return "Grand Tree";
+		}
+		return p.getX() + "," + p.getY();
+	}
+}